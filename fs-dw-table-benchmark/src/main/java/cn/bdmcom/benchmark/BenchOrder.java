@@ -0,0 +1,51 @@
+package cn.bdmcom.benchmark;
+
+import cn.bdmcom.core.domain.FsDwAppBase;
+import cn.bdmcom.core.domain.FsDwTable;
+import cn.bdmcom.core.domain.FsDwTableId;
+import cn.bdmcom.core.domain.FsDwTableProperty;
+import cn.bdmcom.core.domain.TypeEnum;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 基准测试实体：覆盖文本、数字、单选、多选、日期、复选框与链接等常见字段类型。
+ */
+@Data
+@FsDwAppBase(appToken = "bench_app_token")
+@FsDwTable(name = "订单", tableId = "tbl_bench", viewId = "vew_bench")
+public class BenchOrder {
+
+    @FsDwTableId
+    private String recordId;
+
+    @FsDwTableProperty(value = "订单号", order = 1)
+    private String orderNo;
+
+    @FsDwTableProperty(value = "客户", order = 2)
+    private String customer;
+
+    @FsDwTableProperty(value = "金额", type = TypeEnum.NUMBER, order = 3)
+    private BigDecimal amount;
+
+    @FsDwTableProperty(value = "数量", type = TypeEnum.NUMBER, order = 4)
+    private Integer quantity;
+
+    @FsDwTableProperty(value = "状态", type = TypeEnum.SINGLE_SELECT, options = {"待支付", "已支付", "已发货"}, order = 5)
+    private String status;
+
+    @FsDwTableProperty(value = "标签", type = TypeEnum.MULTI_SELECT, options = {"加急", "大客户", "赠品"}, order = 6)
+    private List<String> tags;
+
+    @FsDwTableProperty(value = "下单时间", type = TypeEnum.DATE, order = 7)
+    private LocalDateTime createdAt;
+
+    @FsDwTableProperty(value = "已开票", type = TypeEnum.CHECKBOX, order = 8)
+    private Boolean invoiced;
+
+    @FsDwTableProperty(value = "详情链接", type = TypeEnum.TEXT_URL, order = 9)
+    private String detailUrl;
+}
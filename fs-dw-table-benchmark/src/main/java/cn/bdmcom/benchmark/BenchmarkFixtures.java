@@ -0,0 +1,134 @@
+package cn.bdmcom.benchmark;
+
+import cn.bdmcom.core.domain.res.QueryRecordRes;
+import cn.bdmcom.core.http.FsDwResponseDecoder;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 基准测试数据。
+ *
+ * <p>按固定种子生成实体与飞书查询记录响应，响应结构与线上一致：文本字段为富文本段数组、
+ * 链接字段为对象、日期为毫秒时间戳、多选为字符串数组。</p>
+ */
+final class BenchmarkFixtures {
+
+    /**
+     * 与 Spring Boot 默认配置一致：忽略未知字段。
+     */
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private static final String[] STATUSES = {"待支付", "已支付", "已发货"};
+
+    private static final String[] TAGS = {"加急", "大客户", "赠品"};
+
+    private static final long BASE_MILLIS = 1_700_000_000_000L;
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 生成实体列表。
+     *
+     * @param size 数量
+     * @return 实体列表
+     */
+    static List<BenchOrder> orders(int size) {
+        List<BenchOrder> orders = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BenchOrder order = new BenchOrder();
+            order.setOrderNo("SO-" + (100_000 + i));
+            order.setCustomer("客户" + (i % 37));
+            order.setAmount(BigDecimal.valueOf(1_000 + i * 13L, 2));
+            order.setQuantity(1 + i % 9);
+            order.setStatus(STATUSES[i % STATUSES.length]);
+            order.setTags(i % 2 == 0 ? List.of(TAGS[i % TAGS.length]) : List.of(TAGS[0], TAGS[i % TAGS.length]));
+            order.setCreatedAt(LocalDateTime.of(2024, 1, 1, 8, 0).plusMinutes(i * 17L));
+            order.setInvoiced(i % 3 == 0);
+            order.setDetailUrl("https://example.com/orders/" + i);
+            orders.add(order);
+        }
+        return orders;
+    }
+
+    /**
+     * 生成查询记录响应体。
+     *
+     * @param size 记录数
+     * @return 响应体字节
+     */
+    static byte[] queryRecordBody(int size) {
+        List<Map<String, Object>> items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("订单号", List.of(textSegment("SO-" + (100_000 + i))));
+            fields.put("客户", List.of(textSegment("客户" + (i % 37))));
+            fields.put("金额", 10 + i * 0.13);
+            fields.put("数量", 1 + i % 9);
+            fields.put("状态", STATUSES[i % STATUSES.length]);
+            fields.put("标签", i % 2 == 0 ? List.of(TAGS[i % TAGS.length]) : List.of(TAGS[0], TAGS[i % TAGS.length]));
+            fields.put("下单时间", BASE_MILLIS + i * 1_020_000L);
+            fields.put("已开票", i % 3 == 0);
+            fields.put("详情链接", Map.of("link", "https://example.com/orders/" + i, "text", "详情" + i));
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("record_id", "rec" + Integer.toString(1_000_000 + i, 36));
+            item.put("fields", fields);
+            items.add(item);
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("has_more", true);
+        data.put("page_token", "page_" + size);
+        data.put("total", size * 10);
+        data.put("items", items);
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("code", 0);
+        body.put("msg", "success");
+        body.put("data", data);
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 创建响应解码器。
+     *
+     * @return 响应解码器
+     */
+    static FsDwResponseDecoder decoder() {
+        return new FsDwResponseDecoder(OBJECT_MAPPER);
+    }
+
+    /**
+     * 生成已解码的查询记录响应。
+     *
+     * @param size 记录数
+     * @return 查询记录响应
+     */
+    static QueryRecordRes queryRecordRes(int size) {
+        return decoder().decode("查询记录", new ByteArrayInputStream(queryRecordBody(size)),
+                QueryRecordRes.class);
+    }
+
+    /**
+     * 生成富文本段。
+     *
+     * @param text 文本
+     * @return 富文本段
+     */
+    private static Map<String, Object> textSegment(String text) {
+        return Map.of("type", "text", "text", text);
+    }
+}
@@ -0,0 +1,66 @@
+package cn.bdmcom.benchmark;
+
+import okhttp3.ConnectionPool;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 连接池采样：定时读取共享 OkHttpClient 的连接数，记录区间内的峰值。
+ */
+final class ConnectionSampler implements AutoCloseable {
+
+    private static final long INTERVAL_MILLIS = 50L;
+
+    private final ConnectionPool pool;
+
+    private final AtomicInteger peak = new AtomicInteger();
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "fs-dw-bench-conn-sampler");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    ConnectionSampler(ConnectionPool pool) {
+        this.pool = pool;
+        scheduler.scheduleAtFixedRate(this::sample, 0L, INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 重置峰值为当前连接数。
+     */
+    void reset() {
+        peak.set(pool.connectionCount());
+    }
+
+    /**
+     * 获取区间内的峰值连接数（含最后一次采样）。
+     *
+     * @return 峰值连接数
+     */
+    int peak() {
+        sample();
+        return peak.get();
+    }
+
+    /**
+     * 获取当前连接数。
+     *
+     * @return 当前连接数
+     */
+    int current() {
+        return pool.connectionCount();
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void sample() {
+        peak.accumulateAndGet(pool.connectionCount(), Math::max);
+    }
+}
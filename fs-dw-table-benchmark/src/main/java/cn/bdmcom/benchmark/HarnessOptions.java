@@ -0,0 +1,135 @@
+package cn.bdmcom.benchmark;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 吞吐压测参数。
+ *
+ * <p>命令行参数形如 {@code --rows=100000}；以 duoweitable. / forest. / spring. / logging. 开头的参数原样传给 Spring 应用，
+ * 用于对比不同的传输、批量与缓存配置，如 {@code --duoweitable.http.max-idle-connections=8}。</p>
+ */
+@Data
+final class HarnessOptions {
+
+    /**
+     * 执行的负载（按顺序）：insert、scan、lookup、mixed。
+     */
+    private List<String> workloads = List.of("insert", "scan", "lookup", "mixed");
+
+    /**
+     * 写入 / 预置的记录数。
+     */
+    private int rows = 100_000;
+
+    /**
+     * 每次批量写入调用的记录数（由 Starter 再按 chunk-size 分片）。
+     */
+    private int insertSlice = 5_000;
+
+    /**
+     * 全表扫描次数。
+     */
+    private int scanPasses = 3;
+
+    /**
+     * 并发线程数。
+     */
+    private int threads = 8;
+
+    /**
+     * 定时负载（lookup / mixed）的预热时长（秒）。
+     */
+    private int warmupSeconds = 5;
+
+    /**
+     * 定时负载（lookup / mixed）的测量时长（秒）。
+     */
+    private int durationSeconds = 30;
+
+    /**
+     * 混合负载中写请求的比例（0~1）。
+     */
+    private double writeRatio = 0.2D;
+
+    /**
+     * 替身服务器最小延迟（毫秒）。
+     */
+    private long latencyMinMillis = 20L;
+
+    /**
+     * 替身服务器最大延迟（毫秒）。
+     */
+    private long latencyMaxMillis = 60L;
+
+    /**
+     * 替身服务器每秒请求数上限，0 表示不限流。
+     */
+    private int serverRateLimit;
+
+    /**
+     * 替身服务器错误注入比例（0~1，返回 HTTP 500）。
+     */
+    private double serverErrorRate;
+
+    /**
+     * 外部替身服务器地址，为空时在进程内启动。
+     */
+    private String baseUrl;
+
+    /**
+     * JSON 结果输出文件，为空时只打印表格。
+     */
+    private String out;
+
+    /**
+     * 传给 Spring 应用的参数。
+     */
+    private List<String> springArgs = new ArrayList<>();
+
+    /**
+     * 解析命令行参数。
+     *
+     * @param args 命令行参数
+     * @return 压测参数
+     */
+    static HarnessOptions parse(String[] args) {
+        HarnessOptions options = new HarnessOptions();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("参数格式应为 --key=value: " + arg);
+            }
+            String key = arg.substring(2, arg.indexOf('='));
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (key.startsWith("duoweitable.") || key.startsWith("forest.") || key.startsWith("spring.")
+                    || key.startsWith("logging.")) {
+                options.springArgs.add(arg);
+                continue;
+            }
+            switch (key) {
+                case "workloads" -> options.workloads = Arrays.asList(value.split(","));
+                case "rows" -> options.rows = Integer.parseInt(value);
+                case "insert-slice" -> options.insertSlice = Integer.parseInt(value);
+                case "scan-passes" -> options.scanPasses = Integer.parseInt(value);
+                case "threads" -> options.threads = Integer.parseInt(value);
+                case "warmup" -> options.warmupSeconds = Integer.parseInt(value);
+                case "duration" -> options.durationSeconds = Integer.parseInt(value);
+                case "write-ratio" -> options.writeRatio = Double.parseDouble(value);
+                case "latency" -> {
+                    String[] range = value.split("-");
+                    options.latencyMinMillis = Long.parseLong(range[0]);
+                    options.latencyMaxMillis = Long.parseLong(range[range.length - 1]);
+                }
+                case "server-rate-limit" -> options.serverRateLimit = Integer.parseInt(value);
+                case "server-error-rate" -> options.serverErrorRate = Double.parseDouble(value);
+                case "base-url" -> options.baseUrl = value;
+                case "out" -> options.out = value;
+                default -> throw new IllegalArgumentException("未知参数: " + arg);
+            }
+        }
+        return options;
+    }
+}
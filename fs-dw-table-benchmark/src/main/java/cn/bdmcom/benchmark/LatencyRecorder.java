@@ -0,0 +1,69 @@
+package cn.bdmcom.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 单次压测的延迟样本。
+ *
+ * <p>每个压测线程持有独立实例，结束后合并再计算分位数，记录路径上不做同步。</p>
+ */
+final class LatencyRecorder {
+
+    private long[] samples = new long[1024];
+
+    private int size;
+
+    /**
+     * 记录一次调用耗时。
+     *
+     * @param nanos 耗时（纳秒）
+     */
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size << 1);
+        }
+        samples[size++] = nanos;
+    }
+
+    /**
+     * 合并多个线程的样本并排序。
+     *
+     * @param recorders 各线程样本
+     * @return 合并后的样本
+     */
+    static LatencyRecorder merge(List<LatencyRecorder> recorders) {
+        LatencyRecorder merged = new LatencyRecorder();
+        int total = recorders.stream().mapToInt(recorder -> recorder.size).sum();
+        merged.samples = new long[Math.max(1, total)];
+        for (LatencyRecorder recorder : recorders) {
+            System.arraycopy(recorder.samples, 0, merged.samples, merged.size, recorder.size);
+            merged.size += recorder.size;
+        }
+        Arrays.sort(merged.samples, 0, merged.size);
+        return merged;
+    }
+
+    /**
+     * 样本数。
+     *
+     * @return 样本数
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * 计算分位数（需先 {@link #merge(List)}）。
+     *
+     * @param percentile 分位（0~100）
+     * @return 耗时（毫秒），无样本时为 0
+     */
+    double percentileMillis(double percentile) {
+        if (size == 0) {
+            return 0D;
+        }
+        int index = (int) Math.ceil(percentile / 100D * size) - 1;
+        return samples[Math.max(0, Math.min(size - 1, index))] / 1_000_000D;
+    }
+}
@@ -0,0 +1,46 @@
+package cn.bdmcom.benchmark;
+
+import cn.bdmcom.core.domain.DwLambdaQueryWrapper;
+import cn.bdmcom.core.domain.req.QueryRecordReq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 查询条件构建基准：Lambda 列解析、条件分组与排序，直到生成查询请求体。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class QueryWrapperBenchmark {
+
+    private final LocalDateTime since = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Benchmark
+    public QueryRecordReq toQueryRecordReq() {
+        return new DwLambdaQueryWrapper<>(BenchOrder.class)
+                .select(BenchOrder::getOrderNo, BenchOrder::getCustomer, BenchOrder::getAmount, BenchOrder::getStatus)
+                .eq(BenchOrder::getStatus, "已支付")
+                .ge(BenchOrder::getAmount, 100)
+                .ge(BenchOrder::getCreatedAt, since)
+                .like(BenchOrder::getCustomer, "客户")
+                .or()
+                .in(BenchOrder::getTags, "加急", "大客户")
+                .isNotNull(BenchOrder::getDetailUrl)
+                .orderByDesc(BenchOrder::getCreatedAt)
+                .pageSize(100)
+                .toQueryRecordReq();
+    }
+}
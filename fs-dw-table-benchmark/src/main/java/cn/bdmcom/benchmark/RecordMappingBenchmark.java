@@ -0,0 +1,62 @@
+package cn.bdmcom.benchmark;
+
+import cn.bdmcom.core.domain.req.BatchCreateRecordReq;
+import cn.bdmcom.core.domain.res.QueryRecordRes;
+import cn.bdmcom.core.helper.FsDwRecordHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 实体映射基准：查询结果转实体、实体转字段、构建批量新增请求。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class RecordMappingBenchmark {
+
+    @Param({"20", "100", "500"})
+    private int size;
+
+    private List<BenchOrder> orders;
+
+    private QueryRecordRes queryRecordRes;
+
+    @Setup
+    public void setUp() {
+        orders = BenchmarkFixtures.orders(size);
+        queryRecordRes = BenchmarkFixtures.queryRecordRes(size);
+    }
+
+    @Benchmark
+    public List<BenchOrder> toEntityList() {
+        return FsDwRecordHelper.toEntityList(queryRecordRes, BenchOrder.class);
+    }
+
+    @Benchmark
+    public void toFields(Blackhole blackhole) {
+        for (BenchOrder order : orders) {
+            blackhole.consume(FsDwRecordHelper.toFields(order));
+        }
+    }
+
+    @Benchmark
+    public BatchCreateRecordReq buildBatchCreateRecordReq() {
+        return FsDwRecordHelper.buildBatchCreateRecordReq(orders);
+    }
+}
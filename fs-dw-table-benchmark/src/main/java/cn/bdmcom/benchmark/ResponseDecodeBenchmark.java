@@ -0,0 +1,59 @@
+package cn.bdmcom.benchmark;
+
+import cn.bdmcom.core.domain.res.QueryEntityRes;
+import cn.bdmcom.core.domain.res.QueryRecordRes;
+import cn.bdmcom.core.http.FsDwResponseDecoder;
+import cn.bdmcom.core.mapper.FsDwEntityMapper;
+import cn.bdmcom.core.mapper.FsDwEntityModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 响应解析基准：查询记录响应解码为响应对象，以及直接流式解码为实体页。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class ResponseDecodeBenchmark {
+
+    @Param({"20", "100", "500"})
+    private int size;
+
+    private byte[] body;
+
+    private FsDwResponseDecoder decoder;
+
+    private FsDwEntityMapper<BenchOrder> mapper;
+
+    @Setup
+    public void setUp() {
+        body = BenchmarkFixtures.queryRecordBody(size);
+        decoder = BenchmarkFixtures.decoder();
+        mapper = FsDwEntityModel.of(BenchOrder.class).getMapper();
+    }
+
+    @Benchmark
+    public QueryRecordRes decodeQueryRecordRes() {
+        return decoder.decode("查询记录", new ByteArrayInputStream(body), QueryRecordRes.class);
+    }
+
+    @Benchmark
+    public QueryEntityRes<BenchOrder> decodeEntityPage() {
+        return decoder.decodeEntityPage("查询记录", new ByteArrayInputStream(body), mapper);
+    }
+}
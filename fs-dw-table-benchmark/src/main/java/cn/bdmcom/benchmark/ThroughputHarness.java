@@ -0,0 +1,374 @@
+package cn.bdmcom.benchmark;
+
+import cn.bdmcom.annotation.EnableFsDwTable;
+import cn.bdmcom.core.domain.res.BatchRecordResult;
+import cn.bdmcom.core.helper.FsDwRecordHelper;
+import cn.bdmcom.core.http.FsDwHttpTransport;
+import cn.bdmcom.mock.FsDwMockServer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * 端到端吞吐压测。
+ *
+ * <p>在进程内启动 {@link FsDwMockServer}（带随机延迟），通过 {@link FsDwRecordHelper} 驱动完整的 Starter 链路
+ * （实体映射、Token、限流、重试、缓存、共享连接池），依次执行：</p>
+ * <ul>
+ *     <li>insert：分批写入 rows 条记录（bulkCreateRecords）</li>
+ *     <li>scan：流式全表扫描 scan-passes 次（streamRecords）</li>
+ *     <li>lookup：threads 个线程按 record_id 随机点查（batchGetRecords）</li>
+ *     <li>mixed：threads 个线程按 write-ratio 混合点查与更新（updateRecord）</li>
+ * </ul>
+ *
+ * <p>每个负载输出吞吐、延迟分位数、客户端分配速率与连接池连接数。以 duoweitable. 开头的参数传给 Starter，
+ * 同一参数下对比不同配置的结果即可评估调整效果。</p>
+ */
+public final class ThroughputHarness {
+
+    private static final String MOCK_THREAD_PREFIX = "fs-dw-mock-";
+
+    private static final String WORKER_THREAD_PREFIX = "fs-dw-bench-";
+
+    private final HarnessOptions options;
+
+    private final FsDwMockServer server;
+
+    private final ConnectionSampler sampler;
+
+    private final List<String> recordIds = Collections.synchronizedList(new ArrayList<>());
+
+    private ThroughputHarness(HarnessOptions options, FsDwMockServer server, ConnectionSampler sampler) {
+        this.options = options;
+        this.server = server;
+        this.sampler = sampler;
+    }
+
+    public static void main(String[] args) throws Exception {
+        HarnessOptions options = HarnessOptions.parse(args);
+        FsDwMockServer server = null;
+        String baseUrl = options.getBaseUrl();
+        if (baseUrl == null) {
+            server = FsDwMockServer.start()
+                    .latency(options.getLatencyMinMillis(), options.getLatencyMaxMillis())
+                    .rateLimit(options.getServerRateLimit())
+                    .errorRate(options.getServerErrorRate(), 500, 1254290);
+            baseUrl = server.getBaseUrl();
+        }
+        List<String> springArgs = new ArrayList<>();
+        springArgs.add("--duoweitable.app-id=cli_bench");
+        springArgs.add("--duoweitable.app-secret=bench_secret");
+        springArgs.add("--duoweitable.http.base-url=" + baseUrl);
+        springArgs.add("--logging.level.cn.bdmcom=WARN");
+        springArgs.add("--forest.log-enabled=false");
+        springArgs.addAll(options.getSpringArgs());
+
+        SpringApplication application = new SpringApplication(HarnessApplication.class);
+        application.setWebApplicationType(WebApplicationType.NONE);
+        application.setBannerMode(Banner.Mode.OFF);
+        try (ConfigurableApplicationContext context = application.run(springArgs.toArray(new String[0]));
+             ConnectionSampler sampler = new ConnectionSampler(
+                     context.getBean(FsDwHttpTransport.class).getClient().connectionPool())) {
+            List<WorkloadReport> reports = new ThroughputHarness(options, server, sampler).run();
+            print(options, reports);
+            if (options.getOut() != null) {
+                write(options, reports);
+            }
+        } finally {
+            if (server != null) {
+                server.close();
+            }
+        }
+    }
+
+    /**
+     * 按顺序执行负载。
+     *
+     * @return 各负载结果
+     */
+    private List<WorkloadReport> run() throws InterruptedException {
+        List<WorkloadReport> reports = new ArrayList<>();
+        for (String workload : options.getWorkloads()) {
+            switch (workload.trim()) {
+                case "insert" -> reports.add(insert());
+                case "scan" -> reports.add(scan());
+                case "lookup" -> reports.add(timed("lookup", this::lookup));
+                case "mixed" -> reports.add(timed("mixed", this::mixed));
+                default -> throw new IllegalArgumentException("未知负载: " + workload);
+            }
+        }
+        return reports;
+    }
+
+    /**
+     * 分批写入：rows 条记录按 insert-slice 切分，由 threads 个线程领取并调用 bulkCreateRecords。
+     */
+    private WorkloadReport insert() throws InterruptedException {
+        List<BenchOrder> orders = BenchmarkFixtures.orders(options.getRows());
+        int slice = Math.max(1, options.getInsertSlice());
+        AtomicInteger next = new AtomicInteger();
+        return measure("insert", options.getThreads(), () -> {
+            int from = next.getAndAdd(slice);
+            if (from >= orders.size()) {
+                return -1;
+            }
+            BatchRecordResult result = FsDwRecordHelper.bulkCreateRecords(BenchOrder.class,
+                    orders.subList(from, Math.min(orders.size(), from + slice)));
+            recordIds.addAll(result.getRecordIds());
+            if (!result.isAllSucceeded()) {
+                throw new IllegalStateException("批量写入部分失败: " + result.getFailureCount());
+            }
+            return result.getSuccessCount();
+        });
+    }
+
+    /**
+     * 流式全表扫描 scan-passes 次。
+     */
+    private WorkloadReport scan() throws InterruptedException {
+        ensureRows();
+        AtomicInteger passes = new AtomicInteger();
+        return measure("scan", 1, () -> {
+            if (passes.getAndIncrement() >= options.getScanPasses()) {
+                return -1;
+            }
+            try (var stream = FsDwRecordHelper.streamRecords(BenchOrder.class)) {
+                return (int) stream.count();
+            }
+        });
+    }
+
+    /**
+     * 按 record_id 随机点查一条记录。
+     */
+    private int lookup() {
+        FsDwRecordHelper.batchGetRecords(BenchOrder.class, List.of(randomRecordId()));
+        return 1;
+    }
+
+    /**
+     * 按 write-ratio 混合点查与更新。
+     */
+    private int mixed() {
+        if (ThreadLocalRandom.current().nextDouble() >= options.getWriteRatio()) {
+            return lookup();
+        }
+        BenchOrder order = new BenchOrder();
+        order.setRecordId(randomRecordId());
+        order.setQuantity(ThreadLocalRandom.current().nextInt(1, 10));
+        FsDwRecordHelper.updateRecord(order);
+        return 1;
+    }
+
+    /**
+     * 定时负载：预热后在 duration 内持续调用。
+     *
+     * @param workload 负载名称
+     * @param call     单次调用，返回处理的记录数
+     * @return 负载结果
+     */
+    private WorkloadReport timed(String workload, IntSupplier call) throws InterruptedException {
+        ensureRows();
+        long warmupEnd = System.nanoTime() + options.getWarmupSeconds() * 1_000_000_000L;
+        measure(workload + "-warmup", options.getThreads(), () -> System.nanoTime() < warmupEnd ? call.getAsInt() : -1);
+        long end = System.nanoTime() + options.getDurationSeconds() * 1_000_000_000L;
+        return measure(workload, options.getThreads(), () -> System.nanoTime() < end ? call.getAsInt() : -1);
+    }
+
+    /**
+     * 多线程执行调用直到返回 -1，统计吞吐、延迟、分配与连接数。
+     *
+     * @param workload 负载名称
+     * @param threads  线程数
+     * @param call     单次调用，返回处理的记录数，返回 -1 表示结束
+     * @return 负载结果
+     */
+    private WorkloadReport measure(String workload, int threads, IntSupplier call) throws InterruptedException {
+        List<LatencyRecorder> recorders = Collections.synchronizedList(new ArrayList<>());
+        AtomicLong operations = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        AtomicLong rows = new AtomicLong();
+        CountDownLatch done = new CountDownLatch(threads);
+        long requestsBefore = server == null ? 0L : server.getRequestCount();
+        long rateLimitedBefore = server == null ? 0L : server.getRateLimitedCount();
+        AtomicLong workerAlloc = new AtomicLong();
+        Map<Long, Long> allocBefore = clientThreadAllocations();
+        sampler.reset();
+        long start = System.nanoTime();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                LatencyRecorder recorder = new LatencyRecorder();
+                long threadAllocBefore = currentThreadAllocatedBytes();
+                try {
+                    while (true) {
+                        long begin = System.nanoTime();
+                        int processed;
+                        try {
+                            processed = call.getAsInt();
+                        } catch (RuntimeException e) {
+                            errors.incrementAndGet();
+                            continue;
+                        }
+                        if (processed < 0) {
+                            break;
+                        }
+                        recorder.record(System.nanoTime() - begin);
+                        operations.incrementAndGet();
+                        rows.addAndGet(processed);
+                    }
+                } finally {
+                    workerAlloc.addAndGet(currentThreadAllocatedBytes() - threadAllocBefore);
+                    recorders.add(recorder);
+                    done.countDown();
+                }
+            }, WORKER_THREAD_PREFIX + workload + "-" + i);
+            worker.start();
+        }
+        done.await();
+        double seconds = (System.nanoTime() - start) / 1_000_000_000D;
+        long clientAlloc = workerAlloc.get() + clientAllocatedSince(allocBefore);
+
+        LatencyRecorder latency = LatencyRecorder.merge(recorders);
+        WorkloadReport report = new WorkloadReport();
+        report.setWorkload(workload);
+        report.setThreads(threads);
+        report.setSeconds(seconds);
+        report.setOperations(operations.get());
+        report.setErrors(errors.get());
+        report.setRows(rows.get());
+        report.setOpsPerSecond(operations.get() / seconds);
+        report.setRowsPerSecond(rows.get() / seconds);
+        report.setP50Millis(latency.percentileMillis(50D));
+        report.setP90Millis(latency.percentileMillis(90D));
+        report.setP99Millis(latency.percentileMillis(99D));
+        report.setP999Millis(latency.percentileMillis(99.9D));
+        report.setMaxMillis(latency.percentileMillis(100D));
+        report.setAllocMbPerSecond(Math.max(0L, clientAlloc) / 1024D / 1024D / seconds);
+        report.setPeakConnections(sampler.peak());
+        report.setConnections(sampler.current());
+        report.setServerRequests(server == null ? 0L : server.getRequestCount() - requestsBefore);
+        report.setServerRateLimited(server == null ? 0L : server.getRateLimitedCount() - rateLimitedBefore);
+        return report;
+    }
+
+    /**
+     * 未执行 insert 时预置记录。
+     */
+    private void ensureRows() throws InterruptedException {
+        if (recordIds.isEmpty()) {
+            insert();
+        }
+    }
+
+    private String randomRecordId() {
+        return recordIds.get(ThreadLocalRandom.current().nextInt(recordIds.size()));
+    }
+
+    /**
+     * 客户端线程（不含进程内替身服务器线程与压测线程）的累计分配字节数（按线程ID）。
+     */
+    private static Map<Long, Long> clientThreadAllocations() {
+        Map<Long, Long> allocations = new HashMap<>();
+        for (Thread thread : Thread.getAllStackTraces().keySet()) {
+            String name = thread.getName();
+            if (!name.startsWith(MOCK_THREAD_PREFIX) && !name.startsWith(WORKER_THREAD_PREFIX)) {
+                allocations.put(thread.getId(), threadBean().getThreadAllocatedBytes(thread.getId()));
+            }
+        }
+        return allocations;
+    }
+
+    /**
+     * 客户端线程在区间内的分配字节数（区间内已结束的线程不计入，压测线程自行统计）。
+     */
+    private static long clientAllocatedSince(Map<Long, Long> before) {
+        long allocated = 0L;
+        for (Map.Entry<Long, Long> entry : clientThreadAllocations().entrySet()) {
+            allocated += Math.max(0L, entry.getValue() - before.getOrDefault(entry.getKey(), 0L));
+        }
+        return allocated;
+    }
+
+    /**
+     * 当前线程的累计分配字节数。
+     */
+    private static long currentThreadAllocatedBytes() {
+        return threadBean().getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private static com.sun.management.ThreadMXBean threadBean() {
+        return (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    }
+
+    private static void print(HarnessOptions options, List<WorkloadReport> reports) {
+        System.out.printf(Locale.ROOT, "%nrows=%d threads=%d latency=%d-%dms server-rate-limit=%d starter-args=%s%n%n",
+                options.getRows(), options.getThreads(), options.getLatencyMinMillis(), options.getLatencyMaxMillis(),
+                options.getServerRateLimit(), options.getSpringArgs());
+        System.out.printf(Locale.ROOT, "%-8s %4s %9s %6s %10s %10s %8s %8s %8s %8s %8s %10s %6s %9s %8s%n",
+                "workload", "thr", "ops", "errors", "ops/s", "rows/s", "p50(ms)", "p90", "p99", "p99.9", "max",
+                "alloc MB/s", "conns", "requests", "429s");
+        for (WorkloadReport report : reports) {
+            System.out.printf(Locale.ROOT, "%-8s %4d %9d %6d %10.1f %10.1f %8.1f %8.1f %8.1f %8.1f %8.1f %10.1f %6s %9d %8d%n",
+                    report.getWorkload(), report.getThreads(), report.getOperations(), report.getErrors(),
+                    report.getOpsPerSecond(), report.getRowsPerSecond(), report.getP50Millis(), report.getP90Millis(),
+                    report.getP99Millis(), report.getP999Millis(), report.getMaxMillis(), report.getAllocMbPerSecond(),
+                    report.getPeakConnections() + "/" + report.getConnections(), report.getServerRequests(),
+                    report.getServerRateLimited());
+        }
+    }
+
+    private static void write(HarnessOptions options, List<WorkloadReport> reports) throws IOException {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("options", options);
+        result.put("reports", reports);
+        File file = new File(options.getOut());
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, result);
+    }
+
+    /**
+     * 压测用 Spring 应用。
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableFsDwTable
+    static class HarnessApplication {
+
+        /**
+         * 未引入 spring-web 时 Spring Boot 不创建 ObjectMapper，此处按默认配置补充。
+         *
+         * @return ObjectMapper
+         */
+        @Bean
+        @ConditionalOnMissingBean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        }
+    }
+}
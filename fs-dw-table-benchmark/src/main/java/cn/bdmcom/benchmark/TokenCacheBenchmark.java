@@ -0,0 +1,86 @@
+package cn.bdmcom.benchmark;
+
+import cn.bdmcom.core.api.FsDwRecordApi;
+import cn.bdmcom.core.concurrent.FsDwRetryer;
+import cn.bdmcom.core.metrics.FsDwMetrics;
+import cn.bdmcom.core.service.FsDwTokenService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.ByteArrayInputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token 缓存命中基准：预热缓存后并发获取同一应用的 token，衡量缓存键构建与查找开销。
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class TokenCacheBenchmark {
+
+    private static final String APP_ID = "cli_bench";
+
+    private static final String APP_SECRET = "bench_secret";
+
+    private static final byte[] TOKEN_BODY =
+            "{\"code\":0,\"msg\":\"ok\",\"app_access_token\":\"t-bench\",\"expire\":7200}".getBytes(StandardCharsets.UTF_8);
+
+    private FsDwTokenService tokenService;
+
+    @Setup
+    public void setUp() {
+        tokenService = new FsDwTokenService();
+        FsDwRecordApi recordApi = (FsDwRecordApi) Proxy.newProxyInstance(FsDwRecordApi.class.getClassLoader(),
+                new Class<?>[]{FsDwRecordApi.class}, (proxy, method, args) -> {
+                    if ("getToken".equals(method.getName())) {
+                        return new ByteArrayInputStream(TOKEN_BODY);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        inject("fsDwRecordApi", recordApi);
+        inject("fsDwResponseDecoder", BenchmarkFixtures.decoder());
+        inject("fsDwRetryer", new FsDwRetryer());
+        inject("fsDwMetrics", new FsDwMetrics());
+        tokenService.getToken(APP_ID, APP_SECRET);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String cacheHit() {
+        return tokenService.getToken(APP_ID, APP_SECRET);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String cacheHitContended() {
+        return tokenService.getToken(APP_ID, APP_SECRET);
+    }
+
+    /**
+     * 注入 Token 服务依赖（与容器中的字段注入一致）。
+     *
+     * @param name  字段名
+     * @param value 依赖
+     */
+    private void inject(String name, Object value) {
+        Field field = ReflectionUtils.findField(FsDwTokenService.class, name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, tokenService, value);
+    }
+}
@@ -0,0 +1,88 @@
+package cn.bdmcom.benchmark;
+
+import lombok.Data;
+
+/**
+ * 单个负载的压测结果。
+ */
+@Data
+final class WorkloadReport {
+
+    /**
+     * 负载名称。
+     */
+    private String workload;
+
+    /**
+     * 并发线程数。
+     */
+    private int threads;
+
+    /**
+     * 测量时长（秒）。
+     */
+    private double seconds;
+
+    /**
+     * 成功调用次数。
+     */
+    private long operations;
+
+    /**
+     * 失败调用次数。
+     */
+    private long errors;
+
+    /**
+     * 读写的记录数。
+     */
+    private long rows;
+
+    /**
+     * 每秒调用次数。
+     */
+    private double opsPerSecond;
+
+    /**
+     * 每秒记录数。
+     */
+    private double rowsPerSecond;
+
+    /**
+     * 延迟分位数（毫秒）。
+     */
+    private double p50Millis;
+
+    private double p90Millis;
+
+    private double p99Millis;
+
+    private double p999Millis;
+
+    private double maxMillis;
+
+    /**
+     * 客户端分配速率（MB/s，不含进程内替身服务器线程）。
+     */
+    private double allocMbPerSecond;
+
+    /**
+     * 连接池峰值连接数。
+     */
+    private int peakConnections;
+
+    /**
+     * 结束时连接池连接数。
+     */
+    private int connections;
+
+    /**
+     * 替身服务器收到的请求数（含重试）。
+     */
+    private long serverRequests;
+
+    /**
+     * 被替身服务器限流的请求数。
+     */
+    private long serverRateLimited;
+}
@@ -0,0 +1,254 @@
+package cn.bdmcom.mock;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 查询记录的过滤与排序求值。
+ *
+ * <p>支持 is、isNot、contains、doesNotContain、isEmpty、isNotEmpty、isGreater、isGreaterEqual、isLess、isLessEqual、in
+ * 操作符与 and / or 嵌套条件组。数字与数字文本按数值比较，其余按文本比较；富文本段、链接与人员等对象取其 text / name 比较。</p>
+ */
+final class FsDwMockQuery {
+
+    private FsDwMockQuery() {
+    }
+
+    /**
+     * 判断记录是否满足过滤条件。
+     *
+     * @param filter 过滤条件（JSON 对象，可为空）
+     * @param fields 记录字段值
+     * @return 是否满足
+     */
+    @SuppressWarnings("unchecked")
+    static boolean matches(Map<String, Object> filter, Map<String, Object> fields) {
+        if (filter == null) {
+            return true;
+        }
+        boolean or = "or".equalsIgnoreCase(String.valueOf(filter.get("conjunction")));
+        boolean any = false;
+        boolean all = true;
+        boolean empty = true;
+        for (Object condition : list(filter.get("conditions"))) {
+            boolean matched = matchesCondition((Map<String, Object>) condition, fields);
+            any |= matched;
+            all &= matched;
+            empty = false;
+        }
+        for (Object child : list(filter.get("children"))) {
+            boolean matched = matches((Map<String, Object>) child, fields);
+            any |= matched;
+            all &= matched;
+            empty = false;
+        }
+        return empty || (or ? any : all);
+    }
+
+    /**
+     * 构建排序比较器。
+     *
+     * @param sorts 排序条件（JSON 数组，可为空）
+     * @return 比较器，无排序时为 null
+     */
+    @SuppressWarnings("unchecked")
+    static Comparator<Map<String, Object>> comparator(Object sorts) {
+        Comparator<Map<String, Object>> comparator = null;
+        for (Object item : list(sorts)) {
+            Map<String, Object> sort = (Map<String, Object>) item;
+            String fieldName = String.valueOf(sort.get("field_name"));
+            Comparator<Map<String, Object>> next = (a, b) -> compareNullable(a.get(fieldName), b.get(fieldName));
+            if (Boolean.TRUE.equals(sort.get("desc"))) {
+                next = next.reversed();
+            }
+            comparator = comparator == null ? next : comparator.thenComparing(next);
+        }
+        return comparator;
+    }
+
+    /**
+     * 判断单个条件。
+     *
+     * @param condition 条件
+     * @param fields    记录字段值
+     * @return 是否满足
+     */
+    private static boolean matchesCondition(Map<String, Object> condition, Map<String, Object> fields) {
+        Object actual = fields.get(String.valueOf(condition.get("field_name")));
+        List<Object> expected = list(condition.get("value"));
+        if (expected.size() > 1 && "ExactDate".equals(expected.get(0))) {
+            // 日期条件形如 ["ExactDate", "毫秒时间戳"]
+            expected = expected.subList(1, expected.size());
+        }
+        Object first = expected.isEmpty() ? null : expected.get(0);
+        String operator = String.valueOf(condition.get("operator"));
+        return switch (operator) {
+            case "is" -> isEqual(actual, first);
+            case "isNot" -> !isEqual(actual, first);
+            case "contains" -> contains(actual, first);
+            case "doesNotContain" -> !contains(actual, first);
+            case "isEmpty" -> isEmpty(actual);
+            case "isNotEmpty" -> !isEmpty(actual);
+            case "isGreater" -> !isEmpty(actual) && compare(actual, first) > 0;
+            case "isGreaterEqual" -> !isEmpty(actual) && compare(actual, first) >= 0;
+            case "isLess" -> !isEmpty(actual) && compare(actual, first) < 0;
+            case "isLessEqual" -> !isEmpty(actual) && compare(actual, first) <= 0;
+            case "in" -> expected.stream().anyMatch(value -> isEqual(actual, value) || contains(actual, value));
+            default -> throw new IllegalArgumentException("不支持的操作符: " + operator);
+        };
+    }
+
+    /**
+     * 判断是否相等（多值字段要求包含同一值集合）。
+     *
+     * @param actual   字段值
+     * @param expected 期望值
+     * @return 是否相等
+     */
+    private static boolean isEqual(Object actual, Object expected) {
+        if (actual instanceof Collection<?> values && !isTextSegments(values)) {
+            return values.size() == 1 && isEqual(values.iterator().next(), expected);
+        }
+        if (isEmpty(actual) || expected == null) {
+            return isEmpty(actual) && (expected == null || String.valueOf(expected).isEmpty());
+        }
+        return compare(actual, expected) == 0;
+    }
+
+    /**
+     * 判断是否包含（文本包含子串，多值字段包含元素）。
+     *
+     * @param actual   字段值
+     * @param expected 期望值
+     * @return 是否包含
+     */
+    private static boolean contains(Object actual, Object expected) {
+        if (isEmpty(actual) || expected == null) {
+            return false;
+        }
+        if (actual instanceof Collection<?> values && !isTextSegments(values)) {
+            return values.stream().anyMatch(value -> Objects.equals(text(value), text(expected)));
+        }
+        return text(actual).contains(text(expected));
+    }
+
+    /**
+     * 判断字段值是否为空。
+     *
+     * @param value 字段值
+     * @return 是否为空
+     */
+    private static boolean isEmpty(Object value) {
+        if (value == null) {
+            return true;
+        }
+        if (value instanceof Collection<?> values) {
+            return values.isEmpty();
+        }
+        return text(value).isEmpty();
+    }
+
+    /**
+     * 比较两个可能为空的值，空值排在最后。
+     *
+     * @param a 值
+     * @param b 值
+     * @return 比较结果
+     */
+    private static int compareNullable(Object a, Object b) {
+        if (isEmpty(a) || isEmpty(b)) {
+            return Boolean.compare(isEmpty(a), isEmpty(b));
+        }
+        return compare(a, b);
+    }
+
+    /**
+     * 比较两个值：都可解析为数字时按数值比较，否则按文本比较。
+     *
+     * @param a 值
+     * @param b 值
+     * @return 比较结果
+     */
+    private static int compare(Object a, Object b) {
+        BigDecimal left = number(a);
+        BigDecimal right = number(b);
+        if (left != null && right != null) {
+            return left.compareTo(right);
+        }
+        return text(a).compareTo(text(b));
+    }
+
+    /**
+     * 解析为数字。
+     *
+     * @param value 值
+     * @return 数字，无法解析时为 null
+     */
+    private static BigDecimal number(Object value) {
+        if (value instanceof Number number) {
+            return new BigDecimal(number.toString());
+        }
+        if (value instanceof Boolean) {
+            return null;
+        }
+        try {
+            return new BigDecimal(text(value).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 提取值的文本形式。
+     *
+     * @param value 值
+     * @return 文本
+     */
+    private static String text(Object value) {
+        if (value == null) {
+            return "";
+        }
+        if (value instanceof Map<?, ?> map) {
+            Object text = map.containsKey("text") ? map.get("text") : map.get("name");
+            return text == null ? "" : String.valueOf(text);
+        }
+        if (value instanceof Collection<?> values) {
+            StringBuilder builder = new StringBuilder();
+            values.forEach(item -> builder.append(text(item)));
+            return builder.toString();
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * 是否为富文本段数组（整体视为一个文本值）。
+     *
+     * @param values 值集合
+     * @return 是否为富文本段
+     */
+    private static boolean isTextSegments(Collection<?> values) {
+        return !values.isEmpty() && values.stream().allMatch(item -> item instanceof Map<?, ?> map && map.containsKey("text"));
+    }
+
+    /**
+     * 将 JSON 值转为列表。
+     *
+     * @param value JSON 值
+     * @return 列表（null 为空列表，单值包装为单元素列表）
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Object value) {
+        if (value == null) {
+            return Collections.emptyList();
+        }
+        if (value instanceof List<?>) {
+            return (List<Object>) value;
+        }
+        return Collections.singletonList(value);
+    }
+}
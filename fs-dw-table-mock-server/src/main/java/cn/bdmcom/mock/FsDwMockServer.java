@@ -0,0 +1,925 @@
+package cn.bdmcom.mock;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 飞书多维表格替身服务器。
+ *
+ * <p>进程内 HTTP 服务器，实现 Starter 调用的全部开放平台接口（app_access_token、记录增删改查与批量接口、
+ * records/search 的过滤 / 排序 / 分页、字段与数据表接口），数据保存在 {@link FsDwMockStore} 中。
+ * 将 {@code duoweitable.http.base-url} 指向 {@link #getBaseUrl()} 即可离线运行集成测试与压测：</p>
+ * <ul>
+ *     <li>{@link #latency(long, long)}：每个请求随机延迟</li>
+ *     <li>{@link #failNext(int, int, int)} / {@link #errorRate(double, int, int)}：按次数或概率注入 HTTP 状态码与飞书错误码</li>
+ *     <li>{@link #rateLimit(int)}：按 appToken 每秒请求数限流，超出时返回 HTTP 429 与错误码 99991400</li>
+ *     <li>{@link #getClientTokens()}：按到达顺序记录请求携带的 client_token（含被注入失败的请求），用于校验重试幂等</li>
+ * </ul>
+ */
+public class FsDwMockServer implements AutoCloseable {
+
+    /**
+     * 飞书限流错误码。
+     */
+    public static final int RATE_LIMIT_CODE = 99991400;
+
+    /**
+     * 记录不存在错误码。
+     */
+    public static final int RECORD_NOT_FOUND_CODE = 1254043;
+
+    /**
+     * 数据表不存在错误码。
+     */
+    public static final int TABLE_NOT_FOUND_CODE = 1254041;
+
+    /**
+     * 字段不存在错误码。
+     */
+    public static final int FIELD_NOT_FOUND_CODE = 1254045;
+
+    /**
+     * 缺少 access token 错误码。
+     */
+    public static final int TOKEN_MISSING_CODE = 99991661;
+
+    /**
+     * access token 无效错误码。
+     */
+    public static final int TOKEN_INVALID_CODE = 99991663;
+
+    private static final String NODELAY_PROPERTY = "sun.net.httpserver.nodelay";
+
+    private static final String API_PREFIX = "/open-apis";
+
+    private static final String TOKEN_PREFIX = "t-mock-";
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private static final Pattern APP = Pattern.compile("/bitable/v1/apps/([^/]+)/");
+
+    private static final Pattern TABLES = Pattern.compile("/bitable/v1/apps/([^/]+)/tables");
+
+    private static final Pattern TABLES_BATCH = Pattern.compile("/bitable/v1/apps/([^/]+)/tables/(batch_create|batch_delete)");
+
+    private static final Pattern TABLE = Pattern.compile("/bitable/v1/apps/([^/]+)/tables/([^/]+)");
+
+    private static final Pattern RECORDS = Pattern.compile("/bitable/v1/apps/([^/]+)/tables/([^/]+)/records");
+
+    private static final Pattern RECORDS_ACTION = Pattern.compile(
+            "/bitable/v1/apps/([^/]+)/tables/([^/]+)/records/(search|batch_create|batch_update|batch_delete|batch_get)");
+
+    private static final Pattern RECORD = Pattern.compile("/bitable/v1/apps/([^/]+)/tables/([^/]+)/records/([^/]+)");
+
+    private static final Pattern FIELDS = Pattern.compile("/bitable/v1/apps/([^/]+)/tables/([^/]+)/fields");
+
+    private static final Pattern FIELD = Pattern.compile("/bitable/v1/apps/([^/]+)/tables/([^/]+)/fields/([^/]+)");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final FsDwMockStore store = new FsDwMockStore();
+
+    private final Set<String> issuedTokens = ConcurrentHashMap.newKeySet();
+
+    private final Map<String, Window> rateWindows = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong rateLimitedCount = new AtomicLong();
+
+    private final AtomicInteger failuresRemaining = new AtomicInteger();
+
+    private final List<String> clientTokens = new CopyOnWriteArrayList<>();
+
+    private final HttpServer server;
+
+    private final ExecutorService executor;
+
+    private volatile long minLatencyMillis;
+
+    private volatile long maxLatencyMillis;
+
+    private volatile int failStatus;
+
+    private volatile int failCode;
+
+    private volatile double errorRate;
+
+    private volatile int errorStatus;
+
+    private volatile int errorCode;
+
+    private volatile int requestsPerSecond;
+
+    /**
+     * 在随机端口启动替身服务器。
+     *
+     * @return 替身服务器
+     */
+    public static FsDwMockServer start() {
+        return start(0);
+    }
+
+    /**
+     * 在指定端口启动替身服务器（仅监听本机回环地址）。
+     *
+     * @param port 端口，0 表示随机端口
+     * @return 替身服务器
+     */
+    public static FsDwMockServer start(int port) {
+        try {
+            return new FsDwMockServer(port);
+        } catch (IOException e) {
+            throw new UncheckedIOException("替身服务器启动失败, port=" + port, e);
+        }
+    }
+
+    /**
+     * 创建并启动替身服务器。
+     *
+     * @param port 端口
+     * @throws IOException 端口绑定失败
+     */
+    private FsDwMockServer(int port) throws IOException {
+        // 响应头与响应体分两次写出，未关闭 Nagle 时与延迟 ACK 叠加会给每个请求增加约 40ms
+        if (System.getProperty(NODELAY_PROPERTY) == null) {
+            System.setProperty(NODELAY_PROPERTY, "true");
+        }
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        AtomicInteger threadIndex = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "fs-dw-mock-" + threadIndex.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.createContext("/", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    /**
+     * 获取服务器地址，用于配置 {@code duoweitable.http.base-url}。
+     *
+     * @return 服务器地址，如 http://127.0.0.1:52341
+     */
+    public String getBaseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    /**
+     * 获取内存数据。
+     *
+     * @return 内存数据
+     */
+    public FsDwMockStore getStore() {
+        return store;
+    }
+
+    /**
+     * 设置每个请求的随机延迟。
+     *
+     * @param minMillis 最小延迟（毫秒）
+     * @param maxMillis 最大延迟（毫秒）
+     * @return 当前服务器
+     */
+    public FsDwMockServer latency(long minMillis, long maxMillis) {
+        this.minLatencyMillis = Math.max(0L, minMillis);
+        this.maxLatencyMillis = Math.max(this.minLatencyMillis, maxMillis);
+        return this;
+    }
+
+    /**
+     * 让接下来的若干个请求失败。
+     *
+     * @param times  失败次数
+     * @param status HTTP 状态码
+     * @param code   飞书错误码
+     * @return 当前服务器
+     */
+    public FsDwMockServer failNext(int times, int status, int code) {
+        this.failStatus = status;
+        this.failCode = code;
+        this.failuresRemaining.set(Math.max(0, times));
+        return this;
+    }
+
+    /**
+     * 按概率让请求失败。
+     *
+     * @param rate   失败概率（0~1）
+     * @param status HTTP 状态码
+     * @param code   飞书错误码
+     * @return 当前服务器
+     */
+    public FsDwMockServer errorRate(double rate, int status, int code) {
+        this.errorStatus = status;
+        this.errorCode = code;
+        this.errorRate = Math.max(0D, Math.min(1D, rate));
+        return this;
+    }
+
+    /**
+     * 按 appToken 限制每秒请求数（仅多维表格接口）。
+     *
+     * @param requestsPerSecond 每秒请求数，0 表示不限流
+     * @return 当前服务器
+     */
+    public FsDwMockServer rateLimit(int requestsPerSecond) {
+        this.requestsPerSecond = Math.max(0, requestsPerSecond);
+        return this;
+    }
+
+    /**
+     * 清除延迟、错误注入与限流设置（保留数据）。
+     *
+     * @return 当前服务器
+     */
+    public FsDwMockServer resetFaults() {
+        latency(0L, 0L);
+        failuresRemaining.set(0);
+        errorRate = 0D;
+        requestsPerSecond = 0;
+        rateWindows.clear();
+        return this;
+    }
+
+    /**
+     * 获取已处理的请求总数。
+     *
+     * @return 请求总数
+     */
+    public long getRequestCount() {
+        return requestCount.get();
+    }
+
+    /**
+     * 获取被限流的请求数。
+     *
+     * @return 被限流的请求数
+     */
+    public long getRateLimitedCount() {
+        return rateLimitedCount.get();
+    }
+
+    /**
+     * 获取已收到的 client_token（按到达顺序，含被注入失败或限流的请求）。
+     *
+     * @return client_token 列表
+     */
+    public List<String> getClientTokens() {
+        return List.copyOf(clientTokens);
+    }
+
+    /**
+     * 停止服务器。
+     */
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    /**
+     * 处理请求：延迟、错误注入、鉴权与限流后分发到具体接口。
+     *
+     * @param exchange HTTP 交换
+     * @throws IOException 读写失败
+     */
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            try {
+                dispatch(exchange);
+            } catch (RuntimeException e) {
+                write(exchange, 400, error(1254000, String.valueOf(e.getMessage())));
+            }
+        }
+    }
+
+    /**
+     * 校验令牌、注入故障与限流后分发请求。
+     *
+     * @param exchange HTTP 交换
+     * @throws IOException 读写失败
+     */
+    private void dispatch(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        sleep();
+        String path = exchange.getRequestURI().getPath();
+        if (!path.startsWith(API_PREFIX)) {
+            write(exchange, 404, error(404, "not found"));
+            return;
+        }
+        path = path.substring(API_PREFIX.length());
+        Map<String, Object> body = readBody(exchange);
+        Map<String, String> query = query(exchange);
+        String clientToken = query.get("client_token");
+        if (clientToken != null) {
+            clientTokens.add(clientToken);
+        }
+        if (injectFailure(exchange)) {
+            return;
+        }
+        if ("/auth/v3/app_access_token/internal".equals(path)) {
+            write(exchange, 200, issueToken(body));
+            return;
+        }
+        Integer authCode = checkToken(exchange);
+        if (authCode != null) {
+            write(exchange, 400, error(authCode, authCode == TOKEN_MISSING_CODE
+                    ? "Missing access token for authorization" : "Invalid access token for authorization"));
+            return;
+        }
+        Matcher app = APP.matcher(path);
+        if (app.lookingAt() && !acquire(app.group(1))) {
+            rateLimitedCount.incrementAndGet();
+            write(exchange, 429, error(RATE_LIMIT_CODE, "request trigger frequency limit"));
+            return;
+        }
+        write(exchange, 200, route(exchange.getRequestMethod(), path, query, body));
+    }
+
+    /**
+     * 分发到具体接口。
+     *
+     * @param method HTTP 方法
+     * @param path   去掉 /open-apis 前缀的路径
+     * @param query  查询参数
+     * @param body   请求体
+     * @return 响应体
+     */
+    private Map<String, Object> route(String method, String path, Map<String, String> query, Map<String, Object> body) {
+        Matcher m;
+        if ((m = RECORDS_ACTION.matcher(path)).matches() && "POST".equals(method)) {
+            FsDwMockStore.Table table = store.table(m.group(1), m.group(2));
+            return switch (m.group(3)) {
+                case "search" -> searchRecords(table, query, body);
+                case "batch_create" -> batchCreateRecords(table, body);
+                case "batch_update" -> batchUpdateRecords(table, body);
+                case "batch_delete" -> batchDeleteRecords(table, body);
+                default -> batchGetRecords(table, body);
+            };
+        }
+        if ((m = RECORDS.matcher(path)).matches() && "POST".equals(method)) {
+            FsDwMockStore.Record record = store.table(m.group(1), m.group(2)).addRecord(map(body.get("fields")));
+            return ok(Map.of("record", recordJson(store.table(m.group(1), m.group(2)), record, null)));
+        }
+        if ((m = RECORD.matcher(path)).matches()) {
+            return record(method, store.table(m.group(1), m.group(2)), m.group(3), body);
+        }
+        if ((m = FIELDS.matcher(path)).matches()) {
+            return fields(method, store.table(m.group(1), m.group(2)), query, body);
+        }
+        if ((m = FIELD.matcher(path)).matches()) {
+            return field(method, store.table(m.group(1), m.group(2)), m.group(3), body);
+        }
+        if ((m = TABLES_BATCH.matcher(path)).matches() && "POST".equals(method)) {
+            return batchTables(m.group(1), m.group(2), body);
+        }
+        if ((m = TABLE.matcher(path)).matches()) {
+            return table(method, m.group(1), m.group(2), body);
+        }
+        if ((m = TABLES.matcher(path)).matches()) {
+            return tables(method, m.group(1), body);
+        }
+        return error(1254000, "unsupported api: " + method + " " + path);
+    }
+
+    /**
+     * 单条记录接口：获取、更新、删除。
+     */
+    private Map<String, Object> record(String method, FsDwMockStore.Table table, String recordId, Map<String, Object> body) {
+        synchronized (table) {
+            switch (method) {
+                case "GET" -> {
+                    FsDwMockStore.Record record = table.getRecords().get(recordId);
+                    return record == null ? recordNotFound(recordId) : ok(Map.of("record", recordJson(table, record, null)));
+                }
+                case "PUT" -> {
+                    FsDwMockStore.Record record = table.updateRecord(recordId, map(body.get("fields")));
+                    return record == null ? recordNotFound(recordId) : ok(Map.of("record", recordJson(table, record, null)));
+                }
+                case "DELETE" -> {
+                    if (!table.deleteRecord(recordId)) {
+                        return recordNotFound(recordId);
+                    }
+                    return ok(Map.of("deleted", true, "record_id", recordId));
+                }
+                default -> {
+                    return error(1254000, "unsupported method: " + method);
+                }
+            }
+        }
+    }
+
+    /**
+     * 查询记录：过滤、排序、字段投影与 page_token 分页。
+     */
+    private Map<String, Object> searchRecords(FsDwMockStore.Table table, Map<String, String> query, Map<String, Object> body) {
+        int pageSize = Math.min(MAX_PAGE_SIZE, parseInt(query.get("page_size"), DEFAULT_PAGE_SIZE));
+        int offset = parseInt(query.get("page_token"), 0);
+        Map<String, Object> filter = map(body.get("filter"));
+        List<String> fieldNames = strings(body.get("field_names"));
+        List<Map<String, Object>> items = new ArrayList<>();
+        synchronized (table) {
+            List<FsDwMockStore.Record> matched = new ArrayList<>();
+            for (FsDwMockStore.Record record : table.getRecords().values()) {
+                if (FsDwMockQuery.matches(filter.isEmpty() ? null : filter, record.getFields())) {
+                    matched.add(record);
+                }
+            }
+            Comparator<Map<String, Object>> comparator = FsDwMockQuery.comparator(body.get("sort"));
+            if (comparator != null) {
+                matched.sort(Comparator.comparing(FsDwMockStore.Record::getFields, comparator));
+            }
+            int end = Math.min(matched.size(), offset + Math.max(1, pageSize));
+            for (int i = Math.min(offset, end); i < end; i++) {
+                items.add(recordJson(table, matched.get(i), fieldNames));
+            }
+            boolean hasMore = end < matched.size();
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("has_more", hasMore);
+            data.put("page_token", hasMore ? String.valueOf(end) : null);
+            data.put("total", matched.size());
+            data.put("items", items);
+            return ok(data);
+        }
+    }
+
+    /**
+     * 批量新增记录。
+     */
+    private Map<String, Object> batchCreateRecords(FsDwMockStore.Table table, Map<String, Object> body) {
+        List<Map<String, Object>> records = new ArrayList<>();
+        synchronized (table) {
+            for (Object item : list(body.get("records"))) {
+                records.add(recordJson(table, table.addRecord(map(map(item).get("fields"))), null));
+            }
+        }
+        return ok(Map.of("records", records));
+    }
+
+    /**
+     * 批量更新记录（任一记录不存在时整体失败）。
+     */
+    private Map<String, Object> batchUpdateRecords(FsDwMockStore.Table table, Map<String, Object> body) {
+        List<Map<String, Object>> records = new ArrayList<>();
+        synchronized (table) {
+            for (Object item : list(body.get("records"))) {
+                String recordId = String.valueOf(map(item).get("record_id"));
+                if (!table.getRecords().containsKey(recordId)) {
+                    return recordNotFound(recordId);
+                }
+            }
+            for (Object item : list(body.get("records"))) {
+                Map<String, Object> record = map(item);
+                records.add(recordJson(table, table.updateRecord(String.valueOf(record.get("record_id")),
+                        map(record.get("fields"))), null));
+            }
+        }
+        return ok(Map.of("records", records));
+    }
+
+    /**
+     * 批量删除记录（不存在的记录返回 deleted=false）。
+     */
+    private Map<String, Object> batchDeleteRecords(FsDwMockStore.Table table, Map<String, Object> body) {
+        List<Map<String, Object>> records = new ArrayList<>();
+        synchronized (table) {
+            for (String recordId : strings(body.get("records"))) {
+                Map<String, Object> result = new LinkedHashMap<>();
+                result.put("deleted", table.deleteRecord(recordId));
+                result.put("record_id", recordId);
+                records.add(result);
+            }
+        }
+        return ok(Map.of("records", records));
+    }
+
+    /**
+     * 批量获取记录。
+     */
+    private Map<String, Object> batchGetRecords(FsDwMockStore.Table table, Map<String, Object> body) {
+        List<Map<String, Object>> records = new ArrayList<>();
+        List<String> absent = new ArrayList<>();
+        synchronized (table) {
+            for (String recordId : strings(body.get("record_ids"))) {
+                FsDwMockStore.Record record = table.getRecords().get(recordId);
+                if (record == null) {
+                    absent.add(recordId);
+                } else {
+                    records.add(recordJson(table, record, null));
+                }
+            }
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("records", records);
+        data.put("absent_record_ids", absent);
+        data.put("forbidden_record_ids", Collections.emptyList());
+        return ok(data);
+    }
+
+    /**
+     * 字段列表接口：列出、新增。
+     */
+    private Map<String, Object> fields(String method, FsDwMockStore.Table table, Map<String, String> query,
+                                       Map<String, Object> body) {
+        if ("POST".equals(method)) {
+            String fieldName = String.valueOf(body.get("field_name"));
+            if (table.findField(fieldName) != null) {
+                return error(1254014, "FieldNameDuplicated");
+            }
+            FsDwMockStore.Field field = table.addField(fieldName, parseInt(String.valueOf(body.get("type")), 1),
+                    map(body.get("property")));
+            return ok(Map.of("field", fieldJson(field)));
+        }
+        int pageSize = Math.min(MAX_PAGE_SIZE, parseInt(query.get("page_size"), DEFAULT_PAGE_SIZE * 5));
+        int offset = parseInt(query.get("page_token"), 0);
+        List<Map<String, Object>> items = new ArrayList<>();
+        int total;
+        synchronized (table) {
+            List<FsDwMockStore.Field> fields = new ArrayList<>(table.getFields().values());
+            total = fields.size();
+            for (int i = offset; i < Math.min(total, offset + pageSize); i++) {
+                items.add(fieldJson(fields.get(i)));
+            }
+        }
+        boolean hasMore = offset + pageSize < total;
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("has_more", hasMore);
+        data.put("page_token", hasMore ? String.valueOf(offset + pageSize) : null);
+        data.put("total", total);
+        data.put("items", items);
+        return ok(data);
+    }
+
+    /**
+     * 单个字段接口：更新、删除。
+     */
+    private Map<String, Object> field(String method, FsDwMockStore.Table table, String fieldId, Map<String, Object> body) {
+        synchronized (table) {
+            FsDwMockStore.Field field = table.getFields().get(fieldId);
+            if (field == null) {
+                return error(FIELD_NOT_FOUND_CODE, "FieldIdNotFound");
+            }
+            if ("DELETE".equals(method)) {
+                table.getFields().remove(fieldId);
+                return ok(Map.of("field_id", fieldId, "deleted", true));
+            }
+            if (body.get("field_name") != null) {
+                field.setFieldName(String.valueOf(body.get("field_name")));
+            }
+            if (body.get("type") != null) {
+                field.setType(parseInt(String.valueOf(body.get("type")), field.getType()));
+            }
+            if (body.get("property") != null) {
+                field.setProperty(map(body.get("property")));
+            }
+            return ok(Map.of("field", fieldJson(field)));
+        }
+    }
+
+    /**
+     * 数据表列表接口：列出、新增。
+     */
+    private Map<String, Object> tables(String method, String appToken, Map<String, Object> body) {
+        if ("POST".equals(method)) {
+            Map<String, Object> spec = map(body.get("table"));
+            FsDwMockStore.Table table = store.createTable(appToken, String.valueOf(spec.get("name")));
+            List<String> fieldIds = new ArrayList<>();
+            for (Object item : list(spec.get("fields"))) {
+                Map<String, Object> field = map(item);
+                fieldIds.add(table.addField(String.valueOf(field.get("field_name")),
+                        parseInt(String.valueOf(field.get("type")), 1), map(field.get("property"))).getFieldId());
+            }
+            Map<String, Object> data = new LinkedHashMap<>();
+            data.put("table_id", table.getTableId());
+            data.put("default_view_id", store.nextId("vew"));
+            data.put("field_id_list", fieldIds);
+            return ok(data);
+        }
+        List<Map<String, Object>> items = new ArrayList<>();
+        for (FsDwMockStore.Table table : store.listTables(appToken)) {
+            Map<String, Object> item = new LinkedHashMap<>();
+            item.put("table_id", table.getTableId());
+            item.put("revision", table.getRevision());
+            item.put("name", table.getName());
+            items.add(item);
+        }
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("has_more", false);
+        data.put("page_token", null);
+        data.put("total", items.size());
+        data.put("items", items);
+        return ok(data);
+    }
+
+    /**
+     * 单个数据表接口：更新名称、删除。
+     */
+    private Map<String, Object> table(String method, String appToken, String tableId, Map<String, Object> body) {
+        FsDwMockStore.Table table = store.findTable(appToken, tableId);
+        if (table == null) {
+            return error(TABLE_NOT_FOUND_CODE, "TableIdNotFound");
+        }
+        if ("DELETE".equals(method)) {
+            store.deleteTable(appToken, tableId);
+            return ok(Collections.emptyMap());
+        }
+        if (body.get("name") != null) {
+            table.setName(String.valueOf(body.get("name")));
+        }
+        return ok(Map.of("name", table.getName()));
+    }
+
+    /**
+     * 批量新增 / 删除数据表。
+     */
+    private Map<String, Object> batchTables(String appToken, String action, Map<String, Object> body) {
+        if ("batch_delete".equals(action)) {
+            strings(body.get("table_ids")).forEach(tableId -> store.deleteTable(appToken, tableId));
+            return ok(Collections.emptyMap());
+        }
+        List<String> tableIds = new ArrayList<>();
+        for (Object item : list(body.get("tables"))) {
+            tableIds.add(store.createTable(appToken, String.valueOf(map(item).get("name"))).getTableId());
+        }
+        return ok(Map.of("table_ids", tableIds));
+    }
+
+    /**
+     * 签发 app_access_token。
+     */
+    private Map<String, Object> issueToken(Map<String, Object> body) {
+        if (isBlank(body.get("app_id")) || isBlank(body.get("app_secret"))) {
+            return error(10003, "invalid param");
+        }
+        String token = TOKEN_PREFIX + UUID.randomUUID();
+        issuedTokens.add(token);
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("code", 0);
+        result.put("msg", "ok");
+        result.put("app_access_token", token);
+        result.put("tenant_access_token", token);
+        result.put("expire", 7200);
+        return result;
+    }
+
+    /**
+     * 校验 Authorization 头。
+     *
+     * @param exchange HTTP 交换
+     * @return 错误码，通过时为 null
+     */
+    private Integer checkToken(HttpExchange exchange) {
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ")) {
+            return TOKEN_MISSING_CODE;
+        }
+        return issuedTokens.contains(authorization.substring("Bearer ".length()).trim()) ? null : TOKEN_INVALID_CODE;
+    }
+
+    /**
+     * 获取限流许可（按 appToken 的 1 秒固定窗口计数）。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @return 是否获得许可
+     */
+    private boolean acquire(String appToken) {
+        int limit = requestsPerSecond;
+        if (limit <= 0) {
+            return true;
+        }
+        Window window = rateWindows.computeIfAbsent(appToken, key -> new Window());
+        long second = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime());
+        synchronized (window) {
+            if (window.second != second) {
+                window.second = second;
+                window.count = 0;
+            }
+            return ++window.count <= limit;
+        }
+    }
+
+    /**
+     * 按设置注入失败响应。
+     *
+     * @param exchange HTTP 交换
+     * @return 是否已写入失败响应
+     * @throws IOException 写入失败
+     */
+    private boolean injectFailure(HttpExchange exchange) throws IOException {
+        if (failuresRemaining.getAndUpdate(remaining -> Math.max(0, remaining - 1)) > 0) {
+            write(exchange, failStatus, error(failCode, "injected failure"));
+            return true;
+        }
+        double rate = errorRate;
+        if (rate > 0D && ThreadLocalRandom.current().nextDouble() < rate) {
+            write(exchange, errorStatus, error(errorCode, "injected failure"));
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 按设置随机延迟。
+     */
+    private void sleep() {
+        long min = minLatencyMillis;
+        long max = maxLatencyMillis;
+        if (max <= 0L) {
+            return;
+        }
+        try {
+            Thread.sleep(min == max ? min : ThreadLocalRandom.current().nextLong(min, max + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 构建记录 JSON。
+     *
+     * @param table      数据表（用于确认调用方持有表锁）
+     * @param record     记录
+     * @param fieldNames 返回的字段名（为空时返回全部字段）
+     * @return 记录 JSON
+     */
+    private Map<String, Object> recordJson(FsDwMockStore.Table table, FsDwMockStore.Record record, List<String> fieldNames) {
+        Map<String, Object> fields;
+        synchronized (table) {
+            fields = new LinkedHashMap<>(record.getFields());
+        }
+        if (fieldNames != null && !fieldNames.isEmpty()) {
+            fields.keySet().retainAll(fieldNames);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("record_id", record.getRecordId());
+        json.put("id", record.getRecordId());
+        json.put("fields", fields);
+        json.put("created_time", record.getCreatedTime());
+        json.put("last_modified_time", record.getLastModifiedTime());
+        return json;
+    }
+
+    /**
+     * 构建字段 JSON。
+     *
+     * @param field 字段
+     * @return 字段 JSON
+     */
+    private static Map<String, Object> fieldJson(FsDwMockStore.Field field) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("field_id", field.getFieldId());
+        json.put("field_name", field.getFieldName());
+        json.put("is_primary", field.isPrimary());
+        json.put("type", field.getType());
+        json.put("property", field.getProperty());
+        return json;
+    }
+
+    private static Map<String, Object> ok(Object data) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("code", 0);
+        result.put("msg", "success");
+        result.put("data", data);
+        return result;
+    }
+
+    private static Map<String, Object> error(int code, String msg) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("code", code);
+        result.put("msg", msg);
+        return result;
+    }
+
+    private static Map<String, Object> recordNotFound(String recordId) {
+        return error(RECORD_NOT_FOUND_CODE, "RecordIdNotFound: " + recordId);
+    }
+
+    /**
+     * 读取 JSON 请求体。
+     *
+     * @param exchange HTTP 交换
+     * @return 请求体（为空时为空 Map）
+     * @throws IOException 读取失败
+     */
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            if (bytes.length == 0) {
+                return Collections.emptyMap();
+            }
+            return objectMapper.readValue(bytes, new TypeReference<Map<String, Object>>() {
+            });
+        }
+    }
+
+    /**
+     * 写入 JSON 响应。
+     *
+     * @param exchange HTTP 交换
+     * @param status   HTTP 状态码
+     * @param body     响应体
+     * @throws IOException 写入失败
+     */
+    private void write(HttpExchange exchange, int status, Map<String, Object> body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    /**
+     * 解析查询参数。
+     *
+     * @param exchange HTTP 交换
+     * @return 查询参数
+     */
+    private static Map<String, String> query(HttpExchange exchange) {
+        Map<String, String> params = new LinkedHashMap<>();
+        String raw = exchange.getRequestURI().getRawQuery();
+        if (raw == null || raw.isEmpty()) {
+            return params;
+        }
+        for (String pair : raw.split("&")) {
+            int index = pair.indexOf('=');
+            String key = URLDecoder.decode(index < 0 ? pair : pair.substring(0, index), StandardCharsets.UTF_8);
+            String value = index < 0 ? "" : URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8);
+            params.put(key, value);
+        }
+        return params;
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        if (value == null || value.isBlank() || "null".equals(value)) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static boolean isBlank(Object value) {
+        return value == null || String.valueOf(value).isBlank();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> map(Object value) {
+        return value instanceof Map<?, ?> ? (Map<String, Object>) value : Collections.emptyMap();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Object> list(Object value) {
+        return value instanceof List<?> ? (List<Object>) value : Collections.emptyList();
+    }
+
+    private static List<String> strings(Object value) {
+        List<String> result = new ArrayList<>();
+        list(value).forEach(item -> result.add(String.valueOf(item)));
+        return result;
+    }
+
+    /**
+     * 限流计数窗口。
+     */
+    private static final class Window {
+
+        private long second = -1L;
+
+        private int count;
+    }
+}
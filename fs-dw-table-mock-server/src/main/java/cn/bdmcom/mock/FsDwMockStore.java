@@ -0,0 +1,369 @@
+package cn.bdmcom.mock;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 替身服务器的内存数据。
+ *
+ * <p>按 appToken -> 数据表 -> 字段 / 记录 保存状态，数据表在首次访问时自动创建，
+ * 写入记录时遇到未定义的字段名自动补充为文本字段。同一数据表内的读写串行执行。</p>
+ */
+public class FsDwMockStore {
+
+    private static final int TEXT_TYPE = 1;
+
+    private final Map<String, Map<String, Table>> apps = new ConcurrentHashMap<>();
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * 获取数据表，不存在时创建（名称与 ID 相同）。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  数据表ID
+     * @return 数据表
+     */
+    public Table table(String appToken, String tableId) {
+        return tables(appToken).computeIfAbsent(tableId, id -> new Table(id, id));
+    }
+
+    /**
+     * 查找数据表。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  数据表ID
+     * @return 数据表，不存在时为 null
+     */
+    public Table findTable(String appToken, String tableId) {
+        return tables(appToken).get(tableId);
+    }
+
+    /**
+     * 新建数据表。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param name     数据表名称
+     * @return 数据表
+     */
+    public Table createTable(String appToken, String name) {
+        String tableId = nextId("tbl");
+        Table table = new Table(tableId, name);
+        tables(appToken).put(tableId, table);
+        return table;
+    }
+
+    /**
+     * 删除数据表。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  数据表ID
+     * @return 是否存在并删除
+     */
+    public boolean deleteTable(String appToken, String tableId) {
+        return tables(appToken).remove(tableId) != null;
+    }
+
+    /**
+     * 列出数据表（按创建顺序）。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @return 数据表列表
+     */
+    public List<Table> listTables(String appToken) {
+        return new ArrayList<>(tables(appToken).values());
+    }
+
+    /**
+     * 清空全部数据。
+     */
+    public void clear() {
+        apps.clear();
+    }
+
+    /**
+     * 生成带前缀的唯一 ID。
+     *
+     * @param prefix 前缀（tbl / fld / rec / vew）
+     * @return 唯一 ID
+     */
+    String nextId(String prefix) {
+        String suffix = Long.toString(sequence.incrementAndGet(), 36);
+        return prefix + "0000000000".substring(Math.min(10, suffix.length())) + suffix;
+    }
+
+    /**
+     * 获取 App 下的数据表映射。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @return 数据表映射（保持创建顺序）
+     */
+    private Map<String, Table> tables(String appToken) {
+        return apps.computeIfAbsent(appToken, token -> Collections.synchronizedMap(new LinkedHashMap<>()));
+    }
+
+    /**
+     * 数据表：字段定义与记录（调用方需在 synchronized (table) 内访问可变状态）。
+     */
+    public final class Table {
+
+        private final String tableId;
+
+        private volatile String name;
+
+        private volatile int revision = 1;
+
+        private final Map<String, Field> fields = new LinkedHashMap<>();
+
+        private final Map<String, Record> records = new LinkedHashMap<>();
+
+        private Table(String tableId, String name) {
+            this.tableId = tableId;
+            this.name = name;
+        }
+
+        public String getTableId() {
+            return tableId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+            revision++;
+        }
+
+        public int getRevision() {
+            return revision;
+        }
+
+        /**
+         * 获取字段定义（按创建顺序，需持有表锁）。
+         *
+         * @return 字段映射（fieldId -> 字段）
+         */
+        public Map<String, Field> getFields() {
+            return fields;
+        }
+
+        /**
+         * 获取记录（按创建顺序，需持有表锁）。
+         *
+         * @return 记录映射（recordId -> 记录）
+         */
+        public Map<String, Record> getRecords() {
+            return records;
+        }
+
+        /**
+         * 新增字段，第一个字段为索引字段。
+         *
+         * @param fieldName 字段名
+         * @param type      字段类型
+         * @param property  字段属性（可为空）
+         * @return 字段
+         */
+        public synchronized Field addField(String fieldName, int type, Map<String, Object> property) {
+            Field field = new Field(nextId("fld"), fieldName, type, property, fields.isEmpty());
+            fields.put(field.fieldId, field);
+            revision++;
+            return field;
+        }
+
+        /**
+         * 按字段名查找字段。
+         *
+         * @param fieldName 字段名
+         * @return 字段，不存在时为 null
+         */
+        public synchronized Field findField(String fieldName) {
+            for (Field field : fields.values()) {
+                if (field.fieldName.equals(fieldName)) {
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * 新增记录（未定义的字段名自动补充为文本字段）。
+         *
+         * @param values 字段值
+         * @return 记录
+         */
+        public synchronized Record addRecord(Map<String, Object> values) {
+            long now = System.currentTimeMillis();
+            Record record = new Record(nextId("rec"), new LinkedHashMap<>(), now);
+            record.merge(values, now);
+            ensureFields(values);
+            records.put(record.recordId, record);
+            return record;
+        }
+
+        /**
+         * 合并更新记录字段。
+         *
+         * @param recordId 记录ID
+         * @param values   字段值
+         * @return 记录，不存在时为 null
+         */
+        public synchronized Record updateRecord(String recordId, Map<String, Object> values) {
+            Record record = records.get(recordId);
+            if (record != null) {
+                record.merge(values, System.currentTimeMillis());
+                ensureFields(values);
+            }
+            return record;
+        }
+
+        /**
+         * 删除记录。
+         *
+         * @param recordId 记录ID
+         * @return 是否存在并删除
+         */
+        public synchronized boolean deleteRecord(String recordId) {
+            return records.remove(recordId) != null;
+        }
+
+        /**
+         * 补充未定义的字段。
+         *
+         * @param values 字段值
+         */
+        private void ensureFields(Map<String, Object> values) {
+            if (values == null) {
+                return;
+            }
+            for (String fieldName : values.keySet()) {
+                if (findField(fieldName) == null) {
+                    addField(fieldName, TEXT_TYPE, null);
+                }
+            }
+        }
+    }
+
+    /**
+     * 字段定义。
+     */
+    public static final class Field {
+
+        private final String fieldId;
+
+        private volatile String fieldName;
+
+        private volatile int type;
+
+        private volatile Map<String, Object> property;
+
+        private final boolean primary;
+
+        private Field(String fieldId, String fieldName, int type, Map<String, Object> property, boolean primary) {
+            this.fieldId = fieldId;
+            this.fieldName = fieldName;
+            this.type = type;
+            this.property = property;
+            this.primary = primary;
+        }
+
+        public String getFieldId() {
+            return fieldId;
+        }
+
+        public String getFieldName() {
+            return fieldName;
+        }
+
+        public void setFieldName(String fieldName) {
+            this.fieldName = fieldName;
+        }
+
+        public int getType() {
+            return type;
+        }
+
+        public void setType(int type) {
+            this.type = type;
+        }
+
+        public Map<String, Object> getProperty() {
+            return property;
+        }
+
+        public void setProperty(Map<String, Object> property) {
+            this.property = property;
+        }
+
+        public boolean isPrimary() {
+            return primary;
+        }
+    }
+
+    /**
+     * 记录。
+     */
+    public static final class Record {
+
+        private final String recordId;
+
+        private final Map<String, Object> fields;
+
+        private final long createdTime;
+
+        private volatile long lastModifiedTime;
+
+        private Record(String recordId, Map<String, Object> fields, long createdTime) {
+            this.recordId = recordId;
+            this.fields = fields;
+            this.createdTime = createdTime;
+            this.lastModifiedTime = createdTime;
+        }
+
+        public String getRecordId() {
+            return recordId;
+        }
+
+        /**
+         * 获取字段值（需持有表锁）。
+         *
+         * @return 字段值映射
+         */
+        public Map<String, Object> getFields() {
+            return fields;
+        }
+
+        public long getCreatedTime() {
+            return createdTime;
+        }
+
+        public long getLastModifiedTime() {
+            return lastModifiedTime;
+        }
+
+        /**
+         * 合并字段值，值为 null 时清空该字段。
+         *
+         * @param values 字段值
+         * @param now    修改时间
+         */
+        private void merge(Map<String, Object> values, long now) {
+            if (values != null) {
+                values.forEach((name, value) -> {
+                    if (value == null) {
+                        fields.remove(name);
+                    } else {
+                        fields.put(name, value);
+                    }
+                });
+            }
+            lastModifiedTime = now;
+        }
+    }
+}
@@ -0,0 +1,595 @@
+package cn.bdmcom.processor;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.Messager;
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 实体映射器注解处理器。
+ *
+ * <p>为每个标注 @FsDwTable 的具体实体生成 {@code <实体名>_FsDwMapper}（实现 FsDwGeneratedMapper），
+ * 并登记到 META-INF/services，Starter 运行时自动使用，不存在时回退为反射：</p>
+ * <ul>
+ *     <li>字段顺序与反射一致：子类字段在前，同一类内按声明顺序</li>
+ *     <li>字段读写优先直接访问（非 private 且与实体同包），其次使用 getter/setter（含 Lombok 生成的方法）</li>
+ *     <li>任一字段无法在生成代码中读写、或缺少可访问的无参构造时不生成，该实体继续使用反射映射</li>
+ * </ul>
+ */
+@SupportedAnnotationTypes(FsDwMapperProcessor.TABLE)
+public class FsDwMapperProcessor extends AbstractProcessor {
+
+    static final String TABLE = "cn.bdmcom.core.domain.FsDwTable";
+
+    private static final String TABLE_ID = "cn.bdmcom.core.domain.FsDwTableId";
+
+    private static final String TABLE_PROPERTY = "cn.bdmcom.core.domain.FsDwTableProperty";
+
+    private static final String GENERATED_MAPPER = "cn.bdmcom.core.mapper.FsDwGeneratedMapper";
+
+    private static final String FIELD_ACCESSOR = "cn.bdmcom.core.mapper.FsDwFieldAccessor";
+
+    private static final String SUFFIX = "_FsDwMapper";
+
+    private static final String SERVICE_FILE = "META-INF/services/" + GENERATED_MAPPER;
+
+    private static final String LOG_PREFIX = "[飞书多维表格]";
+
+    private Elements elements;
+
+    private Types types;
+
+    private Filer filer;
+
+    private Messager messager;
+
+    /**
+     * 本次编译生成的映射器类名。
+     */
+    private final Set<String> generatedMappers = new TreeSet<>();
+
+    @Override
+    public synchronized void init(ProcessingEnvironment processingEnv) {
+        super.init(processingEnv);
+        this.elements = processingEnv.getElementUtils();
+        this.types = processingEnv.getTypeUtils();
+        this.filer = processingEnv.getFiler();
+        this.messager = processingEnv.getMessager();
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        TypeElement table = elements.getTypeElement(TABLE);
+        if (table != null) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(table)) {
+                if (element.getKind() == ElementKind.CLASS) {
+                    generate((TypeElement) element);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generatedMappers.isEmpty()) {
+            writeServiceFile();
+        }
+        return false;
+    }
+
+    /**
+     * 为实体生成映射器，无法生成时输出提示并跳过。
+     *
+     * @param entity 实体类型
+     */
+    private void generate(TypeElement entity) {
+        if (entity.getModifiers().contains(Modifier.ABSTRACT) || !isReachable(entity)) {
+            return;
+        }
+        String packageName = elements.getPackageOf(entity).getQualifiedName().toString();
+        String binaryName = elements.getBinaryName(entity).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + SUFFIX;
+        String mapperName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        if (generatedMappers.contains(mapperName)) {
+            return;
+        }
+        if (!hasNoArgConstructor(entity, packageName)) {
+            skip(entity, "缺少可访问的无参构造");
+            return;
+        }
+        List<String> accessors = new ArrayList<>();
+        String entityName = entity.getQualifiedName().toString();
+        TypeElement current = entity;
+        while (current != null && !current.getQualifiedName().contentEquals("java.lang.Object")) {
+            for (Element member : current.getEnclosedElements()) {
+                if (member.getKind() != ElementKind.FIELD || member.getModifiers().contains(Modifier.STATIC)) {
+                    continue;
+                }
+                String accessor = buildAccessor(entity, entityName, packageName, current, (VariableElement) member);
+                if (accessor == null) {
+                    skip(entity, "字段 " + member.getSimpleName() + " 无法在生成代码中读写");
+                    return;
+                }
+                accessors.add(accessor);
+            }
+            current = superclassOf(current);
+        }
+        try {
+            writeMapper(entity, packageName, simpleName, entityName, accessors);
+            generatedMappers.add(mapperName);
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, LOG_PREFIX + "生成实体映射器失败: " + e.getMessage(), entity);
+        }
+    }
+
+    /**
+     * 构建单个字段的访问描述代码。
+     *
+     * @param entity      实体类型
+     * @param entityName  实体全名
+     * @param packageName 生成类所在包
+     * @param owner       声明字段的类型
+     * @param field       字段
+     * @return 访问描述代码，无法读写时返回 null
+     */
+    private String buildAccessor(TypeElement entity, String entityName, String packageName, TypeElement owner,
+                                 VariableElement field) {
+        String name = field.getSimpleName().toString();
+        TypeMirror fieldType = field.asType();
+        String erasure = types.erasure(fieldType).toString();
+        String castType = fieldType.getKind().isPrimitive()
+                ? types.boxedClass((PrimitiveType) fieldType).getQualifiedName().toString() : erasure;
+        String target = "((" + entityName + ") entity)";
+
+        String getter;
+        String setter;
+        boolean direct = isAccessible(field, owner, packageName);
+        if (direct) {
+            getter = "entity -> " + target + "." + name;
+        } else {
+            String method = findGetter(entity, owner, field, packageName);
+            getter = method == null ? null : "entity -> " + target + "." + method + "()";
+        }
+        if (direct && !field.getModifiers().contains(Modifier.FINAL)) {
+            setter = "(entity, value) -> " + target + "." + name + " = (" + castType + ") value";
+        } else {
+            String method = findSetter(entity, owner, field, packageName);
+            setter = method == null ? null : "(entity, value) -> " + target + "." + method + "((" + castType + ") value)";
+        }
+        if (getter == null || setter == null) {
+            return null;
+        }
+
+        AnnotationMirror property = findAnnotation(field, TABLE_PROPERTY);
+        String columnName = null;
+        int order = 0;
+        if (property != null) {
+            Map<? extends ExecutableElement, ? extends AnnotationValue> values =
+                    elements.getElementValuesWithDefaults(property);
+            String fieldValue = null;
+            String firstValue = null;
+            for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : values.entrySet()) {
+                String key = entry.getKey().getSimpleName().toString();
+                Object value = entry.getValue().getValue();
+                if ("field".equals(key)) {
+                    fieldValue = (String) value;
+                } else if ("value".equals(key) && value instanceof List<?> list && !list.isEmpty()) {
+                    firstValue = (String) ((AnnotationValue) list.get(0)).getValue();
+                } else if ("order".equals(key)) {
+                    order = (Integer) value;
+                }
+            }
+            columnName = !isBlank(fieldValue) ? fieldValue : !isBlank(firstValue) ? firstValue : null;
+        }
+        return FIELD_ACCESSOR + ".of(" + literal(name) + ", " + erasure + ".class, "
+                + (findAnnotation(field, TABLE_ID) != null) + ", " + (property != null) + ", "
+                + (columnName == null ? "null" : literal(columnName)) + ", " + order + ",\n"
+                + "                    " + getter + ",\n"
+                + "                    " + setter + ")";
+    }
+
+    /**
+     * 查找字段的 getter：先查找已存在的方法（含 Lombok 已生成的方法），再按 Lombok 注解推断。
+     *
+     * @param entity      实体类型
+     * @param owner       声明字段的类型
+     * @param field       字段
+     * @param packageName 生成类所在包
+     * @return 方法名，不可用时返回 null
+     */
+    private String findGetter(TypeElement entity, TypeElement owner, VariableElement field, String packageName) {
+        String name = field.getSimpleName().toString();
+        boolean primitiveBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        List<String> candidates = new ArrayList<>();
+        if (primitiveBoolean) {
+            candidates.add(isBooleanPrefixed(name) ? name : "is" + capitalize(name));
+        }
+        candidates.add("get" + capitalize(name));
+        for (String candidate : candidates) {
+            ExecutableElement method = findMethod(entity, candidate, null, packageName);
+            if (method != null && types.isSameType(types.erasure(method.getReturnType()), types.erasure(field.asType()))) {
+                return candidate;
+            }
+        }
+        if (lombokAccessible(owner, field, "lombok.Getter", packageName)) {
+            return candidates.get(0);
+        }
+        return null;
+    }
+
+    /**
+     * 查找字段的 setter：先查找已存在的方法（含 Lombok 已生成的方法），再按 Lombok 注解推断。
+     *
+     * @param entity      实体类型
+     * @param owner       声明字段的类型
+     * @param field       字段
+     * @param packageName 生成类所在包
+     * @return 方法名，不可用时返回 null
+     */
+    private String findSetter(TypeElement entity, TypeElement owner, VariableElement field, String packageName) {
+        String name = field.getSimpleName().toString();
+        boolean primitiveBoolean = field.asType().getKind() == TypeKind.BOOLEAN;
+        String candidate = "set" + capitalize(primitiveBoolean && isBooleanPrefixed(name) ? name.substring(2) : name);
+        if (findMethod(entity, candidate, field.asType(), packageName) != null) {
+            return candidate;
+        }
+        if (!field.getModifiers().contains(Modifier.FINAL)
+                && lombokAccessible(owner, field, "lombok.Setter", packageName)) {
+            return candidate;
+        }
+        return null;
+    }
+
+    /**
+     * 在实体（含父类）中查找可访问的实例方法。
+     *
+     * @param entity      实体类型
+     * @param name        方法名
+     * @param parameter   参数类型（为 null 时查找无参方法）
+     * @param packageName 生成类所在包
+     * @return 方法，不存在时返回 null
+     */
+    private ExecutableElement findMethod(TypeElement entity, String name, TypeMirror parameter, String packageName) {
+        for (Element member : elements.getAllMembers(entity)) {
+            if (member.getKind() != ElementKind.METHOD || !member.getSimpleName().contentEquals(name)
+                    || member.getModifiers().contains(Modifier.STATIC)) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) member;
+            if (!method.getThrownTypes().isEmpty()
+                    || !isAccessible(method, (TypeElement) method.getEnclosingElement(), packageName)) {
+                continue;
+            }
+            List<? extends VariableElement> parameters = method.getParameters();
+            if (parameter == null ? parameters.isEmpty() : parameters.size() == 1
+                    && types.isSameType(types.erasure(parameters.get(0).asType()), types.erasure(parameter))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 判断 Lombok 是否会为字段生成可访问的 getter/setter（字段注解优先于类注解）。
+     *
+     * @param owner       声明字段的类型
+     * @param field       字段
+     * @param annotation  Lombok 注解（lombok.Getter / lombok.Setter）
+     * @param packageName 生成类所在包
+     * @return 是否可访问
+     */
+    private boolean lombokAccessible(TypeElement owner, VariableElement field, String annotation, String packageName) {
+        AnnotationMirror mirror = findAnnotation(field, annotation);
+        if (mirror == null) {
+            mirror = findAnnotation(owner, annotation);
+        }
+        if (mirror != null) {
+            return accessLevelAllows(mirror, owner, packageName);
+        }
+        if (findAnnotation(owner, "lombok.Data") != null) {
+            return true;
+        }
+        return "lombok.Getter".equals(annotation) && findAnnotation(owner, "lombok.Value") != null;
+    }
+
+    /**
+     * 判断 Lombok 注解的访问级别是否允许生成类调用。
+     *
+     * @param mirror      Lombok 注解
+     * @param owner       声明字段的类型
+     * @param packageName 生成类所在包
+     * @return 是否允许
+     */
+    private boolean accessLevelAllows(AnnotationMirror mirror, TypeElement owner, String packageName) {
+        String level = "PUBLIC";
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : mirror.getElementValues().entrySet()) {
+            if (entry.getKey().getSimpleName().contentEquals("value")) {
+                level = String.valueOf(entry.getValue().getValue());
+            }
+        }
+        return switch (level) {
+            case "PUBLIC" -> true;
+            case "PROTECTED", "PACKAGE", "MODULE" -> samePackage(owner, packageName);
+            default -> false;
+        };
+    }
+
+    /**
+     * 判断成员能否从生成类（与实体同包）访问。
+     *
+     * @param member      成员
+     * @param owner       声明成员的类型
+     * @param packageName 生成类所在包
+     * @return 是否可访问
+     */
+    private boolean isAccessible(Element member, TypeElement owner, String packageName) {
+        Set<Modifier> modifiers = member.getModifiers();
+        if (modifiers.contains(Modifier.PRIVATE)) {
+            return false;
+        }
+        return modifiers.contains(Modifier.PUBLIC) || samePackage(owner, packageName);
+    }
+
+    /**
+     * 判断类型是否位于指定包。
+     *
+     * @param owner       类型
+     * @param packageName 包名
+     * @return 是否同包
+     */
+    private boolean samePackage(TypeElement owner, String packageName) {
+        return elements.getPackageOf(owner).getQualifiedName().contentEquals(packageName);
+    }
+
+    /**
+     * 判断实体能否在生成类中引用（非 private，嵌套类需为静态且外层类同样可引用）。
+     *
+     * @param entity 实体类型
+     * @return 是否可引用
+     */
+    private boolean isReachable(TypeElement entity) {
+        Element current = entity;
+        while (current instanceof TypeElement type) {
+            if (type.getModifiers().contains(Modifier.PRIVATE)) {
+                return false;
+            }
+            Element enclosing = type.getEnclosingElement();
+            if (enclosing instanceof TypeElement && !type.getModifiers().contains(Modifier.STATIC)) {
+                return false;
+            }
+            current = enclosing;
+        }
+        return true;
+    }
+
+    /**
+     * 判断实体是否存在可访问、不声明受检异常的无参构造。
+     *
+     * @param entity      实体类型
+     * @param packageName 生成类所在包
+     * @return 是否存在
+     */
+    private boolean hasNoArgConstructor(TypeElement entity, String packageName) {
+        for (Element member : entity.getEnclosedElements()) {
+            if (member.getKind() != ElementKind.CONSTRUCTOR) {
+                continue;
+            }
+            ExecutableElement constructor = (ExecutableElement) member;
+            if (constructor.getParameters().isEmpty() && constructor.getThrownTypes().isEmpty()
+                    && isAccessible(constructor, entity, packageName)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 获取父类。
+     *
+     * @param type 类型
+     * @return 父类，不存在时返回 null
+     */
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) {
+            return null;
+        }
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    /**
+     * 查找元素上的注解。
+     *
+     * @param element        元素
+     * @param annotationName 注解全名
+     * @return 注解，不存在时返回 null
+     */
+    private AnnotationMirror findAnnotation(Element element, String annotationName) {
+        for (AnnotationMirror mirror : element.getAnnotationMirrors()) {
+            TypeElement annotationType = (TypeElement) mirror.getAnnotationType().asElement();
+            if (annotationType.getQualifiedName().contentEquals(annotationName)) {
+                return mirror;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 写出映射器源码。
+     *
+     * @param entity      实体类型
+     * @param packageName 包名
+     * @param simpleName  生成类名
+     * @param entityName  实体全名
+     * @param accessors   字段访问描述代码
+     * @throws IOException 写出失败
+     */
+    private void writeMapper(TypeElement entity, String packageName, String simpleName, String entityName,
+                             List<String> accessors) throws IOException {
+        String qualifiedName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        try (Writer writer = filer.createSourceFile(qualifiedName, entity).openWriter()) {
+            StringBuilder source = new StringBuilder();
+            if (!packageName.isEmpty()) {
+                source.append("package ").append(packageName).append(";\n\n");
+            }
+            source.append("/**\n")
+                    .append(" * {@link ").append(entityName).append("} 的实体映射器（由 fs-dw-table-processor 生成，请勿修改）。\n")
+                    .append(" */\n")
+                    .append("@javax.annotation.processing.Generated(\"").append(getClass().getName()).append("\")\n")
+                    .append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n")
+                    .append("public final class ").append(simpleName).append(" implements ")
+                    .append(GENERATED_MAPPER).append("<").append(entityName).append("> {\n\n")
+                    .append("    private static final java.util.List<").append(FIELD_ACCESSOR).append("> ACCESSORS = java.util.List.of(");
+            for (int i = 0; i < accessors.size(); i++) {
+                source.append(i == 0 ? "\n" : ",\n").append("            ").append(accessors.get(i));
+            }
+            source.append(");\n\n")
+                    .append("    @Override\n")
+                    .append("    public Class<").append(entityName).append("> entityType() {\n")
+                    .append("        return ").append(entityName).append(".class;\n")
+                    .append("    }\n\n")
+                    .append("    @Override\n")
+                    .append("    public ").append(entityName).append(" newInstance() {\n")
+                    .append("        return new ").append(entityName).append("();\n")
+                    .append("    }\n\n")
+                    .append("    @Override\n")
+                    .append("    public java.util.List<").append(FIELD_ACCESSOR).append("> accessors() {\n")
+                    .append("        return ACCESSORS;\n")
+                    .append("    }\n")
+                    .append("}\n");
+            writer.write(source.toString());
+        }
+    }
+
+    /**
+     * 写出 ServiceLoader 登记文件（合并已存在的登记项，兼容增量编译）。
+     */
+    private void writeServiceFile() {
+        Set<String> entries = new TreeSet<>(generatedMappers);
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isBlank()) {
+                        entries.add(line.trim());
+                    }
+                }
+            }
+        } catch (IOException | IllegalArgumentException ignored) {
+            // 首次编译时登记文件不存在
+        }
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SERVICE_FILE);
+            try (Writer writer = file.openWriter()) {
+                for (String entry : entries) {
+                    writer.write(entry);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            messager.printMessage(Diagnostic.Kind.ERROR, LOG_PREFIX + "写出实体映射器登记文件失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 输出跳过生成的提示。
+     *
+     * @param entity 实体类型
+     * @param reason 原因
+     */
+    private void skip(TypeElement entity, String reason) {
+        messager.printMessage(Diagnostic.Kind.NOTE,
+                LOG_PREFIX + "未生成实体映射器（" + reason + "），运行时使用反射映射: " + entity.getQualifiedName(), entity);
+    }
+
+    /**
+     * 判断布尔字段名是否以 is 开头（Lombok 规则）。
+     *
+     * @param name 字段名
+     * @return 是否以 is 开头
+     */
+    private static boolean isBooleanPrefixed(String name) {
+        return name.length() > 2 && name.startsWith("is") && Character.isUpperCase(name.charAt(2));
+    }
+
+    /**
+     * 首字母大写。
+     *
+     * @param name 名称
+     * @return 首字母大写的名称
+     */
+    private static String capitalize(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 判断字符串是否为空白。
+     *
+     * @param value 字符串
+     * @return 是否为空白
+     */
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * 生成 Java 字符串字面量（非 ASCII 字符转义为 unicode）。
+     *
+     * @param value 字符串
+     * @return 字面量
+     */
+    private static String literal(String value) {
+        StringBuilder builder = new StringBuilder("\"");
+        for (char c : value.toCharArray()) {
+            switch (c) {
+                case '"' -> builder.append("\\\"");
+                case '\\' -> builder.append("\\\\");
+                case '\n' -> builder.append("\\n");
+                case '\r' -> builder.append("\\r");
+                case '\t' -> builder.append("\\t");
+                default -> {
+                    if (c < 0x20 || c > 0x7e) {
+                        builder.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        builder.append(c);
+                    }
+                }
+            }
+        }
+        return builder.append('"').toString();
+    }
+}
@@ -1,15 +1,38 @@
 package cn.bdmcom.autoconfigure;
 
 import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.cache.FsDwPageTokenIndex;
+import cn.bdmcom.core.cache.FsDwRecordCache;
+import cn.bdmcom.core.cache.FsDwSchemaCache;
+import cn.bdmcom.core.concurrent.FsDwRateLimiter;
+import cn.bdmcom.core.concurrent.FsDwRetryer;
+import cn.bdmcom.core.concurrent.FsDwTaskExecutor;
+import cn.bdmcom.core.concurrent.FsDwTaskScope;
 import cn.bdmcom.core.helper.FsDwHelperRegistrar;
+import cn.bdmcom.core.http.FsDwForestInterceptor;
+import cn.bdmcom.core.http.FsDwHttpTransport;
+import cn.bdmcom.core.http.FsDwResponseDecoder;
+import cn.bdmcom.core.mapper.FsDwEntityRegistry;
+import cn.bdmcom.core.metrics.FsDwMetrics;
+import cn.bdmcom.core.metrics.FsDwObservationConvention;
 import cn.bdmcom.core.service.FsDwFieldService;
 import cn.bdmcom.core.service.FsDwRecordService;
+import cn.bdmcom.core.service.FsDwSyncService;
 import cn.bdmcom.core.service.FsDwTableService;
 import cn.bdmcom.core.service.FsDwTokenService;
+import cn.bdmcom.core.service.FsDwWriteBehindService;
+import cn.bdmcom.core.sync.FsDwMemoryCheckpointStore;
+import cn.bdmcom.core.sync.FsDwSyncCheckpointStore;
+import cn.bdmcom.core.tenant.FsDwTenantRegistry;
 import com.dtflys.forest.springboot.annotation.ForestScan;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.io.ResourceLoader;
 
 /**
  * 飞书多维表格 Starter 自动配置。
@@ -19,14 +42,158 @@ import org.springframework.context.annotation.Bean;
 @ForestScan(basePackages = "cn.bdmcom.core.api")
 public class FsDwAutoConfiguration {
 
+    /**
+     * 创建接口调用观测 Bean（存在 ObservationRegistry 且未关闭时记录观测）。
+     *
+     * @param properties  配置属性
+     * @param registry    观测注册表
+     * @param conventions 自定义观测约定
+     * @return 接口调用观测
+     */
+    @Bean
+    public FsDwMetrics bdmFsDwMetrics(FsDwProperties properties, ObjectProvider<ObservationRegistry> registry,
+                                      ObjectProvider<FsDwObservationConvention> conventions) {
+        if (!properties.getMetrics().isEnabled()) {
+            return new FsDwMetrics();
+        }
+        return new FsDwMetrics(registry.getIfAvailable(), conventions.getIfAvailable());
+    }
+
+    /**
+     * 创建共享 HTTP 传输层 Bean。
+     *
+     * @param properties  配置属性
+     * @param fsDwMetrics 接口调用观测
+     * @return HTTP 传输层
+     */
+    @Bean
+    public FsDwHttpTransport bdmFsDwHttpTransport(FsDwProperties properties, FsDwMetrics fsDwMetrics) {
+        return new FsDwHttpTransport(properties.getHttp(), fsDwMetrics);
+    }
+
+    /**
+     * 创建后台任务执行器 Bean。
+     *
+     * @param properties 配置属性
+     * @return 后台任务执行器
+     */
+    @Bean
+    @ConditionalOnMissingBean(FsDwTaskExecutor.class)
+    public FsDwTaskExecutor bdmFsDwTaskExecutor(FsDwProperties properties) {
+        return new FsDwTaskExecutor(properties.getExecutor());
+    }
+
+    /**
+     * 创建辅助类并发任务作用域 Bean。
+     *
+     * @param properties       配置属性
+     * @param fsDwTaskExecutor 后台任务执行器
+     * @return 并发任务作用域
+     */
+    @Bean
+    public FsDwTaskScope bdmFsDwTaskScope(FsDwProperties properties, FsDwTaskExecutor fsDwTaskExecutor) {
+        return new FsDwTaskScope(properties.getHelper(), fsDwTaskExecutor);
+    }
+
+    /**
+     * 创建租户注册表 Bean。
+     *
+     * @param properties 配置属性
+     * @return 租户注册表
+     */
+    @Bean
+    public FsDwTenantRegistry bdmFsDwTenantRegistry(FsDwProperties properties) {
+        return new FsDwTenantRegistry(properties);
+    }
+
+    /**
+     * 创建客户端限流器 Bean。
+     *
+     * @param properties         配置属性
+     * @param fsDwTenantRegistry 租户注册表
+     * @return 客户端限流器
+     */
+    @Bean
+    public FsDwRateLimiter bdmFsDwRateLimiter(FsDwProperties properties, FsDwTenantRegistry fsDwTenantRegistry) {
+        return new FsDwRateLimiter(properties.getRateLimit(), fsDwTenantRegistry);
+    }
+
+    /**
+     * 创建接口重试器 Bean。
+     *
+     * @param properties 配置属性
+     * @return 接口重试器
+     */
+    @Bean
+    public FsDwRetryer bdmFsDwRetryer(FsDwProperties properties) {
+        return new FsDwRetryer(properties.getRetry());
+    }
+
+    /**
+     * 创建响应解码器 Bean。
+     *
+     * @return 响应解码器
+     */
+    @Bean
+    public FsDwResponseDecoder bdmFsDwResponseDecoder() {
+        return new FsDwResponseDecoder();
+    }
+
+    /**
+     * 创建 Forest 请求拦截器 Bean。
+     *
+     * @return Forest 请求拦截器
+     */
+    @Bean
+    public FsDwForestInterceptor bdmFsDwForestInterceptor() {
+        return new FsDwForestInterceptor();
+    }
+
     /**
      * 创建 Token 服务 Bean。
      *
+     * @param properties         配置属性
+     * @param fsDwTenantRegistry 租户注册表
      * @return Token 服务
      */
     @Bean
-    public FsDwTokenService bdmFsDwTokenService() {
-        return new FsDwTokenService();
+    public FsDwTokenService bdmFsDwTokenService(FsDwProperties properties, FsDwTenantRegistry fsDwTenantRegistry) {
+        return new FsDwTokenService(properties.getToken(), fsDwTenantRegistry);
+    }
+
+    /**
+     * 创建分页 token 索引 Bean。
+     *
+     * @param properties 配置属性
+     * @return 分页 token 索引
+     */
+    @Bean
+    public FsDwPageTokenIndex bdmFsDwPageTokenIndex(FsDwProperties properties) {
+        return new FsDwPageTokenIndex(properties.getPagination());
+    }
+
+    /**
+     * 创建记录读缓存 Bean。
+     *
+     * @param properties   配置属性
+     * @param objectMapper JSON 映射器
+     * @return 记录读缓存
+     */
+    @Bean
+    public FsDwRecordCache bdmFsDwRecordCache(FsDwProperties properties, ObjectProvider<ObjectMapper> objectMapper) {
+        return new FsDwRecordCache(properties.getRecordCache(), objectMapper.getIfAvailable());
+    }
+
+    /**
+     * 创建字段结构缓存 Bean。
+     *
+     * @param properties       配置属性
+     * @param fsDwTaskExecutor 后台任务执行器
+     * @return 字段结构缓存
+     */
+    @Bean
+    public FsDwSchemaCache bdmFsDwSchemaCache(FsDwProperties properties, FsDwTaskExecutor fsDwTaskExecutor) {
+        return new FsDwSchemaCache(properties.getSchemaCache(), fsDwTaskExecutor);
     }
 
     /**
@@ -59,6 +226,49 @@ public class FsDwAutoConfiguration {
         return new FsDwTableService();
     }
 
+    /**
+     * 创建增量同步水位线存储 Bean（默认内存实现，可注册自定义实现覆盖）。
+     *
+     * @return 水位线存储
+     */
+    @Bean
+    @ConditionalOnMissingBean(FsDwSyncCheckpointStore.class)
+    public FsDwSyncCheckpointStore bdmFsDwSyncCheckpointStore() {
+        return new FsDwMemoryCheckpointStore();
+    }
+
+    /**
+     * 创建增量同步服务 Bean。
+     *
+     * @return 增量同步服务
+     */
+    @Bean
+    public FsDwSyncService bdmFsDwSyncService() {
+        return new FsDwSyncService();
+    }
+
+    /**
+     * 创建写缓冲服务 Bean（应用关闭时提交剩余记录）。
+     *
+     * @return 写缓冲服务
+     */
+    @Bean
+    public FsDwWriteBehindService bdmFsDwWriteBehindService() {
+        return new FsDwWriteBehindService();
+    }
+
+    /**
+     * 创建实体模型注册表 Bean（启动时扫描并校验实体）。
+     *
+     * @param properties     配置属性
+     * @param resourceLoader 资源加载器
+     * @return 实体模型注册表
+     */
+    @Bean
+    public FsDwEntityRegistry bdmFsDwEntityRegistry(FsDwProperties properties, ResourceLoader resourceLoader) {
+        return new FsDwEntityRegistry(properties.getEntityScan(), resourceLoader);
+    }
+
     /**
      * 创建辅助注册器 Bean。
      *
@@ -0,0 +1,61 @@
+package cn.bdmcom.autoconfigure;
+
+import cn.bdmcom.core.cache.FsDwRecordCache;
+import cn.bdmcom.core.cache.FsDwSchemaCache;
+import cn.bdmcom.core.metrics.FsDwCacheMeterBinder;
+import cn.bdmcom.core.metrics.FsDwMeterObservationHandler;
+import cn.bdmcom.core.metrics.FsDwMetrics;
+import cn.bdmcom.core.service.FsDwTokenService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * 飞书多维表格 Micrometer 指标自动配置。
+ *
+ * <p>启用 Starter（存在 {@link FsDwMetrics}）且存在 MeterRegistry（如引入 spring-boot-starter-actuator）时，
+ * 注册接口调用分布统计与缓存条目数 Gauge；需在 MeterRegistry 创建之后判断，因此独立于 {@link FsDwAutoConfiguration}
+ * 作为自动配置加载。</p>
+ */
+@AutoConfiguration(afterName = {
+        "org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration",
+        "org.springframework.boot.actuate.autoconfigure.observation.ObservationAutoConfiguration"})
+@ConditionalOnClass(MeterRegistry.class)
+@ConditionalOnBean({MeterRegistry.class, FsDwMetrics.class})
+@ConditionalOnProperty(prefix = "duoweitable.metrics", name = "enabled", matchIfMissing = true)
+public class FsDwMetricsAutoConfiguration {
+
+    /**
+     * 创建接口调用分布统计处理器 Bean（由 Spring Boot 注册到 ObservationRegistry）。
+     *
+     * @param meterRegistry 指标注册表
+     * @return 分布统计处理器
+     */
+    @Bean
+    @ConditionalOnMissingBean(FsDwMeterObservationHandler.class)
+    public FsDwMeterObservationHandler bdmFsDwMeterObservationHandler(MeterRegistry meterRegistry) {
+        return new FsDwMeterObservationHandler(meterRegistry);
+    }
+
+    /**
+     * 创建缓存条目数指标 Bean。
+     *
+     * @param tokenService Token 服务
+     * @param recordCache  记录读缓存
+     * @param schemaCache  字段结构缓存
+     * @return 缓存条目数指标
+     */
+    @Bean
+    @ConditionalOnMissingBean(FsDwCacheMeterBinder.class)
+    public FsDwCacheMeterBinder bdmFsDwCacheMeterBinder(ObjectProvider<FsDwTokenService> tokenService,
+                                                        ObjectProvider<FsDwRecordCache> recordCache,
+                                                        ObjectProvider<FsDwSchemaCache> schemaCache) {
+        return new FsDwCacheMeterBinder(tokenService.getIfAvailable(), recordCache.getIfAvailable(),
+                schemaCache.getIfAvailable());
+    }
+}
@@ -1,8 +1,15 @@
 package cn.bdmcom.config;
 
+import cn.bdmcom.core.domain.FsDwConstants;
+import cn.bdmcom.support.BitableErrorCode;
 import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 
 /**
  * 飞书多维表格配置。
@@ -12,6 +19,9 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * duoweitable:
  *   app-id: xxx
  *   app-secret: yyy
+ *   http:
+ *     max-idle-connections: 32
+ *     read-timeout-millis: 10000
  * </pre>
  *
  * <p>appToken 请通过 @FsDwAppBase 注解配置。</p>
@@ -30,4 +40,593 @@ public class FsDwProperties {
      */
     private String appSecret;
 
+    /**
+     * HTTP 传输层配置（记录查询与 Forest 接口共用）。
+     */
+    private Http http = new Http();
+
+    /**
+     * Token 缓存配置。
+     */
+    private Token token = new Token();
+
+    /**
+     * 分页 token 索引配置。
+     */
+    private Pagination pagination = new Pagination();
+
+    /**
+     * 记录游标配置。
+     */
+    private Cursor cursor = new Cursor();
+
+    /**
+     * 后台任务执行器配置。
+     */
+    private Executor executor = new Executor();
+
+    /**
+     * 批量操作分片配置。
+     */
+    private Batch batch = new Batch();
+
+    /**
+     * 记录读缓存配置。
+     */
+    private RecordCache recordCache = new RecordCache();
+
+    /**
+     * 字段结构缓存配置。
+     */
+    private SchemaCache schemaCache = new SchemaCache();
+
+    /**
+     * 增量同步配置。
+     */
+    private Sync sync = new Sync();
+
+    /**
+     * 客户端限流配置。
+     */
+    private RateLimit rateLimit = new RateLimit();
+
+    /**
+     * 失败重试配置。
+     */
+    private Retry retry = new Retry();
+
+    /**
+     * 辅助类并发执行配置。
+     */
+    private Helper helper = new Helper();
+
+    /**
+     * 写缓冲配置。
+     */
+    private WriteBehind writeBehind = new WriteBehind();
+
+    /**
+     * 批量写入管道配置。
+     */
+    private BulkWriter bulkWriter = new BulkWriter();
+
+    /**
+     * 实体扫描配置。
+     */
+    private EntityScan entityScan = new EntityScan();
+
+    /**
+     * 接口观测配置。
+     */
+    private Metrics metrics = new Metrics();
+
+    /**
+     * 多租户凭证（租户名 -> 凭证与配额），通过 FsDwTenantContext 切换辅助类使用的租户。
+     */
+    private Map<String, Tenant> tenants = new LinkedHashMap<>();
+
+    /**
+     * HTTP 传输层配置。
+     */
+    @Data
+    public static class Http {
+
+        /**
+         * 连接池最大空闲连接数。
+         */
+        private int maxIdleConnections = 32;
+
+        /**
+         * 空闲连接保活时间（秒）。
+         */
+        private long keepAliveSeconds = 300L;
+
+        /**
+         * 异步调度最大并发请求数。
+         */
+        private int maxRequests = 128;
+
+        /**
+         * 异步调度单个域名最大并发请求数。
+         */
+        private int maxRequestsPerHost = 32;
+
+        /**
+         * 连接超时（毫秒）。
+         */
+        private long connectTimeoutMillis = 5_000L;
+
+        /**
+         * 读超时（毫秒）。
+         */
+        private long readTimeoutMillis = 10_000L;
+
+        /**
+         * 写超时（毫秒）。
+         */
+        private long writeTimeoutMillis = 10_000L;
+
+        /**
+         * 是否启用 HTTP/2（关闭后仅使用 HTTP/1.1）。
+         */
+        private boolean http2Enabled = true;
+
+        /**
+         * 开放平台地址（协议、域名与端口），指向本地替身服务器时可离线压测与集成测试。
+         */
+        private String baseUrl = FsDwConstants.FEISHU_HOST;
+    }
+
+    /**
+     * Token 缓存配置。
+     */
+    @Data
+    public static class Token {
+
+        /**
+         * 最多缓存的临时凭证 token 数量（默认凭证与已注册租户单独缓存，不计入）。
+         */
+        private long maximumSize = 100L;
+
+        /**
+         * 过期安全缓冲（秒），缓存有效期 = 服务端 expire - 该值。
+         */
+        private long expireBufferSeconds = 60L;
+
+        /**
+         * 提前刷新窗口（秒），剩余有效期低于该值时后台异步刷新。
+         */
+        private long refreshAheadSeconds = 300L;
+    }
+
+    /**
+     * 分页 token 索引配置。
+     */
+    @Data
+    public static class Pagination {
+
+        /**
+         * 是否启用分页 token 索引（关闭后按页码查询从第一页顺序翻页）。
+         */
+        private boolean indexEnabled = true;
+
+        /**
+         * 最多索引的查询形态数量。
+         */
+        private long maximumQueries = 1_000L;
+
+        /**
+         * 单个查询形态最多记录的页数。
+         */
+        private int maximumPagesPerQuery = 500;
+
+        /**
+         * 写入后过期时间（秒），用于兜底其他客户端对数据表的修改。
+         */
+        private long expireAfterWriteSeconds = 300L;
+    }
+
+    /**
+     * 记录游标配置。
+     */
+    @Data
+    public static class Cursor {
+
+        /**
+         * 游标每页拉取数量（请求未指定 pageSize 时生效，飞书上限 500）。
+         */
+        private int pageSize = 500;
+
+        /**
+         * 是否在消费当前页时预取下一页。
+         */
+        private boolean prefetch = true;
+    }
+
+    /**
+     * 后台任务执行器配置。
+     */
+    @Data
+    public static class Executor {
+
+        /**
+         * 最大线程数。
+         */
+        private int maxThreads = 16;
+
+        /**
+         * 空闲线程存活时间（秒）。
+         */
+        private long keepAliveSeconds = 60L;
+
+        /**
+         * 是否优先使用虚拟线程（JDK 21+ 生效，低版本自动回退到线程池，此时 maxThreads 生效）。
+         */
+        private boolean virtualThreads = true;
+    }
+
+    /**
+     * 批量操作分片配置。
+     */
+    @Data
+    public static class Batch {
+
+        /**
+         * 单个分片的记录数（不超过服务端上限：新增/更新 1000，删除 500）。
+         */
+        private int chunkSize = 500;
+
+        /**
+         * 分片并行度。
+         */
+        private int parallelism = 4;
+    }
+
+    /**
+     * 记录读缓存配置。
+     */
+    @Data
+    public static class RecordCache {
+
+        /**
+         * 是否启用记录读缓存（适合变更不频繁的参考表）。
+         */
+        private boolean enabled = false;
+
+        /**
+         * 最多缓存的查询结果数量。
+         */
+        private long maximumSize = 1_000L;
+
+        /**
+         * 写入后过期时间（秒），用于兜底其他客户端对数据表的修改。
+         */
+        private long expireAfterWriteSeconds = 60L;
+    }
+
+    /**
+     * 增量同步配置。
+     */
+    @Data
+    public static class Sync {
+
+        /**
+         * 单次回调监听器的最大事件数。
+         */
+        private int batchSize = 500;
+
+        /**
+         * 回看窗口（秒），用于兜底修改时间相同或写入可见性延迟的记录，窗口内已投递的记录不重复投递。
+         */
+        private long lookbackSeconds = 10L;
+    }
+
+    /**
+     * 客户端限流配置（令牌桶，按应用与数据表两级限流）。
+     */
+    @Data
+    public static class RateLimit {
+
+        /**
+         * 是否启用客户端限流（默认关闭；关闭时服务端限流仍抛出 RATE_LIMITED，由重试策略退避重试）。
+         */
+        private boolean enabled;
+
+        /**
+         * 单个应用每秒请求数。
+         */
+        private double appPermitsPerSecond = 20D;
+
+        /**
+         * 单个数据表每秒请求数。
+         */
+        private double tablePermitsPerSecond = 10D;
+
+        /**
+         * 允许突发的时长（秒），令牌桶容量 = 速率 x 该值。
+         */
+        private double burstSeconds = 1D;
+
+        /**
+         * 单个应用同时进行中的请求数上限（连接预算），0 表示不限制；不受 enabled 影响。
+         */
+        private int appMaxConcurrentRequests;
+
+        /**
+         * 令牌不足时的处理方式。
+         */
+        private Mode mode = Mode.WAIT;
+
+        /**
+         * 等待模式下的最长等待时间（毫秒），超过后抛出限流异常。
+         */
+        private long maxWaitMillis = 10_000L;
+
+        /**
+         * 服务端限流时的降速系数（0~1）。
+         */
+        private double decreaseFactor = 0.5D;
+
+        /**
+         * 每次请求成功后恢复的速率（次/秒），直至配置速率。
+         */
+        private double recoveryPermitsPerSecond = 0.5D;
+
+        /**
+         * 自适应降速的最低速率（次/秒）。
+         */
+        private double minPermitsPerSecond = 1D;
+
+        /**
+         * 表示服务端限流的飞书错误码。
+         */
+        private List<Integer> rateLimitCodes = new ArrayList<>(List.of(99991400, 1254290));
+
+        /**
+         * 令牌不足时的处理方式。
+         */
+        public enum Mode {
+
+            /**
+             * 等待令牌（不超过 maxWaitMillis）。
+             */
+            WAIT,
+
+            /**
+             * 立即失败。
+             */
+            FAIL_FAST
+        }
+    }
+
+    /**
+     * 失败重试配置（指数退避 + 抖动）。
+     *
+     * <p>无幂等标识的写操作（新增记录、新增数据表等）只在服务端明确限流时重试。</p>
+     */
+    @Data
+    public static class Retry {
+
+        /**
+         * 是否启用重试。
+         */
+        private boolean enabled = true;
+
+        /**
+         * 最大尝试次数（含首次）。
+         */
+        private int maxAttempts = 3;
+
+        /**
+         * 首次重试的退避时间（毫秒）。
+         */
+        private long initialBackoffMillis = 200L;
+
+        /**
+         * 退避时间上限（毫秒）。
+         */
+        private long maxBackoffMillis = 5_000L;
+
+        /**
+         * 退避倍数。
+         */
+        private double multiplier = 2D;
+
+        /**
+         * 抖动比例（0~1），实际退避时间在 [退避 x (1 - 比例), 退避] 之间随机。
+         */
+        private double jitterFactor = 0.5D;
+
+        /**
+         * 单次调用（含全部重试）的总时限（毫秒）。
+         */
+        private long deadlineMillis = 30_000L;
+
+        /**
+         * 可重试的错误码。
+         */
+        private List<BitableErrorCode> retryableErrorCodes = new ArrayList<>(
+                List.of(BitableErrorCode.RATE_LIMITED, BitableErrorCode.FEISHU_REQUEST_FAILED));
+
+        /**
+         * 可重试的飞书接口错误码（如写冲突、数据未就绪、服务端超时）。
+         */
+        private List<Integer> retryableApiCodes = new ArrayList<>(List.of(1254291, 1254607, 1255040));
+    }
+
+    /**
+     * 辅助类并发执行配置。
+     *
+     * <p>开启后 FsDwRecordHelper / FsDwTableHelper 中包含多次独立请求的方法
+     * （多实体查询、多数据表创建、分片批量写入等）在后台执行器上并发执行，JDK 21+ 默认为虚拟线程。</p>
+     */
+    @Data
+    public static class Helper {
+
+        /**
+         * 是否启用并发执行模式，关闭时在调用线程上顺序执行。
+         */
+        private boolean concurrent = false;
+
+        /**
+         * 同时在途的后台任务上限，达到上限时由调用线程直接执行。
+         */
+        private int maxInFlight = 64;
+    }
+
+    /**
+     * 写缓冲（write-behind）配置。
+     *
+     * <p>写缓冲需显式使用（FsDwWriteBehindService / FsDwRecordHelper.updateRecordLater），
+     * 同一记录的多次更新合并后按批提交，应用关闭时提交全部待提交记录。</p>
+     */
+    @Data
+    public static class WriteBehind {
+
+        /**
+         * 单次提交的最大记录数，待提交记录数达到该值时立即在后台刷新。
+         */
+        private int maxBatchSize = 500;
+
+        /**
+         * 刷新间隔（毫秒），最早一条待提交记录等待超过该时间时在后台刷新。
+         */
+        private long flushIntervalMillis = 1000L;
+
+        /**
+         * 单个数据表最多缓存的待提交记录数（不小于 maxBatchSize），达到上限时新记录的写入阻塞等待。
+         */
+        private int capacity = 10000;
+
+        /**
+         * 缓冲已满时写入的最长等待时间（毫秒），超时抛出异常。
+         */
+        private long offerTimeoutMillis = 5000L;
+    }
+
+    /**
+     * 批量写入管道配置。
+     *
+     * <p>FsDwRecordBulkWriter 逐条接收记录，在工作线程上转换字段并按批调用批量新增接口，
+     * 适合消息消费、日志处理等持续产生新记录的场景。</p>
+     */
+    @Data
+    public static class BulkWriter {
+
+        /**
+         * 单次批量新增的记录数（不超过服务端上限 1000）。
+         */
+        private int batchSize = 1000;
+
+        /**
+         * 同时在途的批量新增请求数。
+         */
+        private int maxInFlight = 4;
+
+        /**
+         * 待写入队列容量，队列已满时写入阻塞等待。
+         */
+        private int queueCapacity = 10000;
+
+        /**
+         * 凑批的最长等待时间（毫秒），超时后不足一批的记录也会提交。
+         */
+        private long lingerMillis = 200L;
+
+        /**
+         * 队列已满时写入的最长等待时间（毫秒），超时抛出异常。
+         */
+        private long offerTimeoutMillis = 5000L;
+    }
+
+    /**
+     * 字段结构缓存配置。
+     *
+     * <p>缓存字段列表，写入前解析字段类型与选项时不再每次请求字段接口。</p>
+     */
+    @Data
+    public static class SchemaCache {
+
+        /**
+         * 是否启用字段结构缓存。
+         */
+        private boolean enabled = true;
+
+        /**
+         * 最多缓存的字段列表数量（按 appToken + tableId + viewId 计）。
+         */
+        private long maximumSize = 1_000L;
+
+        /**
+         * 写入后刷新时间（秒），到期后的首次读取返回旧值并在后台重新加载。
+         */
+        private long refreshAfterWriteSeconds = 60L;
+
+        /**
+         * 写入后过期时间（秒），兜底长时间未被读取的条目。
+         */
+        private long expireAfterWriteSeconds = 600L;
+    }
+
+    /**
+     * 实体扫描配置。
+     *
+     * <p>启动时扫描指定包下标注 @FsDwTable 的实体，预先解析表信息与字段映射并校验配置。</p>
+     */
+    @Data
+    public static class EntityScan {
+
+        /**
+         * 扫描包列表，为空时不扫描（实体模型在首次使用时构建）。
+         */
+        private List<String> basePackages = new ArrayList<>();
+
+        /**
+         * 实体配置有误时是否中止启动，关闭后仅打印警告。
+         */
+        private boolean failFast = true;
+    }
+
+    /**
+     * 接口观测配置。
+     *
+     * <p>每次飞书接口调用记录一次 Observation（名称 fs.dw.api），接入 Micrometer 后生成按操作、数据表与结果分组的耗时指标。</p>
+     */
+    @Data
+    public static class Metrics {
+
+        /**
+         * 是否启用接口观测，需同时存在 ObservationRegistry Bean。
+         */
+        private boolean enabled = true;
+    }
+
+    /**
+     * 租户凭证与配额。
+     *
+     * <p>每个租户对应一个飞书应用，Token 缓存、限流令牌桶与并发预算均按 appId 隔离；配额为空时使用全局限流配置。</p>
+     */
+    @Data
+    public static class Tenant {
+
+        /**
+         * 应用 ID。
+         */
+        private String appId;
+
+        /**
+         * 应用密钥。
+         */
+        private String appSecret;
+
+        /**
+         * 应用每秒请求数，为空时使用 rate-limit.app-permits-per-second。
+         */
+        private Double appPermitsPerSecond;
+
+        /**
+         * 同时进行中的请求数上限，为空时使用 rate-limit.app-max-concurrent-requests。
+         */
+        private Integer maxConcurrentRequests;
+    }
 }
@@ -3,12 +3,16 @@ package cn.bdmcom.core.api;
 import cn.bdmcom.core.domain.FsDwConstants;
 import cn.bdmcom.core.domain.req.AddFieldReq;
 import cn.bdmcom.core.domain.req.UpdateFieldReq;
+import cn.bdmcom.core.http.FsDwForestInterceptor;
 import com.dtflys.forest.annotation.*;
 
+import java.io.InputStream;
+
 
 /**
  * 飞书多维表格字段 API 定义。
  */
+@BaseRequest(interceptor = FsDwForestInterceptor.class)
 public interface FsDwFieldApi {
 
     /**
@@ -19,18 +23,18 @@ public interface FsDwFieldApi {
      * @param tableId     数据表唯一标识
      * @param clientToken 幂等请求标识
      * @param req         新增字段请求体
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Post(url = FsDwConstants.FIELDS_URL,
             headers = {
                     "Accept-Charset: utf-8",
                     "Content-Type: application/json"
             })
-    String createField(@Header("Authorization") String token,
-                       @Var("app_token") String appToken,
-                       @Var("table_id") String tableId,
-                       @Query("client_token") String clientToken,
-                       @Body AddFieldReq req);
+    InputStream createField(@Header("Authorization") String token,
+                            @Var("app_token") String appToken,
+                            @Var("table_id") String tableId,
+                            @Query("client_token") String clientToken,
+                            @Body AddFieldReq req);
 
     /**
      * 更新字段。
@@ -40,18 +44,18 @@ public interface FsDwFieldApi {
      * @param tableId  数据表唯一标识
      * @param fieldId  字段唯一标识
      * @param req      更新字段请求体
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Put(url = FsDwConstants.FIELD_URL,
             headers = {
                     "Accept-Charset: utf-8",
                     "Content-Type: application/json"
             })
-    String updateField(@Header("Authorization") String token,
-                       @Var("app_token") String appToken,
-                       @Var("table_id") String tableId,
-                       @Var("field_id") String fieldId,
-                       @Body UpdateFieldReq req);
+    InputStream updateField(@Header("Authorization") String token,
+                            @Var("app_token") String appToken,
+                            @Var("table_id") String tableId,
+                            @Var("field_id") String fieldId,
+                            @Body UpdateFieldReq req);
 
     /**
      * 删除字段。
@@ -60,17 +64,17 @@ public interface FsDwFieldApi {
      * @param appToken 多维表格 App 的唯一标识
      * @param tableId  数据表唯一标识
      * @param fieldId  字段唯一标识
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Delete(url = FsDwConstants.FIELD_URL,
             headers = {
                     "Accept-Charset: utf-8",
                     "Content-Type: application/json"
             })
-    String deleteField(@Header("Authorization") String token,
-                       @Var("app_token") String appToken,
-                       @Var("table_id") String tableId,
-                       @Var("field_id") String fieldId);
+    InputStream deleteField(@Header("Authorization") String token,
+                            @Var("app_token") String appToken,
+                            @Var("table_id") String tableId,
+                            @Var("field_id") String fieldId);
 
     /**
      * 列出字段。
@@ -81,13 +85,13 @@ public interface FsDwFieldApi {
      * @param viewId    视图 ID
      * @param pageSize  分页大小
      * @param pageToken 分页 token
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Get(url = FsDwConstants.FIELDS_URL)
-    String listFields(@Header("Authorization") String token,
-                      @Var("app_token") String appToken,
-                      @Var("table_id") String tableId,
-                      @Query("view_id") String viewId,
-                      @Query("page_size") Integer pageSize,
-                      @Query("page_token") String pageToken);
+    InputStream listFields(@Header("Authorization") String token,
+                           @Var("app_token") String appToken,
+                           @Var("table_id") String tableId,
+                           @Query("view_id") String viewId,
+                           @Query("page_size") Integer pageSize,
+                           @Query("page_token") String pageToken);
 }
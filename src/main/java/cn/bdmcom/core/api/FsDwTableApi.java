@@ -5,12 +5,16 @@ import cn.bdmcom.core.domain.req.BatchCreateTableReq;
 import cn.bdmcom.core.domain.req.BatchDeleteTableReq;
 import cn.bdmcom.core.domain.req.CreateTableReq;
 import cn.bdmcom.core.domain.req.UpdateTableReq;
+import cn.bdmcom.core.http.FsDwForestInterceptor;
 import com.dtflys.forest.annotation.*;
 
+import java.io.InputStream;
+
 
 /**
  * 飞书多维表格数据表 API 定义。
  */
+@BaseRequest(interceptor = FsDwForestInterceptor.class)
 public interface FsDwTableApi {
 
     /**
@@ -19,16 +23,16 @@ public interface FsDwTableApi {
      * @param token    授权 token
      * @param appToken 多维表格 App 的唯一标识
      * @param req      新增数据表请求体
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Post(url = FsDwConstants.TABLES_URL,
             headers = {
                     "Accept-Charset: utf-8",
                     "Content-Type: application/json"
             })
-    String createTable(@Header("Authorization") String token,
-                       @Var("app_token") String appToken,
-                       @Body CreateTableReq req);
+    InputStream createTable(@Header("Authorization") String token,
+                            @Var("app_token") String appToken,
+                            @Body CreateTableReq req);
 
     /**
      * 批量新增数据表。
@@ -36,16 +40,16 @@ public interface FsDwTableApi {
      * @param token    授权 token
      * @param appToken 多维表格 App 的唯一标识
      * @param req      批量新增数据表请求体
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Post(url = FsDwConstants.TABLES_BATCH_CREATE_URL,
             headers = {
                     "Accept-Charset: utf-8",
                     "Content-Type: application/json"
             })
-    String batchCreateTable(@Header("Authorization") String token,
-                            @Var("app_token") String appToken,
-                            @Body BatchCreateTableReq req);
+    InputStream batchCreateTable(@Header("Authorization") String token,
+                                 @Var("app_token") String appToken,
+                                 @Body BatchCreateTableReq req);
 
     /**
      * 更新数据表名称。
@@ -54,17 +58,17 @@ public interface FsDwTableApi {
      * @param appToken 多维表格 App 的唯一标识
      * @param tableId  数据表唯一标识
      * @param req      更新数据表请求体
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Patch(url = FsDwConstants.TABLE_URL,
             headers = {
                     "Accept-Charset: utf-8",
                     "Content-Type: application/json"
             })
-    String updateTable(@Header("Authorization") String token,
-                       @Var("app_token") String appToken,
-                       @Var("table_id") String tableId,
-                       @Body UpdateTableReq req);
+    InputStream updateTable(@Header("Authorization") String token,
+                            @Var("app_token") String appToken,
+                            @Var("table_id") String tableId,
+                            @Body UpdateTableReq req);
 
     /**
      * 删除数据表。
@@ -72,16 +76,16 @@ public interface FsDwTableApi {
      * @param token    授权 token
      * @param appToken 多维表格 App 的唯一标识
      * @param tableId  数据表唯一标识
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Delete(url = FsDwConstants.TABLE_URL,
             headers = {
                     "Accept-Charset: utf-8",
                     "Content-Type: application/json"
             })
-    String deleteTable(@Header("Authorization") String token,
-                       @Var("app_token") String appToken,
-                       @Var("table_id") String tableId);
+    InputStream deleteTable(@Header("Authorization") String token,
+                            @Var("app_token") String appToken,
+                            @Var("table_id") String tableId);
 
     /**
      * 批量删除数据表。
@@ -89,16 +93,16 @@ public interface FsDwTableApi {
      * @param token    授权 token
      * @param appToken 多维表格 App 的唯一标识
      * @param req      批量删除数据表请求体
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Post(url = FsDwConstants.TABLES_BATCH_DELETE_URL,
             headers = {
                     "Accept-Charset: utf-8",
                     "Content-Type: application/json"
             })
-    String batchDeleteTable(@Header("Authorization") String token,
-                            @Var("app_token") String appToken,
-                            @Body BatchDeleteTableReq req);
+    InputStream batchDeleteTable(@Header("Authorization") String token,
+                                 @Var("app_token") String appToken,
+                                 @Body BatchDeleteTableReq req);
 
     /**
      * 列出数据表。
@@ -107,11 +111,11 @@ public interface FsDwTableApi {
      * @param appToken  多维表格 App 的唯一标识
      * @param pageSize  分页大小
      * @param pageToken 分页 token
-     * @return 接口响应 JSON 字符串
+     * @return 接口响应体字节流（由调用方解码并关闭）
      */
     @Get(url = FsDwConstants.TABLES_URL)
-    String listTables(@Header("Authorization") String token,
-                      @Var("app_token") String appToken,
-                      @Query("page_size") Integer pageSize,
-                      @Query("page_token") String pageToken);
+    InputStream listTables(@Header("Authorization") String token,
+                           @Var("app_token") String appToken,
+                           @Query("page_size") Integer pageSize,
+                           @Query("page_token") String pageToken);
 }
@@ -0,0 +1,162 @@
+package cn.bdmcom.core.cache;
+
+import cn.bdmcom.config.FsDwProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 分页 token 索引。
+ *
+ * <p>按查询形态（appToken、tableId、pageSize 与查询条件）记录已访问过的页边界 page_token，
+ * 使按页码查询可以直接从最近的已知页开始，而不必每次从第一页顺序翻页。</p>
+ * <ul>
+ *     <li>查询形态数量与单个查询记录的页数均有上限</li>
+ *     <li>写入记录后按表失效，另有写入后过期兜底外部变更</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwPageTokenIndex {
+
+    private final boolean enabled;
+
+    private final int maximumPagesPerQuery;
+
+    /**
+     * 查询形态 -> (页码 -> 获取该页使用的 page_token)。
+     */
+    private final Cache<PageQueryKey, ConcurrentNavigableMap<Integer, String>> index;
+
+    /**
+     * 使用默认配置创建分页 token 索引。
+     */
+    public FsDwPageTokenIndex() {
+        this(new FsDwProperties.Pagination());
+    }
+
+    /**
+     * 创建分页 token 索引。
+     *
+     * @param pagination 分页配置
+     */
+    public FsDwPageTokenIndex(FsDwProperties.Pagination pagination) {
+        FsDwProperties.Pagination config = pagination == null ? new FsDwProperties.Pagination() : pagination;
+        this.enabled = config.isIndexEnabled();
+        this.maximumPagesPerQuery = Math.max(1, config.getMaximumPagesPerQuery());
+        this.index = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, config.getMaximumQueries()))
+                .expireAfterWrite(Math.max(1L, config.getExpireAfterWriteSeconds()), TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * 查找不超过目标页码的最近已知页。
+     *
+     * @param key    查询形态
+     * @param pageNo 目标页码
+     * @return 页码与对应 page_token，未命中时返回 null
+     */
+    public Map.Entry<Integer, String> floor(PageQueryKey key, int pageNo) {
+        if (!enabled) {
+            return null;
+        }
+        ConcurrentNavigableMap<Integer, String> pages = index.getIfPresent(key);
+        return pages == null ? null : pages.floorEntry(pageNo);
+    }
+
+    /**
+     * 记录页边界。
+     *
+     * @param key       查询形态
+     * @param pageNo    页码（大于 1）
+     * @param pageToken 获取该页使用的 page_token
+     */
+    public void record(PageQueryKey key, int pageNo, String pageToken) {
+        if (!enabled || pageNo <= 1 || pageToken == null) {
+            return;
+        }
+        ConcurrentNavigableMap<Integer, String> pages = index.get(key, k -> new ConcurrentSkipListMap<>());
+        if (pages.size() >= maximumPagesPerQuery && !pages.containsKey(pageNo)) {
+            return;
+        }
+        pages.put(pageNo, pageToken);
+    }
+
+    /**
+     * 失效指定查询形态。
+     *
+     * @param key 查询形态
+     */
+    public void invalidate(PageQueryKey key) {
+        index.invalidate(key);
+    }
+
+    /**
+     * 失效指定数据表下的所有查询形态（记录变更后调用）。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    public void invalidateTable(String appToken, String tableId) {
+        if (!enabled) {
+            return;
+        }
+        index.asMap().keySet().removeIf(key -> key.matches(appToken, tableId));
+    }
+
+    /**
+     * 清除全部索引。
+     */
+    public void invalidateAll() {
+        index.invalidateAll();
+        log.info("[飞书多维表格]已清除分页token索引");
+    }
+
+    /**
+     * 获取索引统计信息（用于监控）。
+     *
+     * @return 统计信息
+     */
+    public CacheStats getCacheStats() {
+        return index.stats();
+    }
+
+    /**
+     * 是否启用。
+     *
+     * @return 是否启用
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 查询形态。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @param pageSize 每页数量
+     * @param body     序列化后的查询条件（视图、字段、排序、过滤）
+     */
+    public record PageQueryKey(String appToken, String tableId, int pageSize, String body) {
+
+        /**
+         * 是否属于指定数据表。
+         *
+         * @param appToken 多维表格 App 的唯一标识
+         * @param tableId  多维表格数据表的唯一标识
+         * @return 是否匹配
+         */
+        private boolean matches(String appToken, String tableId) {
+            return Objects.equals(this.appToken, appToken) && Objects.equals(this.tableId, tableId);
+        }
+    }
+}
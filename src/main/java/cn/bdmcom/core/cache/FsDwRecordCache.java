@@ -0,0 +1,209 @@
+package cn.bdmcom.core.cache;
+
+import cn.bdmcom.config.FsDwProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 记录读缓存。
+ *
+ * <p>按 (appToken, tableId, 规范化后的查询) 缓存查询记录与批量获取记录的响应，默认关闭：</p>
+ * <ul>
+ *     <li>条目数量与写入后过期时间可配置</li>
+ *     <li>通过 Starter 写入记录后按表失效；加载期间发生写入时不回填旧结果</li>
+ *     <li>缓存中保存响应的 JSON 快照，每次命中都反序列化出新的响应对象，调用方修改返回值不影响缓存</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwRecordCache {
+
+    private final boolean enabled;
+
+    private final Cache<RecordCacheKey, Snapshot> cache;
+
+    /**
+     * 数据表 -> 写入代数，用于丢弃加载期间被写入失效的结果；空闲超过缓存有效期两倍后回收。
+     */
+    private final Cache<TableKey, AtomicLong> generations;
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 使用默认配置创建记录缓存（关闭状态）。
+     */
+    public FsDwRecordCache() {
+        this(new FsDwProperties.RecordCache());
+    }
+
+    /**
+     * 创建记录缓存。
+     *
+     * @param config 记录缓存配置
+     */
+    public FsDwRecordCache(FsDwProperties.RecordCache config) {
+        this(config, null);
+    }
+
+    /**
+     * 创建记录缓存。
+     *
+     * @param config       记录缓存配置
+     * @param objectMapper 生成与还原响应快照的 JSON 映射器（为空时使用默认映射器）
+     */
+    public FsDwRecordCache(FsDwProperties.RecordCache config, ObjectMapper objectMapper) {
+        FsDwProperties.RecordCache recordCache = config == null ? new FsDwProperties.RecordCache() : config;
+        this.enabled = recordCache.isEnabled();
+        this.objectMapper = objectMapper == null ? new ObjectMapper() : objectMapper;
+        long expireSeconds = Math.max(1L, recordCache.getExpireAfterWriteSeconds());
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, recordCache.getMaximumSize()))
+                .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(expireSeconds * 2, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 读取缓存，未命中时加载并回填。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @param query    规范化后的查询
+     * @param loader   加载函数
+     * @param <R>      响应类型
+     * @return 响应
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(String appToken, String tableId, String query, Supplier<R> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        RecordCacheKey key = new RecordCacheKey(appToken, tableId, query);
+        Snapshot cached = cache.getIfPresent(key);
+        if (cached != null) {
+            try {
+                return (R) objectMapper.readValue(cached.json(), cached.type());
+            } catch (IOException e) {
+                log.warn("[飞书多维表格]记录缓存快照还原失败, tableId={}, msg={}", tableId, e.getMessage());
+                cache.invalidate(key);
+            }
+        }
+        TableKey tableKey = new TableKey(appToken, tableId);
+        AtomicLong generation = generations.get(tableKey, k -> new AtomicLong());
+        long startGeneration = generation.get();
+        R loaded = loader.get();
+        // 代数对象被回收重建或加载期间发生写入时，本次结果可能已过期，不回填
+        if (loaded != null && generations.getIfPresent(tableKey) == generation
+                && generation.get() == startGeneration) {
+            try {
+                cache.put(key, new Snapshot(objectMapper.writeValueAsBytes(loaded), loaded.getClass()));
+            } catch (IOException e) {
+                log.warn("[飞书多维表格]记录缓存快照生成失败, tableId={}, msg={}", tableId, e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * 失效指定数据表的全部缓存（记录变更后调用）。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    public void invalidateTable(String appToken, String tableId) {
+        if (!enabled) {
+            return;
+        }
+        AtomicLong generation = generations.getIfPresent(new TableKey(appToken, tableId));
+        if (generation != null) {
+            generation.incrementAndGet();
+        }
+        cache.asMap().keySet().removeIf(key -> key.matches(appToken, tableId));
+    }
+
+    /**
+     * 清除全部缓存。
+     */
+    public void invalidateAll() {
+        generations.invalidateAll();
+        cache.invalidateAll();
+        log.info("[飞书多维表格]已清除记录缓存");
+    }
+
+    /**
+     * 获取缓存统计信息（用于监控）。
+     *
+     * @return 缓存统计信息
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * 获取当前缓存条目数（近似值，用于监控）。
+     *
+     * @return 缓存条目数
+     */
+    public long getCacheSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 是否启用。
+     *
+     * @return 是否启用
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 数据表键。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    private record TableKey(String appToken, String tableId) {
+    }
+
+    /**
+     * 响应快照。
+     *
+     * @param json 响应 JSON（只读）
+     * @param type 响应类型
+     */
+    private record Snapshot(byte[] json, Class<?> type) {
+    }
+
+    /**
+     * 记录缓存键。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @param query    规范化后的查询
+     */
+    private record RecordCacheKey(String appToken, String tableId, String query) {
+
+        /**
+         * 是否属于指定数据表。
+         *
+         * @param appToken 多维表格 App 的唯一标识
+         * @param tableId  多维表格数据表的唯一标识
+         * @return 是否匹配
+         */
+        private boolean matches(String appToken, String tableId) {
+            return Objects.equals(this.appToken, appToken) && Objects.equals(this.tableId, tableId);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package cn.bdmcom.core.cache;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.domain.res.TableFieldListRes;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 数据表字段结构缓存。
+ *
+ * <p>按 (appToken, tableId, viewId) 缓存字段列表，默认开启：</p>
+ * <ul>
+ *     <li>写入超过 refreshAfterWriteSeconds 后的首次读取仍返回旧值，同时在后台重新加载</li>
+ *     <li>超过 expireAfterWriteSeconds 未刷新的条目过期，下次读取同步加载</li>
+ *     <li>通过 Starter 新增、更新、删除字段后按表失效，也可手动失效</li>
+ *     <li>缓存的字段对象在调用方之间共享，应按只读使用</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwSchemaCache {
+
+    private final boolean enabled;
+
+    /**
+     * 缓存值同时保存加载函数（携带应用凭证）供后台刷新使用，随条目过期或失效一并释放。
+     */
+    private final LoadingCache<SchemaKey, SchemaEntry> cache;
+
+    /**
+     * 数据表 -> 失效代数，用于丢弃加载期间被失效的结果；空闲超过缓存有效期两倍后回收。
+     */
+    private final Cache<TableKey, AtomicLong> generations;
+
+    /**
+     * 使用默认配置创建字段结构缓存。
+     */
+    public FsDwSchemaCache() {
+        this(new FsDwProperties.SchemaCache(), null);
+    }
+
+    /**
+     * 创建字段结构缓存。
+     *
+     * @param config          字段结构缓存配置
+     * @param refreshExecutor 后台刷新执行器（为空时使用 ForkJoinPool.commonPool）
+     */
+    public FsDwSchemaCache(FsDwProperties.SchemaCache config, Executor refreshExecutor) {
+        FsDwProperties.SchemaCache schemaCache = config == null ? new FsDwProperties.SchemaCache() : config;
+        this.enabled = schemaCache.isEnabled();
+        long expireSeconds = Math.max(1L, schemaCache.getExpireAfterWriteSeconds());
+        long refreshSeconds = Math.max(1L, Math.min(schemaCache.getRefreshAfterWriteSeconds(), expireSeconds));
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, schemaCache.getMaximumSize()))
+                .expireAfterWrite(expireSeconds, TimeUnit.SECONDS)
+                .recordStats();
+        if (refreshSeconds < expireSeconds) {
+            builder.refreshAfterWrite(refreshSeconds, TimeUnit.SECONDS);
+        }
+        if (refreshExecutor != null) {
+            builder.executor(refreshExecutor);
+        }
+        this.generations = Caffeine.newBuilder()
+                .expireAfterAccess(expireSeconds * 2, TimeUnit.SECONDS)
+                .build();
+        this.cache = builder.build(new CacheLoader<>() {
+
+            @Override
+            public SchemaEntry load(SchemaKey key) {
+                // 读取时总是携带加载函数，只有刷新会走到缓存加载器
+                throw new BitableException(BitableErrorCode.TABLE_META_MISSING,
+                        "[飞书多维表格]字段结构缓存缺少加载函数, tableId=" + key.tableId());
+            }
+
+            @Override
+            public SchemaEntry reload(SchemaKey key, SchemaEntry oldValue) {
+                return SchemaEntry.load(oldValue.loader());
+            }
+        });
+    }
+
+    /**
+     * 读取字段列表，未命中时加载并回填。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @param viewId   视图 ID（可为空）
+     * @param loader   加载函数
+     * @return 字段列表（只读）
+     */
+    public List<TableFieldListRes.TableField> get(String appToken, String tableId, String viewId,
+                                                  Supplier<List<TableFieldListRes.TableField>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+        SchemaKey key = new SchemaKey(appToken, tableId, viewId);
+        TableKey tableKey = new TableKey(appToken, tableId);
+        AtomicLong generation = generations.get(tableKey, k -> new AtomicLong());
+        long startGeneration = generation.get();
+        List<TableFieldListRes.TableField> fields = cache.get(key, k -> SchemaEntry.load(loader)).fields();
+        if (generations.getIfPresent(tableKey) != generation || generation.get() != startGeneration) {
+            // 加载期间字段发生变更（或代数被回收重建），本次结果可能已过期，不保留在缓存中
+            cache.invalidate(key);
+        }
+        return fields;
+    }
+
+    /**
+     * 失效指定数据表的全部字段结构缓存（含各视图）。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    public void invalidateTable(String appToken, String tableId) {
+        if (!enabled) {
+            return;
+        }
+        AtomicLong generation = generations.getIfPresent(new TableKey(appToken, tableId));
+        if (generation != null) {
+            generation.incrementAndGet();
+        }
+        cache.asMap().keySet().removeIf(key -> key.matches(appToken, tableId));
+    }
+
+    /**
+     * 清除全部字段结构缓存。
+     */
+    public void invalidateAll() {
+        generations.invalidateAll();
+        cache.invalidateAll();
+        log.info("[飞书多维表格]已清除字段结构缓存");
+    }
+
+    /**
+     * 获取缓存统计信息（用于监控）。
+     *
+     * @return 缓存统计信息
+     */
+    public CacheStats getCacheStats() {
+        return cache.stats();
+    }
+
+    /**
+     * 获取当前缓存条目数（近似值，用于监控）。
+     *
+     * @return 缓存条目数
+     */
+    public long getCacheSize() {
+        return cache.estimatedSize();
+    }
+
+    /**
+     * 是否启用。
+     *
+     * @return 是否启用
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 数据表键。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    private record TableKey(String appToken, String tableId) {
+    }
+
+    /**
+     * 字段结构缓存值。
+     *
+     * @param fields 字段列表（只读）
+     * @param loader 加载函数
+     */
+    private record SchemaEntry(List<TableFieldListRes.TableField> fields,
+                               Supplier<List<TableFieldListRes.TableField>> loader) {
+
+        /**
+         * 加载字段列表（首次加载与后台刷新共用）。
+         *
+         * @param loader 加载函数
+         * @return 缓存值
+         */
+        private static SchemaEntry load(Supplier<List<TableFieldListRes.TableField>> loader) {
+            List<TableFieldListRes.TableField> fields = loader.get();
+            return new SchemaEntry(fields == null ? List.of() : Collections.unmodifiableList(new ArrayList<>(fields)),
+                    loader);
+        }
+    }
+
+    /**
+     * 字段结构缓存键。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @param viewId   视图 ID（可为空）
+     */
+    private record SchemaKey(String appToken, String tableId, String viewId) {
+
+        /**
+         * 是否属于指定数据表。
+         *
+         * @param appToken 多维表格 App 的唯一标识
+         * @param tableId  多维表格数据表的唯一标识
+         * @return 是否匹配
+         */
+        private boolean matches(String appToken, String tableId) {
+            return Objects.equals(this.appToken, appToken) && Objects.equals(this.tableId, tableId);
+        }
+    }
+}
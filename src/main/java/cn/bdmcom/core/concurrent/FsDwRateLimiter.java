@@ -0,0 +1,530 @@
+package cn.bdmcom.core.concurrent;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.tenant.FsDwTenantRegistry;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import cn.hutool.core.util.StrUtil;
+import com.dtflys.forest.exceptions.ForestNetworkException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 飞书多维表格客户端限流器。
+ *
+ * <p>按应用（appId）与数据表（appToken + tableId）两级令牌桶限流，启用后（rate-limit.enabled，默认关闭）所有接口调用都需先取得两级令牌：</p>
+ * <ul>
+ *     <li>令牌不足时按配置等待（不超过最长等待时间）或立即失败（RATE_LIMIT_REJECTED），可通过 {@link #withMode} 临时切换</li>
+ *     <li>服务端返回限流错误码（或 HTTP 429）时按系数降低对应令牌桶速率，之后每次成功逐步恢复</li>
+ *     <li>按应用限制同时进行中的请求数（连接预算），避免单个租户占满连接池与调度器</li>
+ *     <li>已注册租户的应用速率与并发上限优先使用租户配额</li>
+ *     <li>长时间未使用的令牌桶与并发预算自动回收</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwRateLimiter {
+
+    /**
+     * HTTP 限流状态码。
+     */
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * 令牌桶空闲回收时间（分钟）。
+     */
+    private static final long BUCKET_IDLE_MINUTES = 10L;
+
+    private final FsDwProperties.RateLimit config;
+
+    private final Set<Integer> rateLimitCodes;
+
+    private final Cache<BucketKey, TokenBucket> buckets;
+
+    /**
+     * 按 appId 的并发预算。
+     */
+    private final Cache<String, Semaphore> concurrencyBudgets;
+
+    private final FsDwTenantRegistry tenantRegistry;
+
+    /**
+     * 当前线程临时指定的处理方式。
+     */
+    private final ThreadLocal<FsDwProperties.RateLimit.Mode> modeOverride = new ThreadLocal<>();
+
+    /**
+     * 使用默认配置创建限流器。
+     */
+    public FsDwRateLimiter() {
+        this(new FsDwProperties.RateLimit());
+    }
+
+    /**
+     * 创建限流器。
+     *
+     * @param config 限流配置
+     */
+    public FsDwRateLimiter(FsDwProperties.RateLimit config) {
+        this(config, null);
+    }
+
+    /**
+     * 创建限流器。
+     *
+     * @param config         限流配置
+     * @param tenantRegistry 租户注册表（可为空，为空时所有应用使用全局配置）
+     */
+    public FsDwRateLimiter(FsDwProperties.RateLimit config, FsDwTenantRegistry tenantRegistry) {
+        this.config = config == null ? new FsDwProperties.RateLimit() : config;
+        this.tenantRegistry = tenantRegistry;
+        this.rateLimitCodes = this.config.getRateLimitCodes() == null
+                ? Set.of() : new HashSet<>(this.config.getRateLimitCodes());
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(BUCKET_IDLE_MINUTES, TimeUnit.MINUTES)
+                .build();
+        this.concurrencyBudgets = Caffeine.newBuilder()
+                .expireAfterAccess(BUCKET_IDLE_MINUTES, TimeUnit.MINUTES)
+                .build();
+    }
+
+    /**
+     * 限流执行一次接口调用。
+     *
+     * @param appId    应用ID
+     * @param appToken 多维表格 App 的唯一标识（可为空）
+     * @param tableId  多维表格数据表的唯一标识（可为空，为空时仅按应用限流）
+     * @param call     接口调用
+     * @param <R>      返回类型
+     * @return 调用结果
+     */
+    public <R> R execute(String appId, String appToken, String tableId, Supplier<R> call) {
+        if (!config.isEnabled()) {
+            return callWithinBudget(appId, call);
+        }
+        acquire(appId, appToken, tableId);
+        try {
+            R result = callWithinBudget(appId, call);
+            onSuccess(appId, appToken, tableId);
+            return result;
+        } catch (BitableException e) {
+            if (e.getErrorCode() == BitableErrorCode.RATE_LIMITED) {
+                onRateLimited(appId, appToken, tableId);
+            }
+            throw e;
+        } catch (ForestNetworkException e) {
+            if (e.getStatusCode() == null || e.getStatusCode() != TOO_MANY_REQUESTS) {
+                throw e;
+            }
+            onRateLimited(appId, appToken, tableId);
+            throw new BitableException(BitableErrorCode.RATE_LIMITED,
+                    "[飞书多维表格]服务端限流, status=" + TOO_MANY_REQUESTS, e);
+        }
+    }
+
+    /**
+     * 以指定处理方式执行（仅对当前线程生效）。
+     *
+     * @param mode   令牌不足时的处理方式
+     * @param action 执行内容
+     * @param <R>    返回类型
+     * @return 执行结果
+     */
+    public <R> R withMode(FsDwProperties.RateLimit.Mode mode, Supplier<R> action) {
+        FsDwProperties.RateLimit.Mode previous = modeOverride.get();
+        modeOverride.set(mode);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                modeOverride.remove();
+            } else {
+                modeOverride.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 是否为服务端限流错误码。
+     *
+     * @param code 飞书错误码
+     * @return 是否限流
+     */
+    public boolean isRateLimitCode(Integer code) {
+        return code != null && rateLimitCodes.contains(code);
+    }
+
+    /**
+     * 是否为 HTTP 限流状态码。
+     *
+     * @param status HTTP 状态码
+     * @return 是否限流
+     */
+    public boolean isRateLimitStatus(int status) {
+        return status == TOO_MANY_REQUESTS;
+    }
+
+    /**
+     * 获取应用当前速率（用于监控）。
+     *
+     * @param appId 应用ID
+     * @return 当前速率（次/秒），尚未使用时返回配置速率
+     */
+    public double getAppRate(String appId) {
+        TokenBucket bucket = buckets.getIfPresent(BucketKey.app(appId));
+        return bucket == null ? Math.max(0D, appPermitsPerSecond(appId)) : bucket.rate();
+    }
+
+    /**
+     * 获取应用当前进行中的请求数（用于监控）。
+     *
+     * @param appId 应用ID
+     * @return 进行中的请求数，未限制并发时返回 0
+     */
+    public int getInFlightRequests(String appId) {
+        Semaphore budget = appId == null ? null : concurrencyBudgets.getIfPresent(appId);
+        int limit = maxConcurrentRequests(appId);
+        return budget == null || limit <= 0 ? 0 : Math.max(0, limit - budget.availablePermits());
+    }
+
+    /**
+     * 获取数据表当前速率（用于监控）。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @return 当前速率（次/秒），尚未使用时返回配置速率
+     */
+    public double getTableRate(String appToken, String tableId) {
+        TokenBucket bucket = buckets.getIfPresent(BucketKey.table(appToken, tableId));
+        return bucket == null ? Math.max(0D, config.getTablePermitsPerSecond()) : bucket.rate();
+    }
+
+    /**
+     * 取得应用与数据表两级令牌。
+     *
+     * @param appId    应用ID
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    private void acquire(String appId, String appToken, String tableId) {
+        FsDwProperties.RateLimit.Mode mode = modeOverride.get() == null ? config.getMode() : modeOverride.get();
+        long maxWaitNanos = mode == FsDwProperties.RateLimit.Mode.FAIL_FAST
+                ? 0L : TimeUnit.MILLISECONDS.toNanos(Math.max(0L, config.getMaxWaitMillis()));
+        TokenBucket appBucket = appBucket(appId);
+        TokenBucket tableBucket = tableBucket(appToken, tableId);
+        long appWait = appBucket == null ? 0L : appBucket.reserve(maxWaitNanos);
+        if (appWait < 0) {
+            throw new BitableException(BitableErrorCode.RATE_LIMIT_REJECTED,
+                    StrUtil.format("[飞书多维表格]应用请求超出限流, appId={}", appId));
+        }
+        long tableWait = tableBucket == null ? 0L : tableBucket.reserve(maxWaitNanos);
+        if (tableWait < 0) {
+            if (appBucket != null) {
+                appBucket.refund();
+            }
+            throw new BitableException(BitableErrorCode.RATE_LIMIT_REJECTED,
+                    StrUtil.format("[飞书多维表格]数据表请求超出限流, appToken={}, tableId={}", appToken, tableId));
+        }
+        long waitNanos = Math.max(appWait, tableWait);
+        if (waitNanos <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BitableException(BitableErrorCode.RATE_LIMIT_REJECTED, "[飞书多维表格]等待限流令牌被中断", e);
+        }
+    }
+
+    /**
+     * 请求成功，逐步恢复速率。
+     *
+     * @param appId    应用ID
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    private void onSuccess(String appId, String appToken, String tableId) {
+        double step = Math.max(0D, config.getRecoveryPermitsPerSecond());
+        TokenBucket appBucket = appBucket(appId);
+        if (appBucket != null) {
+            appBucket.recover(step);
+        }
+        TokenBucket tableBucket = tableBucket(appToken, tableId);
+        if (tableBucket != null) {
+            tableBucket.recover(step);
+        }
+    }
+
+    /**
+     * 服务端限流，降低速率。
+     *
+     * @param appId    应用ID
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    private void onRateLimited(String appId, String appToken, String tableId) {
+        double factor = Math.min(1D, Math.max(0.01D, config.getDecreaseFactor()));
+        double minRate = Math.max(0.01D, config.getMinPermitsPerSecond());
+        TokenBucket appBucket = appBucket(appId);
+        if (appBucket != null) {
+            appBucket.decrease(factor, minRate);
+        }
+        TokenBucket tableBucket = tableBucket(appToken, tableId);
+        if (tableBucket != null) {
+            tableBucket.decrease(factor, minRate);
+        }
+        log.warn("[飞书多维表格]触发服务端限流, 已降低请求速率, appId={}, appToken={}, tableId={}, appRate={}, tableRate={}",
+                appId, appToken, tableId, appBucket == null ? null : appBucket.rate(),
+                tableBucket == null ? null : tableBucket.rate());
+    }
+
+    /**
+     * 获取应用令牌桶。
+     *
+     * @param appId 应用ID
+     * @return 令牌桶，未配置速率或 appId 为空时返回 null
+     */
+    private TokenBucket appBucket(String appId) {
+        double rate = appPermitsPerSecond(appId);
+        if (rate <= 0 || StrUtil.isBlank(appId)) {
+            return null;
+        }
+        return buckets.get(BucketKey.app(appId), k -> new TokenBucket(rate, config.getBurstSeconds()));
+    }
+
+    /**
+     * 在应用并发预算内执行调用，预算不足时按限流处理方式等待或立即失败。
+     *
+     * @param appId 应用ID
+     * @param call  接口调用
+     * @param <R>   返回类型
+     * @return 调用结果
+     */
+    private <R> R callWithinBudget(String appId, Supplier<R> call) {
+        Semaphore budget = concurrencyBudget(appId);
+        if (budget == null) {
+            return call.get();
+        }
+        FsDwProperties.RateLimit.Mode mode = modeOverride.get() == null ? config.getMode() : modeOverride.get();
+        boolean acquired;
+        try {
+            acquired = mode == FsDwProperties.RateLimit.Mode.FAIL_FAST
+                    ? budget.tryAcquire()
+                    : budget.tryAcquire(Math.max(0L, config.getMaxWaitMillis()), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BitableException(BitableErrorCode.RATE_LIMIT_REJECTED, "[飞书多维表格]等待并发预算被中断", e);
+        }
+        if (!acquired) {
+            throw new BitableException(BitableErrorCode.RATE_LIMIT_REJECTED,
+                    StrUtil.format("[飞书多维表格]应用并发请求超出上限, appId={}", appId));
+        }
+        try {
+            return call.get();
+        } finally {
+            budget.release();
+        }
+    }
+
+    /**
+     * 获取应用并发预算。
+     *
+     * @param appId 应用ID
+     * @return 并发预算，未限制并发或 appId 为空时返回 null
+     */
+    private Semaphore concurrencyBudget(String appId) {
+        if (StrUtil.isBlank(appId)) {
+            return null;
+        }
+        int limit = maxConcurrentRequests(appId);
+        return limit <= 0 ? null : concurrencyBudgets.get(appId, k -> new Semaphore(limit));
+    }
+
+    /**
+     * 获取应用每秒请求数（租户配额优先）。
+     *
+     * @param appId 应用ID
+     * @return 每秒请求数
+     */
+    private double appPermitsPerSecond(String appId) {
+        FsDwProperties.Tenant tenant = tenantRegistry == null ? null : tenantRegistry.findByAppId(appId);
+        return tenant == null || tenant.getAppPermitsPerSecond() == null
+                ? config.getAppPermitsPerSecond() : tenant.getAppPermitsPerSecond();
+    }
+
+    /**
+     * 获取应用并发请求数上限（租户配额优先）。
+     *
+     * @param appId 应用ID
+     * @return 并发请求数上限，0 表示不限制
+     */
+    private int maxConcurrentRequests(String appId) {
+        FsDwProperties.Tenant tenant = tenantRegistry == null ? null : tenantRegistry.findByAppId(appId);
+        return tenant == null || tenant.getMaxConcurrentRequests() == null
+                ? config.getAppMaxConcurrentRequests() : tenant.getMaxConcurrentRequests();
+    }
+
+    /**
+     * 获取数据表令牌桶。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @return 令牌桶，未配置速率或 tableId 为空时返回 null
+     */
+    private TokenBucket tableBucket(String appToken, String tableId) {
+        double rate = config.getTablePermitsPerSecond();
+        if (rate <= 0 || StrUtil.isBlank(appToken) || StrUtil.isBlank(tableId)) {
+            return null;
+        }
+        return buckets.get(BucketKey.table(appToken, tableId), k -> new TokenBucket(rate, config.getBurstSeconds()));
+    }
+
+    /**
+     * 令牌桶键。
+     *
+     * @param scope  限流维度
+     * @param first  应用ID 或 appToken
+     * @param second tableId（应用维度为 null）
+     */
+    private record BucketKey(String scope, String first, String second) {
+
+        /**
+         * 应用维度键。
+         *
+         * @param appId 应用ID
+         * @return 令牌桶键
+         */
+        private static BucketKey app(String appId) {
+            return new BucketKey("app", appId, null);
+        }
+
+        /**
+         * 数据表维度键。
+         *
+         * @param appToken 多维表格 App 的唯一标识
+         * @param tableId  多维表格数据表的唯一标识
+         * @return 令牌桶键
+         */
+        private static BucketKey table(String appToken, String tableId) {
+            return new BucketKey("table", appToken, tableId);
+        }
+    }
+
+    /**
+     * 自适应令牌桶。
+     *
+     * <p>令牌不足时允许预支（令牌数为负），调用方按返回的等待时间休眠，保证多线程下整体速率不超过限制。</p>
+     */
+    private static final class TokenBucket {
+
+        private final double maxRate;
+
+        private final double burstSeconds;
+
+        private double rate;
+
+        private double tokens;
+
+        private long lastRefillNanos;
+
+        /**
+         * 创建令牌桶（初始为满）。
+         *
+         * @param rate         速率（次/秒）
+         * @param burstSeconds 允许突发的时长（秒）
+         */
+        private TokenBucket(double rate, double burstSeconds) {
+            this.maxRate = rate;
+            this.rate = rate;
+            this.burstSeconds = Math.max(0D, burstSeconds);
+            this.tokens = capacity();
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * 预订一个令牌。
+         *
+         * @param maxWaitNanos 最长等待时间（纳秒）
+         * @return 需要等待的时间（纳秒），超过最长等待时间时返回 -1 且不预订
+         */
+        private synchronized long reserve(long maxWaitNanos) {
+            refill();
+            if (tokens >= 1D) {
+                tokens -= 1D;
+                return 0L;
+            }
+            long waitNanos = (long) Math.ceil((1D - tokens) / rate * TimeUnit.SECONDS.toNanos(1));
+            if (waitNanos > maxWaitNanos) {
+                return -1L;
+            }
+            tokens -= 1D;
+            return waitNanos;
+        }
+
+        /**
+         * 归还一个已预订的令牌。
+         */
+        private synchronized void refund() {
+            tokens = Math.min(capacity(), tokens + 1D);
+        }
+
+        /**
+         * 按系数降低速率并清空剩余令牌。
+         *
+         * @param factor  降速系数
+         * @param minRate 最低速率
+         */
+        private synchronized void decrease(double factor, double minRate) {
+            refill();
+            rate = Math.max(Math.min(minRate, maxRate), rate * factor);
+            tokens = Math.min(tokens, 0D);
+        }
+
+        /**
+         * 逐步恢复速率。
+         *
+         * @param step 恢复步长（次/秒）
+         */
+        private synchronized void recover(double step) {
+            if (rate < maxRate) {
+                refill();
+                rate = Math.min(maxRate, rate + step);
+            }
+        }
+
+        /**
+         * 当前速率。
+         *
+         * @return 速率（次/秒）
+         */
+        private synchronized double rate() {
+            return rate;
+        }
+
+        /**
+         * 按流逝时间补充令牌。
+         */
+        private void refill() {
+            long now = System.nanoTime();
+            double elapsedSeconds = (now - lastRefillNanos) / (double) TimeUnit.SECONDS.toNanos(1);
+            lastRefillNanos = now;
+            tokens = Math.min(capacity(), tokens + elapsedSeconds * rate);
+        }
+
+        /**
+         * 令牌桶容量（至少为 1）。
+         *
+         * @return 容量
+         */
+        private double capacity() {
+            return Math.max(1D, rate * burstSeconds);
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package cn.bdmcom.core.concurrent;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import com.dtflys.forest.exceptions.ForestNetworkException;
+import com.dtflys.forest.exceptions.ForestRuntimeException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 飞书多维表格接口重试器。
+ *
+ * <p>按统一策略重试接口调用：</p>
+ * <ul>
+ *     <li>指数退避并叠加随机抖动，避免多个调用方同时重试</li>
+ *     <li>按可重试错误码与飞书接口错误码判断是否重试，并受最大尝试次数与总时限约束</li>
+ *     <li>非幂等调用只在服务端明确限流（请求未被处理）时重试</li>
+ *     <li>Forest 抛出的网络异常统一转换为 {@link BitableException}</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwRetryer {
+
+    /**
+     * HTTP 限流状态码。
+     */
+    private static final int TOO_MANY_REQUESTS = 429;
+
+    /**
+     * HTTP 服务端错误起始状态码。
+     */
+    private static final int SERVER_ERROR = 500;
+
+    private final FsDwProperties.Retry config;
+
+    private final Set<BitableErrorCode> retryableErrorCodes;
+
+    private final Set<Integer> retryableApiCodes;
+
+    /**
+     * 当前线程的重试计数器（由 {@link #countRetries} 设置）。
+     */
+    private final ThreadLocal<LongAdder> retryCounter = new ThreadLocal<>();
+
+    /**
+     * 使用默认配置创建重试器。
+     */
+    public FsDwRetryer() {
+        this(new FsDwProperties.Retry());
+    }
+
+    /**
+     * 创建重试器。
+     *
+     * @param config 重试配置
+     */
+    public FsDwRetryer(FsDwProperties.Retry config) {
+        this.config = config == null ? new FsDwProperties.Retry() : config;
+        this.retryableErrorCodes = this.config.getRetryableErrorCodes() == null
+                || this.config.getRetryableErrorCodes().isEmpty()
+                ? EnumSet.noneOf(BitableErrorCode.class) : EnumSet.copyOf(this.config.getRetryableErrorCodes());
+        this.retryableApiCodes = this.config.getRetryableApiCodes() == null
+                ? Set.of() : new HashSet<>(this.config.getRetryableApiCodes());
+    }
+
+    /**
+     * 执行幂等调用。
+     *
+     * @param action 操作名称
+     * @param call   接口调用
+     * @param <R>    返回类型
+     * @return 调用结果
+     */
+    public <R> R execute(String action, Supplier<R> call) {
+        return execute(action, true, call);
+    }
+
+    /**
+     * 执行调用，失败时按策略重试。
+     *
+     * @param action     操作名称
+     * @param idempotent 是否幂等（重复提交不会产生副作用）
+     * @param call       接口调用
+     * @param <R>        返回类型
+     * @return 调用结果
+     */
+    public <R> R execute(String action, boolean idempotent, Supplier<R> call) {
+        int maxAttempts = config.isEnabled() ? Math.max(1, config.getMaxAttempts()) : 1;
+        long deadline = System.currentTimeMillis() + Math.max(0L, config.getDeadlineMillis());
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (RuntimeException e) {
+                RuntimeException failure = translate(action, e);
+                if (attempt >= maxAttempts || !(failure instanceof BitableException bitableException)
+                        || !isRetryable(bitableException, idempotent)) {
+                    throw failure;
+                }
+                long backoffMillis = backoffMillis(attempt);
+                if (System.currentTimeMillis() + backoffMillis >= deadline) {
+                    throw failure;
+                }
+                log.warn("[飞书多维表格][{}]调用失败, {}ms 后重试, attempt={}/{}, msg={}",
+                        action, backoffMillis, attempt, maxAttempts, failure.getMessage());
+                LongAdder counter = retryCounter.get();
+                if (counter != null) {
+                    counter.increment();
+                }
+                sleep(backoffMillis, failure);
+            }
+        }
+    }
+
+    /**
+     * 在调用线程上执行，期间本线程内发生的重试次数累加到计数器。
+     *
+     * @param retries 重试计数器
+     * @param call    调用
+     * @param <R>     返回类型
+     * @return 调用结果
+     */
+    public <R> R countRetries(LongAdder retries, Supplier<R> call) {
+        LongAdder previous = retryCounter.get();
+        retryCounter.set(retries);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                retryCounter.remove();
+            } else {
+                retryCounter.set(previous);
+            }
+        }
+    }
+
+    /**
+     * 判断异常是否可重试。
+     *
+     * @param e          异常
+     * @param idempotent 是否幂等
+     * @return 是否可重试
+     */
+    public boolean isRetryable(BitableException e, boolean idempotent) {
+        if (e.getErrorCode() == BitableErrorCode.RATE_LIMITED) {
+            return retryableErrorCodes.contains(BitableErrorCode.RATE_LIMITED);
+        }
+        if (!idempotent) {
+            return false;
+        }
+        if (e.getErrorCode() instanceof BitableErrorCode errorCode && retryableErrorCodes.contains(errorCode)) {
+            return true;
+        }
+        return e.getApiCode() != null && retryableApiCodes.contains(e.getApiCode());
+    }
+
+    /**
+     * 计算第 N 次重试前的退避时间。
+     *
+     * @param attempt 已尝试次数
+     * @return 退避时间（毫秒）
+     */
+    private long backoffMillis(int attempt) {
+        double multiplier = Math.max(1D, config.getMultiplier());
+        double base = Math.max(0L, config.getInitialBackoffMillis()) * Math.pow(multiplier, attempt - 1);
+        double capped = Math.min(base, Math.max(0L, config.getMaxBackoffMillis()));
+        double jitter = Math.min(1D, Math.max(0D, config.getJitterFactor()));
+        return (long) (capped * (1D - jitter) + capped * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * 将 Forest 网络异常转换为 {@link BitableException}。
+     *
+     * @param action 操作名称
+     * @param e      原始异常
+     * @return 转换后的异常
+     */
+    private RuntimeException translate(String action, RuntimeException e) {
+        if (e instanceof BitableException) {
+            return e;
+        }
+        if (e instanceof ForestNetworkException networkException) {
+            Integer status = networkException.getStatusCode();
+            if (status != null && status == TOO_MANY_REQUESTS) {
+                return new BitableException(BitableErrorCode.RATE_LIMITED,
+                        "[飞书多维表格][" + action + "]服务端限流, status=" + status, e);
+            }
+            if (status != null && status >= SERVER_ERROR) {
+                return new BitableException(BitableErrorCode.FEISHU_REQUEST_FAILED,
+                        "[飞书多维表格][" + action + "]服务端异常, status=" + status, e);
+            }
+            return e;
+        }
+        if (e instanceof ForestRuntimeException) {
+            return new BitableException(BitableErrorCode.FEISHU_REQUEST_FAILED,
+                    "[飞书多维表格][" + action + "]接口请求失败: " + e.getMessage(), e);
+        }
+        return e;
+    }
+
+    /**
+     * 退避等待。
+     *
+     * @param millis  等待时间（毫秒）
+     * @param failure 本次失败，被中断时抛出
+     */
+    private static void sleep(long millis, RuntimeException failure) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw failure;
+        }
+    }
+}
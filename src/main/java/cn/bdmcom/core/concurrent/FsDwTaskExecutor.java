@@ -0,0 +1,129 @@
+package cn.bdmcom.core.concurrent;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.tenant.FsDwTenantContext;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 飞书多维表格后台任务执行器。
+ *
+ * <p>Starter 内部的后台任务（如游标预取下一页、分片并行、异步接口）统一提交到该执行器：</p>
+ * <ul>
+ *     <li>JDK 21+ 且开启 virtualThreads 时每个任务使用一个虚拟线程</li>
+ *     <li>否则使用守护线程池，空闲后自动回收，不影响应用正常退出</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwTaskExecutor implements Executor, AutoCloseable {
+
+    private static final String THREAD_NAME_PREFIX = "fs-dw-worker-";
+
+    private static final String VIRTUAL_THREAD_NAME_PREFIX = "fs-dw-virtual-";
+
+    private final ExecutorService executorService;
+
+    private final boolean virtual;
+
+    /**
+     * 根据配置创建执行器。
+     *
+     * @param config 执行器配置
+     */
+    public FsDwTaskExecutor(FsDwProperties.Executor config) {
+        FsDwProperties.Executor executor = config == null ? new FsDwProperties.Executor() : config;
+        ExecutorService virtualExecutor = executor.isVirtualThreads() ? newVirtualThreadExecutor() : null;
+        this.virtual = virtualExecutor != null;
+        if (virtualExecutor != null) {
+            this.executorService = virtualExecutor;
+            log.info("[飞书多维表格]后台任务执行器使用虚拟线程");
+            return;
+        }
+        int maxThreads = Math.max(1, executor.getMaxThreads());
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(maxThreads, maxThreads,
+                Math.max(1L, executor.getKeepAliveSeconds()), TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new DaemonThreadFactory());
+        pool.allowCoreThreadTimeOut(true);
+        this.executorService = pool;
+    }
+
+    /**
+     * 是否使用虚拟线程。
+     *
+     * @return 是否使用虚拟线程
+     */
+    public boolean isVirtual() {
+        return virtual;
+    }
+
+    /**
+     * 提交任务（任务继承提交线程的当前租户）。
+     *
+     * @param command 任务
+     */
+    @Override
+    public void execute(Runnable command) {
+        executorService.execute(FsDwTenantContext.wrap(command));
+    }
+
+    /**
+     * 关闭执行器。
+     */
+    @Override
+    public void close() {
+        executorService.shutdownNow();
+        log.info("[飞书多维表格]后台任务执行器已关闭");
+    }
+
+    /**
+     * 创建虚拟线程执行器（通过反射调用 JDK 21+ API，保持 Java 17 编译兼容）。
+     *
+     * @return 虚拟线程执行器，当前 JDK 不支持时返回 null
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            Class<?> builderClass = Class.forName("java.lang.Thread$Builder");
+            Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            builder = builderClass.getMethod("name", String.class, long.class)
+                    .invoke(builder, VIRTUAL_THREAD_NAME_PREFIX, 1L);
+            ThreadFactory factory = (ThreadFactory) builderClass.getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class)
+                    .invoke(null, factory);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.warn("[飞书多维表格]虚拟线程不可用, 回退到线程池: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 守护线程工厂。
+     */
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger index = new AtomicInteger();
+
+        /**
+         * 创建守护线程。
+         *
+         * @param runnable 任务
+         * @return 线程
+         */
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, THREAD_NAME_PREFIX + index.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package cn.bdmcom.core.concurrent;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * 辅助类并发任务作用域。
+ *
+ * <p>以结构化的方式并发执行一组相互独立的请求：</p>
+ * <ul>
+ *     <li>全部子任务结束后才返回，结果按输入顺序排列，不会有子任务在作用域之外继续运行</li>
+ *     <li>任一子任务失败后不再启动尚未开始的子任务，等待已开始的子任务结束后抛出首个异常</li>
+ *     <li>后台在途任务数受 maxInFlight 约束，达到上限或后台任务尚未开始时由调用线程直接执行</li>
+ *     <li>未启用并发模式时在调用线程上顺序执行，行为与同步调用一致</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwTaskScope {
+
+    private final boolean concurrent;
+
+    private final FsDwTaskExecutor executor;
+
+    private final Semaphore inFlight;
+
+    /**
+     * 创建任务作用域。
+     *
+     * @param config   辅助类并发执行配置
+     * @param executor 后台任务执行器
+     */
+    public FsDwTaskScope(FsDwProperties.Helper config, FsDwTaskExecutor executor) {
+        FsDwProperties.Helper helper = config == null ? new FsDwProperties.Helper() : config;
+        this.concurrent = helper.isConcurrent() && executor != null;
+        this.executor = executor;
+        this.inFlight = new Semaphore(Math.max(1, helper.getMaxInFlight()));
+        if (concurrent && !executor.isVirtual()) {
+            log.info("[飞书多维表格]辅助类并发模式未使用虚拟线程, 并发度受执行器线程数限制");
+        }
+    }
+
+    /**
+     * 是否启用并发执行模式。
+     *
+     * @return 是否启用
+     */
+    public boolean isConcurrent() {
+        return concurrent;
+    }
+
+    /**
+     * 对每个输入执行一次任务，返回按输入顺序排列的结果。
+     *
+     * @param inputs 输入列表
+     * @param task   任务
+     * @param <T>    输入类型
+     * @param <R>    结果类型
+     * @return 结果列表
+     */
+    public <T, R> List<R> invokeAll(List<T> inputs, Function<T, R> task) {
+        List<R> results = new ArrayList<>(inputs.size());
+        if (!concurrent || inputs.size() <= 1) {
+            for (T input : inputs) {
+                results.add(task.apply(input));
+            }
+            return results;
+        }
+        AtomicBoolean failed = new AtomicBoolean();
+        List<Subtask<T, R>> subtasks = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            subtasks.add(new Subtask<>(input, task, failed));
+        }
+        for (Subtask<T, R> subtask : subtasks) {
+            if (inFlight.tryAcquire()) {
+                fork(subtask);
+            } else {
+                // 达到在途上限时由调用线程执行，期间后台任务陆续结束并释放名额
+                subtask.run();
+            }
+        }
+        for (Subtask<T, R> subtask : subtasks) {
+            // 尚未被后台线程领取的子任务由调用线程执行，执行器繁忙时不会空等
+            subtask.run();
+        }
+        Throwable failure = null;
+        for (Subtask<T, R> subtask : subtasks) {
+            subtask.await();
+            if (failure == null && subtask.failure != null) {
+                failure = subtask.failure;
+            }
+            results.add(subtask.result);
+        }
+        if (failure instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (failure instanceof Error error) {
+            throw error;
+        }
+        return results;
+    }
+
+    /**
+     * 在后台执行器上执行子任务，结束后释放在途名额。
+     *
+     * @param subtask 子任务
+     */
+    private void fork(Subtask<?, ?> subtask) {
+        try {
+            executor.execute(() -> {
+                try {
+                    subtask.run();
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            subtask.run();
+        }
+    }
+
+    /**
+     * 子任务，由后台线程或调用线程中先领取者执行。
+     *
+     * @param <T> 输入类型
+     * @param <R> 结果类型
+     */
+    private static final class Subtask<T, R> {
+
+        private final T input;
+
+        private final Function<T, R> task;
+
+        private final AtomicBoolean scopeFailed;
+
+        private final AtomicBoolean claimed = new AtomicBoolean();
+
+        private final CountDownLatch done = new CountDownLatch(1);
+
+        private R result;
+
+        private Throwable failure;
+
+        private Subtask(T input, Function<T, R> task, AtomicBoolean scopeFailed) {
+            this.input = input;
+            this.task = task;
+            this.scopeFailed = scopeFailed;
+        }
+
+        /**
+         * 领取并执行子任务，已被领取时直接返回；作用域已失败时跳过执行。
+         */
+        private void run() {
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                if (!scopeFailed.get()) {
+                    result = task.apply(input);
+                }
+            } catch (Throwable e) {
+                failure = e;
+                scopeFailed.set(true);
+            } finally {
+                done.countDown();
+            }
+        }
+
+        /**
+         * 等待子任务结束，被中断时标记作用域失败以跳过剩余子任务。
+         */
+        private void await() {
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                scopeFailed.set(true);
+                Thread.currentThread().interrupt();
+                throw new BitableException(BitableErrorCode.FEISHU_REQUEST_FAILED, "[飞书多维表格]等待并发任务被中断", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package cn.bdmcom.core.cursor;
+
+import cn.bdmcom.core.domain.res.QueryEntityRes;
+import cn.bdmcom.core.domain.res.QueryRecordRes;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import cn.hutool.core.util.StrUtil;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 记录游标。
+ *
+ * <p>按 page_token 惰性拉取记录，任意时刻最多持有当前页与预取的下一页，
+ * 适合导出大表等无法一次性装入内存的场景。游标非线程安全，使用完毕需关闭：</p>
+ * <pre>
+ * try (FsDwRecordCursor&lt;Order&gt; cursor = recordService.openCursor(...)) {
+ *     while (cursor.hasNext()) {
+ *         Order order = cursor.next();
+ *     }
+ * }
+ * </pre>
+ *
+ * @param <T> 元素类型
+ */
+public class FsDwRecordCursor<T> implements Iterator<T>, AutoCloseable {
+
+    private final Function<String, QueryEntityRes<T>> pageFetcher;
+
+    /**
+     * 预取执行器，为 null 时不预取。
+     */
+    private final Executor prefetchExecutor;
+
+    private Iterator<T> current = Collections.emptyIterator();
+
+    private CompletableFuture<QueryEntityRes<T>> nextPage;
+
+    private String nextPageToken;
+
+    private boolean exhausted;
+
+    private boolean closed;
+
+    /**
+     * 创建记录游标。
+     *
+     * @param firstPageToken   起始 page_token（为空时从第一页开始）
+     * @param pageFetcher      按 page_token 拉取一页
+     * @param pageMapper       将一页响应映射为元素列表
+     * @param prefetchExecutor 预取执行器，为 null 时不预取
+     */
+    public FsDwRecordCursor(String firstPageToken, Function<String, QueryRecordRes> pageFetcher,
+                            Function<QueryRecordRes, List<T>> pageMapper, Executor prefetchExecutor) {
+        this(firstPageToken, pageToken -> toEntityRes(pageFetcher.apply(pageToken), pageMapper), prefetchExecutor);
+    }
+
+    /**
+     * 创建记录游标，页响应已由流式解码器直接解码为元素。
+     *
+     * @param firstPageToken   起始 page_token（为空时从第一页开始）
+     * @param pageFetcher      按 page_token 拉取一页
+     * @param prefetchExecutor 预取执行器，为 null 时不预取
+     */
+    public FsDwRecordCursor(String firstPageToken, Function<String, QueryEntityRes<T>> pageFetcher,
+                            Executor prefetchExecutor) {
+        this.nextPageToken = firstPageToken;
+        this.pageFetcher = pageFetcher;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * 是否还有下一条记录（必要时拉取下一页）。
+     *
+     * @return 是否还有记录
+     */
+    @Override
+    public boolean hasNext() {
+        while (!closed && !current.hasNext()) {
+            if (!advance()) {
+                return false;
+            }
+        }
+        return !closed;
+    }
+
+    /**
+     * 获取下一条记录。
+     *
+     * @return 记录
+     */
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 关闭游标，丢弃尚未消费的数据与预取结果。
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        current = Collections.emptyIterator();
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+    }
+
+    /**
+     * 转换为顺序流，关闭流时同时关闭游标。
+     *
+     * @return 记录流
+     */
+    public Stream<T> stream() {
+        Spliterator<T> spliterator = Spliterators.spliteratorUnknownSize(this,
+                Spliterator.ORDERED | Spliterator.NONNULL);
+        return StreamSupport.stream(spliterator, false).onClose(this::close);
+    }
+
+    /**
+     * 切换到下一页。
+     *
+     * @return 是否成功切换
+     */
+    private boolean advance() {
+        if (exhausted) {
+            return false;
+        }
+        QueryEntityRes<T> res;
+        if (nextPage != null) {
+            res = await(nextPage);
+            nextPage = null;
+        } else {
+            res = pageFetcher.apply(nextPageToken);
+        }
+        QueryEntityRes.EntityPage<T> data = res == null ? null : res.getData();
+        String pageToken = data == null ? null : data.getPageToken();
+        boolean hasMore = data != null && Boolean.TRUE.equals(data.getHasMore()) && StrUtil.isNotBlank(pageToken);
+        nextPageToken = pageToken;
+        if (!hasMore) {
+            exhausted = true;
+        } else if (prefetchExecutor != null) {
+            nextPage = CompletableFuture.supplyAsync(() -> pageFetcher.apply(pageToken), prefetchExecutor);
+        }
+        List<T> items = data == null ? null : data.getItems();
+        current = items == null ? Collections.emptyIterator() : items.iterator();
+        return true;
+    }
+
+    /**
+     * 将记录页响应映射为元素页响应。
+     *
+     * @param res        查询记录响应
+     * @param pageMapper 页映射
+     * @param <T>        元素类型
+     * @return 元素页响应
+     */
+    private static <T> QueryEntityRes<T> toEntityRes(QueryRecordRes res, Function<QueryRecordRes, List<T>> pageMapper) {
+        QueryEntityRes<T> entityRes = new QueryEntityRes<>();
+        QueryEntityRes.EntityPage<T> page = new QueryEntityRes.EntityPage<>();
+        QueryRecordRes.RecordRes data = res == null ? null : res.getData();
+        if (data != null) {
+            page.setHasMore(data.getHasMore());
+            page.setTotal(data.getTotal());
+            page.setPageToken(data.getPageToken());
+        }
+        page.setItems(pageMapper.apply(res));
+        if (res != null) {
+            entityRes.setCode(res.getCode());
+            entityRes.setMsg(res.getMsg());
+            entityRes.setError(res.getError());
+        }
+        entityRes.setData(page);
+        return entityRes;
+    }
+
+    /**
+     * 等待预取结果。
+     *
+     * @param future 预取任务
+     * @return 页响应
+     */
+    private QueryEntityRes<T> await(CompletableFuture<QueryEntityRes<T>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BitableException bitableException) {
+                throw bitableException;
+            }
+            throw new BitableException(BitableErrorCode.FEISHU_API_ERROR,
+                    "[飞书多维表格][游标查询]拉取下一页失败: " + (cause == null ? e.getMessage() : cause.getMessage()), e);
+        }
+    }
+}
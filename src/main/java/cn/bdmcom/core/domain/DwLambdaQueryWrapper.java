@@ -1,14 +1,13 @@
 package cn.bdmcom.core.domain;
 
 import cn.bdmcom.core.domain.req.QueryRecordReq;
+import cn.bdmcom.core.mapper.FsDwEntityMapper;
 import cn.hutool.core.util.StrUtil;
 
 import java.io.Serializable;
 import java.lang.invoke.SerializedLambda;
 import java.lang.reflect.Array;
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.*;
 
 /**
@@ -21,6 +20,16 @@ public final class DwLambdaQueryWrapper<T> {
     private static final String CONJUNCTION_AND = "and";
     private static final String CONJUNCTION_OR = "or";
 
+    /**
+     * Lambda 实现类 -> 属性名缓存（隐藏类卸载时随之回收）。
+     */
+    private static final ClassValue<LambdaProperty> LAMBDA_PROPERTIES = new ClassValue<>() {
+        @Override
+        protected LambdaProperty computeValue(Class<?> type) {
+            return new LambdaProperty();
+        }
+    };
+
     private final Class<T> entityClass;
     private final List<ConditionGroup> groups = new ArrayList<>();
     private final List<QueryRecordReq.Sort> sorts = new ArrayList<>();
@@ -31,7 +40,6 @@ public final class DwLambdaQueryWrapper<T> {
     private String pageToken;
     private Boolean automaticFields;
     private ConditionGroup currentGroup;
-    private Map<String, String> fieldNameMap;
 
     /**
      * 创建查询构建器（无实体类型）。
@@ -975,96 +983,37 @@ public final class DwLambdaQueryWrapper<T> {
     }
 
     /**
-     * 获取字段名映射表。
+     * 获取字段名映射表（按实体类型全局缓存）。
      *
      * @return 字段名映射表
      */
     private Map<String, String> getFieldNameMap() {
-        if (fieldNameMap == null) {
-            fieldNameMap = buildFieldNameMap(entityClass);
-        }
-        return fieldNameMap;
-    }
-
-    /**
-     * 构建字段名映射表。
-     *
-     * @param clazz 实体类型
-     * @return 字段名映射表
-     */
-    private static Map<String, String> buildFieldNameMap(Class<?> clazz) {
-        Map<String, String> map = new LinkedHashMap<>();
-        if (clazz == null) {
-            return map;
-        }
-        List<Field> fields = getAllFields(clazz);
-        for (Field field : fields) {
-            if (field.getAnnotation(FsDwTableId.class) != null) {
-                map.put(field.getName(), "record_id");
-                continue;
-            }
-            FsDwTableProperty property = field.getAnnotation(FsDwTableProperty.class);
-            String resolvedName = resolveFieldName(field, property);
-            map.put(field.getName(), resolvedName);
-        }
-        map.put("recordId", "record_id");
-        map.put("record_id", "record_id");
-        map.put("createdTime", "created_time");
-        map.put("created_time", "created_time");
-        map.put("lastModifiedTime", "last_modified_time");
-        map.put("last_modified_time", "last_modified_time");
-        return map;
-    }
-
-    /**
-     * 获取实体所有非静态字段。
-     *
-     * @param type 实体类型
-     * @return 字段列表
-     */
-    private static List<Field> getAllFields(Class<?> type) {
-        List<Field> fields = new ArrayList<>();
-        Class<?> current = type;
-        while (current != null && current != Object.class) {
-            Field[] declaredFields = current.getDeclaredFields();
-            for (Field field : declaredFields) {
-                if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) {
-                    continue;
-                }
-                fields.add(field);
-            }
-            current = current.getSuperclass();
-        }
-        return fields;
+        return FsDwEntityMapper.of(entityClass).getFieldNameMap();
     }
 
     /**
-     * 解析字段名称。
+     * 从 Lambda 中解析属性名（按 Lambda 实现类缓存，同一调用点只解析一次）。
      *
-     * @param field    字段
-     * @param property 字段注解
-     * @return 字段名
+     * @param lambda Lambda 表达式
+     * @return 属性名
      */
-    private static String resolveFieldName(Field field, FsDwTableProperty property) {
-        if (property != null) {
-            if (StrUtil.isNotBlank(property.field())) {
-                return property.field();
-            }
-            String[] values = property.value();
-            if (values != null && values.length > 0 && StrUtil.isNotBlank(values[0])) {
-                return values[0];
-            }
+    private static String resolveLambdaProperty(Serializable lambda) {
+        LambdaProperty cached = LAMBDA_PROPERTIES.get(lambda.getClass());
+        String property = cached.name;
+        if (property == null) {
+            property = parseLambdaProperty(lambda);
+            cached.name = property;
         }
-        return field.getName();
+        return property;
     }
 
     /**
-     * 从 Lambda 中解析属性名。
+     * 通过 writeReplace 解析 Lambda 属性名。
      *
      * @param lambda Lambda 表达式
      * @return 属性名
      */
-    private static String resolveLambdaProperty(Serializable lambda) {
+    private static String parseLambdaProperty(Serializable lambda) {
         SerializedLambda serializedLambda = resolveSerializedLambda(lambda);
         String methodName = serializedLambda.getImplMethodName();
         if (methodName.startsWith("get") && methodName.length() > 3) {
@@ -1107,6 +1056,13 @@ public final class DwLambdaQueryWrapper<T> {
         return new String(chars);
     }
 
+    /**
+     * 已解析的 Lambda 属性名（重复解析结果一致，无需加锁）。
+     */
+    private static final class LambdaProperty {
+        private volatile String name;
+    }
+
     /**
      * 条件组。
      */
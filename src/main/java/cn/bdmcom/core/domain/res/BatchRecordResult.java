@@ -0,0 +1,131 @@
+package cn.bdmcom.core.domain.res;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 分片批量操作合并结果。
+ *
+ * <p>按输入下标记录每一条数据的处理结果：成功时给出 record_id，失败时给出所在分片的错误信息。
+ * 单个分片失败不会影响其他分片。</p>
+ */
+@Data
+public class BatchRecordResult {
+
+    /**
+     * 输入记录总数。
+     */
+    private int total;
+
+    /**
+     * 按输入顺序排列的处理结果。
+     */
+    private List<Item> items = Collections.emptyList();
+
+    /**
+     * 是否全部成功。
+     *
+     * @return 是否全部成功
+     */
+    public boolean isAllSucceeded() {
+        return getFailureCount() == 0;
+    }
+
+    /**
+     * 成功条数。
+     *
+     * @return 成功条数
+     */
+    public int getSuccessCount() {
+        int count = 0;
+        for (Item item : items) {
+            if (item.isSuccess()) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 失败条数。
+     *
+     * @return 失败条数
+     */
+    public int getFailureCount() {
+        return items.size() - getSuccessCount();
+    }
+
+    /**
+     * 失败的处理结果。
+     *
+     * @return 失败列表
+     */
+    public List<Item> getFailures() {
+        List<Item> failures = new ArrayList<>();
+        for (Item item : items) {
+            if (!item.isSuccess()) {
+                failures.add(item);
+            }
+        }
+        return failures;
+    }
+
+    /**
+     * 获取指定输入下标的 record_id。
+     *
+     * @param index 输入下标
+     * @return record_id，失败时返回 null
+     */
+    public String getRecordId(int index) {
+        Item item = items.get(index);
+        return item.isSuccess() ? item.getRecordId() : null;
+    }
+
+    /**
+     * 按输入顺序获取 record_id 列表（失败位置为 null）。
+     *
+     * @return record_id 列表
+     */
+    public List<String> getRecordIds() {
+        List<String> recordIds = new ArrayList<>(items.size());
+        for (Item item : items) {
+            recordIds.add(item.isSuccess() ? item.getRecordId() : null);
+        }
+        return recordIds;
+    }
+
+    /**
+     * 单条记录处理结果。
+     */
+    @Data
+    public static class Item {
+
+        /**
+         * 输入下标。
+         */
+        private int index;
+
+        /**
+         * 记录 ID。
+         */
+        private String recordId;
+
+        /**
+         * 是否成功。
+         */
+        private boolean success;
+
+        /**
+         * 错误码（失败时有效）。
+         */
+        private Integer errorCode;
+
+        /**
+         * 错误信息（失败时有效）。
+         */
+        private String errorMsg;
+    }
+}
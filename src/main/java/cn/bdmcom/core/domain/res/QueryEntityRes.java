@@ -0,0 +1,47 @@
+package cn.bdmcom.core.domain.res;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.util.List;
+
+/**
+ * 查询记录响应体（记录已直接解码为实体）。
+ *
+ * <p>由流式解码器逐 token 读取查询记录响应生成，不经过 {@link QueryRecordRes} 的字段 Map。</p>
+ *
+ * @param <T> 实体类型
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+public class QueryEntityRes<T> extends AbstractRes<QueryEntityRes.EntityPage<T>> {
+
+    /**
+     * 一页实体。
+     *
+     * @param <T> 实体类型
+     */
+    @Data
+    public static class EntityPage<T> {
+
+        /**
+         * 是否存在更多
+         */
+        private Boolean hasMore;
+
+        /**
+         * 记录总数
+         */
+        private Integer total;
+
+        /**
+         * 下一页 token
+         */
+        private String pageToken;
+
+        /**
+         * 实体列表
+         */
+        private List<T> items;
+    }
+}
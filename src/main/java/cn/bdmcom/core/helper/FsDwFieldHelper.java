@@ -2,9 +2,6 @@ package cn.bdmcom.core.helper;
 
 
 import cn.bdmcom.config.FsDwProperties;
-import cn.bdmcom.core.domain.FsDwAppBase;
-import cn.bdmcom.core.domain.FsDwTable;
-import cn.bdmcom.core.domain.FsDwTableId;
 import cn.bdmcom.core.domain.FsDwTableProperty;
 import cn.bdmcom.core.domain.TypeEnum;
 import cn.bdmcom.core.domain.req.AddFieldReq;
@@ -14,12 +11,12 @@ import cn.bdmcom.core.domain.res.AddFieldRes;
 import cn.bdmcom.core.domain.res.DeleteFieldRes;
 import cn.bdmcom.core.domain.res.TableFieldListRes;
 import cn.bdmcom.core.domain.res.UpdateFieldRes;
+import cn.bdmcom.core.mapper.FsDwEntityModel;
 import cn.bdmcom.core.service.FsDwFieldService;
+import cn.bdmcom.core.tenant.FsDwTenantRegistry;
 import cn.bdmcom.support.BitableAssert;
 import cn.bdmcom.support.BitableErrorCode;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
 import java.util.*;
 
 /**
@@ -29,6 +26,7 @@ public final class FsDwFieldHelper {
 
     private static volatile FsDwFieldService FIELD_SERVICE;
     private static volatile FsDwProperties PROPERTIES;
+    private static volatile FsDwTenantRegistry TENANT_REGISTRY;
     /**
      * 工具类构造器。
      */
@@ -53,6 +51,15 @@ public final class FsDwFieldHelper {
         PROPERTIES = properties;
     }
 
+    /**
+     * 注册租户注册表（未注册时按配置属性创建）。
+     *
+     * @param tenantRegistry 租户注册表
+     */
+    public static void registerTenantRegistry(FsDwTenantRegistry tenantRegistry) {
+        TENANT_REGISTRY = tenantRegistry;
+    }
+
     /**
      * 新增字段（基于实体注解解析表ID）。
      *
@@ -190,6 +197,16 @@ public final class FsDwFieldHelper {
         return requireService().listFields(appId, appSecret, appToken, tableId, viewId);
     }
 
+    /**
+     * 失效数据表的字段结构缓存（基于实体注解解析表ID，其他客户端修改字段后调用）。
+     *
+     * @param entityClass 实体类型
+     */
+    public static void invalidateSchema(Class<?> entityClass) {
+        String tableId = resolveTableId(entityClass);
+        requireService().invalidateSchema(resolveAppToken(entityClass), tableId);
+    }
+
     /**
      * 构建新增数据表字段定义（基于实体注解）。
      *
@@ -198,17 +215,17 @@ public final class FsDwFieldHelper {
      */
     public static List<CreateTableReq.Field> buildCreateTableFields(Class<?> entityClass) {
         BitableAssert.notNull(entityClass, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        List<FieldMeta> metas = resolveFieldMetas(entityClass);
-        if (metas.isEmpty()) {
+        List<FsDwEntityModel.Column> columns = FsDwEntityModel.of(entityClass).getColumns();
+        if (columns.isEmpty()) {
             return Collections.emptyList();
         }
         List<CreateTableReq.Field> fields = new ArrayList<>();
-        for (FieldMeta meta : metas) {
+        for (FsDwEntityModel.Column column : columns) {
             CreateTableReq.Field field = new CreateTableReq.Field();
-            field.setFieldName(resolveFieldName(meta.getField(), meta.getProperty()));
-            TypeEnum type = meta.getProperty() == null ? TypeEnum.TEXT : meta.getProperty().type();
+            field.setFieldName(column.fieldName());
+            TypeEnum type = column.property() == null ? TypeEnum.TEXT : column.property().type();
             field.setType(type == null ? null : type.getType());
-            Map<String, Object> property = buildFieldProperty(type, meta.getProperty());
+            Map<String, Object> property = buildFieldProperty(type, column.property());
             if (property != null && !property.isEmpty()) {
                 field.setProperty(property);
             }
@@ -238,25 +255,35 @@ public final class FsDwFieldHelper {
     }
 
     /**
-     * 获取应用ID。
+     * 获取当前租户的应用ID（未指定租户时使用默认 appId）。
      *
      * @return 应用ID
      */
     private static String requireAppId() {
-        String appId = requireProperties().getAppId();
-        BitableAssert.notBlank(appId, BitableErrorCode.APP_CREDENTIALS_MISSING, "[飞书多维表格]appId未配置");
-        return appId;
+        return requireTenantRegistry().requireAppId();
     }
 
     /**
-     * 获取应用密钥。
+     * 获取当前租户的应用密钥（未指定租户时使用默认 appSecret）。
      *
      * @return 应用密钥
      */
     private static String requireAppSecret() {
-        String appSecret = requireProperties().getAppSecret();
-        BitableAssert.notBlank(appSecret, BitableErrorCode.APP_CREDENTIALS_MISSING, "[飞书多维表格]appSecret未配置");
-        return appSecret;
+        return requireTenantRegistry().requireAppSecret();
+    }
+
+    /**
+     * 获取租户注册表，未注册时按配置属性创建（仅包含配置中的租户）。
+     *
+     * @return 租户注册表
+     */
+    private static FsDwTenantRegistry requireTenantRegistry() {
+        FsDwTenantRegistry tenantRegistry = TENANT_REGISTRY;
+        if (tenantRegistry == null) {
+            tenantRegistry = new FsDwTenantRegistry(requireProperties());
+            TENANT_REGISTRY = tenantRegistry;
+        }
+        return tenantRegistry;
     }
 
     /**
@@ -266,12 +293,7 @@ public final class FsDwFieldHelper {
      * @return 应用令牌
      */
     private static String resolveAppToken(Class<?> entityClass) {
-        BitableAssert.notNull(entityClass, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        FsDwAppBase appBase = entityClass.getAnnotation(FsDwAppBase.class);
-        String appToken = appBase == null ? null : appBase.appToken();
-        BitableAssert.notBlank(appToken, BitableErrorCode.APP_TOKEN_MISSING,
-                "[飞书多维表格]appToken未配置，请在父类添加@FsDwAppBase或显式传入appToken");
-        return appToken.trim();
+        return FsDwEntityModel.of(entityClass).requireAppToken();
     }
 
     /**
@@ -281,95 +303,7 @@ public final class FsDwFieldHelper {
      * @return 数据表ID
      */
     private static String resolveTableId(Class<?> entityClass) {
-        BitableAssert.notNull(entityClass, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        FsDwTable table = entityClass.getAnnotation(FsDwTable.class);
-        BitableAssert.notNull(table, BitableErrorCode.TABLE_META_MISSING, "[飞书多维表格]实体未标注@FsDwTable");
-        BitableAssert.notBlank(table.tableId(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]tableId未配置");
-        return table.tableId();
-    }
-
-    /**
-     * 解析字段元信息列表。
-     *
-     * @param entityClass 实体类型
-     * @return 字段元信息列表
-     */
-    private static List<FieldMeta> resolveFieldMetas(Class<?> entityClass) {
-        List<Field> fields = getAllFields(entityClass);
-        if (fields.isEmpty()) {
-            return Collections.emptyList();
-        }
-        boolean hasTableProperty = fields.stream().anyMatch(field -> field.getAnnotation(FsDwTableProperty.class) != null);
-        List<FieldMeta> metas = new ArrayList<>();
-        int index = 0;
-        for (Field field : fields) {
-            FsDwTableProperty property = field.getAnnotation(FsDwTableProperty.class);
-            if (isTableIdField(field)) {
-                index++;
-                continue;
-            }
-            if (hasTableProperty && property == null) {
-                index++;
-                continue;
-            }
-            int order = property == null ? Integer.MAX_VALUE : property.order();
-            metas.add(new FieldMeta(field, property, order, index));
-            index++;
-        }
-        metas.sort(Comparator.comparingInt(FieldMeta::getOrder).thenComparingInt(FieldMeta::getIndex));
-        return metas;
-    }
-
-    /**
-     * 获取实体所有非静态字段。
-     *
-     * @param type 实体类型
-     * @return 字段列表
-     */
-    private static List<Field> getAllFields(Class<?> type) {
-        List<Field> fields = new ArrayList<>();
-        Class<?> current = type;
-        while (current != null && current != Object.class) {
-            Field[] declaredFields = current.getDeclaredFields();
-            for (Field field : declaredFields) {
-                if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) {
-                    continue;
-                }
-                fields.add(field);
-            }
-            current = current.getSuperclass();
-        }
-        return fields;
-    }
-
-    /**
-     * 判断字段是否为表ID字段。
-     *
-     * @param field 字段
-     * @return 是否为表ID字段
-     */
-    private static boolean isTableIdField(Field field) {
-        return field.getAnnotation(FsDwTableId.class) != null;
-    }
-
-    /**
-     * 解析字段名称。
-     *
-     * @param field    字段
-     * @param property 字段注解
-     * @return 字段名称
-     */
-    private static String resolveFieldName(Field field, FsDwTableProperty property) {
-        if (property != null) {
-            if (!isBlank(property.field())) {
-                return property.field().trim();
-            }
-            String[] values = property.value();
-            if (values != null && values.length > 0 && !isBlank(values[0])) {
-                return values[0].trim();
-            }
-        }
-        return field.getName();
+        return FsDwEntityModel.of(entityClass).requireTableId();
     }
 
     /**
@@ -453,65 +387,4 @@ public final class FsDwFieldHelper {
         }
         throw new RuntimeException("字段不存在");
     }
-
-    /**
-     * 字段元信息。
-     */
-    private static final class FieldMeta {
-        private final Field field;
-        private final FsDwTableProperty property;
-        private final int order;
-        private final int index;
-
-        /**
-         * 构造字段元信息。
-         *
-         * @param field    字段
-         * @param property 字段注解
-         * @param order    排序值
-         * @param index    字段索引
-         */
-        private FieldMeta(Field field, FsDwTableProperty property, int order, int index) {
-            this.field = field;
-            this.property = property;
-            this.order = order;
-            this.index = index;
-        }
-
-        /**
-         * 获取字段。
-         *
-         * @return 字段
-         */
-        private Field getField() {
-            return field;
-        }
-
-        /**
-         * 获取字段注解。
-         *
-         * @return 字段注解
-         */
-        private FsDwTableProperty getProperty() {
-            return property;
-        }
-
-        /**
-         * 获取排序值。
-         *
-         * @return 排序值
-         */
-        private int getOrder() {
-            return order;
-        }
-
-        /**
-         * 获取字段索引。
-         *
-         * @return 字段索引
-         */
-        private int getIndex() {
-            return index;
-        }
-    }
 }
@@ -1,9 +1,13 @@
 package cn.bdmcom.core.helper;
 
 import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.concurrent.FsDwTaskScope;
+import cn.bdmcom.core.mapper.FsDwEntityRegistry;
 import cn.bdmcom.core.service.FsDwFieldService;
 import cn.bdmcom.core.service.FsDwRecordService;
 import cn.bdmcom.core.service.FsDwTableService;
+import cn.bdmcom.core.service.FsDwWriteBehindService;
+import cn.bdmcom.core.tenant.FsDwTenantRegistry;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 
@@ -26,6 +30,21 @@ public class FsDwHelperRegistrar {
     @Autowired
     private FsDwTableService fsDwTableService;
 
+    @Autowired
+    private FsDwTaskScope fsDwTaskScope;
+
+    @Autowired
+    private FsDwWriteBehindService fsDwWriteBehindService;
+
+    @Autowired
+    private FsDwTenantRegistry fsDwTenantRegistry;
+
+    /**
+     * 依赖实体模型注册表，确保实体在辅助类可用前完成预构建与校验。
+     */
+    @Autowired
+    private FsDwEntityRegistry fsDwEntityRegistry;
+
     /**
      * 注册辅助类所需的服务与配置。
      */
@@ -33,9 +52,15 @@ public class FsDwHelperRegistrar {
     public void register() {
         FsDwRecordHelper.registerServices(fsDwRecordService);
         FsDwRecordHelper.registerProperties(properties);
+        FsDwRecordHelper.registerTenantRegistry(fsDwTenantRegistry);
+        FsDwRecordHelper.registerTaskScope(fsDwTaskScope);
+        FsDwRecordHelper.registerWriteBehindService(fsDwWriteBehindService);
         FsDwTableHelper.registerServices(fsDwTableService);
         FsDwTableHelper.registerProperties(properties);
+        FsDwTableHelper.registerTenantRegistry(fsDwTenantRegistry);
+        FsDwTableHelper.registerTaskScope(fsDwTaskScope);
         FsDwFieldHelper.registerServices(fsDwFieldService);
         FsDwFieldHelper.registerProperties(properties);
+        FsDwFieldHelper.registerTenantRegistry(fsDwTenantRegistry);
     }
 }
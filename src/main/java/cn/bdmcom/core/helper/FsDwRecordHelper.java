@@ -1,28 +1,27 @@
 package cn.bdmcom.core.helper;
 
 import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.concurrent.FsDwTaskScope;
+import cn.bdmcom.core.cursor.FsDwRecordCursor;
 import cn.bdmcom.core.domain.DwLambdaQueryWrapper;
-import cn.bdmcom.core.domain.FsDwAppBase;
-import cn.bdmcom.core.domain.FsDwTable;
-import cn.bdmcom.core.domain.FsDwTableId;
-import cn.bdmcom.core.domain.FsDwTableProperty;
 import cn.bdmcom.core.domain.req.*;
 import cn.bdmcom.core.domain.res.*;
+import cn.bdmcom.core.mapper.FsDwEntityMapper;
+import cn.bdmcom.core.mapper.FsDwEntityModel;
 import cn.bdmcom.core.service.FsDwRecordService;
+import cn.bdmcom.core.service.FsDwWriteBehindService;
+import cn.bdmcom.core.tenant.FsDwTenantRegistry;
+import cn.bdmcom.core.write.FsDwBulkWriteListener;
+import cn.bdmcom.core.write.FsDwRecordBulkWriter;
+import cn.bdmcom.core.write.FsDwWriteBehindBuffer;
+import cn.bdmcom.core.write.FsDwWriteFailureListener;
 import cn.bdmcom.support.BitableAssert;
 import cn.bdmcom.support.BitableErrorCode;
-import cn.bdmcom.support.BitableException;
 import cn.hutool.core.util.StrUtil;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.time.Instant;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * 飞书多维表格记录辅助类。
@@ -37,6 +36,9 @@ public final class FsDwRecordHelper {
 
     private static volatile FsDwRecordService RECORD_SERVICE;
     private static volatile FsDwProperties PROPERTIES;
+    private static volatile FsDwTenantRegistry TENANT_REGISTRY;
+    private static volatile FsDwTaskScope TASK_SCOPE;
+    private static volatile FsDwWriteBehindService WRITE_BEHIND_SERVICE;
 
     /**
      * 注册记录服务。
@@ -56,6 +58,33 @@ public final class FsDwRecordHelper {
         PROPERTIES = properties;
     }
 
+    /**
+     * 注册租户注册表（未注册时按配置属性创建）。
+     *
+     * @param tenantRegistry 租户注册表
+     */
+    public static void registerTenantRegistry(FsDwTenantRegistry tenantRegistry) {
+        TENANT_REGISTRY = tenantRegistry;
+    }
+
+    /**
+     * 注册辅助类并发任务作用域。
+     *
+     * @param taskScope 并发任务作用域
+     */
+    public static void registerTaskScope(FsDwTaskScope taskScope) {
+        TASK_SCOPE = taskScope;
+    }
+
+    /**
+     * 注册写缓冲服务。
+     *
+     * @param writeBehindService 写缓冲服务
+     */
+    public static void registerWriteBehindService(FsDwWriteBehindService writeBehindService) {
+        WRITE_BEHIND_SERVICE = writeBehindService;
+    }
+
     /**
      * 新增记录（基于 appId/appSecret/appToken）。
      *
@@ -91,7 +120,7 @@ public final class FsDwRecordHelper {
      * @return 新增记录结果
      */
     public static AddRecordRes addRecord(Object payload) {
-        TableMeta meta = resolveTableMeta(payload);
+        FsDwEntityModel<?> meta = resolveTableMeta(payload);
         String appToken = resolveAppToken(payload);
         return addRecord(requireAppId(), requireAppSecret(), appToken, meta.getTableId(), payload);
     }
@@ -110,6 +139,20 @@ public final class FsDwRecordHelper {
                 null, null, null, req);
     }
 
+    /**
+     * 分片批量新增记录（从实体注解读取 tableId），返回按输入下标合并的结果。
+     *
+     * @param entityClass 实体类型
+     * @param payloads    记录字段实体列表
+     * @return 合并结果
+     */
+    public static BatchRecordResult bulkCreateRecords(Class<?> entityClass, List<?> payloads) {
+        String tableId = resolveTableMeta(entityClass).getTableId();
+        BatchCreateRecordReq req = buildBatchCreateRecordReq(payloads);
+        return requireService().bulkCreateRecords(requireAppId(), requireAppSecret(), resolveAppToken(entityClass),
+                tableId, null, null, null, req);
+    }
+
     /**
      * 批量新增记录（基于 appId/appSecret/appToken）。
      *
@@ -167,12 +210,71 @@ public final class FsDwRecordHelper {
      * @return 更新记录结果
      */
     public static UpdateRecordRes updateRecord(Object payload) {
-        TableMeta meta = resolveTableMeta(payload);
+        FsDwEntityModel<?> meta = resolveTableMeta(payload);
         String recordId = resolveRecordId(payload);
         String appToken = resolveAppToken(payload);
         return updateRecord(requireAppId(), requireAppSecret(), appToken, meta.getTableId(), recordId, payload);
     }
 
+    /**
+     * 打开实体所在数据表的批量写入管道（从实体注解读取 tableId）。
+     *
+     * @param entityClass 实体类型
+     * @param <T>         实体类型
+     * @return 批量写入管道
+     */
+    public static <T> FsDwRecordBulkWriter<T> openBulkWriter(Class<T> entityClass) {
+        return openBulkWriter(entityClass, null);
+    }
+
+    /**
+     * 打开实体所在数据表的批量写入管道（从实体注解读取 tableId）。
+     *
+     * @param entityClass 实体类型
+     * @param listener    失败监听器（可为空）
+     * @param <T>         实体类型
+     * @return 批量写入管道
+     */
+    public static <T> FsDwRecordBulkWriter<T> openBulkWriter(Class<T> entityClass, FsDwBulkWriteListener<T> listener) {
+        String tableId = resolveTableMeta(entityClass).getTableId();
+        return requireService().openBulkWriter(requireAppId(), requireAppSecret(), resolveAppToken(entityClass),
+                tableId, listener);
+    }
+
+    /**
+     * 延迟更新记录（recordId 来自实体注解）：写入实体所在数据表的写缓冲，合并后按批提交。
+     *
+     * @param payload 记录字段实体
+     */
+    public static void updateRecordLater(Object payload) {
+        BitableAssert.notNull(payload, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]对象不能为空");
+        writeBehindBuffer(payload.getClass()).update(payload);
+    }
+
+    /**
+     * 获取当前租户下实体所在数据表的写缓冲（从实体注解读取 tableId）。
+     *
+     * @param entityClass 实体类型
+     * @return 写缓冲
+     */
+    public static FsDwWriteBehindBuffer writeBehindBuffer(Class<?> entityClass) {
+        return writeBehindBuffer(entityClass, null);
+    }
+
+    /**
+     * 获取实体所在数据表的写缓冲，不存在时使用指定失败监听器创建。
+     *
+     * @param entityClass 实体类型
+     * @param listener    失败监听器（可为空，只在创建写缓冲时生效）
+     * @return 写缓冲
+     */
+    public static FsDwWriteBehindBuffer writeBehindBuffer(Class<?> entityClass, FsDwWriteFailureListener listener) {
+        String tableId = resolveTableMeta(entityClass).getTableId();
+        BitableAssert.notNull(WRITE_BEHIND_SERVICE, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]写缓冲服务未注册");
+        return WRITE_BEHIND_SERVICE.getBuffer(requireAppId(), requireAppSecret(), resolveAppToken(entityClass),
+                tableId, listener);
+    }
+
     /**
      * 批量更新记录（从实体注解读取 tableId）。
      *
@@ -186,6 +288,20 @@ public final class FsDwRecordHelper {
         return batchUpdateRecords(requireAppId(), requireAppSecret(), resolveAppToken(entityClass), tableId, null, null, req);
     }
 
+    /**
+     * 分片批量更新记录（从实体注解读取 tableId），返回按输入下标合并的结果。
+     *
+     * @param entityClass 实体类型
+     * @param payloads    记录字段实体列表
+     * @return 合并结果
+     */
+    public static BatchRecordResult bulkUpdateRecords(Class<?> entityClass, List<?> payloads) {
+        String tableId = resolveTableMeta(entityClass).getTableId();
+        BatchUpdateRecordReq req = buildBatchUpdateRecordReq(payloads);
+        return requireService().bulkUpdateRecords(requireAppId(), requireAppSecret(), resolveAppToken(entityClass),
+                tableId, null, null, req);
+    }
+
     /**
      * 批量更新记录（基于 appId/appSecret/appToken）。
      *
@@ -227,7 +343,7 @@ public final class FsDwRecordHelper {
      */
     public static <T> QueryRecordRes queryRecord(Class<T> clazz, DwLambdaQueryWrapper<T> wrapper) {
         QueryRecordReq req = buildQueryRecordReq(wrapper, clazz);
-        TableMeta meta = resolveTableMeta(clazz);
+        FsDwEntityModel<?> meta = resolveTableMeta(clazz);
         return queryRecord(requireAppId(), requireAppSecret(), resolveAppToken(clazz), meta.getTableId(), req);
     }
 
@@ -257,7 +373,7 @@ public final class FsDwRecordHelper {
      */
     public static <T> List<T> queryRecords(Class<T> clazz, DwLambdaQueryWrapper<T> wrapper) {
         QueryRecordReq req = buildQueryRecordReq(wrapper, clazz);
-        TableMeta meta = resolveTableMeta(clazz);
+        FsDwEntityModel<?> meta = resolveTableMeta(clazz);
         return queryRecords(requireAppId(), requireAppSecret(), resolveAppToken(clazz), meta.getTableId(), req, clazz);
     }
 
@@ -283,7 +399,7 @@ public final class FsDwRecordHelper {
      * @return 实体列表
      */
     public static <T> List<T> queryRecords(Class<T> clazz) {
-        TableMeta meta = resolveTableMeta(clazz);
+        FsDwEntityModel<?> meta = resolveTableMeta(clazz);
         BitableAssert.notBlank(meta.getViewId(), BitableErrorCode.VIEW_ID_MISSING, "[飞书多维表格]viewId未配置");
         QueryRecordReq req = buildQueryRecordReq(meta.getViewId(), clazz);
         return queryRecords(requireAppId(), requireAppSecret(), resolveAppToken(clazz), meta.getTableId(), req, clazz);
@@ -298,13 +414,117 @@ public final class FsDwRecordHelper {
      * @return 实体列表
      */
     public static <T> List<T> queryRecords(QueryRecordReq req, Class<T> clazz) {
-        TableMeta meta = resolveTableMeta(clazz);
+        FsDwEntityModel<?> meta = resolveTableMeta(clazz);
         if (req != null && StrUtil.isBlank(req.getViewId()) && StrUtil.isNotBlank(meta.getViewId())) {
             req.setViewId(meta.getViewId());
         }
         return queryRecords(requireAppId(), requireAppSecret(), resolveAppToken(clazz), meta.getTableId(), req, clazz);
     }
 
+    /**
+     * 按多个查询构造器查询同一实体的记录，启用辅助类并发模式时并发查询。
+     *
+     * @param clazz    实体类型
+     * @param wrappers 查询构造器列表
+     * @param <T>      实体类型
+     * @return 与查询构造器一一对应的实体列表
+     */
+    public static <T> List<List<T>> queryRecords(Class<T> clazz, List<DwLambdaQueryWrapper<T>> wrappers) {
+        BitableAssert.notNull(wrappers, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]查询构造器列表不能为空");
+        return invokeAll(wrappers, wrapper -> queryRecords(clazz, wrapper));
+    }
+
+    /**
+     * 查询多个实体的记录（使用各实体注解中的 tableId/viewId），启用辅助类并发模式时并发查询。
+     *
+     * @param classes 实体类型列表
+     * @return 实体类型 -> 实体列表（按输入顺序）
+     */
+    public static Map<Class<?>, List<?>> queryRecords(List<Class<?>> classes) {
+        BitableAssert.notEmpty(classes, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型列表不能为空");
+        List<List<?>> results = invokeAll(classes, clazz -> queryRecords(clazz));
+        Map<Class<?>, List<?>> merged = new LinkedHashMap<>();
+        for (int i = 0; i < classes.size(); i++) {
+            merged.put(classes.get(i), results.get(i));
+        }
+        return merged;
+    }
+
+    /**
+     * 打开记录游标并映射为实体（基于 appId/appSecret/appToken）。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   数据表唯一标识
+     * @param req       查询记录请求体
+     * @param clazz     实体类型
+     * @param <T>       实体类型
+     * @return 记录游标
+     */
+    public static <T> FsDwRecordCursor<T> openCursor(String appId, String appSecret, String appToken, String tableId,
+                                                     QueryRecordReq req, Class<T> clazz) {
+        return requireService().openCursor(appId, appSecret, appToken, tableId, req, clazz);
+    }
+
+    /**
+     * 条件查询并打开记录游标（基于实体注解）。
+     *
+     * @param clazz   实体类型
+     * @param wrapper 查询构造器
+     * @param <T>     实体类型
+     * @return 记录游标
+     */
+    public static <T> FsDwRecordCursor<T> openCursor(Class<T> clazz, DwLambdaQueryWrapper<T> wrapper) {
+        QueryRecordReq req = buildQueryRecordReq(wrapper, clazz);
+        req.setPageNo(null);
+        FsDwEntityModel<?> meta = resolveTableMeta(clazz);
+        return openCursor(requireAppId(), requireAppSecret(), resolveAppToken(clazz), meta.getTableId(), req, clazz);
+    }
+
+    /**
+     * 以流的方式读取记录（基于 appId/appSecret/appToken），使用完毕需关闭流。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   数据表唯一标识
+     * @param req       查询记录请求体
+     * @param clazz     实体类型
+     * @param <T>       实体类型
+     * @return 实体流
+     */
+    public static <T> Stream<T> streamRecords(String appId, String appSecret, String appToken, String tableId,
+                                              QueryRecordReq req, Class<T> clazz) {
+        return requireService().streamRecords(appId, appSecret, appToken, tableId, req, clazz);
+    }
+
+    /**
+     * 条件查询并以流的方式读取记录（基于实体注解），使用完毕需关闭流。
+     *
+     * @param clazz   实体类型
+     * @param wrapper 查询构造器
+     * @param <T>     实体类型
+     * @return 实体流
+     */
+    public static <T> Stream<T> streamRecords(Class<T> clazz, DwLambdaQueryWrapper<T> wrapper) {
+        return openCursor(clazz, wrapper).stream();
+    }
+
+    /**
+     * 以流的方式读取整张表（使用实体注解中的 tableId/viewId），使用完毕需关闭流。
+     *
+     * @param clazz 实体类型
+     * @param <T>   实体类型
+     * @return 实体流
+     */
+    public static <T> Stream<T> streamRecords(Class<T> clazz) {
+        FsDwEntityModel<?> meta = resolveTableMeta(clazz);
+        BitableAssert.notBlank(meta.getViewId(), BitableErrorCode.VIEW_ID_MISSING, "[飞书多维表格]viewId未配置");
+        QueryRecordReq req = buildQueryRecordReq(meta.getViewId(), clazz);
+        return streamRecords(requireAppId(), requireAppSecret(), resolveAppToken(clazz), meta.getTableId(), req, clazz);
+    }
+
     /**
      * 删除记录（基于 appId/appSecret/appToken）。
      *
@@ -326,7 +546,7 @@ public final class FsDwRecordHelper {
      * @return 删除记录结果
      */
     public static DeleteRecordRes deleteRecord(Object payload) {
-        TableMeta meta = resolveTableMeta(payload);
+        FsDwEntityModel<?> meta = resolveTableMeta(payload);
         String recordId = resolveRecordId(payload);
         String appToken = resolveAppToken(payload);
         return deleteRecord(requireAppId(), requireAppSecret(), appToken, meta.getTableId(), recordId);
@@ -345,6 +565,20 @@ public final class FsDwRecordHelper {
         return batchDeleteRecords(requireAppId(), requireAppSecret(), resolveAppToken(entityClass), tableId, req);
     }
 
+    /**
+     * 分片批量删除记录（从实体注解读取 tableId），返回按输入下标合并的结果。
+     *
+     * @param entityClass 实体类型
+     * @param recordIds   记录 ID 列表
+     * @return 合并结果
+     */
+    public static BatchRecordResult bulkDeleteRecords(Class<?> entityClass, List<String> recordIds) {
+        String tableId = resolveTableMeta(entityClass).getTableId();
+        BatchDeleteRecordReq req = buildBatchDeleteRecordReq(recordIds);
+        return requireService().bulkDeleteRecords(requireAppId(), requireAppSecret(), resolveAppToken(entityClass),
+                tableId, req);
+    }
+
     /**
      * 批量删除记录（基于 appId/appSecret/appToken）。
      *
@@ -543,7 +777,7 @@ public final class FsDwRecordHelper {
     public static QueryRecordReq buildQueryRecordReq(DwLambdaQueryWrapper<?> wrapper, Class<?> clazz) {
         QueryRecordReq req = wrapper == null ? new QueryRecordReq() : wrapper.toQueryRecordReq();
         if (clazz != null) {
-            TableMeta meta = resolveTableMeta(clazz);
+            FsDwEntityModel<?> meta = resolveTableMeta(clazz);
             if (StrUtil.isBlank(req.getViewId()) && StrUtil.isNotBlank(meta.getViewId())) {
                 req.setViewId(meta.getViewId());
             }
@@ -645,27 +879,10 @@ public final class FsDwRecordHelper {
      * @return 字段名映射表
      */
     private static Map<String, String> buildFieldNameMap(Class<?> clazz) {
-        Map<String, String> map = new LinkedHashMap<>();
         if (clazz == null) {
-            return map;
+            return Collections.emptyMap();
         }
-        List<Field> fields = getAllFields(clazz);
-        for (Field field : fields) {
-            if (isTableIdField(field)) {
-                map.put(field.getName(), "record_id");
-                continue;
-            }
-            TablePropertyInfo property = resolveTablePropertyInfo(field);
-            String resolvedName = resolveFieldName(field, property);
-            map.put(field.getName(), resolvedName);
-        }
-        map.put("recordId", "record_id");
-        map.put("record_id", "record_id");
-        map.put("createdTime", "created_time");
-        map.put("created_time", "created_time");
-        map.put("lastModifiedTime", "last_modified_time");
-        map.put("last_modified_time", "last_modified_time");
-        return map;
+        return FsDwEntityModel.of(clazz).getMapper().getFieldNameMap();
     }
 
     /**
@@ -678,28 +895,7 @@ public final class FsDwRecordHelper {
         if (clazz == null) {
             return Collections.emptyList();
         }
-        List<Field> fields = getAllFields(clazz);
-        boolean hasTableProperty = fields.stream().anyMatch(field -> resolveTablePropertyInfo(field) != null);
-        if (!hasTableProperty) {
-            return Collections.emptyList();
-        }
-        List<TablePropertyInfo> properties = new ArrayList<>();
-        for (Field field : fields) {
-            TablePropertyInfo property = resolveTablePropertyInfo(field);
-            if (property == null) {
-                continue;
-            }
-            properties.add(property);
-        }
-        properties.sort(Comparator.comparingInt(TablePropertyInfo::getOrder));
-        List<String> fieldNames = new ArrayList<>();
-        for (TablePropertyInfo property : properties) {
-            String fieldName = resolveFieldName(property);
-            if (StrUtil.isNotBlank(fieldName)) {
-                fieldNames.add(fieldName);
-            }
-        }
-        return fieldNames;
+        return new ArrayList<>(FsDwEntityModel.of(clazz).getMapper().getFieldNames());
     }
 
     /**
@@ -714,9 +910,12 @@ public final class FsDwRecordHelper {
         if (res == null || res.getData() == null || res.getData().getItems() == null) {
             return Collections.emptyList();
         }
-        List<T> result = new ArrayList<>();
-        for (QueryRecordRes.RecordRes.Item item : res.getData().getItems()) {
-            T entity = toEntity(item, clazz);
+        BitableAssert.notNull(clazz, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
+        FsDwEntityMapper<T> mapper = FsDwEntityModel.of(clazz).getMapper();
+        List<QueryRecordRes.RecordRes.Item> items = res.getData().getItems();
+        List<T> result = new ArrayList<>(items.size());
+        for (QueryRecordRes.RecordRes.Item item : items) {
+            T entity = mapper.toEntity(item);
             if (entity != null) {
                 result.add(entity);
             }
@@ -737,31 +936,7 @@ public final class FsDwRecordHelper {
             Map<String, Object> map = (Map<String, Object>) payload;
             return new LinkedHashMap<>(map);
         }
-        Map<String, Object> result = new LinkedHashMap<>();
-        List<Field> fields = getAllFields(payload.getClass());
-        boolean hasTableProperty = fields.stream().anyMatch(field -> resolveTablePropertyInfo(field) != null);
-        for (Field field : fields) {
-            if (isTableIdField(field)) {
-                continue;
-            }
-            TablePropertyInfo property = resolveTablePropertyInfo(field);
-            if (hasTableProperty && property == null) {
-                continue;
-            }
-            field.setAccessible(true);
-            Object value;
-            try {
-                value = field.get(payload);
-            } catch (IllegalAccessException ignored) {
-                continue;
-            }
-            if (value == null) {
-                continue;
-            }
-            String fieldName = resolveFieldName(field, property);
-            result.put(fieldName, normalizeValue(value));
-        }
-        return result;
+        return FsDwEntityModel.of(payload.getClass()).getMapper().toFields(payload);
     }
 
     /**
@@ -801,37 +976,11 @@ public final class FsDwRecordHelper {
                 return recordId;
             }
         }
-        List<Field> fields = getAllFields(payload.getClass());
-        for (Field field : fields) {
-            if (!isTableIdField(field)) {
-                continue;
-            }
-            field.setAccessible(true);
-            try {
-                Object value = field.get(payload);
-                if (value != null) {
-                    return String.valueOf(value);
-                }
-            } catch (IllegalAccessException ignored) {
-                // ignore
-            }
+        String recordId = FsDwEntityModel.of(payload.getClass()).getMapper().readRecordId(payload);
+        if (recordId == null) {
+            BitableAssert.fail(BitableErrorCode.RECORD_ID_MISSING, "[飞书多维表格]recordId未配置");
         }
-        for (Field field : fields) {
-            if (!isMetaFieldName(field.getName())) {
-                continue;
-            }
-            field.setAccessible(true);
-            try {
-                Object value = field.get(payload);
-                if (value != null) {
-                    return String.valueOf(value);
-                }
-            } catch (IllegalAccessException ignored) {
-                // ignore
-            }
-        }
-        BitableAssert.fail(BitableErrorCode.RECORD_ID_MISSING, "[飞书多维表格]recordId未配置");
-        return null;
+        return recordId;
     }
 
     /**
@@ -877,6 +1026,27 @@ public final class FsDwRecordHelper {
         return RECORD_SERVICE;
     }
 
+    /**
+     * 对每个输入执行一次任务；已注册并发任务作用域时按其配置并发执行，否则顺序执行。
+     *
+     * @param inputs 输入列表
+     * @param task   任务
+     * @param <T>    输入类型
+     * @param <R>    结果类型
+     * @return 按输入顺序排列的结果
+     */
+    private static <T, R> List<R> invokeAll(List<T> inputs, Function<T, R> task) {
+        FsDwTaskScope taskScope = TASK_SCOPE;
+        if (taskScope != null) {
+            return taskScope.invokeAll(inputs, task);
+        }
+        List<R> results = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            results.add(task.apply(input));
+        }
+        return results;
+    }
+
     /**
      * 获取配置属性。
      *
@@ -888,25 +1058,35 @@ public final class FsDwRecordHelper {
     }
 
     /**
-     * 获取应用ID。
+     * 获取当前租户的应用ID（未指定租户时使用默认 appId）。
      *
      * @return 应用ID
      */
     private static String requireAppId() {
-        String appId = requireProperties().getAppId();
-        BitableAssert.notBlank(appId, BitableErrorCode.APP_CREDENTIALS_MISSING, "[飞书多维表格]appId未配置");
-        return appId;
+        return requireTenantRegistry().requireAppId();
     }
 
     /**
-     * 获取应用密钥。
+     * 获取当前租户的应用密钥（未指定租户时使用默认 appSecret）。
      *
      * @return 应用密钥
      */
     private static String requireAppSecret() {
-        String appSecret = requireProperties().getAppSecret();
-        BitableAssert.notBlank(appSecret, BitableErrorCode.APP_CREDENTIALS_MISSING, "[飞书多维表格]appSecret未配置");
-        return appSecret;
+        return requireTenantRegistry().requireAppSecret();
+    }
+
+    /**
+     * 获取租户注册表，未注册时按配置属性创建（仅包含配置中的租户）。
+     *
+     * @return 租户注册表
+     */
+    private static FsDwTenantRegistry requireTenantRegistry() {
+        FsDwTenantRegistry tenantRegistry = TENANT_REGISTRY;
+        if (tenantRegistry == null) {
+            tenantRegistry = new FsDwTenantRegistry(requireProperties());
+            TENANT_REGISTRY = tenantRegistry;
+        }
+        return tenantRegistry;
     }
 
     /**
@@ -927,12 +1107,7 @@ public final class FsDwRecordHelper {
      * @return 应用令牌
      */
     private static String resolveAppToken(Class<?> entityClass) {
-        BitableAssert.notNull(entityClass, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        FsDwAppBase appBase = entityClass.getAnnotation(FsDwAppBase.class);
-        String appToken = appBase == null ? null : appBase.appToken();
-        BitableAssert.notBlank(appToken, BitableErrorCode.APP_TOKEN_MISSING,
-                "[飞书多维表格]appToken未配置，请在父类添加@FsDwAppBase或显式传入appToken");
-        return appToken.trim();
+        return FsDwEntityModel.of(entityClass).requireAppToken();
     }
 
     /**
@@ -941,7 +1116,7 @@ public final class FsDwRecordHelper {
      * @param payload 实体对象
      * @return 表格元信息
      */
-    private static TableMeta resolveTableMeta(Object payload) {
+    private static FsDwEntityModel<?> resolveTableMeta(Object payload) {
         BitableAssert.notNull(payload, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]对象不能为空");
         return resolveTableMeta(payload.getClass());
     }
@@ -950,500 +1125,11 @@ public final class FsDwRecordHelper {
      * 解析表格元信息（基于实体类型）。
      *
      * @param clazz 实体类型
-     * @return 表格元信息
+     * @return 实体模型（已校验 tableId）
      */
-    private static TableMeta resolveTableMeta(Class<?> clazz) {
-        BitableAssert.notNull(clazz, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        FsDwTable table = clazz.getAnnotation(FsDwTable.class);
-        BitableAssert.notNull(table, BitableErrorCode.TABLE_META_MISSING, "[飞书多维表格]实体未标注@FsDwTable");
-        BitableAssert.notBlank(table.tableId(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]tableId未配置");
-        return new TableMeta(table.tableId(), table.viewId());
-    }
-
-    /**
-     * 获取实体所有非静态字段。
-     *
-     * @param type 实体类型
-     * @return 字段列表
-     */
-    private static List<Field> getAllFields(Class<?> type) {
-        List<Field> fields = new ArrayList<>();
-        Class<?> current = type;
-        while (current != null && current != Object.class) {
-            Field[] declaredFields = current.getDeclaredFields();
-            for (Field field : declaredFields) {
-                if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) {
-                    continue;
-                }
-                fields.add(field);
-            }
-            current = current.getSuperclass();
-        }
-        return fields;
-    }
-
-    /**
-     * 单条记录映射为实体。
-     *
-     * @param item  记录项
-     * @param clazz 实体类型
-     * @param <T>   实体类型
-     * @return 实体对象
-     */
-    private static <T> T toEntity(QueryRecordRes.RecordRes.Item item, Class<T> clazz) {
-        BitableAssert.notNull(clazz, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        if (item == null) {
-            return null;
-        }
-        T instance;
-        try {
-            instance = clazz.getDeclaredConstructor().newInstance();
-        } catch (Exception e) {
-            throw new BitableException(BitableErrorCode.ENTITY_CONSTRUCT_FAILED,
-                    "[飞书多维表格]实体必须提供无参构造: " + clazz.getName(), e);
-        }
-        Map<String, Object> fieldsMap = item.getFields() == null ? new LinkedHashMap<>() : item.getFields();
-
-        List<Field> fields = getAllFields(clazz);
-        boolean hasTableProperty = fields.stream().anyMatch(field -> resolveTablePropertyInfo(field) != null);
-        for (Field field : fields) {
-            TablePropertyInfo property = resolveTablePropertyInfo(field);
-            boolean metaField = isMetaFieldName(field.getName());
-            boolean tableIdField = isTableIdField(field);
-            if (tableIdField) {
-                Object rawValue = item.getRecordId();
-                Object converted = convertValue(rawValue, field.getType());
-                try {
-                    field.setAccessible(true);
-                    if (converted != null || !field.getType().isPrimitive()) {
-                        field.set(instance, converted);
-                    }
-                } catch (Exception ignored) {
-                    // ignore incompatible assignments
-                }
-                continue;
-            }
-            if (hasTableProperty && property == null && !metaField) {
-                continue;
-            }
-            String fieldName = resolveFieldName(field, property);
-            Object rawValue = fieldsMap.get(fieldName);
-            if (rawValue == null) {
-                rawValue = resolveMetaField(item, fieldName);
-            }
-            Object converted = convertValue(rawValue, field.getType());
-            try {
-                field.setAccessible(true);
-                if (converted != null || !field.getType().isPrimitive()) {
-                    field.set(instance, converted);
-                }
-            } catch (Exception ignored) {
-                // ignore incompatible assignments
-            }
-        }
-        return instance;
-    }
-
-    /**
-     * 判断是否为记录元字段名。
-     *
-     * @param fieldName 字段名
-     * @return 是否为元字段名
-     */
-    private static boolean isMetaFieldName(String fieldName) {
-        if (StrUtil.isBlank(fieldName)) {
-            return false;
-        }
-        return "record_id".equalsIgnoreCase(fieldName)
-                || "recordId".equalsIgnoreCase(fieldName)
-                || "created_time".equalsIgnoreCase(fieldName)
-                || "createdTime".equalsIgnoreCase(fieldName)
-                || "last_modified_time".equalsIgnoreCase(fieldName)
-                || "lastModifiedTime".equalsIgnoreCase(fieldName);
-    }
-
-    /**
-     * 读取记录元字段（record_id / created_time / last_modified_time）。
-     *
-     * @param item      记录项
-     * @param fieldName 字段名
-     * @return 元字段值
-     */
-    private static Object resolveMetaField(QueryRecordRes.RecordRes.Item item, String fieldName) {
-        if (item == null || StrUtil.isBlank(fieldName)) {
-            return null;
-        }
-        if ("record_id".equalsIgnoreCase(fieldName) || "recordId".equalsIgnoreCase(fieldName)) {
-            return item.getRecordId();
-        }
-        if ("created_time".equalsIgnoreCase(fieldName) || "createdTime".equalsIgnoreCase(fieldName)) {
-            return item.getCreatedTime();
-        }
-        if ("last_modified_time".equalsIgnoreCase(fieldName) || "lastModifiedTime".equalsIgnoreCase(fieldName)) {
-            return item.getLastModifiedTime();
-        }
-        return null;
-    }
-
-    /**
-     * 类型转换（尽量保持与常用 Java 类型兼容）。
-     *
-     * @param rawValue   原始值
-     * @param targetType 目标类型
-     * @return 转换后的值
-     */
-    private static Object convertValue(Object rawValue, Class<?> targetType) {
-        if (rawValue == null || targetType == null) {
-            return null;
-        }
-        if (targetType.isInstance(rawValue)) {
-            return rawValue;
-        }
-        if (targetType == String.class) {
-            return extractTextValue(rawValue);
-        }
-        Object scalarValue = rawValue;
-        if (!Collection.class.isAssignableFrom(targetType) && !Map.class.isAssignableFrom(targetType)) {
-            scalarValue = extractScalarValue(rawValue);
-        }
-        if (targetType.isInstance(scalarValue)) {
-            return scalarValue;
-        }
-        String rawString = String.valueOf(scalarValue).trim();
-        if (targetType == Integer.class || targetType == int.class) {
-            return rawString.isEmpty() ? null : Integer.valueOf(rawString);
-        }
-        if (targetType == Long.class || targetType == long.class) {
-            return rawString.isEmpty() ? null : Long.valueOf(rawString);
-        }
-        if (targetType == Double.class || targetType == double.class) {
-            return rawString.isEmpty() ? null : Double.valueOf(rawString);
-        }
-        if (targetType == Float.class || targetType == float.class) {
-            return rawString.isEmpty() ? null : Float.valueOf(rawString);
-        }
-        if (targetType == BigDecimal.class) {
-            return rawString.isEmpty() ? null : new BigDecimal(rawString);
-        }
-        if (targetType == BigInteger.class) {
-            return rawString.isEmpty() ? null : new BigInteger(rawString);
-        }
-        if (targetType == Boolean.class || targetType == boolean.class) {
-            if (scalarValue instanceof Boolean) {
-                return scalarValue;
-            }
-            return "1".equals(rawString) || "true".equalsIgnoreCase(rawString);
-        }
-        if (targetType == LocalDateTime.class) {
-            return toLocalDateTime(scalarValue);
-        }
-        if (targetType == LocalDate.class) {
-            LocalDateTime time = toLocalDateTime(scalarValue);
-            return time == null ? null : time.toLocalDate();
-        }
-        if (targetType.isEnum()) {
-            @SuppressWarnings("unchecked")
-            Class<? extends Enum> enumType = (Class<? extends Enum>) targetType;
-            return Enum.valueOf(enumType, rawString);
-        }
-        if (Collection.class.isAssignableFrom(targetType) && rawValue instanceof Collection) {
-            return rawValue;
-        }
-        if (Map.class.isAssignableFrom(targetType) && rawValue instanceof Map) {
-            return rawValue;
-        }
-        return rawValue;
-    }
-
-    /**
-     * 从多维表格字段值中提取字符串（支持列表/对象形式）。
-     *
-     * @param rawValue 原始值
-     * @return 字符串值
-     */
-    private static String extractTextValue(Object rawValue) {
-        if (rawValue == null) {
-            return null;
-        }
-        if (rawValue instanceof String) {
-            return (String) rawValue;
-        }
-        if (rawValue instanceof Map) {
-            Object value = extractFromMap((Map<?, ?>) rawValue);
-            return value == null ? null : String.valueOf(value);
-        }
-        if (rawValue instanceof Collection) {
-            List<String> values = new ArrayList<>();
-            for (Object item : (Collection<?>) rawValue) {
-                Object extracted = extractScalarValue(item);
-                if (extracted != null) {
-                    values.add(String.valueOf(extracted));
-                }
-            }
-            if (values.isEmpty()) {
-                return null;
-            }
-            return values.size() == 1 ? values.get(0) : String.join(",", values);
-        }
-        return String.valueOf(rawValue);
-    }
-
-    /**
-     * 提取标量值。
-     *
-     * @param rawValue 原始值
-     * @return 标量值
-     */
-    private static Object extractScalarValue(Object rawValue) {
-        if (rawValue == null) {
-            return null;
-        }
-        if (rawValue instanceof Map) {
-            return extractFromMap((Map<?, ?>) rawValue);
-        }
-        if (rawValue instanceof Collection) {
-            for (Object item : (Collection<?>) rawValue) {
-                Object extracted = extractScalarValue(item);
-                if (extracted != null) {
-                    return extracted;
-                }
-            }
-        }
-        return rawValue;
-    }
-
-    /**
-     * 从 Map 中提取可读值。
-     *
-     * @param map 原始 Map
-     * @return 提取后的值
-     */
-    private static Object extractFromMap(Map<?, ?> map) {
-        if (map == null) {
-            return null;
-        }
-        Object value = map.get("text");
-        if (value != null) {
-            return value;
-        }
-        value = map.get("name");
-        if (value != null) {
-            return value;
-        }
-        value = map.get("id");
-        if (value != null) {
-            return value;
-        }
-        return map.values().stream().findFirst().orElse(null);
-    }
-
-    /**
-     * 转换为 LocalDateTime。
-     *
-     * @param rawValue 原始值
-     * @return 时间对象
-     */
-    private static LocalDateTime toLocalDateTime(Object rawValue) {
-        if (rawValue == null) {
-            return null;
-        }
-        if (rawValue instanceof Number) {
-            long millis = ((Number) rawValue).longValue();
-            return Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()).toLocalDateTime();
-        }
-        String rawString = String.valueOf(rawValue).trim();
-        if (rawString.matches("\\d+")) {
-            long millis = Long.parseLong(rawString);
-            return Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()).toLocalDateTime();
-        }
-        return null;
-    }
-
-    /**
-     * 解析字段映射名称。
-     *
-     * @param field    字段
-     * @param property 字段注解信息
-     * @return 字段名
-     */
-    private static String resolveFieldName(Field field, TablePropertyInfo property) {
-        if (property != null) {
-            if (StrUtil.isNotBlank(property.getField())) {
-                return property.getField();
-            }
-            String[] values = property.getValue();
-            if (values != null && values.length > 0 && StrUtil.isNotBlank(values[0])) {
-                return values[0];
-            }
-        }
-        return field.getName();
-    }
-
-    /**
-     * 解析字段名称（基于字段注解信息）。
-     *
-     * @param property 字段注解信息
-     * @return 字段名
-     */
-    private static String resolveFieldName(TablePropertyInfo property) {
-        if (property == null) {
-            return null;
-        }
-        if (StrUtil.isNotBlank(property.getField())) {
-            return property.getField();
-        }
-        String[] values = property.getValue();
-        if (values != null && values.length > 0) {
-            return values[0];
-        }
-        return null;
-    }
-
-    /**
-     * 解析字段注解信息。
-     *
-     * @param field 字段
-     * @return 字段注解信息
-     */
-    private static TablePropertyInfo resolveTablePropertyInfo(Field field) {
-        FsDwTableProperty property = field.getAnnotation(FsDwTableProperty.class);
-        if (property != null) {
-            return new TablePropertyInfo(property.value(), property.field(), property.order());
-        }
-        return null;
-    }
-
-    /**
-     * 判断字段是否为表ID字段。
-     *
-     * @param field 字段
-     * @return 是否为表ID字段
-     */
-    private static boolean isTableIdField(Field field) {
-        return field.getAnnotation(FsDwTableId.class) != null;
-    }
-
-    /**
-     * 将字段值规范化为飞书多维表格可接受的格式。
-     *
-     * @param value 字段值
-     * @return 规范化后的值
-     */
-    private static Object normalizeValue(Object value) {
-        if (value instanceof LocalDateTime) {
-            return toEpochMillis((LocalDateTime) value);
-        }
-        if (value instanceof LocalDate) {
-            return toEpochMillis(((LocalDate) value).atStartOfDay());
-        }
-        if (value instanceof Date) {
-            return ((Date) value).getTime();
-        }
-        if (value instanceof Enum) {
-            return ((Enum<?>) value).name();
-        }
-        if (value instanceof Collection) {
-            return value;
-        }
-        if (value.getClass().isArray()) {
-            return value;
-        }
-        return value;
-    }
-
-    /**
-     * LocalDateTime 转毫秒时间戳。
-     *
-     * @param time 时间
-     * @return 时间戳（毫秒）
-     */
-    private static long toEpochMillis(LocalDateTime time) {
-        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
-    }
-
-    /**
-     * 表格字段信息。
-     */
-    private static final class TablePropertyInfo {
-        private final String[] value;
-        private final String field;
-        private final int order;
-
-        /**
-         * 构造字段注解信息。
-         *
-         * @param value 字段别名
-         * @param field 字段名
-         * @param order 排序值
-         */
-        private TablePropertyInfo(String[] value, String field, int order) {
-            this.value = value;
-            this.field = field;
-            this.order = order;
-        }
-
-        /**
-         * 获取字段别名。
-         *
-         * @return 字段别名
-         */
-        private String[] getValue() {
-            return value;
-        }
-
-        /**
-         * 获取字段名。
-         *
-         * @return 字段名
-         */
-        private String getField() {
-            return field;
-        }
-
-        /**
-         * 获取排序值。
-         *
-         * @return 排序值
-         */
-        private int getOrder() {
-            return order;
-        }
-    }
-
-    /**
-     * 表格元信息。
-     */
-    private static final class TableMeta {
-        private final String tableId;
-        private final String viewId;
-
-        /**
-         * 构造表格元信息。
-         *
-         * @param tableId 表ID
-         * @param viewId  视图ID
-         */
-        private TableMeta(String tableId, String viewId) {
-            this.tableId = tableId;
-            this.viewId = viewId;
-        }
-
-        /**
-         * 获取表ID。
-         *
-         * @return 表ID
-         */
-        private String getTableId() {
-            return tableId;
-        }
-
-        /**
-         * 获取视图ID。
-         *
-         * @return 视图ID
-         */
-        private String getViewId() {
-            return viewId;
-        }
+    private static FsDwEntityModel<?> resolveTableMeta(Class<?> clazz) {
+        FsDwEntityModel<?> model = FsDwEntityModel.of(clazz);
+        model.requireTableId();
+        return model;
     }
 }
@@ -1,19 +1,23 @@
 package cn.bdmcom.core.helper;
 
 import cn.bdmcom.config.FsDwProperties;
-import cn.bdmcom.core.domain.FsDwAppBase;
-import cn.bdmcom.core.domain.FsDwTable;
+import cn.bdmcom.core.concurrent.FsDwTaskScope;
 import cn.bdmcom.core.domain.req.BatchCreateTableReq;
 import cn.bdmcom.core.domain.req.BatchDeleteTableReq;
 import cn.bdmcom.core.domain.req.CreateTableReq;
 import cn.bdmcom.core.domain.req.UpdateTableReq;
 import cn.bdmcom.core.domain.res.*;
+import cn.bdmcom.core.mapper.FsDwEntityModel;
 import cn.bdmcom.core.service.FsDwTableService;
+import cn.bdmcom.core.tenant.FsDwTenantRegistry;
 import cn.bdmcom.support.BitableAssert;
 import cn.bdmcom.support.BitableErrorCode;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 /**
  * 飞书多维表格数据表辅助类。
@@ -28,6 +32,8 @@ public final class FsDwTableHelper {
 
     private static volatile FsDwTableService TABLE_SERVICE;
     private static volatile FsDwProperties PROPERTIES;
+    private static volatile FsDwTenantRegistry TENANT_REGISTRY;
+    private static volatile FsDwTaskScope TASK_SCOPE;
 
     /**
      * 注册数据表服务。
@@ -47,6 +53,24 @@ public final class FsDwTableHelper {
         PROPERTIES = properties;
     }
 
+    /**
+     * 注册租户注册表（未注册时按配置属性创建）。
+     *
+     * @param tenantRegistry 租户注册表
+     */
+    public static void registerTenantRegistry(FsDwTenantRegistry tenantRegistry) {
+        TENANT_REGISTRY = tenantRegistry;
+    }
+
+    /**
+     * 注册辅助类并发任务作用域。
+     *
+     * @param taskScope 并发任务作用域
+     */
+    public static void registerTaskScope(FsDwTaskScope taskScope) {
+        TASK_SCOPE = taskScope;
+    }
+
     /**
      * 新增数据表（基于 appId/appSecret/appToken）。
      *
@@ -84,6 +108,25 @@ public final class FsDwTableHelper {
         return createTable(appId, appSecret, appToken, req);
     }
 
+    /**
+     * 按实体注解新增多个数据表，启用辅助类并发模式时并发创建。
+     *
+     * <p>先为全部实体生成请求并校验，校验通过后才发起创建；任一创建失败时抛出异常，其余数据表可能已创建。</p>
+     *
+     * @param entityClasses 实体类型列表
+     * @return 与实体类型一一对应的新增结果
+     */
+    public static List<CreateTableRes> createTables(List<Class<?>> entityClasses) {
+        BitableAssert.notEmpty(entityClasses, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型列表不能为空");
+        String appId = requireAppId();
+        String appSecret = requireAppSecret();
+        List<TableCreation> creations = new ArrayList<>(entityClasses.size());
+        for (Class<?> entityClass : entityClasses) {
+            creations.add(new TableCreation(resolveAppToken(entityClass), buildCreateTableReq(entityClass)));
+        }
+        return invokeAll(creations, creation -> createTable(appId, appSecret, creation.appToken(), creation.req()));
+    }
+
     /**
      * 批量新增数据表（基于实体注解生成请求）。
      *
@@ -91,14 +134,13 @@ public final class FsDwTableHelper {
      * @return 新增数据表请求体
      */
     public static CreateTableReq buildCreateTableReq(Class<?> entityClass) {
-        FsDwTable tableMeta = requireTableMeta(entityClass);
-        String tableName = tableMeta.name();
-        BitableAssert.notBlank(tableName, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]表名称未配置");
+        FsDwEntityModel<?> tableMeta = requireTableMeta(entityClass);
+        String tableName = tableMeta.requireTableName();
         CreateTableReq.Table table = new CreateTableReq.Table();
-        table.setName(tableName.trim());
-        String defaultViewName = tableMeta.defaultViewName();
-        if (defaultViewName != null && !defaultViewName.trim().isEmpty()) {
-            table.setDefaultViewName(defaultViewName.trim());
+        table.setName(tableName);
+        String defaultViewName = tableMeta.getDefaultViewName();
+        if (defaultViewName != null) {
+            table.setDefaultViewName(defaultViewName);
         } else {
             table.setDefaultViewName(tableName);
         }
@@ -262,6 +304,24 @@ public final class FsDwTableHelper {
         return result;
     }
 
+    /**
+     * 列出多个多维表格 App 的所有数据表，启用辅助类并发模式时各 App 并发翻页。
+     *
+     * <p>同一 App 内依赖上一页返回的 page_token，只能顺序翻页。</p>
+     *
+     * @param appTokens 多维表格 App 的唯一标识列表
+     * @return appToken -> 所有数据表列表（按输入顺序）
+     */
+    public static Map<String, List<ListTableRes.TableItem>> listAllTables(List<String> appTokens) {
+        BitableAssert.notEmpty(appTokens, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]appToken列表不能为空");
+        List<List<ListTableRes.TableItem>> results = invokeAll(appTokens, FsDwTableHelper::listAllTables);
+        Map<String, List<ListTableRes.TableItem>> merged = new LinkedHashMap<>();
+        for (int i = 0; i < appTokens.size(); i++) {
+            merged.put(appTokens.get(i), results.get(i));
+        }
+        return merged;
+    }
+
     /**
      * 获取表服务（默认 appId/appSecret）。
      *
@@ -272,6 +332,27 @@ public final class FsDwTableHelper {
         return TABLE_SERVICE;
     }
 
+    /**
+     * 对每个输入执行一次任务；已注册并发任务作用域时按其配置并发执行，否则顺序执行。
+     *
+     * @param inputs 输入列表
+     * @param task   任务
+     * @param <T>    输入类型
+     * @param <R>    结果类型
+     * @return 按输入顺序排列的结果
+     */
+    private static <T, R> List<R> invokeAll(List<T> inputs, Function<T, R> task) {
+        FsDwTaskScope taskScope = TASK_SCOPE;
+        if (taskScope != null) {
+            return taskScope.invokeAll(inputs, task);
+        }
+        List<R> results = new ArrayList<>(inputs.size());
+        for (T input : inputs) {
+            results.add(task.apply(input));
+        }
+        return results;
+    }
+
     /**
      * 获取配置（默认 appId/appSecret）。
      *
@@ -283,25 +364,35 @@ public final class FsDwTableHelper {
     }
 
     /**
-     * 获取应用ID（默认 appId/appSecret）。
+     * 获取当前租户的应用ID（未指定租户时使用默认 appId/appSecret）。
      *
      * @return 应用ID
      */
     private static String requireAppId() {
-        String appId = requireProperties().getAppId();
-        BitableAssert.notBlank(appId, BitableErrorCode.APP_CREDENTIALS_MISSING, "[飞书多维表格]appId未配置");
-        return appId;
+        return requireTenantRegistry().requireAppId();
     }
 
     /**
-     * 获取应用密钥（默认 appId/appSecret）。
+     * 获取当前租户的应用密钥（未指定租户时使用默认 appId/appSecret）。
      *
      * @return 应用密钥
      */
     private static String requireAppSecret() {
-        String appSecret = requireProperties().getAppSecret();
-        BitableAssert.notBlank(appSecret, BitableErrorCode.APP_CREDENTIALS_MISSING, "[飞书多维表格]appSecret未配置");
-        return appSecret;
+        return requireTenantRegistry().requireAppSecret();
+    }
+
+    /**
+     * 获取租户注册表，未注册时按配置属性创建（仅包含配置中的租户）。
+     *
+     * @return 租户注册表
+     */
+    private static FsDwTenantRegistry requireTenantRegistry() {
+        FsDwTenantRegistry tenantRegistry = TENANT_REGISTRY;
+        if (tenantRegistry == null) {
+            tenantRegistry = new FsDwTenantRegistry(requireProperties());
+            TENANT_REGISTRY = tenantRegistry;
+        }
+        return tenantRegistry;
     }
 
     /**
@@ -311,12 +402,7 @@ public final class FsDwTableHelper {
      * @return 应用令牌
      */
     private static String resolveAppToken(Class<?> entityClass) {
-        BitableAssert.notNull(entityClass, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        FsDwAppBase appBase = entityClass.getAnnotation(FsDwAppBase.class);
-        String appToken = appBase == null ? null : appBase.appToken();
-        BitableAssert.notBlank(appToken, BitableErrorCode.APP_TOKEN_MISSING,
-                "[飞书多维表格]appToken未配置，请在父类添加@FsDwAppBase或显式传入appToken");
-        return appToken.trim();
+        return FsDwEntityModel.of(entityClass).requireAppToken();
     }
 
     /**
@@ -326,23 +412,19 @@ public final class FsDwTableHelper {
      * @return 数据表ID
      */
     private static String resolveTableId(Class<?> entityClass) {
-        BitableAssert.notNull(entityClass, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        FsDwTable table = requireTableMeta(entityClass);
-        BitableAssert.notBlank(table.tableId(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]tableId未配置");
-        return table.tableId();
+        return FsDwEntityModel.of(entityClass).requireTableId();
     }
 
     /**
      * 获取数据表元信息（默认 appId/appSecret）。
      *
      * @param entityClass 实体类型
-     * @return 表注解元信息
+     * @return 实体模型（已校验 @FsDwTable）
      */
-    private static FsDwTable requireTableMeta(Class<?> entityClass) {
-        BitableAssert.notNull(entityClass, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
-        FsDwTable table = entityClass.getAnnotation(FsDwTable.class);
-        BitableAssert.notNull(table, BitableErrorCode.TABLE_META_MISSING, "[飞书多维表格]实体未标注@FsDwTable");
-        return table;
+    private static FsDwEntityModel<?> requireTableMeta(Class<?> entityClass) {
+        FsDwEntityModel<?> model = FsDwEntityModel.of(entityClass);
+        model.requireTable();
+        return model;
     }
 
     /**
@@ -352,11 +434,18 @@ public final class FsDwTableHelper {
      * @return 更新数据表请求体
      */
     private static UpdateTableReq buildUpdateTableReq(Class<?> entityClass) {
-        FsDwTable tableMeta = requireTableMeta(entityClass);
-        String tableName = tableMeta.name();
-        BitableAssert.notBlank(tableName, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]表名称未配置");
+        String tableName = requireTableMeta(entityClass).requireTableName();
         UpdateTableReq req = new UpdateTableReq();
-        req.setName(tableName.trim());
+        req.setName(tableName);
         return req;
     }
+
+    /**
+     * 待创建的数据表。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param req      新增数据表请求体
+     */
+    private record TableCreation(String appToken, CreateTableReq req) {
+    }
 }
@@ -0,0 +1,35 @@
+package cn.bdmcom.core.http;
+
+import com.dtflys.forest.http.ForestRequest;
+import com.dtflys.forest.interceptor.ForestInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * Forest 请求拦截器。
+ *
+ * <p>将 Starter 的 Forest 接口请求切换到共享的 OkHttpClient 上执行，
+ * 并关闭 Forest 自身的客户端缓存，避免复用到其他配置的客户端。</p>
+ */
+public class FsDwForestInterceptor implements ForestInterceptor {
+
+    @Autowired(required = false)
+    private FsDwHttpTransport fsDwHttpTransport;
+
+    /**
+     * 请求执行前绑定共享客户端。
+     *
+     * <p>Forest 回调签名中的 ForestRequest 为原始类型，参数化后无法覆盖，因此仅在此处抑制原始类型警告。</p>
+     *
+     * @param request Forest 请求
+     * @return 是否继续执行
+     */
+    @Override
+    @SuppressWarnings("rawtypes")
+    public boolean beforeExecute(ForestRequest request) {
+        if (fsDwHttpTransport != null) {
+            request.backendClient(fsDwHttpTransport.getClient());
+            request.cacheBackendClient(false);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package cn.bdmcom.core.http;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.domain.FsDwConstants;
+import cn.bdmcom.core.metrics.FsDwMetrics;
+import cn.bdmcom.support.BitableAssert;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.hutool.core.util.StrUtil;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.HttpUrl;
+import okhttp3.OkHttpClient;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.RequestBody;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 飞书多维表格 HTTP 传输层。
+ *
+ * <p>持有唯一的 OkHttpClient，记录查询与 Forest 接口共用同一连接池与调度器，
+ * 保证到 open.feishu.cn 的连接在所有操作间复用；请求体字节数计入当前接口调用的观测。
+ * 配置了其他开放平台地址时，发往 open.feishu.cn 的请求统一改写到该地址（如本地替身服务器）。</p>
+ */
+@Slf4j
+public class FsDwHttpTransport implements AutoCloseable {
+
+    private static final String FEISHU_HOST_NAME = HttpUrl.get(FsDwConstants.FEISHU_HOST).host();
+
+    private final OkHttpClient client;
+
+    /**
+     * 根据配置创建传输层。
+     *
+     * @param http HTTP 配置
+     */
+    public FsDwHttpTransport(FsDwProperties.Http http) {
+        this(http, null);
+    }
+
+    /**
+     * 根据配置创建传输层，并将请求体字节数计入接口调用观测。
+     *
+     * @param http    HTTP 配置
+     * @param metrics 接口调用观测（可为空）
+     */
+    public FsDwHttpTransport(FsDwProperties.Http http, FsDwMetrics metrics) {
+        this.client = buildClient(http == null ? new FsDwProperties.Http() : http, metrics);
+    }
+
+    /**
+     * 获取共享的 OkHttpClient。
+     *
+     * @return OkHttpClient
+     */
+    public OkHttpClient getClient() {
+        return client;
+    }
+
+    /**
+     * 关闭调度线程并释放连接池。
+     */
+    @Override
+    public void close() {
+        client.dispatcher().executorService().shutdown();
+        client.connectionPool().evictAll();
+        log.info("[飞书多维表格]HTTP传输层已关闭");
+    }
+
+    /**
+     * 构建 OkHttpClient。
+     *
+     * @param http    HTTP 配置
+     * @param metrics 接口调用观测（可为空）
+     * @return OkHttpClient
+     */
+    private static OkHttpClient buildClient(FsDwProperties.Http http, FsDwMetrics metrics) {
+        Dispatcher dispatcher = new Dispatcher();
+        dispatcher.setMaxRequests(Math.max(1, http.getMaxRequests()));
+        dispatcher.setMaxRequestsPerHost(Math.max(1, http.getMaxRequestsPerHost()));
+        ConnectionPool connectionPool = new ConnectionPool(Math.max(1, http.getMaxIdleConnections()),
+                Math.max(1L, http.getKeepAliveSeconds()), TimeUnit.SECONDS);
+        List<Protocol> protocols = http.isHttp2Enabled()
+                ? Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1)
+                : Collections.singletonList(Protocol.HTTP_1_1);
+        OkHttpClient.Builder builder = new OkHttpClient.Builder();
+        HttpUrl baseUrl = resolveBaseUrl(http.getBaseUrl());
+        if (baseUrl != null) {
+            builder.addInterceptor(chain -> {
+                Request request = chain.request();
+                if (!FEISHU_HOST_NAME.equals(request.url().host())) {
+                    return chain.proceed(request);
+                }
+                HttpUrl url = request.url().newBuilder()
+                        .scheme(baseUrl.scheme())
+                        .host(baseUrl.host())
+                        .port(baseUrl.port())
+                        .build();
+                return chain.proceed(request.newBuilder().url(url).build());
+            });
+            log.info("[飞书多维表格]开放平台地址已指向: {}", baseUrl);
+        }
+        if (metrics != null && metrics.isEnabled()) {
+            // 同步调用在调用线程执行拦截器，可取到当前接口调用的观测上下文
+            builder.addInterceptor(chain -> {
+                RequestBody body = chain.request().body();
+                if (body != null) {
+                    metrics.recordRequestBytes(body.contentLength());
+                }
+                return chain.proceed(chain.request());
+            });
+        }
+        return builder
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .protocols(protocols)
+                .connectTimeout(http.getConnectTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .readTimeout(http.getReadTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .writeTimeout(http.getWriteTimeoutMillis(), TimeUnit.MILLISECONDS)
+                .retryOnConnectionFailure(true)
+                .build();
+    }
+
+    /**
+     * 解析开放平台地址，未配置或与飞书默认地址一致时返回 null。
+     *
+     * @param baseUrl 开放平台地址
+     * @return 改写目标地址
+     */
+    private static HttpUrl resolveBaseUrl(String baseUrl) {
+        if (StrUtil.isBlank(baseUrl) || FsDwConstants.FEISHU_HOST.equals(StrUtil.removeSuffix(baseUrl.trim(), "/"))) {
+            return null;
+        }
+        HttpUrl url = HttpUrl.parse(baseUrl.trim());
+        BitableAssert.notNull(url, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]开放平台地址无效: {}", baseUrl);
+        return url;
+    }
+}
@@ -0,0 +1,216 @@
+package cn.bdmcom.core.http;
+
+import cn.bdmcom.core.domain.res.QueryEntityRes;
+import cn.bdmcom.core.mapper.FsDwEntityMapper;
+import cn.bdmcom.support.BitableAssert;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import cn.hutool.core.util.StrUtil;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 飞书接口响应解码器。
+ *
+ * <p>直接从响应字节流解码为响应对象，不生成中间的 String 响应体：</p>
+ * <ul>
+ *     <li>Jackson 流式解析器按 token 读取 UTF-8 字节，峰值内存只剩解码后的对象</li>
+ *     <li>仅在开启 DEBUG 日志时才读取完整响应体并打印</li>
+ *     <li>解码完成（无论成功与否）后关闭字节流，释放底层连接</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwResponseDecoder {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    /**
+     * 使用 Spring 注入的 ObjectMapper 创建解码器。
+     */
+    public FsDwResponseDecoder() {
+    }
+
+    /**
+     * 使用指定 ObjectMapper 创建解码器。
+     *
+     * @param objectMapper JSON 映射器
+     */
+    public FsDwResponseDecoder(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 解码响应字节流。
+     *
+     * @param action 操作名称
+     * @param body   响应字节流
+     * @param clazz  响应类型
+     * @param <T>    响应类型
+     * @return 解码后的响应对象
+     */
+    public <T> T decode(String action, InputStream body, Class<T> clazz) {
+        BitableAssert.notNull(body, BitableErrorCode.FEISHU_RESPONSE_EMPTY, "[飞书多维表格][{}]响应为空", action);
+        try (InputStream in = debugCopy(action, body); JsonParser parser = objectMapper.createParser(in)) {
+            BitableAssert.notNull(parser.nextToken(), BitableErrorCode.FEISHU_RESPONSE_EMPTY,
+                    "[飞书多维表格][{}]响应为空", action);
+            T result = objectMapper.readValue(parser, clazz);
+            BitableAssert.notNull(result, BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, "[飞书多维表格][{}]解析结果为空", action);
+            return result;
+        } catch (BitableException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = StrUtil.format("[飞书多维表格][{}]解析响应失败: {}", action, e.getMessage());
+            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, message, e);
+        }
+    }
+
+    /**
+     * 将查询记录响应字节流直接解码为实体页。
+     *
+     * <p>逐 token 读取响应，记录按实体映射器预先计算的字段布局直接写入实体，
+     * 未映射的字段与未知的响应字段直接跳过，不生成每条记录的字段 Map。</p>
+     *
+     * @param action 操作名称
+     * @param body   响应字节流
+     * @param mapper 实体映射器
+     * @param <T>    实体类型
+     * @return 实体页响应
+     */
+    public <T> QueryEntityRes<T> decodeEntityPage(String action, InputStream body, FsDwEntityMapper<T> mapper) {
+        BitableAssert.notNull(body, BitableErrorCode.FEISHU_RESPONSE_EMPTY, "[飞书多维表格][{}]响应为空", action);
+        try (InputStream in = debugCopy(action, body); JsonParser parser = objectMapper.createParser(in)) {
+            JsonToken token = parser.nextToken();
+            BitableAssert.notNull(token, BitableErrorCode.FEISHU_RESPONSE_EMPTY, "[飞书多维表格][{}]响应为空", action);
+            BitableAssert.isTrue(token == JsonToken.START_OBJECT, BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR,
+                    "[飞书多维表格][{}]响应不是 JSON 对象", action);
+            QueryEntityRes<T> result = new QueryEntityRes<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken valueToken = parser.nextToken();
+                switch (name) {
+                    case "code" -> result.setCode(valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsInt());
+                    case "msg" -> result.setMsg(readText(parser, valueToken));
+                    case "error" -> result.setError(readText(parser, valueToken));
+                    case "data" -> result.setData(readEntityPage(parser, valueToken, mapper));
+                    default -> parser.skipChildren();
+                }
+            }
+            return result;
+        } catch (BitableException e) {
+            throw e;
+        } catch (Exception e) {
+            String message = StrUtil.format("[飞书多维表格][{}]解析响应失败: {}", action, e.getMessage());
+            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, message, e);
+        }
+    }
+
+    /**
+     * 读取 data 对象。
+     *
+     * @param parser JSON 解析器
+     * @param token  data 的起始 token
+     * @param mapper 实体映射器
+     * @param <T>    实体类型
+     * @return 实体页，data 不是对象时返回 null
+     * @throws IOException 读取失败
+     */
+    private static <T> QueryEntityRes.EntityPage<T> readEntityPage(JsonParser parser, JsonToken token,
+                                                                    FsDwEntityMapper<T> mapper) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        QueryEntityRes.EntityPage<T> page = new QueryEntityRes.EntityPage<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken valueToken = parser.nextToken();
+            switch (name) {
+                case "has_more" -> page.setHasMore(valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsBoolean());
+                case "total" -> page.setTotal(valueToken == JsonToken.VALUE_NULL ? null : parser.getValueAsInt());
+                case "page_token" -> page.setPageToken(readText(parser, valueToken));
+                case "items" -> page.setItems(readEntities(parser, valueToken, mapper));
+                default -> parser.skipChildren();
+            }
+        }
+        return page;
+    }
+
+    /**
+     * 读取 items 数组，逐条解码为实体。
+     *
+     * @param parser JSON 解析器
+     * @param token  items 的起始 token
+     * @param mapper 实体映射器
+     * @param <T>    实体类型
+     * @return 实体列表
+     * @throws IOException 读取失败
+     */
+    private static <T> List<T> readEntities(JsonParser parser, JsonToken token, FsDwEntityMapper<T> mapper)
+            throws IOException {
+        List<T> entities = new ArrayList<>();
+        if (token != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return entities;
+        }
+        JsonToken itemToken;
+        while ((itemToken = parser.nextToken()) != JsonToken.END_ARRAY && itemToken != null) {
+            if (itemToken != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            T entity = mapper.readEntity(parser);
+            if (entity != null) {
+                entities.add(entity);
+            }
+        }
+        return entities;
+    }
+
+    /**
+     * 读取文本值，对象/数组形式的值按 JSON 原文读取。
+     *
+     * @param parser JSON 解析器
+     * @param token  当前 token
+     * @return 文本值
+     * @throws IOException 读取失败
+     */
+    private static String readText(JsonParser parser, JsonToken token) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (token.isStructStart()) {
+            return parser.readValueAsTree().toString();
+        }
+        return parser.getText();
+    }
+
+    /**
+     * 开启 DEBUG 日志时读取并打印完整响应体，返回可重新读取的副本；否则原样返回。
+     *
+     * @param action 操作名称
+     * @param body   响应字节流
+     * @return 待解码的字节流
+     * @throws IOException 读取失败
+     */
+    private InputStream debugCopy(String action, InputStream body) throws IOException {
+        if (!log.isDebugEnabled()) {
+            return body;
+        }
+        try (body) {
+            byte[] bytes = body.readAllBytes();
+            log.debug("[飞书多维表格][{}]响应: {}", action, new String(bytes, StandardCharsets.UTF_8));
+            return new ByteArrayInputStream(bytes);
+        }
+    }
+}
@@ -0,0 +1,770 @@
+package cn.bdmcom.core.mapper;
+
+import cn.bdmcom.core.domain.FsDwTableId;
+import cn.bdmcom.core.domain.FsDwTableProperty;
+import cn.bdmcom.core.domain.res.QueryRecordRes;
+import cn.bdmcom.support.BitableException;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.hutool.core.util.StrUtil;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * 实体映射器。
+ *
+ * <p>每个实体类型只解析一次字段与注解，预先生成构造器、字段读写 MethodHandle
+ * 以及按字段类型选定的值转换器，并按类型缓存。记录与实体之间的转换不再逐次反射。
+ * 存在编译期生成的映射器（{@link FsDwGeneratedMapper}）时直接使用其构造与字段读写函数，不再反射。</p>
+ *
+ * @param <T> 实体类型
+ */
+public final class FsDwEntityMapper<T> {
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final ClassValue<FsDwEntityMapper<?>> MAPPERS = new ClassValue<>() {
+        @Override
+        protected FsDwEntityMapper<?> computeValue(Class<?> type) {
+            return create(type);
+        }
+    };
+
+    private final Class<T> type;
+
+    /**
+     * 是否使用编译期生成的映射器。
+     */
+    private final boolean generated;
+
+    /**
+     * 无参构造函数，实体无法实例化时为 null。
+     */
+    private final Supplier<?> constructor;
+
+    private final Throwable constructorError;
+
+    private final boolean hasTableProperty;
+
+    private final ReadBinding[] readBindings;
+
+    private final WriteBinding[] writeBindings;
+
+    /**
+     * 多维表格字段名 -> 读取绑定下标，供流式解码按字段名定位绑定。
+     */
+    private final Map<String, int[]> readBindingIndexes;
+
+    /**
+     * 记录ID读取顺序：先 @FsDwTableId 字段，再元字段同名字段。
+     */
+    private final FsDwFieldAccessor.Getter[] recordIdGetters;
+
+    private final Map<String, String> fieldNameMap;
+
+    private final List<String> fieldNames;
+
+    /**
+     * 获取实体类型对应的映射器（按类型缓存）。
+     *
+     * @param type 实体类型
+     * @param <T>  实体类型
+     * @return 映射器
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FsDwEntityMapper<T> of(Class<T> type) {
+        return (FsDwEntityMapper<T>) MAPPERS.get(type);
+    }
+
+    /**
+     * 构建映射器：存在编译期生成的映射器时直接使用其字段访问描述，否则反射解析字段与构造器。
+     *
+     * @param type 实体类型
+     * @param <T>  实体类型
+     * @return 映射器
+     */
+    private static <T> FsDwEntityMapper<T> create(Class<T> type) {
+        FsDwGeneratedMapper<T> generatedMapper = findGenerated(type);
+        if (generatedMapper != null) {
+            return new FsDwEntityMapper<>(type, true, generatedMapper::newInstance, null, generatedMapper.accessors());
+        }
+        Supplier<?> ctor = null;
+        Throwable ctorError = null;
+        try {
+            MethodHandle handle = lookupFor(type).findConstructor(type, MethodType.methodType(void.class))
+                    .asType(CONSTRUCTOR_TYPE);
+            ctor = () -> {
+                try {
+                    return (Object) handle.invokeExact();
+                } catch (Throwable e) {
+                    throw rethrow(e);
+                }
+            };
+        } catch (Exception | LinkageError e) {
+            ctorError = e;
+        }
+        List<Field> fields = getAllFields(type);
+        List<FsDwFieldAccessor> accessors = new ArrayList<>(fields.size());
+        for (Field field : fields) {
+            accessors.add(reflectAccessor(field));
+        }
+        return new FsDwEntityMapper<>(type, false, ctor, ctorError, accessors);
+    }
+
+    /**
+     * 按字段访问描述构建映射器。
+     *
+     * @param type             实体类型
+     * @param generated        是否来自编译期生成的映射器
+     * @param constructor      无参构造函数（不可实例化时为 null）
+     * @param constructorError 构造器解析失败原因
+     * @param accessors        字段访问描述（子类字段在前）
+     */
+    private FsDwEntityMapper(Class<T> type, boolean generated, Supplier<?> constructor, Throwable constructorError,
+                             List<FsDwFieldAccessor> accessors) {
+        this.type = type;
+        this.generated = generated;
+        this.constructor = constructor;
+        this.constructorError = constructorError;
+
+        boolean tableProperty = false;
+        for (FsDwFieldAccessor accessor : accessors) {
+            if (accessor.isTableProperty()) {
+                tableProperty = true;
+                break;
+            }
+        }
+        this.hasTableProperty = tableProperty;
+
+        List<ReadBinding> reads = new ArrayList<>();
+        List<WriteBinding> writes = new ArrayList<>();
+        List<FsDwFieldAccessor.Getter> idGetters = new ArrayList<>();
+        List<FsDwFieldAccessor.Getter> metaGetters = new ArrayList<>();
+        List<FsDwFieldAccessor> orderedProperties = new ArrayList<>();
+        Map<String, String> nameMap = new LinkedHashMap<>();
+        for (FsDwFieldAccessor accessor : accessors) {
+            boolean property = accessor.isTableProperty();
+            boolean tableIdField = accessor.isTableId();
+            boolean metaField = MetaField.of(accessor.getName()) != null;
+            String fieldName = accessor.getFieldName();
+            FsDwFieldAccessor.Getter getter = accessor.getGetter();
+            FsDwFieldAccessor.Setter setter = accessor.getSetter();
+            Class<?> fieldType = accessor.getType();
+            if (property) {
+                orderedProperties.add(accessor);
+            }
+            nameMap.put(accessor.getName(), tableIdField ? "record_id" : fieldName);
+
+            if (tableIdField) {
+                if (setter != null) {
+                    reads.add(new ReadBinding(null, MetaField.RECORD_ID, true, setter,
+                            FsDwValueConverters.readerFor(fieldType), fieldType.isPrimitive()));
+                }
+                if (getter != null) {
+                    idGetters.add(getter);
+                }
+                continue;
+            }
+            if (metaField && getter != null) {
+                metaGetters.add(getter);
+            }
+            if (setter != null && !(tableProperty && !property && !metaField)) {
+                reads.add(new ReadBinding(fieldName, MetaField.of(fieldName), false, setter,
+                        FsDwValueConverters.readerFor(fieldType), fieldType.isPrimitive()));
+            }
+            if (getter != null && !(tableProperty && !property)) {
+                writes.add(new WriteBinding(fieldName, getter, FsDwValueConverters.writerFor(fieldType)));
+            }
+        }
+        idGetters.addAll(metaGetters);
+        nameMap.put("recordId", "record_id");
+        nameMap.put("record_id", "record_id");
+        nameMap.put("createdTime", "created_time");
+        nameMap.put("created_time", "created_time");
+        nameMap.put("lastModifiedTime", "last_modified_time");
+        nameMap.put("last_modified_time", "last_modified_time");
+
+        this.readBindings = reads.toArray(new ReadBinding[0]);
+        this.readBindingIndexes = indexReadBindings(this.readBindings);
+        this.writeBindings = writes.toArray(new WriteBinding[0]);
+        this.recordIdGetters = idGetters.toArray(new FsDwFieldAccessor.Getter[0]);
+        this.fieldNameMap = Collections.unmodifiableMap(nameMap);
+        this.fieldNames = tableProperty ? resolveOrderedFieldNames(orderedProperties) : Collections.emptyList();
+    }
+
+    /**
+     * 单条记录映射为实体。
+     *
+     * @param item 记录项
+     * @return 实体对象，记录为 null 时返回 null
+     */
+    public T toEntity(QueryRecordRes.RecordRes.Item item) {
+        if (item == null) {
+            return null;
+        }
+        T instance = newInstance();
+        Map<String, Object> fieldsMap = item.getFields() == null ? Collections.emptyMap() : item.getFields();
+        for (ReadBinding binding : readBindings) {
+            Object rawValue;
+            if (binding.recordIdOnly()) {
+                rawValue = item.getRecordId();
+            } else {
+                rawValue = fieldsMap.get(binding.fieldName());
+                if (rawValue == null && binding.metaField() != null) {
+                    rawValue = binding.metaField().read(item.getRecordId(), item.getCreatedTime(),
+                            item.getLastModifiedTime());
+                }
+            }
+            assign(instance, binding, rawValue);
+        }
+        return instance;
+    }
+
+    /**
+     * 从 JSON 流中直接读取一条记录并映射为实体。
+     *
+     * <p>解析器需位于记录对象的 START_OBJECT 处，返回时位于对应的 END_OBJECT。
+     * 实体未映射的字段直接跳过，不生成中间的记录项与字段 Map；
+     * 只有已映射且为对象/数组形式的字段值（如人员、多行文本）才会解析为结构化值。</p>
+     *
+     * @param parser JSON 解析器
+     * @return 实体对象
+     * @throws IOException 读取失败
+     */
+    public T readEntity(JsonParser parser) throws IOException {
+        Object[] rawValues = new Object[readBindings.length];
+        String recordId = null;
+        String createdTime = null;
+        String lastModifiedTime = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            JsonToken token = parser.nextToken();
+            switch (name) {
+                case "record_id" -> recordId = readText(parser, token);
+                case "created_time" -> createdTime = readText(parser, token);
+                case "last_modified_time" -> lastModifiedTime = readText(parser, token);
+                case "fields" -> readFields(parser, token, rawValues);
+                default -> parser.skipChildren();
+            }
+        }
+        T instance = newInstance();
+        for (int i = 0; i < readBindings.length; i++) {
+            ReadBinding binding = readBindings[i];
+            Object rawValue = binding.recordIdOnly() ? recordId : rawValues[i];
+            if (rawValue == null && !binding.recordIdOnly() && binding.metaField() != null) {
+                rawValue = binding.metaField().read(recordId, createdTime, lastModifiedTime);
+            }
+            assign(instance, binding, rawValue);
+        }
+        return instance;
+    }
+
+    /**
+     * 将实体对象转换为多维表格字段 Map（忽略 null 值与记录ID字段）。
+     *
+     * @param payload 实体对象
+     * @return 字段映射
+     */
+    public Map<String, Object> toFields(Object payload) {
+        Map<String, Object> result = new LinkedHashMap<>(Math.max(16, writeBindings.length * 2));
+        for (WriteBinding binding : writeBindings) {
+            Object value = binding.getter().get(payload);
+            if (value != null) {
+                result.put(binding.fieldName(), binding.converter().convert(value));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 读取实体中的记录ID。
+     *
+     * @param payload 实体对象
+     * @return 记录ID，未设置时返回 null
+     */
+    public String readRecordId(Object payload) {
+        for (FsDwFieldAccessor.Getter getter : recordIdGetters) {
+            Object value = getter.get(payload);
+            if (value != null) {
+                return String.valueOf(value);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 字段名映射表（实体字段 -> 多维表格字段，含元字段别名）。
+     *
+     * @return 只读映射表
+     */
+    public Map<String, String> getFieldNameMap() {
+        return fieldNameMap;
+    }
+
+    /**
+     * 按 order 排序的多维表格字段名列表（实体未使用 @FsDwTableProperty 时为空）。
+     *
+     * @return 只读字段名列表
+     */
+    public List<String> getFieldNames() {
+        return fieldNames;
+    }
+
+    /**
+     * 实体是否可实例化（存在可访问的无参构造）。
+     *
+     * @return 是否可实例化
+     */
+    public boolean isInstantiable() {
+        return constructor != null;
+    }
+
+    /**
+     * 是否使用编译期生成的映射器（否则为反射）。
+     *
+     * @return 是否使用生成的映射器
+     */
+    public boolean isGenerated() {
+        return generated;
+    }
+
+    /**
+     * 是否声明了 @FsDwTableProperty 字段。
+     *
+     * @return 是否声明
+     */
+    public boolean hasTableProperty() {
+        return hasTableProperty;
+    }
+
+    /**
+     * 转换并写入字段值。
+     *
+     * @param instance 实体对象
+     * @param binding  读取绑定
+     * @param rawValue 原始值
+     */
+    private void assign(T instance, ReadBinding binding, Object rawValue) {
+        Object converted = binding.converter().convert(rawValue);
+        if (converted == null && binding.primitive()) {
+            return;
+        }
+        try {
+            binding.setter().set(instance, converted);
+        } catch (RuntimeException ignored) {
+            // ignore incompatible assignments
+        }
+    }
+
+    /**
+     * 读取 fields 对象，只保留已映射字段的原始值。
+     *
+     * @param parser    JSON 解析器
+     * @param token     fields 的起始 token
+     * @param rawValues 按读取绑定下标存放的原始值
+     * @throws IOException 读取失败
+     */
+    private void readFields(JsonParser parser, JsonToken token, Object[] rawValues) throws IOException {
+        if (token != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return;
+        }
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            int[] indexes = readBindingIndexes.get(parser.currentName());
+            JsonToken valueToken = parser.nextToken();
+            if (indexes == null) {
+                parser.skipChildren();
+                continue;
+            }
+            Object rawValue = readRawValue(parser, valueToken);
+            for (int index : indexes) {
+                rawValues[index] = rawValue;
+            }
+        }
+    }
+
+    /**
+     * 读取字段原始值，结果与 Jackson 解析为 Object 时一致。
+     *
+     * @param parser JSON 解析器
+     * @param token  当前 token
+     * @return 原始值
+     * @throws IOException 读取失败
+     */
+    private static Object readRawValue(JsonParser parser, JsonToken token) throws IOException {
+        return switch (token) {
+            case VALUE_STRING -> parser.getText();
+            case VALUE_NUMBER_INT, VALUE_NUMBER_FLOAT -> parser.getNumberValue();
+            case VALUE_TRUE -> Boolean.TRUE;
+            case VALUE_FALSE -> Boolean.FALSE;
+            case START_OBJECT, START_ARRAY -> parser.readValueAs(Object.class);
+            default -> null;
+        };
+    }
+
+    /**
+     * 读取文本值（数字按原文读取），非标量值跳过并返回 null。
+     *
+     * @param parser JSON 解析器
+     * @param token  当前 token
+     * @return 文本值
+     * @throws IOException 读取失败
+     */
+    private static String readText(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isScalarValue() && token != JsonToken.VALUE_NULL) {
+            return parser.getText();
+        }
+        parser.skipChildren();
+        return null;
+    }
+
+    /**
+     * 按多维表格字段名索引读取绑定（仅记录ID绑定除外）。
+     *
+     * @param bindings 读取绑定
+     * @return 字段名 -> 绑定下标
+     */
+    private static Map<String, int[]> indexReadBindings(ReadBinding[] bindings) {
+        Map<String, int[]> indexes = new HashMap<>();
+        for (int i = 0; i < bindings.length; i++) {
+            ReadBinding binding = bindings[i];
+            if (binding.recordIdOnly() || binding.fieldName() == null) {
+                continue;
+            }
+            int[] existing = indexes.get(binding.fieldName());
+            int[] merged = existing == null ? new int[1] : Arrays.copyOf(existing, existing.length + 1);
+            merged[merged.length - 1] = i;
+            indexes.put(binding.fieldName(), merged);
+        }
+        return indexes;
+    }
+
+    /**
+     * 实例化实体。
+     *
+     * @return 实体对象
+     */
+    @SuppressWarnings("unchecked")
+    private T newInstance() {
+        if (constructor == null) {
+            throw new BitableException(BitableErrorCode.ENTITY_CONSTRUCT_FAILED,
+                    "[飞书多维表格]实体必须提供无参构造: " + type.getName(), constructorError);
+        }
+        try {
+            return (T) constructor.get();
+        } catch (RuntimeException e) {
+            throw new BitableException(BitableErrorCode.ENTITY_CONSTRUCT_FAILED,
+                    "[飞书多维表格]实体必须提供无参构造: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * 查找实体对应的编译期生成映射器（通过 ServiceLoader 登记，按类名约定匹配）。
+     *
+     * @param type 实体类型
+     * @param <T>  实体类型
+     * @return 生成的映射器，不存在或加载失败时返回 null
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static <T> FsDwGeneratedMapper<T> findGenerated(Class<T> type) {
+        String generatedName = generatedNameOf(type);
+        try {
+            FsDwGeneratedMapper<T> mapper = ServiceLoader.load(FsDwGeneratedMapper.class, type.getClassLoader()).stream()
+                    .filter(provider -> provider.type().getName().equals(generatedName))
+                    .findFirst()
+                    .map(provider -> (FsDwGeneratedMapper<T>) provider.get())
+                    .orElse(null);
+            return mapper != null && mapper.entityType() == type ? mapper : null;
+        } catch (ServiceConfigurationError | LinkageError ignored) {
+            // 生成类与当前实体不匹配（如增量编译残留）时回退为反射
+        }
+        return null;
+    }
+
+    /**
+     * 计算生成映射器的类名：同包下实体名（嵌套类以下划线连接）加 {@link FsDwGeneratedMapper#SUFFIX}。
+     *
+     * @param type 实体类型
+     * @return 生成类全名
+     */
+    static String generatedNameOf(Class<?> type) {
+        String packageName = type.getPackageName();
+        String binaryName = packageName.isEmpty() ? type.getName() : type.getName().substring(packageName.length() + 1);
+        String simpleName = binaryName.replace('$', '_') + FsDwGeneratedMapper.SUFFIX;
+        return packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+    }
+
+    /**
+     * 反射构建字段访问描述。
+     *
+     * @param field 字段
+     * @return 字段访问描述
+     */
+    private static FsDwFieldAccessor reflectAccessor(Field field) {
+        FsDwTableProperty property = field.getAnnotation(FsDwTableProperty.class);
+        MethodHandle getter = getterFor(field);
+        MethodHandle setter = setterFor(field);
+        return FsDwFieldAccessor.of(field.getName(), field.getType(), field.getAnnotation(FsDwTableId.class) != null,
+                property != null, columnNameOf(property), property == null ? 0 : property.order(),
+                getter == null ? null : entity -> invokeGetter(getter, entity),
+                setter == null ? null : (entity, value) -> invokeSetter(setter, entity, value));
+    }
+
+    /**
+     * 调用字段读取句柄。
+     *
+     * @param getter  读取句柄
+     * @param payload 实体对象
+     * @return 字段值
+     */
+    private static Object invokeGetter(MethodHandle getter, Object payload) {
+        try {
+            return (Object) getter.invokeExact(payload);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * 调用字段写入句柄。
+     *
+     * @param setter  写入句柄
+     * @param payload 实体对象
+     * @param value   字段值
+     */
+    private static void invokeSetter(MethodHandle setter, Object payload, Object value) {
+        try {
+            setter.invokeExact(payload, value);
+        } catch (Throwable e) {
+            throw rethrow(e);
+        }
+    }
+
+    /**
+     * 透传非受检异常。
+     *
+     * @param e 异常
+     * @return 不会返回
+     */
+    private static RuntimeException rethrow(Throwable e) {
+        if (e instanceof RuntimeException runtimeException) {
+            return runtimeException;
+        }
+        if (e instanceof Error error) {
+            throw error;
+        }
+        return new BitableException(BitableErrorCode.ENTITY_MAPPING_FAILED, "[飞书多维表格]字段访问失败", e);
+    }
+
+    /**
+     * 按 order 排序并解析字段名列表。
+     *
+     * @param properties 标注 @FsDwTableProperty 的字段
+     * @return 字段名列表
+     */
+    private static List<String> resolveOrderedFieldNames(List<FsDwFieldAccessor> properties) {
+        List<FsDwFieldAccessor> sorted = new ArrayList<>(properties);
+        sorted.sort(Comparator.comparingInt(FsDwFieldAccessor::getOrder));
+        List<String> names = new ArrayList<>();
+        for (FsDwFieldAccessor property : sorted) {
+            if (property.getColumnName() != null) {
+                names.add(property.getColumnName());
+            }
+        }
+        return Collections.unmodifiableList(names);
+    }
+
+    /**
+     * 解析字段映射名称。
+     *
+     * @param field    字段
+     * @param property 字段注解
+     * @return 字段名
+     */
+    static String resolveFieldName(Field field, FsDwTableProperty property) {
+        String columnName = columnNameOf(property);
+        return columnName == null ? field.getName() : columnName;
+    }
+
+    /**
+     * 解析注解声明的字段名（field 优先，其次 value[0]）。
+     *
+     * @param property 字段注解
+     * @return 字段名，未声明时返回 null
+     */
+    private static String columnNameOf(FsDwTableProperty property) {
+        if (property == null) {
+            return null;
+        }
+        if (StrUtil.isNotBlank(property.field())) {
+            return property.field();
+        }
+        String[] values = property.value();
+        if (values.length > 0 && StrUtil.isNotBlank(values[0])) {
+            return values[0];
+        }
+        return null;
+    }
+
+    /**
+     * 获取实体所有非静态字段（子类在前）。
+     *
+     * @param type 实体类型
+     * @return 字段列表
+     */
+    static List<Field> getAllFields(Class<?> type) {
+        List<Field> fields = new ArrayList<>();
+        Class<?> current = type;
+        while (current != null && current != Object.class) {
+            for (Field field : current.getDeclaredFields()) {
+                if (field.isSynthetic() || Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                fields.add(field);
+            }
+            current = current.getSuperclass();
+        }
+        return fields;
+    }
+
+    /**
+     * 获取可访问私有成员的 Lookup。
+     *
+     * @param owner 成员所属类型
+     * @return Lookup
+     * @throws IllegalAccessException 模块不开放时抛出
+     */
+    private static MethodHandles.Lookup lookupFor(Class<?> owner) throws IllegalAccessException {
+        return MethodHandles.privateLookupIn(owner, MethodHandles.lookup());
+    }
+
+    /**
+     * 构建字段读取句柄。
+     *
+     * @param field 字段
+     * @return 读取句柄，无法访问时返回 null
+     */
+    private static MethodHandle getterFor(Field field) {
+        try {
+            return lookupFor(field.getDeclaringClass()).unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            try {
+                field.setAccessible(true);
+                return MethodHandles.lookup().unreflectGetter(field).asType(GETTER_TYPE);
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 构建字段写入句柄（final 字段退回 setAccessible 方式）。
+     *
+     * @param field 字段
+     * @return 写入句柄，无法访问时返回 null
+     */
+    private static MethodHandle setterFor(Field field) {
+        try {
+            return lookupFor(field.getDeclaringClass()).unreflectSetter(field).asType(SETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            try {
+                field.setAccessible(true);
+                return MethodHandles.lookup().unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (Exception ignored) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 记录元字段。
+     */
+    private enum MetaField {
+        RECORD_ID,
+        CREATED_TIME,
+        LAST_MODIFIED_TIME;
+
+        /**
+         * 按字段名匹配元字段（忽略大小写）。
+         *
+         * @param fieldName 字段名
+         * @return 元字段，不匹配时返回 null
+         */
+        private static MetaField of(String fieldName) {
+            if (StrUtil.isBlank(fieldName)) {
+                return null;
+            }
+            if ("record_id".equalsIgnoreCase(fieldName) || "recordId".equalsIgnoreCase(fieldName)) {
+                return RECORD_ID;
+            }
+            if ("created_time".equalsIgnoreCase(fieldName) || "createdTime".equalsIgnoreCase(fieldName)) {
+                return CREATED_TIME;
+            }
+            if ("last_modified_time".equalsIgnoreCase(fieldName) || "lastModifiedTime".equalsIgnoreCase(fieldName)) {
+                return LAST_MODIFIED_TIME;
+            }
+            return null;
+        }
+
+        /**
+         * 读取记录中的元字段值。
+         *
+         * @param recordId         记录ID
+         * @param createdTime      创建时间
+         * @param lastModifiedTime 最后修改时间
+         * @return 元字段值
+         */
+        private Object read(String recordId, String createdTime, String lastModifiedTime) {
+            return switch (this) {
+                case RECORD_ID -> recordId;
+                case CREATED_TIME -> createdTime;
+                case LAST_MODIFIED_TIME -> lastModifiedTime;
+            };
+        }
+    }
+
+    /**
+     * 读取方向的字段绑定。
+     *
+     * @param fieldName    多维表格字段名
+     * @param metaField    字段名对应的元字段（无则为 null）
+     * @param recordIdOnly 是否仅读取 record_id（@FsDwTableId 字段）
+     * @param setter       写入函数
+     * @param converter    值转换器
+     * @param primitive    是否为基本类型字段
+     */
+    private record ReadBinding(String fieldName, MetaField metaField, boolean recordIdOnly,
+                               FsDwFieldAccessor.Setter setter,
+                               FsDwValueConverters.ValueConverter converter, boolean primitive) {
+    }
+
+    /**
+     * 写入方向的字段绑定。
+     *
+     * @param fieldName 多维表格字段名
+     * @param getter    读取函数
+     * @param converter 值转换器
+     */
+    private record WriteBinding(String fieldName, FsDwFieldAccessor.Getter getter,
+                                FsDwValueConverters.ValueConverter converter) {
+    }
+}
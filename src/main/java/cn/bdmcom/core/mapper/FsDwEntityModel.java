@@ -0,0 +1,275 @@
+package cn.bdmcom.core.mapper;
+
+import cn.bdmcom.core.domain.FsDwAppBase;
+import cn.bdmcom.core.domain.FsDwTable;
+import cn.bdmcom.core.domain.FsDwTableId;
+import cn.bdmcom.core.domain.FsDwTableProperty;
+import cn.bdmcom.support.BitableAssert;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.hutool.core.util.StrUtil;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 实体模型。
+ *
+ * <p>汇总实体类型上的 @FsDwTable、@FsDwAppBase 与 @FsDwTableProperty 元信息以及对应的
+ * {@link FsDwEntityMapper}，每个实体类型只解析一次并按类型缓存，创建后不可变（建表字段布局在首次使用时解析）。
+ * 配置了扫描包时由 {@link FsDwEntityRegistry} 在启动阶段预先构建并校验，
+ * 未扫描到的实体在首次使用时构建。</p>
+ *
+ * @param <T> 实体类型
+ */
+public final class FsDwEntityModel<T> {
+
+    private static final ClassValue<FsDwEntityModel<?>> MODELS = new ClassValue<>() {
+        @Override
+        protected FsDwEntityModel<?> computeValue(Class<?> type) {
+            return new FsDwEntityModel<>(type);
+        }
+    };
+
+    private final Class<T> entityClass;
+
+    /**
+     * 是否标注 @FsDwTable。
+     */
+    private final boolean table;
+
+    private final String tableName;
+
+    private final String tableId;
+
+    private final String viewId;
+
+    private final String defaultViewName;
+
+    private final String appToken;
+
+    /**
+     * 建表字段布局（按 order 与声明顺序排列，不含记录ID字段），首次使用时解析。
+     */
+    private volatile List<Column> columns;
+
+    private final FsDwEntityMapper<T> mapper;
+
+    /**
+     * 获取实体类型对应的模型（按类型缓存）。
+     *
+     * @param type 实体类型
+     * @param <T>  实体类型
+     * @return 实体模型
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> FsDwEntityModel<T> of(Class<T> type) {
+        BitableAssert.notNull(type, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
+        return (FsDwEntityModel<T>) MODELS.get(type);
+    }
+
+    /**
+     * 解析实体类型并构建模型。
+     *
+     * @param entityClass 实体类型
+     */
+    private FsDwEntityModel(Class<T> entityClass) {
+        this.entityClass = entityClass;
+        FsDwTable tableMeta = entityClass.getAnnotation(FsDwTable.class);
+        this.table = tableMeta != null;
+        this.tableName = tableMeta == null ? null : StrUtil.trimToNull(tableMeta.name());
+        this.tableId = tableMeta == null ? null : StrUtil.trimToNull(tableMeta.tableId());
+        this.viewId = tableMeta == null ? null : StrUtil.trimToNull(tableMeta.viewId());
+        this.defaultViewName = tableMeta == null ? null : StrUtil.trimToNull(tableMeta.defaultViewName());
+        FsDwAppBase appBase = entityClass.getAnnotation(FsDwAppBase.class);
+        this.appToken = appBase == null ? null : StrUtil.trimToNull(appBase.appToken());
+        this.mapper = FsDwEntityMapper.of(entityClass);
+    }
+
+    /**
+     * 获取应用令牌，未配置时抛出异常。
+     *
+     * @return 应用令牌
+     */
+    public String requireAppToken() {
+        BitableAssert.notBlank(appToken, BitableErrorCode.APP_TOKEN_MISSING,
+                "[飞书多维表格]appToken未配置，请在父类添加@FsDwAppBase或显式传入appToken");
+        return appToken;
+    }
+
+    /**
+     * 获取数据表ID，未配置时抛出异常。
+     *
+     * @return 数据表ID
+     */
+    public String requireTableId() {
+        requireTable();
+        BitableAssert.notBlank(tableId, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]tableId未配置");
+        return tableId;
+    }
+
+    /**
+     * 获取数据表名称，未配置时抛出异常。
+     *
+     * @return 数据表名称
+     */
+    public String requireTableName() {
+        requireTable();
+        BitableAssert.notBlank(tableName, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]表名称未配置");
+        return tableName;
+    }
+
+    /**
+     * 校验实体标注了 @FsDwTable。
+     */
+    public void requireTable() {
+        BitableAssert.isTrue(table, BitableErrorCode.TABLE_META_MISSING, "[飞书多维表格]实体未标注@FsDwTable");
+    }
+
+    /**
+     * 校验模型配置，返回全部问题描述（无问题时为空列表）。
+     *
+     * @return 问题描述列表
+     */
+    public List<String> validate() {
+        List<String> problems = new ArrayList<>();
+        if (!table) {
+            problems.add("未标注@FsDwTable");
+        } else if (tableName == null) {
+            problems.add("@FsDwTable.name 未配置");
+        }
+        if (appToken == null) {
+            problems.add("appToken未配置（@FsDwAppBase）");
+        }
+        if (!mapper.isInstantiable()) {
+            problems.add("缺少无参构造");
+        }
+        Set<String> names = new HashSet<>();
+        for (Column column : getColumns()) {
+            if (!names.add(column.fieldName())) {
+                problems.add("字段名重复: " + column.fieldName());
+            }
+        }
+        return problems;
+    }
+
+    /**
+     * 获取实体类型。
+     *
+     * @return 实体类型
+     */
+    public Class<T> getEntityClass() {
+        return entityClass;
+    }
+
+    /**
+     * 获取数据表名称。
+     *
+     * @return 数据表名称，未配置时为 null
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * 获取数据表ID。
+     *
+     * @return 数据表ID，未配置时为 null
+     */
+    public String getTableId() {
+        return tableId;
+    }
+
+    /**
+     * 获取视图ID。
+     *
+     * @return 视图ID，未配置时为 null
+     */
+    public String getViewId() {
+        return viewId;
+    }
+
+    /**
+     * 获取默认视图名称。
+     *
+     * @return 默认视图名称，未配置时为 null
+     */
+    public String getDefaultViewName() {
+        return defaultViewName;
+    }
+
+    /**
+     * 获取应用令牌。
+     *
+     * @return 应用令牌，未配置时为 null
+     */
+    public String getAppToken() {
+        return appToken;
+    }
+
+    /**
+     * 获取建表字段布局。
+     *
+     * @return 只读字段布局
+     */
+    public List<Column> getColumns() {
+        List<Column> resolved = columns;
+        if (resolved == null) {
+            resolved = resolveColumns(entityClass);
+            columns = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * 获取实体映射器（字段读写与类型转换）。
+     *
+     * @return 实体映射器
+     */
+    public FsDwEntityMapper<T> getMapper() {
+        return mapper;
+    }
+
+    /**
+     * 解析建表字段布局：声明了 @FsDwTableProperty 时只保留标注字段，按 order 排序，order 相同保持声明顺序。
+     *
+     * @param entityClass 实体类型
+     * @return 只读字段布局
+     */
+    private static List<Column> resolveColumns(Class<?> entityClass) {
+        List<Field> fields = FsDwEntityMapper.getAllFields(entityClass);
+        boolean hasTableProperty = fields.stream().anyMatch(field -> field.getAnnotation(FsDwTableProperty.class) != null);
+        List<Column> columns = new ArrayList<>();
+        for (Field field : fields) {
+            FsDwTableProperty property = field.getAnnotation(FsDwTableProperty.class);
+            if (field.getAnnotation(FsDwTableId.class) != null || hasTableProperty && property == null) {
+                continue;
+            }
+            columns.add(new Column(FsDwEntityMapper.resolveFieldName(field, property).trim(), property));
+        }
+        columns.sort(Comparator.comparingInt(Column::order));
+        return Collections.unmodifiableList(columns);
+    }
+
+    /**
+     * 建表字段。
+     *
+     * @param fieldName 多维表格字段名
+     * @param property  字段注解（未标注时为 null）
+     */
+    public record Column(String fieldName, FsDwTableProperty property) {
+
+        /**
+         * 排序值，未标注字段排在最后。
+         *
+         * @return 排序值
+         */
+        public int order() {
+            return property == null ? Integer.MAX_VALUE : property.order();
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package cn.bdmcom.core.mapper;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.domain.FsDwTable;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import cn.hutool.core.util.StrUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 实体模型注册表。
+ *
+ * <p>启动时扫描配置的包下标注 @FsDwTable 的实体，预先构建 {@link FsDwEntityModel}：</p>
+ * <ul>
+ *     <li>表信息、appToken、字段布局与值转换器在启动阶段解析完成，首次请求不再承担解析开销</li>
+ *     <li>缺少 appToken、表名称、无参构造或字段名重复的实体在启动时汇总报错（failFast 关闭时仅打印警告）</li>
+ *     <li>未配置扫描包时不扫描，实体模型在首次使用时构建</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwEntityRegistry {
+
+    private final Map<Class<?>, FsDwEntityModel<?>> models;
+
+    /**
+     * 扫描并构建实体模型注册表。
+     *
+     * @param config         实体扫描配置
+     * @param resourceLoader 资源加载器（提供类路径与类加载器）
+     */
+    public FsDwEntityRegistry(FsDwProperties.EntityScan config, ResourceLoader resourceLoader) {
+        FsDwProperties.EntityScan entityScan = config == null ? new FsDwProperties.EntityScan() : config;
+        Map<Class<?>, FsDwEntityModel<?>> scanned = new LinkedHashMap<>();
+        List<String> problems = new ArrayList<>();
+        for (Class<?> entityClass : scan(entityScan.getBasePackages(), resourceLoader)) {
+            FsDwEntityModel<?> model = FsDwEntityModel.of(entityClass);
+            scanned.put(entityClass, model);
+            for (String problem : model.validate()) {
+                problems.add(entityClass.getName() + ": " + problem);
+            }
+            if (model.getTableId() == null) {
+                log.warn("[飞书多维表格]实体未配置tableId, 仅可用于建表: {}", entityClass.getName());
+            }
+        }
+        this.models = Collections.unmodifiableMap(scanned);
+        if (!problems.isEmpty()) {
+            String message = "[飞书多维表格]实体模型校验失败:\n  " + String.join("\n  ", problems);
+            if (entityScan.isFailFast()) {
+                throw new BitableException(BitableErrorCode.ENTITY_MAPPING_FAILED, message);
+            }
+            log.warn(message);
+        }
+        if (!scanned.isEmpty()) {
+            log.info("[飞书多维表格]已预构建实体模型, count={}", scanned.size());
+        }
+    }
+
+    /**
+     * 获取实体模型（未扫描到的实体在首次使用时构建）。
+     *
+     * @param entityClass 实体类型
+     * @param <T>         实体类型
+     * @return 实体模型
+     */
+    public <T> FsDwEntityModel<T> get(Class<T> entityClass) {
+        return FsDwEntityModel.of(entityClass);
+    }
+
+    /**
+     * 获取启动时扫描到的全部实体模型。
+     *
+     * @return 只读映射（实体类型 -> 实体模型）
+     */
+    public Map<Class<?>, FsDwEntityModel<?>> getModels() {
+        return models;
+    }
+
+    /**
+     * 扫描包下标注 @FsDwTable 的具体类（含继承注解的子类）。
+     *
+     * @param basePackages   扫描包
+     * @param resourceLoader 资源加载器
+     * @return 实体类型列表
+     */
+    private static List<Class<?>> scan(List<String> basePackages, ResourceLoader resourceLoader) {
+        if (basePackages == null || basePackages.isEmpty()) {
+            return Collections.emptyList();
+        }
+        ClassPathScanningCandidateComponentProvider provider = new ClassPathScanningCandidateComponentProvider(false);
+        provider.addIncludeFilter(new AnnotationTypeFilter(FsDwTable.class));
+        ClassLoader classLoader = null;
+        if (resourceLoader != null) {
+            provider.setResourceLoader(resourceLoader);
+            classLoader = resourceLoader.getClassLoader();
+        }
+        List<Class<?>> classes = new ArrayList<>();
+        for (String basePackage : basePackages) {
+            if (StrUtil.isBlank(basePackage)) {
+                continue;
+            }
+            for (BeanDefinition candidate : provider.findCandidateComponents(basePackage.trim())) {
+                String className = candidate.getBeanClassName();
+                try {
+                    Class<?> entityClass = ClassUtils.forName(className, classLoader);
+                    if (!classes.contains(entityClass)) {
+                        classes.add(entityClass);
+                    }
+                } catch (ClassNotFoundException | LinkageError e) {
+                    throw new BitableException(BitableErrorCode.ENTITY_MAPPING_FAILED,
+                            "[飞书多维表格]实体类加载失败: " + className, e);
+                }
+            }
+        }
+        return classes;
+    }
+}
@@ -0,0 +1,184 @@
+package cn.bdmcom.core.mapper;
+
+import cn.bdmcom.support.BitableAssert;
+import cn.bdmcom.support.BitableErrorCode;
+
+/**
+ * 实体字段访问描述。
+ *
+ * <p>描述实体的一个非静态字段：Java 字段名、声明类型、@FsDwTableId / @FsDwTableProperty 元信息以及读写函数。
+ * 编译期生成的映射器直接提供这些描述（读写函数为普通方法调用），未生成时由 {@link FsDwEntityMapper} 通过反射构建。</p>
+ */
+public final class FsDwFieldAccessor {
+
+    /**
+     * 字段读取函数。
+     */
+    @FunctionalInterface
+    public interface Getter {
+
+        /**
+         * 读取字段值。
+         *
+         * @param entity 实体对象
+         * @return 字段值
+         */
+        Object get(Object entity);
+    }
+
+    /**
+     * 字段写入函数。
+     */
+    @FunctionalInterface
+    public interface Setter {
+
+        /**
+         * 写入字段值。
+         *
+         * @param entity 实体对象
+         * @param value  字段值
+         */
+        void set(Object entity, Object value);
+    }
+
+    private final String name;
+
+    private final Class<?> type;
+
+    private final boolean tableId;
+
+    private final boolean tableProperty;
+
+    private final String columnName;
+
+    private final int order;
+
+    private final Getter getter;
+
+    private final Setter setter;
+
+    /**
+     * 创建字段访问描述。
+     *
+     * @param name          Java 字段名
+     * @param type          字段声明类型（泛型取擦除类型）
+     * @param tableId       是否标注 @FsDwTableId
+     * @param tableProperty 是否标注 @FsDwTableProperty
+     * @param columnName    注解声明的多维表格字段名（field 优先，其次 value[0]；未声明时为 null）
+     * @param order         注解排序值（未标注时忽略）
+     * @param getter        读取函数（不可读时为 null）
+     * @param setter        写入函数（不可写时为 null）
+     */
+    private FsDwFieldAccessor(String name, Class<?> type, boolean tableId, boolean tableProperty, String columnName,
+                              int order, Getter getter, Setter setter) {
+        this.name = name;
+        this.type = type;
+        this.tableId = tableId;
+        this.tableProperty = tableProperty;
+        this.columnName = columnName;
+        this.order = order;
+        this.getter = getter;
+        this.setter = setter;
+    }
+
+    /**
+     * 创建字段访问描述（供生成的映射器调用）。
+     *
+     * @param name          Java 字段名
+     * @param type          字段声明类型（泛型取擦除类型）
+     * @param tableId       是否标注 @FsDwTableId
+     * @param tableProperty 是否标注 @FsDwTableProperty
+     * @param columnName    注解声明的多维表格字段名（未声明时为 null）
+     * @param order         注解排序值
+     * @param getter        读取函数（不可读时为 null）
+     * @param setter        写入函数（不可写时为 null）
+     * @return 字段访问描述
+     */
+    public static FsDwFieldAccessor of(String name, Class<?> type, boolean tableId, boolean tableProperty,
+                                       String columnName, int order, Getter getter, Setter setter) {
+        BitableAssert.notBlank(name, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]字段名不能为空");
+        BitableAssert.notNull(type, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]字段类型不能为空");
+        return new FsDwFieldAccessor(name, type, tableId, tableProperty, columnName, order, getter, setter);
+    }
+
+    /**
+     * 获取 Java 字段名。
+     *
+     * @return Java 字段名
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 获取字段声明类型。
+     *
+     * @return 字段声明类型
+     */
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * 是否标注 @FsDwTableId。
+     *
+     * @return 是否为记录ID字段
+     */
+    public boolean isTableId() {
+        return tableId;
+    }
+
+    /**
+     * 是否标注 @FsDwTableProperty。
+     *
+     * @return 是否标注
+     */
+    public boolean isTableProperty() {
+        return tableProperty;
+    }
+
+    /**
+     * 获取注解声明的多维表格字段名。
+     *
+     * @return 字段名，未声明时为 null
+     */
+    public String getColumnName() {
+        return columnName;
+    }
+
+    /**
+     * 获取映射的多维表格字段名（未声明时使用 Java 字段名）。
+     *
+     * @return 多维表格字段名
+     */
+    public String getFieldName() {
+        return columnName == null ? name : columnName;
+    }
+
+    /**
+     * 获取注解排序值。
+     *
+     * @return 排序值
+     */
+    public int getOrder() {
+        return order;
+    }
+
+    /**
+     * 获取读取函数。
+     *
+     * @return 读取函数，不可读时为 null
+     */
+    public Getter getGetter() {
+        return getter;
+    }
+
+    /**
+     * 获取写入函数。
+     *
+     * @return 写入函数，不可写时为 null
+     */
+    public Setter getSetter() {
+        return setter;
+    }
+}
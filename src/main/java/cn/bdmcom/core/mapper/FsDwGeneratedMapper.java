@@ -0,0 +1,41 @@
+package cn.bdmcom.core.mapper;
+
+import java.util.List;
+
+/**
+ * 编译期生成的实体映射器。
+ *
+ * <p>由 fs-dw-table-processor 注解处理器为每个 @FsDwTable 实体生成（类名为实体名加 {@link #SUFFIX}，
+ * 嵌套类以下划线连接），并登记到 META-INF/services。{@link FsDwEntityMapper} 优先使用生成的映射器，
+ * 字段读写为直接方法调用，不再反射字段与构造器；不存在时回退为反射。</p>
+ *
+ * @param <T> 实体类型
+ */
+public interface FsDwGeneratedMapper<T> {
+
+    /**
+     * 生成类名后缀。
+     */
+    String SUFFIX = "_FsDwMapper";
+
+    /**
+     * 获取实体类型。
+     *
+     * @return 实体类型
+     */
+    Class<T> entityType();
+
+    /**
+     * 创建实体实例。
+     *
+     * @return 实体对象
+     */
+    T newInstance();
+
+    /**
+     * 获取字段访问描述（与反射顺序一致：子类字段在前，同一类内按声明顺序）。
+     *
+     * @return 字段访问描述列表
+     */
+    List<FsDwFieldAccessor> accessors();
+}
@@ -0,0 +1,365 @@
+package cn.bdmcom.core.mapper;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 字段值转换器。
+ *
+ * <p>按目标类型预先选定转换逻辑，映射时不再逐值判断类型分支。</p>
+ */
+final class FsDwValueConverters {
+
+    /**
+     * 工具类构造器。
+     */
+    private FsDwValueConverters() {
+    }
+
+    /**
+     * 获取读取方向的转换器（多维表格值 -> Java 类型）。
+     *
+     * @param targetType 目标类型
+     * @return 转换器
+     */
+    static ValueConverter readerFor(Class<?> targetType) {
+        Class<?> boxedType = box(targetType);
+        if (boxedType == String.class) {
+            return raw -> raw == null || raw instanceof String ? raw : extractTextValue(raw);
+        }
+        boolean scalar = !Collection.class.isAssignableFrom(targetType) && !Map.class.isAssignableFrom(targetType);
+        ScalarParser parser = parserFor(boxedType);
+        return raw -> {
+            if (raw == null) {
+                return null;
+            }
+            if (boxedType.isInstance(raw)) {
+                return raw;
+            }
+            Object scalarValue = scalar ? extractScalarValue(raw) : raw;
+            if (boxedType.isInstance(scalarValue)) {
+                return scalarValue;
+            }
+            return parser.parse(raw, scalarValue);
+        };
+    }
+
+    /**
+     * 获取写入方向的转换器（Java 类型 -> 多维表格可接受的格式）。
+     *
+     * @param fieldType 字段声明类型
+     * @return 转换器
+     */
+    static ValueConverter writerFor(Class<?> fieldType) {
+        if (fieldType == LocalDateTime.class) {
+            return value -> toEpochMillis((LocalDateTime) value);
+        }
+        if (fieldType == LocalDate.class) {
+            return value -> toEpochMillis(((LocalDate) value).atStartOfDay());
+        }
+        if (Date.class.isAssignableFrom(fieldType)) {
+            return value -> ((Date) value).getTime();
+        }
+        if (fieldType.isEnum()) {
+            return value -> ((Enum<?>) value).name();
+        }
+        if (fieldType.isPrimitive() || fieldType == String.class || Number.class.isAssignableFrom(fieldType)
+                || fieldType == Boolean.class || Collection.class.isAssignableFrom(fieldType) || fieldType.isArray()) {
+            return value -> value;
+        }
+        return FsDwValueConverters::normalizeValue;
+    }
+
+    /**
+     * 将字段值规范化为飞书多维表格可接受的格式（声明类型无法确定时使用）。
+     *
+     * @param value 字段值
+     * @return 规范化后的值
+     */
+    static Object normalizeValue(Object value) {
+        if (value instanceof LocalDateTime) {
+            return toEpochMillis((LocalDateTime) value);
+        }
+        if (value instanceof LocalDate) {
+            return toEpochMillis(((LocalDate) value).atStartOfDay());
+        }
+        if (value instanceof Date) {
+            return ((Date) value).getTime();
+        }
+        if (value instanceof Enum) {
+            return ((Enum<?>) value).name();
+        }
+        return value;
+    }
+
+    /**
+     * 按目标类型选择标量解析逻辑。
+     *
+     * @param boxedType 目标类型（已装箱）
+     * @return 标量解析
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static ScalarParser parserFor(Class<?> boxedType) {
+        if (boxedType == Integer.class) {
+            return (raw, scalar) -> parseText(scalar, Integer::valueOf);
+        }
+        if (boxedType == Long.class) {
+            return (raw, scalar) -> parseText(scalar, Long::valueOf);
+        }
+        if (boxedType == Double.class) {
+            return (raw, scalar) -> parseText(scalar, Double::valueOf);
+        }
+        if (boxedType == Float.class) {
+            return (raw, scalar) -> parseText(scalar, Float::valueOf);
+        }
+        if (boxedType == BigDecimal.class) {
+            return (raw, scalar) -> parseText(scalar, BigDecimal::new);
+        }
+        if (boxedType == BigInteger.class) {
+            return (raw, scalar) -> parseText(scalar, BigInteger::new);
+        }
+        if (boxedType == Boolean.class) {
+            return (raw, scalar) -> {
+                String text = String.valueOf(scalar).trim();
+                return "1".equals(text) || "true".equalsIgnoreCase(text);
+            };
+        }
+        if (boxedType == LocalDateTime.class) {
+            return (raw, scalar) -> toLocalDateTime(scalar);
+        }
+        if (boxedType == LocalDate.class) {
+            return (raw, scalar) -> {
+                LocalDateTime time = toLocalDateTime(scalar);
+                return time == null ? null : time.toLocalDate();
+            };
+        }
+        if (boxedType.isEnum()) {
+            Class<? extends Enum> enumType = (Class<? extends Enum>) boxedType;
+            return (raw, scalar) -> Enum.valueOf(enumType, String.valueOf(scalar).trim());
+        }
+        return (raw, scalar) -> raw;
+    }
+
+    /**
+     * 解析文本形式的标量。
+     *
+     * @param scalar 标量值
+     * @param parser 解析函数
+     * @return 解析结果，空文本返回 null
+     */
+    private static Object parseText(Object scalar, Function<String, Object> parser) {
+        String text = String.valueOf(scalar).trim();
+        return text.isEmpty() ? null : parser.apply(text);
+    }
+
+    /**
+     * 从多维表格字段值中提取字符串（支持列表/对象形式）。
+     *
+     * @param rawValue 原始值
+     * @return 字符串值
+     */
+    private static String extractTextValue(Object rawValue) {
+        if (rawValue == null) {
+            return null;
+        }
+        if (rawValue instanceof String) {
+            return (String) rawValue;
+        }
+        if (rawValue instanceof Map) {
+            Object value = extractFromMap((Map<?, ?>) rawValue);
+            return value == null ? null : String.valueOf(value);
+        }
+        if (rawValue instanceof Collection) {
+            List<String> values = new ArrayList<>();
+            for (Object item : (Collection<?>) rawValue) {
+                Object extracted = extractScalarValue(item);
+                if (extracted != null) {
+                    values.add(String.valueOf(extracted));
+                }
+            }
+            if (values.isEmpty()) {
+                return null;
+            }
+            return values.size() == 1 ? values.get(0) : String.join(",", values);
+        }
+        return String.valueOf(rawValue);
+    }
+
+    /**
+     * 提取标量值。
+     *
+     * @param rawValue 原始值
+     * @return 标量值
+     */
+    private static Object extractScalarValue(Object rawValue) {
+        if (rawValue == null) {
+            return null;
+        }
+        if (rawValue instanceof Map) {
+            return extractFromMap((Map<?, ?>) rawValue);
+        }
+        if (rawValue instanceof Collection) {
+            for (Object item : (Collection<?>) rawValue) {
+                Object extracted = extractScalarValue(item);
+                if (extracted != null) {
+                    return extracted;
+                }
+            }
+        }
+        return rawValue;
+    }
+
+    /**
+     * 从 Map 中提取可读值。
+     *
+     * @param map 原始 Map
+     * @return 提取后的值
+     */
+    private static Object extractFromMap(Map<?, ?> map) {
+        if (map == null) {
+            return null;
+        }
+        Object value = map.get("text");
+        if (value != null) {
+            return value;
+        }
+        value = map.get("name");
+        if (value != null) {
+            return value;
+        }
+        value = map.get("id");
+        if (value != null) {
+            return value;
+        }
+        return map.values().stream().findFirst().orElse(null);
+    }
+
+    /**
+     * 转换为 LocalDateTime。
+     *
+     * @param rawValue 原始值
+     * @return 时间对象
+     */
+    private static LocalDateTime toLocalDateTime(Object rawValue) {
+        if (rawValue == null) {
+            return null;
+        }
+        if (rawValue instanceof Number) {
+            long millis = ((Number) rawValue).longValue();
+            return Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()).toLocalDateTime();
+        }
+        String rawString = String.valueOf(rawValue).trim();
+        if (isDigits(rawString)) {
+            long millis = Long.parseLong(rawString);
+            return Instant.ofEpochMilli(millis).atZone(ZoneId.systemDefault()).toLocalDateTime();
+        }
+        return null;
+    }
+
+    /**
+     * 是否为非空纯数字文本。
+     *
+     * @param text 文本
+     * @return 是否为纯数字
+     */
+    private static boolean isDigits(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * LocalDateTime 转毫秒时间戳。
+     *
+     * @param time 时间
+     * @return 时间戳（毫秒）
+     */
+    private static long toEpochMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 基本类型装箱。
+     *
+     * @param type 类型
+     * @return 装箱后的类型
+     */
+    private static Class<?> box(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        }
+        if (type == int.class) {
+            return Integer.class;
+        }
+        if (type == long.class) {
+            return Long.class;
+        }
+        if (type == double.class) {
+            return Double.class;
+        }
+        if (type == float.class) {
+            return Float.class;
+        }
+        if (type == boolean.class) {
+            return Boolean.class;
+        }
+        if (type == short.class) {
+            return Short.class;
+        }
+        if (type == byte.class) {
+            return Byte.class;
+        }
+        if (type == char.class) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+
+    /**
+     * 值转换器。
+     */
+    @FunctionalInterface
+    interface ValueConverter {
+
+        /**
+         * 转换字段值。
+         *
+         * @param value 原始值（读取方向可能为 null，写入方向非 null）
+         * @return 转换后的值
+         */
+        Object convert(Object value);
+    }
+
+    /**
+     * 标量解析。
+     */
+    @FunctionalInterface
+    private interface ScalarParser {
+
+        /**
+         * 解析标量值。
+         *
+         * @param raw    原始值
+         * @param scalar 提取后的标量值
+         * @return 解析结果
+         */
+        Object parse(Object raw, Object scalar);
+    }
+}
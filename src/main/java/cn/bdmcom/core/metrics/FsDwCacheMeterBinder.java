@@ -0,0 +1,56 @@
+package cn.bdmcom.core.metrics;
+
+import cn.bdmcom.core.cache.FsDwRecordCache;
+import cn.bdmcom.core.cache.FsDwSchemaCache;
+import cn.bdmcom.core.service.FsDwTokenService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * 缓存条目数指标。
+ *
+ * <p>注册 {@value #NAME} Gauge，按 cache 标签区分 token / record / schema 三类缓存（缓存未创建时跳过）。</p>
+ */
+public class FsDwCacheMeterBinder implements MeterBinder {
+
+    /**
+     * 指标名称。
+     */
+    public static final String NAME = "fs.dw.cache.size";
+
+    private final FsDwTokenService tokenService;
+
+    private final FsDwRecordCache recordCache;
+
+    private final FsDwSchemaCache schemaCache;
+
+    /**
+     * 创建缓存条目数指标。
+     *
+     * @param tokenService Token 服务（可为空）
+     * @param recordCache  记录读缓存（可为空）
+     * @param schemaCache  字段结构缓存（可为空）
+     */
+    public FsDwCacheMeterBinder(FsDwTokenService tokenService, FsDwRecordCache recordCache, FsDwSchemaCache schemaCache) {
+        this.tokenService = tokenService;
+        this.recordCache = recordCache;
+        this.schemaCache = schemaCache;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (tokenService != null) {
+            Gauge.builder(NAME, tokenService, FsDwTokenService::getCacheSize)
+                    .tag("cache", "token").strongReference(true).register(registry);
+        }
+        if (recordCache != null) {
+            Gauge.builder(NAME, recordCache, FsDwRecordCache::getCacheSize)
+                    .tag("cache", "record").strongReference(true).register(registry);
+        }
+        if (schemaCache != null) {
+            Gauge.builder(NAME, schemaCache, FsDwSchemaCache::getCacheSize)
+                    .tag("cache", "schema").strongReference(true).register(registry);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package cn.bdmcom.core.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationHandler;
+
+/**
+ * 飞书接口调用分布统计。
+ *
+ * <p>观测结束时把 {@link FsDwObservationContext} 上累加的数据记录为按操作名称分组的 DistributionSummary：</p>
+ * <ul>
+ *     <li>fs.dw.api.request.bytes：请求体字节数（无请求体时不记录）</li>
+ *     <li>fs.dw.api.response.bytes：响应体字节数（未收到响应时不记录）</li>
+ *     <li>fs.dw.api.batch.records：批量操作的记录数（非批量操作不记录）</li>
+ * </ul>
+ *
+ * <p>耗时与调用次数由 Spring Boot 默认的 Timer 处理器记录，本处理器只补充大小类指标。</p>
+ */
+public class FsDwMeterObservationHandler implements ObservationHandler<FsDwObservationContext> {
+
+    /**
+     * 请求体字节数指标名称。
+     */
+    public static final String REQUEST_BYTES = FsDwObservationConvention.NAME + ".request.bytes";
+
+    /**
+     * 响应体字节数指标名称。
+     */
+    public static final String RESPONSE_BYTES = FsDwObservationConvention.NAME + ".response.bytes";
+
+    /**
+     * 批量记录数指标名称。
+     */
+    public static final String BATCH_RECORDS = FsDwObservationConvention.NAME + ".batch.records";
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 创建分布统计处理器。
+     *
+     * @param meterRegistry 指标注册表
+     */
+    public FsDwMeterObservationHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void onStop(FsDwObservationContext context) {
+        String operation = context.getOperation() == null ? "none" : context.getOperation();
+        if (context.getRequestBytes() > 0) {
+            summary(REQUEST_BYTES, "bytes", operation).record(context.getRequestBytes());
+        }
+        if (context.getResponseBytes() > 0) {
+            summary(RESPONSE_BYTES, "bytes", operation).record(context.getResponseBytes());
+        }
+        if (context.getRecords() >= 0) {
+            summary(BATCH_RECORDS, "records", operation).record(context.getRecords());
+        }
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof FsDwObservationContext;
+    }
+
+    /**
+     * 获取（首次时注册）分布统计。
+     *
+     * @param name      指标名称
+     * @param baseUnit  单位
+     * @param operation 操作名称
+     * @return 分布统计
+     */
+    private DistributionSummary summary(String name, String baseUnit, String operation) {
+        return DistributionSummary.builder(name)
+                .baseUnit(baseUnit)
+                .tag("operation", operation)
+                .register(meterRegistry);
+    }
+}
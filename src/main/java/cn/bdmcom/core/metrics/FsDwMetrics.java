@@ -0,0 +1,157 @@
+package cn.bdmcom.core.metrics;
+
+import cn.bdmcom.support.BitableException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+import io.micrometer.observation.ObservationRegistry;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+/**
+ * 飞书接口调用观测。
+ *
+ * <p>基于 Micrometer Observation API 包装每次接口调用（含重试与限流等待），由 {@link FsDwObservationConvention}
+ * 生成按操作、数据表、结果、错误码分组的标签。应用引入 spring-boot-starter-actuator 后，
+ * Spring Boot 将观测桥接为 MeterRegistry 中的 fs.dw.api Timer（计数、耗时与进行中请求数）。</p>
+ *
+ * <p>观测作用域内还会累加请求/响应字节数与批量记录数，存在 MeterRegistry 时由 {@link FsDwMeterObservationHandler} 记录为分布统计。
+ * 未注册 ObservationRegistry 或关闭观测时，所有方法直接透传，不产生额外开销。</p>
+ */
+public class FsDwMetrics {
+
+    private static final FsDwObservationConvention DEFAULT_CONVENTION = new FsDwObservationConvention();
+
+    private final ObservationRegistry registry;
+
+    private final ObservationConvention<FsDwObservationContext> customConvention;
+
+    /**
+     * 创建不记录任何观测的实例。
+     */
+    public FsDwMetrics() {
+        this(ObservationRegistry.NOOP, null);
+    }
+
+    /**
+     * 创建接口调用观测。
+     *
+     * @param registry         观测注册表（为空时不记录）
+     * @param customConvention 自定义观测约定（为空时使用默认约定）
+     */
+    public FsDwMetrics(ObservationRegistry registry, ObservationConvention<FsDwObservationContext> customConvention) {
+        this.registry = registry == null ? ObservationRegistry.NOOP : registry;
+        this.customConvention = customConvention;
+    }
+
+    /**
+     * 在观测作用域内执行一次接口调用，失败时记录 Starter 错误码与飞书错误码。
+     *
+     * @param operation 操作名称
+     * @param tableId   数据表ID（可为空）
+     * @param call      接口调用
+     * @param <T>       返回类型
+     * @return 调用结果
+     */
+    public <T> T observe(String operation, String tableId, Supplier<T> call) {
+        if (registry.isNoop()) {
+            return call.get();
+        }
+        FsDwObservationContext context = new FsDwObservationContext(operation, tableId);
+        Observation observation = Observation.createNotStarted(customConvention, DEFAULT_CONVENTION,
+                () -> context, registry).start();
+        Observation.Scope scope = observation.openScope();
+        try {
+            return call.get();
+        } catch (RuntimeException | Error e) {
+            if (e instanceof BitableException bitableException) {
+                context.setErrorCode(bitableException.getErrorCode());
+                context.setFeishuCode(bitableException.getApiCode());
+            }
+            observation.error(e);
+            throw e;
+        } finally {
+            scope.close();
+            observation.stop();
+        }
+    }
+
+    /**
+     * 累加当前接口调用的请求体字节数（不在观测作用域内时忽略）。
+     *
+     * @param bytes 字节数（未知时为 -1）
+     */
+    public void recordRequestBytes(long bytes) {
+        FsDwObservationContext context = currentContext();
+        if (context != null) {
+            context.addRequestBytes(bytes);
+        }
+    }
+
+    /**
+     * 记录当前批量操作的记录数（不在观测作用域内时忽略）。
+     *
+     * @param records 记录数
+     */
+    public void recordBatchSize(int records) {
+        FsDwObservationContext context = currentContext();
+        if (context != null) {
+            context.setRecords(records);
+        }
+    }
+
+    /**
+     * 包装响应体字节流，读取时累加当前接口调用的响应字节数（不在观测作用域内时原样返回）。
+     *
+     * @param body 响应体字节流
+     * @return 包装后的字节流
+     */
+    public InputStream countResponse(InputStream body) {
+        FsDwObservationContext context = currentContext();
+        if (body == null || context == null) {
+            return body;
+        }
+        return new FilterInputStream(body) {
+
+            @Override
+            public int read() throws IOException {
+                int value = super.read();
+                if (value >= 0) {
+                    context.addResponseBytes(1);
+                }
+                return value;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                int count = super.read(buffer, offset, length);
+                context.addResponseBytes(count);
+                return count;
+            }
+        };
+    }
+
+    /**
+     * 是否记录观测。
+     *
+     * @return 是否记录
+     */
+    public boolean isEnabled() {
+        return !registry.isNoop();
+    }
+
+    /**
+     * 获取当前线程所在的接口调用观测上下文。
+     *
+     * @return 观测上下文，不在作用域内时为 null
+     */
+    private FsDwObservationContext currentContext() {
+        Observation observation = registry.getCurrentObservation();
+        if (observation == null) {
+            return null;
+        }
+        return observation.getContext() instanceof FsDwObservationContext context ? context : null;
+    }
+}
@@ -0,0 +1,153 @@
+package cn.bdmcom.core.metrics;
+
+import cn.bdmcom.support.ErrorCode;
+import io.micrometer.observation.Observation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 飞书接口调用观测上下文。
+ *
+ * <p>一次接口调用（含重试与限流等待）对应一个上下文，记录操作名称、数据表、失败时的错误码，
+ * 以及请求/响应字节数与批量记录数，供 {@link FsDwObservationConvention} 生成标签，
+ * 也可由自定义 ObservationHandler 读取后记录分布统计。</p>
+ */
+public class FsDwObservationContext extends Observation.Context {
+
+    private final String operation;
+
+    private final String tableId;
+
+    private final LongAdder requestBytes = new LongAdder();
+
+    private final LongAdder responseBytes = new LongAdder();
+
+    private volatile int records = -1;
+
+    private volatile ErrorCode errorCode;
+
+    private volatile Integer feishuCode;
+
+    /**
+     * 创建观测上下文。
+     *
+     * @param operation 操作名称
+     * @param tableId   数据表ID（可为空）
+     */
+    public FsDwObservationContext(String operation, String tableId) {
+        this.operation = operation;
+        this.tableId = tableId;
+    }
+
+    /**
+     * 获取操作名称。
+     *
+     * @return 操作名称
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * 获取数据表ID。
+     *
+     * @return 数据表ID，无数据表维度时为 null
+     */
+    public String getTableId() {
+        return tableId;
+    }
+
+    /**
+     * 获取请求体字节数（重试时累加每次尝试）。
+     *
+     * @return 请求体字节数
+     */
+    public long getRequestBytes() {
+        return requestBytes.sum();
+    }
+
+    /**
+     * 累加请求体字节数。
+     *
+     * @param bytes 字节数
+     */
+    public void addRequestBytes(long bytes) {
+        if (bytes > 0) {
+            requestBytes.add(bytes);
+        }
+    }
+
+    /**
+     * 获取响应体字节数（解压后，重试时累加每次尝试）。
+     *
+     * @return 响应体字节数
+     */
+    public long getResponseBytes() {
+        return responseBytes.sum();
+    }
+
+    /**
+     * 累加响应体字节数。
+     *
+     * @param bytes 字节数
+     */
+    public void addResponseBytes(long bytes) {
+        if (bytes > 0) {
+            responseBytes.add(bytes);
+        }
+    }
+
+    /**
+     * 获取批量操作的记录数。
+     *
+     * @return 记录数，非批量操作时为 -1
+     */
+    public int getRecords() {
+        return records;
+    }
+
+    /**
+     * 设置批量操作的记录数。
+     *
+     * @param records 记录数
+     */
+    public void setRecords(int records) {
+        this.records = records;
+    }
+
+    /**
+     * 获取失败时的错误码。
+     *
+     * @return 错误码，成功或非 Starter 异常时为 null
+     */
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * 设置失败时的错误码。
+     *
+     * @param errorCode 错误码
+     */
+    public void setErrorCode(ErrorCode errorCode) {
+        this.errorCode = errorCode;
+    }
+
+    /**
+     * 获取飞书接口返回的错误码。
+     *
+     * @return 飞书错误码，成功或请求未到达服务端时为 null
+     */
+    public Integer getFeishuCode() {
+        return feishuCode;
+    }
+
+    /**
+     * 设置飞书接口返回的错误码。
+     *
+     * @param feishuCode 飞书错误码
+     */
+    public void setFeishuCode(Integer feishuCode) {
+        this.feishuCode = feishuCode;
+    }
+}
@@ -0,0 +1,79 @@
+package cn.bdmcom.core.metrics;
+
+import cn.bdmcom.support.ErrorCode;
+import io.micrometer.common.KeyValues;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationConvention;
+
+/**
+ * 飞书接口调用观测约定。
+ *
+ * <p>观测名称为 {@value #NAME}，接入 Micrometer 后生成同名 Timer，低基数标签如下（缺失时为 none）：</p>
+ * <ul>
+ *     <li>operation：操作名称（与日志中的操作名一致，如 新增记录、批量更新记录、获取Token）</li>
+ *     <li>table.id：数据表ID</li>
+ *     <li>outcome：SUCCESS / ERROR</li>
+ *     <li>error.code：失败时的 {@link ErrorCode} 名称（如 RATE_LIMITED、FEISHU_API_ERROR）</li>
+ *     <li>feishu.code：飞书接口返回的错误码</li>
+ * </ul>
+ *
+ * <p>注册同类型 Bean 可覆盖默认约定（如去掉 table.id 以控制指标基数）。</p>
+ */
+public class FsDwObservationConvention implements ObservationConvention<FsDwObservationContext> {
+
+    /**
+     * 观测名称。
+     */
+    public static final String NAME = "fs.dw.api";
+
+    private static final String NONE = "none";
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public String getContextualName(FsDwObservationContext context) {
+        return context.getOperation();
+    }
+
+    @Override
+    public KeyValues getLowCardinalityKeyValues(FsDwObservationContext context) {
+        boolean failed = context.getError() != null;
+        return KeyValues.of(
+                "operation", valueOf(context.getOperation()),
+                "table.id", valueOf(context.getTableId()),
+                "outcome", failed ? "ERROR" : "SUCCESS",
+                "error.code", errorCodeOf(context.getErrorCode()),
+                "feishu.code", context.getFeishuCode() == null ? NONE : String.valueOf(context.getFeishuCode()));
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        return context instanceof FsDwObservationContext;
+    }
+
+    /**
+     * 转换标签值，空值使用 none。
+     *
+     * @param value 原始值
+     * @return 标签值
+     */
+    private static String valueOf(String value) {
+        return value == null || value.isEmpty() ? NONE : value;
+    }
+
+    /**
+     * 转换错误码标签值：枚举取名称，其他实现取数字错误码。
+     *
+     * @param errorCode 错误码
+     * @return 标签值
+     */
+    private static String errorCodeOf(ErrorCode errorCode) {
+        if (errorCode == null) {
+            return NONE;
+        }
+        return errorCode instanceof Enum<?> constant ? constant.name() : String.valueOf(errorCode.getCode());
+    }
+}
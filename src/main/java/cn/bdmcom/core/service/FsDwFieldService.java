@@ -1,20 +1,28 @@
 package cn.bdmcom.core.service;
 
 import cn.bdmcom.core.api.FsDwFieldApi;
+import cn.bdmcom.core.cache.FsDwSchemaCache;
+import cn.bdmcom.core.concurrent.FsDwRateLimiter;
+import cn.bdmcom.core.concurrent.FsDwRetryer;
+import cn.bdmcom.core.concurrent.FsDwTaskExecutor;
 import cn.bdmcom.core.domain.FsDwConstants;
 import cn.bdmcom.core.domain.req.AddFieldReq;
 import cn.bdmcom.core.domain.req.UpdateFieldReq;
 import cn.bdmcom.core.domain.res.*;
+import cn.bdmcom.core.http.FsDwResponseDecoder;
+import cn.bdmcom.core.metrics.FsDwMetrics;
 import cn.bdmcom.support.BitableAssert;
 import cn.bdmcom.support.BitableErrorCode;
 import cn.bdmcom.support.BitableException;
 import cn.hutool.core.util.StrUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
 /**
  * 飞书多维表格字段服务。
@@ -36,7 +44,22 @@ public class FsDwFieldService {
     private FsDwFieldApi fsDwFieldApi;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    private FsDwResponseDecoder fsDwResponseDecoder;
+
+    @Autowired
+    private FsDwRateLimiter fsDwRateLimiter;
+
+    @Autowired
+    private FsDwRetryer fsDwRetryer;
+
+    @Autowired
+    private FsDwMetrics fsDwMetrics;
+
+    @Autowired
+    private FsDwTaskExecutor fsDwTaskExecutor;
+
+    @Autowired
+    private FsDwSchemaCache fsDwSchemaCache;
 
     /**
      * 新增字段。
@@ -52,8 +75,11 @@ public class FsDwFieldService {
     public AddFieldRes createField(String appId, String appSecret, String appToken, String tableId, String clientToken, AddFieldReq req) {
         BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]新增字段请求不能为空");
         validateTableInfo(appToken, tableId);
-        String res = fsDwFieldApi.createField(buildAuthorization(appId, appSecret), appToken, tableId, clientToken, req);
-        AddFieldRes result = parseResponse("新增字段", res, AddFieldRes.class);
+        AddFieldRes result = invoke("新增字段", StrUtil.isNotBlank(clientToken), appId, appToken, tableId,
+                () -> fsDwFieldApi.createField(buildAuthorization(appId, appSecret), appToken, tableId,
+                        clientToken, req),
+                AddFieldRes.class);
+        fsDwSchemaCache.invalidateTable(appToken, tableId);
         log.info("[飞书多维表格]新增字段成功, code={}", result.getCode());
         return result;
     }
@@ -73,8 +99,10 @@ public class FsDwFieldService {
         BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]更新字段请求不能为空");
         validateTableInfo(appToken, tableId);
         validateFieldId(fieldId);
-        String res = fsDwFieldApi.updateField(buildAuthorization(appId, appSecret), appToken, tableId, fieldId, req);
-        UpdateFieldRes result = parseResponse("更新字段", res, UpdateFieldRes.class);
+        UpdateFieldRes result = invoke("更新字段", appId, appToken, tableId,
+                () -> fsDwFieldApi.updateField(buildAuthorization(appId, appSecret), appToken, tableId, fieldId, req),
+                UpdateFieldRes.class);
+        fsDwSchemaCache.invalidateTable(appToken, tableId);
         log.info("[飞书多维表格]更新字段成功, code={}", result.getCode());
         return result;
     }
@@ -92,8 +120,10 @@ public class FsDwFieldService {
     public DeleteFieldRes deleteField(String appId, String appSecret, String appToken, String tableId, String fieldId) {
         validateTableInfo(appToken, tableId);
         validateFieldId(fieldId);
-        String res = fsDwFieldApi.deleteField(buildAuthorization(appId, appSecret), appToken, tableId, fieldId);
-        DeleteFieldRes result = parseResponse("删除字段", res, DeleteFieldRes.class);
+        DeleteFieldRes result = invoke("删除字段", appId, appToken, tableId,
+                () -> fsDwFieldApi.deleteField(buildAuthorization(appId, appSecret), appToken, tableId, fieldId),
+                DeleteFieldRes.class);
+        fsDwSchemaCache.invalidateTable(appToken, tableId);
         log.info("[飞书多维表格]删除字段成功, code={}", result.getCode());
         return result;
     }
@@ -114,6 +144,8 @@ public class FsDwFieldService {
     /**
      * 查询指定表格的所有字段（自动分页）。
      *
+     * <p>结果经字段结构缓存，通过本服务新增、更新、删除字段后自动失效。</p>
+     *
      * @param appId     应用ID
      * @param appSecret 应用密钥
      * @param appToken  多维表格 App 的唯一标识
@@ -123,14 +155,50 @@ public class FsDwFieldService {
      */
     public List<TableFieldListRes.TableField> listFields(String appId, String appSecret, String appToken, String tableId, String viewId) {
         validateTableInfo(appToken, tableId);
+        return new ArrayList<>(fsDwSchemaCache.get(appToken, tableId, viewId,
+                () -> loadFields(appId, appSecret, appToken, tableId, viewId)));
+    }
+
+    /**
+     * 失效指定数据表的字段结构缓存（其他客户端修改字段后调用）。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  数据表唯一标识
+     */
+    public void invalidateSchema(String appToken, String tableId) {
+        validateTableInfo(appToken, tableId);
+        fsDwSchemaCache.invalidateTable(appToken, tableId);
+    }
+
+    /**
+     * 清除全部字段结构缓存。
+     */
+    public void invalidateAllSchemas() {
+        fsDwSchemaCache.invalidateAll();
+    }
 
+    /**
+     * 通过字段接口查询所有字段（自动分页）。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   数据表唯一标识
+     * @param viewId    视图 ID
+     * @return 字段列表
+     */
+    private List<TableFieldListRes.TableField> loadFields(String appId, String appSecret, String appToken,
+                                                          String tableId, String viewId) {
         List<TableFieldListRes.TableField> result = new ArrayList<>();
         String pageToken = null;
         boolean hasMore;
 
         do {
-            String res = fsDwFieldApi.listFields(buildAuthorization(appId, appSecret), appToken, tableId, viewId, 100, pageToken);
-            TableFieldListRes listRes = parseResponse("列出字段", res, TableFieldListRes.class);
+            String currentPageToken = pageToken;
+            TableFieldListRes listRes = invoke("列出字段", appId, appToken, tableId,
+                    () -> fsDwFieldApi.listFields(buildAuthorization(appId, appSecret), appToken, tableId, viewId,
+                            100, currentPageToken),
+                    TableFieldListRes.class);
             TableFieldListRes.FieldListData data = listRes.getData();
             if (data != null && data.getItems() != null) {
                 result.addAll(data.getItems());
@@ -142,6 +210,131 @@ public class FsDwFieldService {
         return result;
     }
 
+    /**
+     * 异步新增字段。
+     *
+     * @param appId       应用ID
+     * @param appSecret   应用密钥
+     * @param appToken    多维表格 App 的唯一标识
+     * @param tableId     数据表唯一标识
+     * @param clientToken 幂等请求标识
+     * @param req         新增字段请求体
+     * @return 新增字段结果（异步）
+     */
+    public CompletableFuture<AddFieldRes> createFieldAsync(String appId, String appSecret, String appToken, String tableId,
+                                                           String clientToken, AddFieldReq req) {
+        return supplyAsync(() -> createField(appId, appSecret, appToken, tableId, clientToken, req));
+    }
+
+    /**
+     * 异步更新字段。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   数据表唯一标识
+     * @param fieldId   字段唯一标识
+     * @param req       更新字段请求体
+     * @return 更新字段结果（异步）
+     */
+    public CompletableFuture<UpdateFieldRes> updateFieldAsync(String appId, String appSecret, String appToken, String tableId,
+                                                              String fieldId, UpdateFieldReq req) {
+        return supplyAsync(() -> updateField(appId, appSecret, appToken, tableId, fieldId, req));
+    }
+
+    /**
+     * 异步删除字段。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   数据表唯一标识
+     * @param fieldId   字段唯一标识
+     * @return 删除字段结果（异步）
+     */
+    public CompletableFuture<DeleteFieldRes> deleteFieldAsync(String appId, String appSecret, String appToken, String tableId,
+                                                              String fieldId) {
+        return supplyAsync(() -> deleteField(appId, appSecret, appToken, tableId, fieldId));
+    }
+
+    /**
+     * 异步查询指定表格的所有字段（自动分页）。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   数据表唯一标识
+     * @return 字段列表（异步）
+     */
+    public CompletableFuture<List<TableFieldListRes.TableField>> listFieldsAsync(String appId, String appSecret,
+                                                                                 String appToken, String tableId) {
+        return supplyAsync(() -> listFields(appId, appSecret, appToken, tableId));
+    }
+
+    /**
+     * 异步查询指定表格的所有字段（自动分页）。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   数据表唯一标识
+     * @param viewId    视图 ID
+     * @return 字段列表（异步）
+     */
+    public CompletableFuture<List<TableFieldListRes.TableField>> listFieldsAsync(String appId, String appSecret,
+                                                                                 String appToken, String tableId,
+                                                                                 String viewId) {
+        return supplyAsync(() -> listFields(appId, appSecret, appToken, tableId, viewId));
+    }
+
+    /**
+     * 在后台执行器上异步执行，参数校验失败与接口异常均体现为异常完成的 Future。
+     *
+     * @param call 同步调用
+     * @param <R>  返回类型
+     * @return 异步结果
+     */
+    private <R> CompletableFuture<R> supplyAsync(Supplier<R> call) {
+        return CompletableFuture.supplyAsync(call, fsDwTaskExecutor);
+    }
+
+    /**
+     * 调用幂等接口并解析响应（经过限流与重试）。
+     *
+     * @param action   操作名称
+     * @param appId    应用ID
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识（可为空）
+     * @param call     接口调用
+     * @param clazz    响应类型
+     * @param <T>      响应类型
+     * @return 解析后的响应对象
+     */
+    private <T extends AbstractRes<?>> T invoke(String action, String appId, String appToken, String tableId,
+                                                Supplier<InputStream> call, Class<T> clazz) {
+        return invoke(action, true, appId, appToken, tableId, call, clazz);
+    }
+
+    /**
+     * 调用接口并解析响应（经过限流与重试，每次尝试都会重新获取限流令牌，整个调用记录为一次观测）。
+     *
+     * @param action     操作名称
+     * @param idempotent 是否幂等，非幂等调用只在服务端限流时重试
+     * @param appId      应用ID
+     * @param appToken   多维表格 App 的唯一标识
+     * @param tableId    多维表格数据表的唯一标识（可为空）
+     * @param call       接口调用
+     * @param clazz      响应类型
+     * @param <T>        响应类型
+     * @return 解析后的响应对象
+     */
+    private <T extends AbstractRes<?>> T invoke(String action, boolean idempotent, String appId, String appToken,
+                                                String tableId, Supplier<InputStream> call, Class<T> clazz) {
+        return fsDwMetrics.observe(action, tableId, () -> fsDwRetryer.execute(action, idempotent,
+                () -> fsDwRateLimiter.execute(appId, appToken, tableId,
+                        () -> parseResponse(action, fsDwMetrics.countResponse(call.get()), clazz))));
+    }
+
     /**
      * 构建请求头中的授权信息。
      *
@@ -159,25 +352,33 @@ public class FsDwFieldService {
      * 解析飞书接口返回的 JSON 响应。
      *
      * @param action 操作名称
-     * @param res    接口响应 JSON 字符串
+     * @param res    接口响应体字节流
      * @param clazz  响应类型
      * @param <T>    响应类型
      * @return 解析后的响应对象
      */
-    private <T extends AbstractRes<?>> T parseResponse(String action, String res, Class<T> clazz) {
-        BitableAssert.notBlank(res, BitableErrorCode.FEISHU_RESPONSE_EMPTY, "[飞书多维表格][{}]响应为空", action);
-        try {
-            T result = objectMapper.readValue(res, clazz);
-            BitableAssert.notNull(result, BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, "[飞书多维表格][{}]解析结果为空", action);
-            BitableAssert.isTrue(SUCCESS_CODE.equals(result.getCode()), BitableErrorCode.FEISHU_API_ERROR,
-                    "[飞书多维表格][{}]失败, code={}, msg={}, error={}", action, result.getCode(), result.getMsg(), result.getError());
-            return result;
-        } catch (BitableException e) {
-            throw e;
-        } catch (Exception e) {
-            String message = StrUtil.format("[飞书多维表格][{}]解析响应失败: {}", action, res);
-            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, message, e);
+    private <T extends AbstractRes<?>> T parseResponse(String action, InputStream res, Class<T> clazz) {
+        T result = fsDwResponseDecoder.decode(action, res, clazz);
+        checkResponseCode(action, result);
+        return result;
+    }
+
+    /**
+     * 校验接口返回码，失败时抛出携带飞书错误码的异常（限流错误码映射为 RATE_LIMITED）。
+     *
+     * @param action 操作名称
+     * @param result 响应对象
+     */
+    private void checkResponseCode(String action, AbstractRes<?> result) {
+        Integer code = result.getCode();
+        if (SUCCESS_CODE.equals(code)) {
+            return;
         }
+        BitableErrorCode errorCode = fsDwRateLimiter.isRateLimitCode(code)
+                ? BitableErrorCode.RATE_LIMITED : BitableErrorCode.FEISHU_API_ERROR;
+        String message = StrUtil.format("[飞书多维表格][{}]失败, code={}, msg={}, error={}",
+                action, code, result.getMsg(), result.getError());
+        throw new BitableException(errorCode, message, code);
     }
 
     /**
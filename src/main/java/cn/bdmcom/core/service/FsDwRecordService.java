@@ -1,10 +1,24 @@
 package cn.bdmcom.core.service;
 
+import cn.bdmcom.config.FsDwProperties;
 import cn.bdmcom.core.api.FsDwRecordApi;
+import cn.bdmcom.core.cache.FsDwPageTokenIndex;
+import cn.bdmcom.core.cache.FsDwRecordCache;
+import cn.bdmcom.core.concurrent.FsDwRateLimiter;
+import cn.bdmcom.core.concurrent.FsDwRetryer;
+import cn.bdmcom.core.concurrent.FsDwTaskExecutor;
+import cn.bdmcom.core.concurrent.FsDwTaskScope;
+import cn.bdmcom.core.cursor.FsDwRecordCursor;
 import cn.bdmcom.core.domain.FsDwConstants;
 import cn.bdmcom.core.domain.req.*;
 import cn.bdmcom.core.domain.res.*;
 import cn.bdmcom.core.helper.FsDwRecordHelper;
+import cn.bdmcom.core.http.FsDwHttpTransport;
+import cn.bdmcom.core.http.FsDwResponseDecoder;
+import cn.bdmcom.core.mapper.FsDwEntityMapper;
+import cn.bdmcom.core.metrics.FsDwMetrics;
+import cn.bdmcom.core.write.FsDwBulkWriteListener;
+import cn.bdmcom.core.write.FsDwRecordBulkWriter;
 import cn.bdmcom.support.BitableAssert;
 import cn.bdmcom.support.BitableErrorCode;
 import cn.bdmcom.support.BitableException;
@@ -14,9 +28,21 @@ import lombok.extern.slf4j.Slf4j;
 import okhttp3.*;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * 飞书多维表格记录服务。
@@ -31,8 +57,13 @@ public class FsDwRecordService {
      */
     private static final Integer SUCCESS_CODE = 0;
     private static final int DEFAULT_PAGE_SIZE = 20;
+    /**
+     * 服务端单次批量新增/更新/删除的记录上限。
+     */
+    private static final int BATCH_CREATE_MAX_SIZE = 1000;
+    private static final int BATCH_UPDATE_MAX_SIZE = 1000;
+    private static final int BATCH_DELETE_MAX_SIZE = 500;
     private static final MediaType JSON_MEDIA_TYPE = MediaType.parse("application/json; charset=utf-8");
-    private static final OkHttpClient OK_HTTP_CLIENT = new OkHttpClient();
 
     @Autowired
     private FsDwTokenService fsDwTokenService;
@@ -43,6 +74,36 @@ public class FsDwRecordService {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private FsDwResponseDecoder fsDwResponseDecoder;
+
+    @Autowired
+    private FsDwRateLimiter fsDwRateLimiter;
+
+    @Autowired
+    private FsDwRetryer fsDwRetryer;
+
+    @Autowired
+    private FsDwMetrics fsDwMetrics;
+
+    @Autowired
+    private FsDwHttpTransport fsDwHttpTransport;
+
+    @Autowired
+    private FsDwPageTokenIndex fsDwPageTokenIndex;
+
+    @Autowired
+    private FsDwRecordCache fsDwRecordCache;
+
+    @Autowired
+    private FsDwTaskExecutor fsDwTaskExecutor;
+
+    @Autowired
+    private FsDwTaskScope fsDwTaskScope;
+
+    @Autowired
+    private FsDwProperties properties;
+
     /**
      * 新增记录。
      *
@@ -57,8 +118,10 @@ public class FsDwRecordService {
         BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]新增记录请求不能为空");
         BitableAssert.notEmpty(req.getFields(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]新增记录字段不能为空");
         validateTableInfo(appToken, tableId);
-        String res = fsDwRecordApi.addRecord(buildAuthorization(appId, appSecret), appToken, tableId, req);
-        AddRecordRes result = parseResponse("新增记录", res, AddRecordRes.class);
+        AddRecordRes result = invoke("新增记录", false, appId, appToken, tableId,
+                () -> fsDwRecordApi.addRecord(buildAuthorization(appId, appSecret), appToken, tableId, req),
+                AddRecordRes.class);
+        invalidateTable(appToken, tableId);
         log.info("[飞书多维表格]新增记录成功, code={}", result.getCode());
         return result;
     }
@@ -109,6 +172,9 @@ public class FsDwRecordService {
     /**
      * 批量新增记录。
      *
+     * <p>超过服务端单次上限时自动分片并行提交，任一分片失败将抛出异常（其余分片可能已写入），
+     * 需要逐条结果时请使用 {@link #bulkCreateRecords}。</p>
+     *
      * @param appId                   应用ID
      * @param appSecret               应用密钥
      * @param appToken                多维表格 App 的唯一标识
@@ -122,15 +188,76 @@ public class FsDwRecordService {
     public BatchCreateRecordRes batchCreateRecord(String appId, String appSecret, String appToken, String tableId,
                                                   String userIdType, String clientToken, Boolean ignoreConsistencyCheck,
                                                   BatchCreateRecordReq req) {
-        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增记录请求不能为空");
-        BitableAssert.notEmpty(req.getRecords(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增记录不能为空");
+        validateBatchCreateRequest(appToken, tableId, req);
+        int chunkSize = resolveChunkSize(BATCH_CREATE_MAX_SIZE);
+        if (req.getRecords().size() <= chunkSize) {
+            return doBatchCreateRecord(appId, appSecret, appToken, tableId, userIdType, clientToken,
+                    ignoreConsistencyCheck, req.getRecords());
+        }
+        List<ChunkOutcome<BatchCreateRecordRes>> outcomes = dispatchChunks(req.getRecords(), chunkSize,
+                (chunkIndex, chunk) -> doBatchCreateRecord(appId, appSecret, appToken, tableId, userIdType,
+                        deriveClientToken(clientToken, chunkIndex), ignoreConsistencyCheck, chunk));
+        BatchCreateRecordRes merged = new BatchCreateRecordRes();
+        merged.setData(new BatchCreateRecordRes.BatchRecordData());
+        merged.getData().setRecords(mergeChunkRecords("批量新增记录", outcomes,
+                res -> res.getData() == null ? null : res.getData().getRecords()));
+        fillMergedStatus(merged, outcomes);
+        return merged;
+    }
+
+    /**
+     * 分片批量新增记录，返回按输入下标合并的结果。
+     *
+     * <p>记录按服务端上限拆分为多个分片并行提交，单个分片失败不影响其他分片。
+     * 指定 clientToken 时每个分片使用由其派生的幂等标识。</p>
+     *
+     * @param appId                  应用ID
+     * @param appSecret              应用密钥
+     * @param appToken               多维表格 App 的唯一标识
+     * @param tableId                多维表格数据表的唯一标识
+     * @param userIdType             用户 ID 类型
+     * @param clientToken            幂等请求标识
+     * @param ignoreConsistencyCheck 是否忽略一致性校验
+     * @param req                    批量新增记录请求体
+     * @return 合并结果
+     */
+    public BatchRecordResult bulkCreateRecords(String appId, String appSecret, String appToken, String tableId,
+                                               String userIdType, String clientToken, Boolean ignoreConsistencyCheck,
+                                               BatchCreateRecordReq req) {
+        validateBatchCreateRequest(appToken, tableId, req);
+        int chunkSize = resolveChunkSize(BATCH_CREATE_MAX_SIZE);
+        boolean chunked = req.getRecords().size() > chunkSize;
+        List<ChunkOutcome<BatchCreateRecordRes>> outcomes = dispatchChunks(req.getRecords(), chunkSize,
+                (chunkIndex, chunk) -> doBatchCreateRecord(appId, appSecret, appToken, tableId, userIdType,
+                        chunked ? deriveClientToken(clientToken, chunkIndex) : clientToken, ignoreConsistencyCheck, chunk));
+        return buildBatchRecordResult(req.getRecords().size(), outcomes, (res, offset, index) -> {
+            List<RecordItem> records = res.getData() == null ? null : res.getData().getRecords();
+            RecordItem record = records == null || offset >= records.size() ? null : records.get(offset);
+            return record == null ? null : record.getRecordId();
+        });
+    }
+
+    /**
+     * 打开批量写入管道。
+     *
+     * <p>管道逐条接收记录，在工作线程上转换字段并按服务端上限凑批调用批量新增接口，
+     * 每批使用独立的幂等标识，重试不会新增重复记录。使用完毕需关闭以写入剩余记录。</p>
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param listener  失败监听器（可为空）
+     * @param <T>       记录类型（实体或字段 Map）
+     * @return 批量写入管道
+     */
+    public <T> FsDwRecordBulkWriter<T> openBulkWriter(String appId, String appSecret, String appToken, String tableId,
+                                                      FsDwBulkWriteListener<T> listener) {
         validateTableInfo(appToken, tableId);
-        validateBatchCreateRecords(req);
-        String res = fsDwRecordApi.batchCreateRecord(buildAuthorization(appId, appSecret), appToken, tableId,
-                userIdType, clientToken, ignoreConsistencyCheck, req);
-        BatchCreateRecordRes result = parseResponse("批量新增记录", res, BatchCreateRecordRes.class);
-        log.info("[飞书多维表格]批量新增记录成功, code={}", result.getCode());
-        return result;
+        return new FsDwRecordBulkWriter<>(properties.getBulkWriter(),
+                (records, retries) -> fsDwRetryer.countRetries(retries, () -> doBatchCreateRecord(appId, appSecret,
+                        appToken, tableId, null, null, null, records)),
+                fsDwTaskExecutor, listener);
     }
 
     /**
@@ -149,8 +276,11 @@ public class FsDwRecordService {
         BitableAssert.notEmpty(req.getFields(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]更新记录字段不能为空");
         validateTableInfo(appToken, tableId);
         validateRecordId(recordId);
-        String res = fsDwRecordApi.updateRecord(buildAuthorization(appId, appSecret), appToken, tableId, recordId, req);
-        UpdateRecordRes result = parseResponse("更新记录", res, UpdateRecordRes.class);
+        UpdateRecordRes result = invoke("更新记录", appId, appToken, tableId,
+                () -> fsDwRecordApi.updateRecord(buildAuthorization(appId, appSecret), appToken, tableId,
+                        recordId, req),
+                UpdateRecordRes.class);
+        invalidateTable(appToken, tableId);
         log.info("[飞书多维表格]更新记录成功, code={}", result.getCode());
         return result;
     }
@@ -202,6 +332,9 @@ public class FsDwRecordService {
     /**
      * 批量更新记录。
      *
+     * <p>超过服务端单次上限时自动分片并行提交，任一分片失败将抛出异常（其余分片可能已写入），
+     * 需要逐条结果时请使用 {@link #bulkUpdateRecords}。</p>
+     *
      * @param appId                  应用ID
      * @param appSecret              应用密钥
      * @param appToken               多维表格 App 的唯一标识
@@ -213,15 +346,44 @@ public class FsDwRecordService {
      */
     public BatchUpdateRecordRes batchUpdateRecord(String appId, String appSecret, String appToken, String tableId,
                                                   String userIdType, Boolean ignoreConsistencyCheck, BatchUpdateRecordReq req) {
-        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新记录请求不能为空");
-        BitableAssert.notEmpty(req.getRecords(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新记录不能为空");
-        validateTableInfo(appToken, tableId);
-        validateBatchUpdateRecords(req);
-        String res = fsDwRecordApi.batchUpdateRecord(buildAuthorization(appId, appSecret), appToken, tableId,
-                userIdType, ignoreConsistencyCheck, req);
-        BatchUpdateRecordRes result = parseResponse("批量更新记录", res, BatchUpdateRecordRes.class);
-        log.info("[飞书多维表格]批量更新记录成功, code={}", result.getCode());
-        return result;
+        validateBatchUpdateRequest(appToken, tableId, req);
+        int chunkSize = resolveChunkSize(BATCH_UPDATE_MAX_SIZE);
+        if (req.getRecords().size() <= chunkSize) {
+            return doBatchUpdateRecord(appId, appSecret, appToken, tableId, userIdType, ignoreConsistencyCheck,
+                    req.getRecords());
+        }
+        List<ChunkOutcome<BatchUpdateRecordRes>> outcomes = dispatchChunks(req.getRecords(), chunkSize,
+                (chunkIndex, chunk) -> doBatchUpdateRecord(appId, appSecret, appToken, tableId, userIdType,
+                        ignoreConsistencyCheck, chunk));
+        BatchUpdateRecordRes merged = new BatchUpdateRecordRes();
+        merged.setData(new BatchUpdateRecordRes.BatchRecordData());
+        merged.getData().setRecords(mergeChunkRecords("批量更新记录", outcomes,
+                res -> res.getData() == null ? null : res.getData().getRecords()));
+        fillMergedStatus(merged, outcomes);
+        return merged;
+    }
+
+    /**
+     * 分片批量更新记录，返回按输入下标合并的结果。
+     *
+     * @param appId                  应用ID
+     * @param appSecret              应用密钥
+     * @param appToken               多维表格 App 的唯一标识
+     * @param tableId                多维表格数据表的唯一标识
+     * @param userIdType             用户 ID 类型
+     * @param ignoreConsistencyCheck 是否忽略一致性校验
+     * @param req                    批量更新记录请求体
+     * @return 合并结果
+     */
+    public BatchRecordResult bulkUpdateRecords(String appId, String appSecret, String appToken, String tableId,
+                                               String userIdType, Boolean ignoreConsistencyCheck, BatchUpdateRecordReq req) {
+        validateBatchUpdateRequest(appToken, tableId, req);
+        List<BatchUpdateRecordReq.Record> records = req.getRecords();
+        List<ChunkOutcome<BatchUpdateRecordRes>> outcomes = dispatchChunks(records,
+                resolveChunkSize(BATCH_UPDATE_MAX_SIZE),
+                (chunkIndex, chunk) -> doBatchUpdateRecord(appId, appSecret, appToken, tableId, userIdType,
+                        ignoreConsistencyCheck, chunk));
+        return buildBatchRecordResult(records.size(), outcomes, (res, offset, index) -> records.get(index).getRecordId());
     }
 
     /**
@@ -240,16 +402,20 @@ public class FsDwRecordService {
         Integer pageNo = req.getPageNo();
         if (pageNo != null) {
             BitableAssert.isTrue(pageNo > 0, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]pageNo必须大于0");
-            QueryRecordRes result = queryRecordByPage(appId, appSecret, appToken, tableId, req, pageNo);
+        }
+        String payload = serializeQueryRecordBody(req);
+        String cacheQuery = StrUtil.format("search|{}|{}|{}|{}", pageNo, req.getPageSize(), req.getPageToken(), payload);
+        return fsDwRecordCache.get(appToken, tableId, cacheQuery, () -> {
+            QueryRecordRes result;
+            if (pageNo != null) {
+                result = queryRecordByPage(appId, appSecret, appToken, tableId, req, pageNo);
+            } else {
+                result = fetchQueryPage(appId, appSecret, appToken, tableId, payload,
+                        req.getPageToken(), req.getPageSize());
+            }
             log.info("[飞书多维表格]查询记录成功, code={}", result.getCode());
             return result;
-        }
-        String pageToken = req.getPageToken();
-        Integer pageSize = req.getPageSize();
-        String res = executeQueryRecordRequest(appId, appSecret, appToken, tableId, req, pageToken, pageSize);
-        QueryRecordRes result = parseResponse("查询记录", res, QueryRecordRes.class);
-        log.info("[飞书多维表格]查询记录成功, code={}", result.getCode());
-        return result;
+        });
     }
 
     /**
@@ -264,9 +430,79 @@ public class FsDwRecordService {
      * @return 实体列表
      */
     public <T> List<T> queryRecord(String appId, String appSecret, String appToken, String tableId, QueryRecordReq req, Class<T> clazz) {
+        BitableAssert.notNull(clazz, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
+        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]查询记录请求不能为空");
+        FsDwRecordHelper.fillQueryFieldNames(req, clazz);
+        if (req.getPageNo() != null || fsDwRecordCache.isEnabled()) {
+            // 按页码翻页与读缓存仍以记录响应为单位
+            QueryRecordRes res = queryRecord(appId, appSecret, appToken, tableId, req);
+            return FsDwRecordHelper.toEntityList(res, clazz);
+        }
+        validateTableInfo(appToken, tableId);
+        QueryEntityRes<T> res = fetchEntityPage(appId, appSecret, appToken, tableId, serializeQueryRecordBody(req),
+                req.getPageToken(), req.getPageSize(), FsDwEntityMapper.of(clazz));
+        log.info("[飞书多维表格]查询记录成功, code={}", res.getCode());
+        return res.getData() == null || res.getData().getItems() == null
+                ? Collections.emptyList() : res.getData().getItems();
+    }
+
+    /**
+     * 打开记录游标。
+     *
+     * <p>按 page_token 惰性翻页（忽略 pageNo），消费当前页时预取下一页。</p>
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       请求参数
+     * @return 记录游标
+     */
+    public FsDwRecordCursor<QueryRecordRes.RecordRes.Item> openCursor(String appId, String appSecret, String appToken,
+                                                                      String tableId, QueryRecordReq req) {
+        return openCursor(appId, appSecret, appToken, tableId, req, FsDwRecordService::toItems);
+    }
+
+    /**
+     * 打开记录游标并映射为实体。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       请求参数
+     * @param clazz     实体类型
+     * @return 记录游标
+     */
+    public <T> FsDwRecordCursor<T> openCursor(String appId, String appSecret, String appToken, String tableId,
+                                              QueryRecordReq req, Class<T> clazz) {
+        BitableAssert.notNull(clazz, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]实体类型不能为空");
+        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]查询记录请求不能为空");
         FsDwRecordHelper.fillQueryFieldNames(req, clazz);
-        QueryRecordRes res = queryRecord(appId, appSecret, appToken, tableId, req);
-        return FsDwRecordHelper.toEntityList(res, clazz);
+        validateTableInfo(appToken, tableId);
+        FsDwEntityMapper<T> mapper = FsDwEntityMapper.of(clazz);
+        FsDwProperties.Cursor cursor = properties.getCursor();
+        int pageSize = req.getPageSize() == null ? cursor.getPageSize() : req.getPageSize();
+        String payload = serializeQueryRecordBody(req);
+        Function<String, QueryEntityRes<T>> pageFetcher = pageToken -> fetchEntityPage(appId, appSecret, appToken,
+                tableId, payload, pageToken, pageSize, mapper);
+        return new FsDwRecordCursor<>(req.getPageToken(), pageFetcher, cursor.isPrefetch() ? fsDwTaskExecutor : null);
+    }
+
+    /**
+     * 以流的方式读取记录并映射为实体，使用完毕需关闭流。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       请求参数
+     * @param clazz     实体类型
+     * @return 实体流
+     */
+    public <T> Stream<T> streamRecords(String appId, String appSecret, String appToken, String tableId,
+                                       QueryRecordReq req, Class<T> clazz) {
+        return openCursor(appId, appSecret, appToken, tableId, req, clazz).stream();
     }
 
     /**
@@ -282,8 +518,10 @@ public class FsDwRecordService {
     public DeleteRecordRes deleteRecord(String appId, String appSecret, String appToken, String tableId, String recordId) {
         validateTableInfo(appToken, tableId);
         validateRecordId(recordId);
-        String res = fsDwRecordApi.deleteRecord(buildAuthorization(appId, appSecret), appToken, tableId, recordId);
-        DeleteRecordRes result = parseResponse("删除记录", res, DeleteRecordRes.class);
+        DeleteRecordRes result = invoke("删除记录", appId, appToken, tableId,
+                () -> fsDwRecordApi.deleteRecord(buildAuthorization(appId, appSecret), appToken, tableId, recordId),
+                DeleteRecordRes.class);
+        invalidateTable(appToken, tableId);
         log.info("[飞书多维表格]删除记录成功, code={}", result.getCode());
         return result;
     }
@@ -291,6 +529,9 @@ public class FsDwRecordService {
     /**
      * 批量删除记录。
      *
+     * <p>超过服务端单次上限时自动分片并行提交，任一分片失败将抛出异常（其余分片可能已删除），
+     * 需要逐条结果时请使用 {@link #bulkDeleteRecords}。</p>
+     *
      * @param appId     应用ID
      * @param appSecret 应用密钥
      * @param appToken  多维表格 App 的唯一标识
@@ -299,13 +540,43 @@ public class FsDwRecordService {
      * @return 批量删除结果
      */
     public BatchDeleteRecordRes batchDeleteRecord(String appId, String appSecret, String appToken, String tableId, BatchDeleteRecordReq req) {
-        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量删除记录请求不能为空");
-        BitableAssert.notEmpty(req.getRecords(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量删除记录不能为空");
-        validateTableInfo(appToken, tableId);
-        String res = fsDwRecordApi.batchDeleteRecord(buildAuthorization(appId, appSecret), appToken, tableId, req);
-        BatchDeleteRecordRes result = parseResponse("批量删除记录", res, BatchDeleteRecordRes.class);
-        log.info("[飞书多维表格]批量删除记录成功, code={}", result.getCode());
-        return result;
+        validateBatchDeleteRequest(appToken, tableId, req);
+        int chunkSize = resolveChunkSize(BATCH_DELETE_MAX_SIZE);
+        if (req.getRecords().size() <= chunkSize) {
+            return doBatchDeleteRecord(appId, appSecret, appToken, tableId, req.getRecords());
+        }
+        List<ChunkOutcome<BatchDeleteRecordRes>> outcomes = dispatchChunks(req.getRecords(), chunkSize,
+                (chunkIndex, chunk) -> doBatchDeleteRecord(appId, appSecret, appToken, tableId, chunk));
+        BatchDeleteRecordRes merged = new BatchDeleteRecordRes();
+        merged.setData(new BatchDeleteRecordRes.BatchDeleteData());
+        merged.getData().setRecords(mergeChunkRecords("批量删除记录", outcomes,
+                res -> res.getData() == null ? null : res.getData().getRecords()));
+        fillMergedStatus(merged, outcomes);
+        return merged;
+    }
+
+    /**
+     * 分片批量删除记录，返回按输入下标合并的结果。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       批量删除记录请求体
+     * @return 合并结果
+     */
+    public BatchRecordResult bulkDeleteRecords(String appId, String appSecret, String appToken, String tableId,
+                                               BatchDeleteRecordReq req) {
+        validateBatchDeleteRequest(appToken, tableId, req);
+        List<String> recordIds = req.getRecords();
+        List<ChunkOutcome<BatchDeleteRecordRes>> outcomes = dispatchChunks(recordIds,
+                resolveChunkSize(BATCH_DELETE_MAX_SIZE),
+                (chunkIndex, chunk) -> doBatchDeleteRecord(appId, appSecret, appToken, tableId, chunk));
+        return buildBatchRecordResult(recordIds.size(), outcomes, (res, offset, index) -> {
+            List<BatchDeleteRecordRes.DeleteRecord> records = res.getData() == null ? null : res.getData().getRecords();
+            BatchDeleteRecordRes.DeleteRecord record = records == null || offset >= records.size() ? null : records.get(offset);
+            return record != null && Boolean.TRUE.equals(record.getDeleted()) ? recordIds.get(index) : null;
+        });
     }
 
     /**
@@ -322,184 +593,896 @@ public class FsDwRecordService {
         BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量获取记录请求不能为空");
         BitableAssert.notEmpty(req.getRecordIds(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量获取记录不能为空");
         validateTableInfo(appToken, tableId);
-        String res = fsDwRecordApi.batchGetRecord(buildAuthorization(appId, appSecret), appToken, tableId, req);
-        BatchGetRecordRes result = parseResponse("批量获取记录", res, BatchGetRecordRes.class);
-        log.info("[飞书多维表格]批量获取记录成功, code={}", result.getCode());
-        return result;
+        return fsDwRecordCache.get(appToken, tableId, "batch_get|" + serializeCacheQuery(req), () -> {
+            BatchGetRecordRes result = invoke("批量获取记录", appId, appToken, tableId,
+                    () -> {
+                        fsDwMetrics.recordBatchSize(req.getRecordIds().size());
+                        return fsDwRecordApi.batchGetRecord(buildAuthorization(appId, appSecret), appToken, tableId, req);
+                    },
+                    BatchGetRecordRes.class);
+            log.info("[飞书多维表格]批量获取记录成功, code={}", result.getCode());
+            return result;
+        });
     }
 
     /**
-     * 构建授权信息。
+     * 异步新增记录。
      *
      * @param appId     应用ID
      * @param appSecret 应用密钥
-     * @return Authorization header 值
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       请求参数
+     * @return 新增结果（异步）
      */
-    private String buildAuthorization(String appId, String appSecret) {
-        String token = fsDwTokenService.getToken(appId, appSecret);
-        BitableAssert.notBlank(token, BitableErrorCode.TOKEN_ACQUIRE_FAILED, "[飞书多维表格]token获取失败");
-        return FsDwConstants.AUTHORIZATION_PREFIX + token;
+    public CompletableFuture<AddRecordRes> addRecordAsync(String appId, String appSecret, String appToken, String tableId,
+                                                          AddRecordReq req) {
+        return supplyAsync(() -> addRecord(appId, appSecret, appToken, tableId, req));
     }
 
     /**
-     * 解析飞书接口响应。
+     * 异步新增记录。
      *
-     * @param action 操作名称
-     * @param res    接口响应 JSON 字符串
-     * @param clazz  响应类型
-     * @param <T>    响应类型
-     * @return 解析后的响应对象
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param payload   记录字段实体
+     * @return 新增结果（异步）
      */
-    private <T extends AbstractRes<?>> T parseResponse(String action, String res, Class<T> clazz) {
-        BitableAssert.notBlank(res, BitableErrorCode.FEISHU_RESPONSE_EMPTY, "[飞书多维表格][{}]响应为空", action);
-        try {
-            T result = objectMapper.readValue(res, clazz);
-            BitableAssert.notNull(result, BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, "[飞书多维表格][{}]解析结果为空", action);
-            BitableAssert.isTrue(SUCCESS_CODE.equals(result.getCode()), BitableErrorCode.FEISHU_API_ERROR,
-                    "[飞书多维表格][{}]失败, code={}, msg={}, error={}", action, result.getCode(), result.getMsg(), result.getError());
-            return result;
-        } catch (BitableException e) {
-            throw e;
-        } catch (Exception e) {
-            String message = StrUtil.format("[飞书多维表格][{}]解析响应失败: {}", action, res);
-            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, message, e);
-        }
+    public CompletableFuture<AddRecordRes> addRecordAsync(String appId, String appSecret, String appToken, String tableId,
+                                                          Object payload) {
+        return supplyAsync(() -> addRecord(appId, appSecret, appToken, tableId, payload));
     }
 
     /**
-     * 校验表格信息。
+     * 异步批量新增记录。
      *
-     * @param appToken 多维表格 App 的唯一标识
-     * @param tableId  多维表格数据表的唯一标识
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       批量新增记录请求体
+     * @return 批量新增结果（异步）
      */
-    private void validateTableInfo(String appToken, String tableId) {
-        BitableAssert.notBlank(appToken, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]appToken不能为空");
-        BitableAssert.notBlank(tableId, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]tableId不能为空");
+    public CompletableFuture<BatchCreateRecordRes> batchCreateRecordAsync(String appId, String appSecret, String appToken,
+                                                                          String tableId, BatchCreateRecordReq req) {
+        return supplyAsync(() -> batchCreateRecord(appId, appSecret, appToken, tableId, req));
     }
 
     /**
-     * 校验记录 ID。
+     * 异步分片批量新增记录。
      *
-     * @param recordId 记录唯一标识
+     * @param appId                  应用ID
+     * @param appSecret              应用密钥
+     * @param appToken               多维表格 App 的唯一标识
+     * @param tableId                多维表格数据表的唯一标识
+     * @param userIdType             用户 ID 类型
+     * @param clientToken            幂等请求标识
+     * @param ignoreConsistencyCheck 是否忽略一致性校验
+     * @param req                    批量新增记录请求体
+     * @return 合并结果（异步）
      */
-    private void validateRecordId(String recordId) {
-        BitableAssert.notBlank(recordId, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]recordId不能为空");
+    public CompletableFuture<BatchRecordResult> bulkCreateRecordsAsync(String appId, String appSecret, String appToken,
+                                                                       String tableId, String userIdType, String clientToken,
+                                                                       Boolean ignoreConsistencyCheck,
+                                                                       BatchCreateRecordReq req) {
+        return supplyAsync(() -> bulkCreateRecords(appId, appSecret, appToken, tableId, userIdType, clientToken,
+                ignoreConsistencyCheck, req));
     }
 
     /**
-     * 批量创建记录。
+     * 异步更新记录。
      *
-     * @param req 批量新增记录请求体
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param recordId  记录 ID
+     * @param req       请求参数
+     * @return 更新结果（异步）
      */
-    private void validateBatchCreateRecords(BatchCreateRecordReq req) {
-        if (req == null || req.getRecords() == null) {
-            return;
-        }
-        for (BatchCreateRecordReq.Record record : req.getRecords()) {
-            BitableAssert.notNull(record, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增记录项不能为空");
-            BitableAssert.notEmpty(record.getFields(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增记录字段不能为空");
-        }
+    public CompletableFuture<UpdateRecordRes> updateRecordAsync(String appId, String appSecret, String appToken, String tableId,
+                                                                String recordId, UpdateRecordReq req) {
+        return supplyAsync(() -> updateRecord(appId, appSecret, appToken, tableId, recordId, req));
     }
 
     /**
-     * 批量更新记录。
+     * 异步更新记录。
      *
-     * @param req 批量更新记录请求体
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param recordId  记录 ID
+     * @param payload   记录字段实体
+     * @return 更新结果（异步）
      */
-    private void validateBatchUpdateRecords(BatchUpdateRecordReq req) {
-        if (req == null || req.getRecords() == null) {
-            return;
-        }
-        for (BatchUpdateRecordReq.Record record : req.getRecords()) {
-            BitableAssert.notNull(record, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新记录项不能为空");
-            BitableAssert.notBlank(record.getRecordId(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新recordId不能为空");
-            BitableAssert.notEmpty(record.getFields(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新记录字段不能为空");
-        }
+    public CompletableFuture<UpdateRecordRes> updateRecordAsync(String appId, String appSecret, String appToken, String tableId,
+                                                                String recordId, Object payload) {
+        return supplyAsync(() -> updateRecord(appId, appSecret, appToken, tableId, recordId, payload));
     }
 
     /**
-     * 执行查询记录请求。
+     * 异步批量更新记录。
      *
      * @param appId     应用ID
      * @param appSecret 应用密钥
      * @param appToken  多维表格 App 的唯一标识
      * @param tableId   多维表格数据表的唯一标识
-     * @param req       查询记录请求体
-     * @param pageToken 分页 token
-     * @param pageSize  分页大小
-     * @return 接口响应 JSON 字符串
+     * @param req       批量更新记录请求体
+     * @return 批量更新结果（异步）
      */
-    private String executeQueryRecordRequest(String appId, String appSecret, String appToken, String tableId,
-                                             QueryRecordReq req, String pageToken, Integer pageSize) {
-        HttpUrl baseUrl = HttpUrl.parse(FsDwConstants.OPEN_API_PREFIX);
-        BitableAssert.notNull(baseUrl, BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, "[飞书多维表格]查询记录URL构建失败");
-        HttpUrl.Builder urlBuilder = baseUrl.newBuilder()
-                .addPathSegment("bitable")
-                .addPathSegment("v1")
-                .addPathSegment("apps")
-                .addPathSegment(appToken)
-                .addPathSegment("tables")
-                .addPathSegment(tableId)
-                .addPathSegment("records")
-                .addPathSegment("search");
-        if (StrUtil.isNotBlank(pageToken)) {
-            urlBuilder.addQueryParameter("page_token", pageToken);
-        }
-        if (pageSize != null) {
-            urlBuilder.addQueryParameter("page_size", String.valueOf(pageSize));
-        }
-        QueryRecordReq bodyReq = buildQueryRecordBody(req);
-        String payload;
-        try {
-            payload = objectMapper.writeValueAsString(bodyReq);
-        } catch (Exception e) {
-            String message = StrUtil.format("[飞书多维表格][查询记录]序列化请求失败: {}", e.getMessage());
-            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, message, e);
-        }
-        RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, payload);
-        Request request = new Request.Builder()
-                .url(urlBuilder.build())
-                .addHeader("Authorization", buildAuthorization(appId, appSecret))
-                .addHeader("Accept-Charset", "utf-8")
-                .addHeader("Content-Type", "application/json")
-                .post(requestBody)
-                .build();
-        try (Response response = OK_HTTP_CLIENT.newCall(request).execute()) {
-            if (response.body() == null) {
-                return null;
-            }
-            return response.body().string();
-        } catch (Exception e) {
-            String message = StrUtil.format("[飞书多维表格][查询记录]接口请求失败: {}", e.getMessage());
-            throw new BitableException(BitableErrorCode.FEISHU_API_ERROR, message, e);
-        }
+    public CompletableFuture<BatchUpdateRecordRes> batchUpdateRecordAsync(String appId, String appSecret, String appToken,
+                                                                          String tableId, BatchUpdateRecordReq req) {
+        return supplyAsync(() -> batchUpdateRecord(appId, appSecret, appToken, tableId, req));
     }
 
     /**
-     * 按页查询记录
+     * 异步分片批量更新记录。
      *
-     * @param appId     应用 ID
-     * @param appSecret 应用密钥
-     * @param appToken  应用令牌
-     * @param tableId   表格 ID
-     * @param req       查询条件
-     * @param pageNo    页码
-     * @return 查询结果
-     */
-    private QueryRecordRes queryRecordByPage(String appId, String appSecret, String appToken, String tableId,
-                                             QueryRecordReq req, int pageNo) {
-        int pageSize = req.getPageSize() == null ? DEFAULT_PAGE_SIZE : req.getPageSize();
-        String pageToken = null;
+     * @param appId                  应用ID
+     * @param appSecret              应用密钥
+     * @param appToken               多维表格 App 的唯一标识
+     * @param tableId                多维表格数据表的唯一标识
+     * @param userIdType             用户 ID 类型
+     * @param ignoreConsistencyCheck 是否忽略一致性校验
+     * @param req                    批量更新记录请求体
+     * @return 合并结果（异步）
+     */
+    public CompletableFuture<BatchRecordResult> bulkUpdateRecordsAsync(String appId, String appSecret, String appToken,
+                                                                       String tableId, String userIdType,
+                                                                       Boolean ignoreConsistencyCheck,
+                                                                       BatchUpdateRecordReq req) {
+        return supplyAsync(() -> bulkUpdateRecords(appId, appSecret, appToken, tableId, userIdType,
+                ignoreConsistencyCheck, req));
+    }
+
+    /**
+     * 异步查询记录。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       请求参数
+     * @return 查询结果（异步）
+     */
+    public CompletableFuture<QueryRecordRes> queryRecordAsync(String appId, String appSecret, String appToken, String tableId,
+                                                              QueryRecordReq req) {
+        return supplyAsync(() -> queryRecord(appId, appSecret, appToken, tableId, req));
+    }
+
+    /**
+     * 异步查询记录并映射为实体列表。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       请求参数
+     * @param clazz     实体类型
+     * @return 实体列表（异步）
+     */
+    public <T> CompletableFuture<List<T>> queryRecordAsync(String appId, String appSecret, String appToken, String tableId,
+                                                           QueryRecordReq req, Class<T> clazz) {
+        return supplyAsync(() -> queryRecord(appId, appSecret, appToken, tableId, req, clazz));
+    }
+
+    /**
+     * 异步删除记录。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param recordId  记录 ID
+     * @return 删除结果（异步）
+     */
+    public CompletableFuture<DeleteRecordRes> deleteRecordAsync(String appId, String appSecret, String appToken, String tableId,
+                                                                String recordId) {
+        return supplyAsync(() -> deleteRecord(appId, appSecret, appToken, tableId, recordId));
+    }
+
+    /**
+     * 异步批量删除记录。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       批量删除记录请求体
+     * @return 批量删除结果（异步）
+     */
+    public CompletableFuture<BatchDeleteRecordRes> batchDeleteRecordAsync(String appId, String appSecret, String appToken,
+                                                                          String tableId, BatchDeleteRecordReq req) {
+        return supplyAsync(() -> batchDeleteRecord(appId, appSecret, appToken, tableId, req));
+    }
+
+    /**
+     * 异步分片批量删除记录。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       批量删除记录请求体
+     * @return 合并结果（异步）
+     */
+    public CompletableFuture<BatchRecordResult> bulkDeleteRecordsAsync(String appId, String appSecret, String appToken,
+                                                                       String tableId, BatchDeleteRecordReq req) {
+        return supplyAsync(() -> bulkDeleteRecords(appId, appSecret, appToken, tableId, req));
+    }
+
+    /**
+     * 异步批量获取记录。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param req       批量获取记录请求体
+     * @return 批量获取结果（异步）
+     */
+    public CompletableFuture<BatchGetRecordRes> batchGetRecordAsync(String appId, String appSecret, String appToken,
+                                                                    String tableId, BatchGetRecordReq req) {
+        return supplyAsync(() -> batchGetRecord(appId, appSecret, appToken, tableId, req));
+    }
+
+    /**
+     * 在后台执行器上异步执行，参数校验失败与接口异常均体现为异常完成的 Future。
+     *
+     * @param call 同步调用
+     * @param <R>  返回类型
+     * @return 异步结果
+     */
+    private <R> CompletableFuture<R> supplyAsync(Supplier<R> call) {
+        return CompletableFuture.supplyAsync(call, fsDwTaskExecutor);
+    }
+
+    /**
+     * 执行单次批量新增记录请求。
+     *
+     * @param appId                  应用ID
+     * @param appSecret              应用密钥
+     * @param appToken               多维表格 App 的唯一标识
+     * @param tableId                多维表格数据表的唯一标识
+     * @param userIdType             用户 ID 类型
+     * @param clientToken            幂等请求标识
+     * @param ignoreConsistencyCheck 是否忽略一致性校验
+     * @param records                记录列表（不超过服务端上限）
+     * @return 批量新增结果
+     */
+    private BatchCreateRecordRes doBatchCreateRecord(String appId, String appSecret, String appToken, String tableId,
+                                                     String userIdType, String clientToken, Boolean ignoreConsistencyCheck,
+                                                     List<BatchCreateRecordReq.Record> records) {
+        BatchCreateRecordReq req = new BatchCreateRecordReq();
+        req.setRecords(records);
+        // 重试时复用同一 client_token，保证重复提交不会新增重复记录
+        String requestToken = StrUtil.isBlank(clientToken) ? UUID.randomUUID().toString() : clientToken;
+        BatchCreateRecordRes result = invoke("批量新增记录", appId, appToken, tableId,
+                () -> {
+                    fsDwMetrics.recordBatchSize(records.size());
+                    return fsDwRecordApi.batchCreateRecord(buildAuthorization(appId, appSecret), appToken, tableId,
+                            userIdType, requestToken, ignoreConsistencyCheck, req);
+                },
+                BatchCreateRecordRes.class);
+        invalidateTable(appToken, tableId);
+        log.info("[飞书多维表格]批量新增记录成功, code={}, size={}", result.getCode(), records.size());
+        return result;
+    }
+
+    /**
+     * 执行单次批量更新记录请求。
+     *
+     * @param appId                  应用ID
+     * @param appSecret              应用密钥
+     * @param appToken               多维表格 App 的唯一标识
+     * @param tableId                多维表格数据表的唯一标识
+     * @param userIdType             用户 ID 类型
+     * @param ignoreConsistencyCheck 是否忽略一致性校验
+     * @param records                记录列表（不超过服务端上限）
+     * @return 批量更新结果
+     */
+    private BatchUpdateRecordRes doBatchUpdateRecord(String appId, String appSecret, String appToken, String tableId,
+                                                     String userIdType, Boolean ignoreConsistencyCheck,
+                                                     List<BatchUpdateRecordReq.Record> records) {
+        BatchUpdateRecordReq req = new BatchUpdateRecordReq();
+        req.setRecords(records);
+        BatchUpdateRecordRes result = invoke("批量更新记录", appId, appToken, tableId,
+                () -> {
+                    fsDwMetrics.recordBatchSize(records.size());
+                    return fsDwRecordApi.batchUpdateRecord(buildAuthorization(appId, appSecret), appToken, tableId,
+                            userIdType, ignoreConsistencyCheck, req);
+                },
+                BatchUpdateRecordRes.class);
+        invalidateTable(appToken, tableId);
+        log.info("[飞书多维表格]批量更新记录成功, code={}, size={}", result.getCode(), records.size());
+        return result;
+    }
+
+    /**
+     * 执行单次批量删除记录请求。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param recordIds 记录 ID 列表（不超过服务端上限）
+     * @return 批量删除结果
+     */
+    private BatchDeleteRecordRes doBatchDeleteRecord(String appId, String appSecret, String appToken, String tableId,
+                                                     List<String> recordIds) {
+        BatchDeleteRecordReq req = new BatchDeleteRecordReq();
+        req.setRecords(recordIds);
+        BatchDeleteRecordRes result = invoke("批量删除记录", appId, appToken, tableId,
+                () -> {
+                    fsDwMetrics.recordBatchSize(recordIds.size());
+                    return fsDwRecordApi.batchDeleteRecord(buildAuthorization(appId, appSecret), appToken, tableId, req);
+                },
+                BatchDeleteRecordRes.class);
+        invalidateTable(appToken, tableId);
+        log.info("[飞书多维表格]批量删除记录成功, code={}, size={}", result.getCode(), recordIds.size());
+        return result;
+    }
+
+    /**
+     * 计算分片大小（配置值与服务端上限取小）。
+     *
+     * @param serverMaxSize 服务端单次上限
+     * @return 分片大小
+     */
+    private int resolveChunkSize(int serverMaxSize) {
+        return Math.max(1, Math.min(properties.getBatch().getChunkSize(), serverMaxSize));
+    }
+
+    /**
+     * 按分片派生幂等标识，保证同一 clientToken 重试时各分片标识稳定且互不相同。
+     *
+     * @param clientToken 原始幂等标识
+     * @param chunkIndex  分片下标
+     * @return 分片幂等标识
+     */
+    private static String deriveClientToken(String clientToken, int chunkIndex) {
+        if (StrUtil.isBlank(clientToken)) {
+            return null;
+        }
+        byte[] seed = (clientToken + "#" + chunkIndex).getBytes(StandardCharsets.UTF_8);
+        return UUID.nameUUIDFromBytes(seed).toString();
+    }
+
+    /**
+     * 拆分并派发分片。
+     *
+     * <p>按配置的并行度在后台执行器上并发处理分片，单个分片的异常被记录在对应结果中而不会中断其他分片。
+     * 启用辅助类并发模式时改由 {@link FsDwTaskScope} 按在途上限并发处理。</p>
+     *
+     * @param items     输入列表
+     * @param chunkSize 分片大小
+     * @param call      分片处理
+     * @return 按分片顺序排列的结果
+     */
+    private <Q, R> List<ChunkOutcome<R>> dispatchChunks(List<Q> items, int chunkSize, ChunkCall<Q, R> call) {
+        int chunkCount = (items.size() + chunkSize - 1) / chunkSize;
+        if (fsDwTaskScope.isConcurrent()) {
+            List<Integer> chunkIndexes = IntStream.range(0, chunkCount).boxed().toList();
+            return fsDwTaskScope.invokeAll(chunkIndexes, chunkIndex -> {
+                int from = chunkIndex * chunkSize;
+                int to = Math.min(items.size(), from + chunkSize);
+                return runChunk(call, chunkIndex, from, items.subList(from, to));
+            });
+        }
+        List<ChunkOutcome<R>> outcomes = new ArrayList<>(Collections.nCopies(chunkCount, null));
+        AtomicInteger nextChunk = new AtomicInteger();
+        Runnable worker = () -> {
+            int chunkIndex;
+            while ((chunkIndex = nextChunk.getAndIncrement()) < chunkCount) {
+                int from = chunkIndex * chunkSize;
+                int to = Math.min(items.size(), from + chunkSize);
+                outcomes.set(chunkIndex, runChunk(call, chunkIndex, from, items.subList(from, to)));
+            }
+        };
+        int parallelism = Math.min(chunkCount, Math.max(1, properties.getBatch().getParallelism()));
+        List<AtomicBoolean> startFlags = new ArrayList<>(parallelism - 1);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(parallelism - 1);
+        for (int i = 1; i < parallelism; i++) {
+            AtomicBoolean started = new AtomicBoolean();
+            startFlags.add(started);
+            futures.add(CompletableFuture.runAsync(() -> {
+                if (started.compareAndSet(false, true)) {
+                    worker.run();
+                }
+            }, fsDwTaskExecutor));
+        }
+        // 调用线程同样参与处理，避免执行器繁忙时空等
+        worker.run();
+        // 只等待已开始的后台任务；调用方自身运行在执行器上（异步接口）时，排队中的任务可能永远得不到线程
+        for (int i = 0; i < futures.size(); i++) {
+            if (!startFlags.get(i).compareAndSet(false, true)) {
+                futures.get(i).join();
+            }
+        }
+        return outcomes;
+    }
+
+    /**
+     * 执行单个分片并捕获异常。
+     *
+     * @param call       分片处理
+     * @param chunkIndex 分片下标
+     * @param offset     分片首条记录的输入下标
+     * @param chunk      分片数据
+     * @return 分片结果
+     */
+    private <Q, R> ChunkOutcome<R> runChunk(ChunkCall<Q, R> call, int chunkIndex, int offset, List<Q> chunk) {
+        try {
+            return new ChunkOutcome<>(offset, chunk.size(), call.call(chunkIndex, chunk), null);
+        } catch (BitableException e) {
+            log.warn("[飞书多维表格]分片处理失败, chunk={}, offset={}, size={}, msg={}", chunkIndex, offset,
+                    chunk.size(), e.getMessage());
+            return new ChunkOutcome<>(offset, chunk.size(), null, e);
+        } catch (RuntimeException e) {
+            log.warn("[飞书多维表格]分片处理失败, chunk={}, offset={}, size={}", chunkIndex, offset, chunk.size(), e);
+            return new ChunkOutcome<>(offset, chunk.size(), null,
+                    new BitableException(BitableErrorCode.FEISHU_API_ERROR, e.getMessage(), e));
+        }
+    }
+
+    /**
+     * 合并各分片返回的记录；任一分片失败时抛出异常。
+     *
+     * @param action    操作名称
+     * @param outcomes  分片结果
+     * @param extractor 记录提取
+     * @return 合并后的记录列表
+     */
+    private <R, E> List<E> mergeChunkRecords(String action, List<ChunkOutcome<R>> outcomes, Function<R, List<E>> extractor) {
+        List<E> merged = new ArrayList<>();
+        for (ChunkOutcome<R> outcome : outcomes) {
+            if (outcome.error() != null) {
+                String message = StrUtil.format("[飞书多维表格][{}]分片失败, offset={}, size={}: {}", action,
+                        outcome.offset(), outcome.size(), outcome.error().getDetailMessage());
+                throw new BitableException(outcome.error().getErrorCode(), message, outcome.error());
+            }
+            List<E> records = extractor.apply(outcome.response());
+            if (records != null) {
+                merged.addAll(records);
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 使用首个分片的状态填充合并响应。
+     *
+     * @param merged   合并响应
+     * @param outcomes 分片结果
+     */
+    private static <R extends AbstractRes<?>> void fillMergedStatus(AbstractRes<?> merged, List<ChunkOutcome<R>> outcomes) {
+        R first = outcomes.get(0).response();
+        merged.setCode(first.getCode());
+        merged.setMsg(first.getMsg());
+    }
+
+    /**
+     * 构建按输入下标合并的结果。
+     *
+     * @param total    输入总数
+     * @param outcomes 分片结果
+     * @param resolver record_id 解析
+     * @return 合并结果
+     */
+    private static <R> BatchRecordResult buildBatchRecordResult(int total, List<ChunkOutcome<R>> outcomes,
+                                                                RecordIdResolver<R> resolver) {
+        List<BatchRecordResult.Item> items = new ArrayList<>(total);
+        for (ChunkOutcome<R> outcome : outcomes) {
+            for (int offset = 0; offset < outcome.size(); offset++) {
+                int index = outcome.offset() + offset;
+                BatchRecordResult.Item item = new BatchRecordResult.Item();
+                item.setIndex(index);
+                if (outcome.error() != null) {
+                    item.setErrorCode(outcome.error().getCode());
+                    item.setErrorMsg(outcome.error().getDetailMessage());
+                } else {
+                    String recordId = resolver.resolve(outcome.response(), offset, index);
+                    item.setRecordId(recordId);
+                    item.setSuccess(StrUtil.isNotBlank(recordId));
+                    if (!item.isSuccess()) {
+                        item.setErrorCode(BitableErrorCode.FEISHU_API_ERROR.getCode());
+                        item.setErrorMsg("[飞书多维表格]服务端未确认该记录");
+                    }
+                }
+                items.add(item);
+            }
+        }
+        BatchRecordResult result = new BatchRecordResult();
+        result.setTotal(total);
+        result.setItems(items);
+        return result;
+    }
+
+    /**
+     * 记录变更后失效该数据表的分页索引与读缓存。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    private void invalidateTable(String appToken, String tableId) {
+        fsDwPageTokenIndex.invalidateTable(appToken, tableId);
+        fsDwRecordCache.invalidateTable(appToken, tableId);
+    }
+
+    /**
+     * 序列化缓存查询键（仅在启用记录缓存时序列化）。
+     *
+     * @param req 请求体
+     * @return 查询键
+     */
+    private String serializeCacheQuery(Object req) {
+        if (!fsDwRecordCache.isEnabled()) {
+            return "";
+        }
+        try {
+            return objectMapper.writeValueAsString(req);
+        } catch (Exception e) {
+            String message = StrUtil.format("[飞书多维表格]序列化缓存键失败: {}", e.getMessage());
+            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, message, e);
+        }
+    }
+
+    /**
+     * 调用幂等接口并解析响应（经过限流与重试）。
+     *
+     * @param action   操作名称
+     * @param appId    应用ID
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识（可为空）
+     * @param call     接口调用
+     * @param clazz    响应类型
+     * @param <T>      响应类型
+     * @return 解析后的响应对象
+     */
+    private <T extends AbstractRes<?>> T invoke(String action, String appId, String appToken, String tableId,
+                                                Supplier<InputStream> call, Class<T> clazz) {
+        return invoke(action, true, appId, appToken, tableId, call, clazz);
+    }
+
+    /**
+     * 调用接口并解析响应（经过限流与重试，每次尝试都会重新获取限流令牌）。
+     *
+     * @param action     操作名称
+     * @param idempotent 是否幂等，非幂等调用只在服务端限流时重试
+     * @param appId      应用ID
+     * @param appToken   多维表格 App 的唯一标识
+     * @param tableId    多维表格数据表的唯一标识（可为空）
+     * @param call       接口调用
+     * @param clazz      响应类型
+     * @param <T>        响应类型
+     * @return 解析后的响应对象
+     */
+    private <T extends AbstractRes<?>> T invoke(String action, boolean idempotent, String appId, String appToken,
+                                                String tableId, Supplier<InputStream> call, Class<T> clazz) {
+        return invoke(action, idempotent, appId, appToken, tableId, call,
+                body -> fsDwResponseDecoder.decode(action, body, clazz));
+    }
+
+    /**
+     * 调用接口并使用指定解码方式解析响应（经过限流与重试，整个调用记录为一次观测）。
+     *
+     * @param action     操作名称
+     * @param idempotent 是否幂等，非幂等调用只在服务端限流时重试
+     * @param appId      应用ID
+     * @param appToken   多维表格 App 的唯一标识
+     * @param tableId    多维表格数据表的唯一标识（可为空）
+     * @param call       接口调用
+     * @param decoder    响应解码方式
+     * @param <T>        响应类型
+     * @return 解析后的响应对象
+     */
+    private <T extends AbstractRes<?>> T invoke(String action, boolean idempotent, String appId, String appToken,
+                                                String tableId, Supplier<InputStream> call,
+                                                Function<InputStream, T> decoder) {
+        return fsDwMetrics.observe(action, tableId, () -> fsDwRetryer.execute(action, idempotent,
+                () -> fsDwRateLimiter.execute(appId, appToken, tableId, () -> {
+                    T result = decoder.apply(fsDwMetrics.countResponse(call.get()));
+                    checkResponseCode(action, result);
+                    return result;
+                })));
+    }
+
+    /**
+     * 构建授权信息。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @return Authorization header 值
+     */
+    private String buildAuthorization(String appId, String appSecret) {
+        String token = fsDwTokenService.getToken(appId, appSecret);
+        BitableAssert.notBlank(token, BitableErrorCode.TOKEN_ACQUIRE_FAILED, "[飞书多维表格]token获取失败");
+        return FsDwConstants.AUTHORIZATION_PREFIX + token;
+    }
+
+    /**
+     * 校验接口返回码，失败时抛出携带飞书错误码的异常（限流错误码映射为 RATE_LIMITED）。
+     *
+     * @param action 操作名称
+     * @param result 响应对象
+     */
+    private void checkResponseCode(String action, AbstractRes<?> result) {
+        Integer code = result.getCode();
+        if (SUCCESS_CODE.equals(code)) {
+            return;
+        }
+        BitableErrorCode errorCode = fsDwRateLimiter.isRateLimitCode(code)
+                ? BitableErrorCode.RATE_LIMITED : BitableErrorCode.FEISHU_API_ERROR;
+        String message = StrUtil.format("[飞书多维表格][{}]失败, code={}, msg={}, error={}",
+                action, code, result.getMsg(), result.getError());
+        throw new BitableException(errorCode, message, code);
+    }
+
+    /**
+     * 校验表格信息。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     */
+    private void validateTableInfo(String appToken, String tableId) {
+        BitableAssert.notBlank(appToken, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]appToken不能为空");
+        BitableAssert.notBlank(tableId, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]tableId不能为空");
+    }
+
+    /**
+     * 校验记录 ID。
+     *
+     * @param recordId 记录唯一标识
+     */
+    private void validateRecordId(String recordId) {
+        BitableAssert.notBlank(recordId, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]recordId不能为空");
+    }
+
+    /**
+     * 校验批量新增请求。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @param req      批量新增记录请求体
+     */
+    private void validateBatchCreateRequest(String appToken, String tableId, BatchCreateRecordReq req) {
+        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增记录请求不能为空");
+        BitableAssert.notEmpty(req.getRecords(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增记录不能为空");
+        validateTableInfo(appToken, tableId);
+        validateBatchCreateRecords(req);
+    }
+
+    /**
+     * 校验批量更新请求。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @param req      批量更新记录请求体
+     */
+    private void validateBatchUpdateRequest(String appToken, String tableId, BatchUpdateRecordReq req) {
+        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新记录请求不能为空");
+        BitableAssert.notEmpty(req.getRecords(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新记录不能为空");
+        validateTableInfo(appToken, tableId);
+        validateBatchUpdateRecords(req);
+    }
+
+    /**
+     * 校验批量删除请求。
+     *
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识
+     * @param req      批量删除记录请求体
+     */
+    private void validateBatchDeleteRequest(String appToken, String tableId, BatchDeleteRecordReq req) {
+        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量删除记录请求不能为空");
+        BitableAssert.notEmpty(req.getRecords(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量删除记录不能为空");
+        validateTableInfo(appToken, tableId);
+    }
+
+    /**
+     * 批量创建记录。
+     *
+     * @param req 批量新增记录请求体
+     */
+    private void validateBatchCreateRecords(BatchCreateRecordReq req) {
+        if (req == null || req.getRecords() == null) {
+            return;
+        }
+        for (BatchCreateRecordReq.Record record : req.getRecords()) {
+            BitableAssert.notNull(record, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增记录项不能为空");
+            BitableAssert.notEmpty(record.getFields(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增记录字段不能为空");
+        }
+    }
+
+    /**
+     * 批量更新记录。
+     *
+     * @param req 批量更新记录请求体
+     */
+    private void validateBatchUpdateRecords(BatchUpdateRecordReq req) {
+        if (req == null || req.getRecords() == null) {
+            return;
+        }
+        for (BatchUpdateRecordReq.Record record : req.getRecords()) {
+            BitableAssert.notNull(record, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新记录项不能为空");
+            BitableAssert.notBlank(record.getRecordId(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新recordId不能为空");
+            BitableAssert.notEmpty(record.getFields(), BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量更新记录字段不能为空");
+        }
+    }
+
+    /**
+     * 经限流器查询一页记录并解析响应。
+     *
+     * @param appId     应用 ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param payload   序列化后的查询记录请求体
+     * @param pageToken 分页标记
+     * @param pageSize  分页大小
+     * @return 查询结果
+     */
+    private QueryRecordRes fetchQueryPage(String appId, String appSecret, String appToken, String tableId,
+                                          String payload, String pageToken, Integer pageSize) {
+        return invoke("查询记录", appId, appToken, tableId,
+                () -> executeQueryRecordRequest(appId, appSecret, appToken, tableId, payload, pageToken, pageSize),
+                QueryRecordRes.class);
+    }
+
+    /**
+     * 经限流器查询一页记录，并将响应直接流式解码为实体。
+     *
+     * @param appId     应用 ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param payload   序列化后的查询记录请求体
+     * @param pageToken 分页标记
+     * @param pageSize  分页大小
+     * @param mapper    实体映射器
+     * @return 实体页响应
+     */
+    private <T> QueryEntityRes<T> fetchEntityPage(String appId, String appSecret, String appToken, String tableId,
+                                                  String payload, String pageToken, Integer pageSize,
+                                                  FsDwEntityMapper<T> mapper) {
+        return invoke("查询记录", true, appId, appToken, tableId,
+                () -> executeQueryRecordRequest(appId, appSecret, appToken, tableId, payload, pageToken, pageSize),
+                body -> fsDwResponseDecoder.decodeEntityPage("查询记录", body, mapper));
+    }
+
+    /**
+     * 执行查询记录请求。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param payload   序列化后的查询记录请求体
+     * @param pageToken 分页 token
+     * @param pageSize  分页大小
+     * @return 接口响应体字节流（由调用方解码并关闭）
+     */
+    private InputStream executeQueryRecordRequest(String appId, String appSecret, String appToken, String tableId,
+                                                  String payload, String pageToken, Integer pageSize) {
+        HttpUrl baseUrl = HttpUrl.parse(FsDwConstants.OPEN_API_PREFIX);
+        BitableAssert.notNull(baseUrl, BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, "[飞书多维表格]查询记录URL构建失败");
+        HttpUrl.Builder urlBuilder = baseUrl.newBuilder()
+                .addPathSegment("bitable")
+                .addPathSegment("v1")
+                .addPathSegment("apps")
+                .addPathSegment(appToken)
+                .addPathSegment("tables")
+                .addPathSegment(tableId)
+                .addPathSegment("records")
+                .addPathSegment("search");
+        if (StrUtil.isNotBlank(pageToken)) {
+            urlBuilder.addQueryParameter("page_token", pageToken);
+        }
+        if (pageSize != null) {
+            urlBuilder.addQueryParameter("page_size", String.valueOf(pageSize));
+        }
+        RequestBody requestBody = RequestBody.create(JSON_MEDIA_TYPE, payload);
+        Request request = new Request.Builder()
+                .url(urlBuilder.build())
+                .addHeader("Authorization", buildAuthorization(appId, appSecret))
+                .addHeader("Accept-Charset", "utf-8")
+                .addHeader("Content-Type", "application/json")
+                .post(requestBody)
+                .build();
+        Response response;
+        try {
+            response = fsDwHttpTransport.getClient().newCall(request).execute();
+        } catch (IOException e) {
+            String message = StrUtil.format("[飞书多维表格][查询记录]接口请求失败: {}", e.getMessage());
+            throw new BitableException(BitableErrorCode.FEISHU_REQUEST_FAILED, message, e);
+        }
+        if (fsDwRateLimiter.isRateLimitStatus(response.code())) {
+            response.close();
+            throw new BitableException(BitableErrorCode.RATE_LIMITED,
+                    "[飞书多维表格][查询记录]服务端限流, status=" + response.code());
+        }
+        if (response.code() >= 500) {
+            response.close();
+            throw new BitableException(BitableErrorCode.FEISHU_REQUEST_FAILED,
+                    "[飞书多维表格][查询记录]服务端异常, status=" + response.code());
+        }
+        ResponseBody body = response.body();
+        if (body == null) {
+            response.close();
+            return null;
+        }
+        // 连接在解码器读取完毕并关闭字节流后释放
+        return body.byteStream();
+    }
+
+    /**
+     * 按页查询记录。
+     *
+     * <p>优先从分页 token 索引中找到不超过目标页的最近已知页，从该页继续翻页；
+     * 翻页过程中记录新的页边界。若缓存的 page_token 请求失败，则清除该查询形态后从第一页重新翻页。</p>
+     *
+     * @param appId     应用 ID
+     * @param appSecret 应用密钥
+     * @param appToken  应用令牌
+     * @param tableId   表格 ID
+     * @param req       查询条件
+     * @param pageNo    页码
+     * @return 查询结果
+     */
+    private QueryRecordRes queryRecordByPage(String appId, String appSecret, String appToken, String tableId,
+                                             QueryRecordReq req, int pageNo) {
+        int pageSize = req.getPageSize() == null ? DEFAULT_PAGE_SIZE : req.getPageSize();
+        String payload = serializeQueryRecordBody(req);
+        FsDwPageTokenIndex.PageQueryKey key = new FsDwPageTokenIndex.PageQueryKey(appToken, tableId, pageSize, payload);
+        Map.Entry<Integer, String> known = fsDwPageTokenIndex.floor(key, pageNo);
+        if (known != null) {
+            QueryRecordRes result = walkPages(appId, appSecret, key, payload, known.getKey(), known.getValue(), pageNo);
+            if (result != null) {
+                return result;
+            }
+        }
+        return walkPages(appId, appSecret, key, payload, 1, null, pageNo);
+    }
+
+    /**
+     * 从指定页开始顺序翻页至目标页。
+     *
+     * @param appId     应用 ID
+     * @param appSecret 应用密钥
+     * @param key       查询形态
+     * @param payload   序列化后的查询记录请求体
+     * @param startPage 起始页码
+     * @param pageToken 获取起始页使用的 page_token
+     * @param pageNo    目标页码
+     * @return 查询结果，缓存的起始 page_token 失效时返回 null
+     */
+    private QueryRecordRes walkPages(String appId, String appSecret, FsDwPageTokenIndex.PageQueryKey key,
+                                     String payload, int startPage, String pageToken, int pageNo) {
         QueryRecordRes lastRes = null;
-        for (int currentPage = 1; currentPage <= pageNo; currentPage++) {
-            String res = executeQueryRecordRequest(appId, appSecret, appToken, tableId, req, pageToken, pageSize);
-            lastRes = parseResponse("查询记录", res, QueryRecordRes.class);
-            if (currentPage == pageNo) {
-                return lastRes;
+        for (int currentPage = startPage; currentPage <= pageNo; currentPage++) {
+            try {
+                lastRes = fetchQueryPage(appId, appSecret, key.appToken(), key.tableId(), payload,
+                        pageToken, key.pageSize());
+            } catch (BitableException e) {
+                if (currentPage != startPage || startPage == 1 || e.getErrorCode() != BitableErrorCode.FEISHU_API_ERROR) {
+                    throw e;
+                }
+                log.warn("[飞书多维表格]分页token已失效, 从第一页重新查询, page={}, msg={}", startPage, e.getMessage());
+                fsDwPageTokenIndex.invalidate(key);
+                return null;
             }
             QueryRecordRes.RecordRes data = lastRes.getData();
             boolean hasMore = data != null && Boolean.TRUE.equals(data.getHasMore());
             pageToken = data == null ? null : data.getPageToken();
+            if (hasMore && StrUtil.isNotBlank(pageToken)) {
+                fsDwPageTokenIndex.record(key, currentPage + 1, pageToken);
+            }
+            if (currentPage == pageNo) {
+                return lastRes;
+            }
             if (!hasMore || StrUtil.isBlank(pageToken)) {
                 break;
             }
@@ -507,6 +1490,43 @@ public class FsDwRecordService {
         return buildEmptyQueryRecordRes(lastRes);
     }
 
+    /**
+     * 打开记录游标。
+     *
+     * @param appId      应用ID
+     * @param appSecret  应用密钥
+     * @param appToken   多维表格 App 的唯一标识
+     * @param tableId    多维表格数据表的唯一标识
+     * @param req        请求参数
+     * @param pageMapper 页映射
+     * @return 记录游标
+     */
+    private <T> FsDwRecordCursor<T> openCursor(String appId, String appSecret, String appToken, String tableId,
+                                               QueryRecordReq req, Function<QueryRecordRes, List<T>> pageMapper) {
+        BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]查询记录请求不能为空");
+        validateTableInfo(appToken, tableId);
+        FsDwProperties.Cursor cursor = properties.getCursor();
+        int pageSize = req.getPageSize() == null ? cursor.getPageSize() : req.getPageSize();
+        String payload = serializeQueryRecordBody(req);
+        Function<String, QueryRecordRes> pageFetcher = pageToken -> fetchQueryPage(appId, appSecret, appToken,
+                tableId, payload, pageToken, pageSize);
+        return new FsDwRecordCursor<>(req.getPageToken(), pageFetcher, pageMapper,
+                cursor.isPrefetch() ? fsDwTaskExecutor : null);
+    }
+
+    /**
+     * 提取页内记录项。
+     *
+     * @param res 查询记录响应
+     * @return 记录项列表
+     */
+    private static List<QueryRecordRes.RecordRes.Item> toItems(QueryRecordRes res) {
+        if (res == null || res.getData() == null || res.getData().getItems() == null) {
+            return Collections.emptyList();
+        }
+        return res.getData().getItems();
+    }
+
     /**
      * 构建空的查询记录响应
      *
@@ -527,6 +1547,21 @@ public class FsDwRecordService {
         return empty;
     }
 
+    /**
+     * 序列化查询记录请求体。
+     *
+     * @param req 查询记录请求参数
+     * @return 请求体 JSON 字符串
+     */
+    private String serializeQueryRecordBody(QueryRecordReq req) {
+        try {
+            return objectMapper.writeValueAsString(buildQueryRecordBody(req));
+        } catch (Exception e) {
+            String message = StrUtil.format("[飞书多维表格][查询记录]序列化请求失败: {}", e.getMessage());
+            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, message, e);
+        }
+    }
+
     /**
      * 构建查询记录请求体
      *
@@ -542,4 +1577,54 @@ public class FsDwRecordService {
         bodyReq.setFilter(req.getFilter());
         return bodyReq;
     }
+
+    /**
+     * 分片处理。
+     *
+     * @param <Q> 输入类型
+     * @param <R> 响应类型
+     */
+    @FunctionalInterface
+    private interface ChunkCall<Q, R> {
+
+        /**
+         * 处理单个分片。
+         *
+         * @param chunkIndex 分片下标
+         * @param chunk      分片数据
+         * @return 分片响应
+         */
+        R call(int chunkIndex, List<Q> chunk);
+    }
+
+    /**
+     * 从分片响应中解析单条记录的 record_id。
+     *
+     * @param <R> 响应类型
+     */
+    @FunctionalInterface
+    private interface RecordIdResolver<R> {
+
+        /**
+         * 解析 record_id。
+         *
+         * @param response 分片响应
+         * @param offset   分片内下标
+         * @param index    输入下标
+         * @return record_id，未确认时返回 null
+         */
+        String resolve(R response, int offset, int index);
+    }
+
+    /**
+     * 分片结果。
+     *
+     * @param offset   分片首条记录的输入下标
+     * @param size     分片大小
+     * @param response 分片响应（失败时为 null）
+     * @param error    分片异常（成功时为 null）
+     * @param <R>      响应类型
+     */
+    private record ChunkOutcome<R>(int offset, int size, R response, BitableException error) {
+    }
 }
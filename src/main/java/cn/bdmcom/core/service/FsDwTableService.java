@@ -1,20 +1,28 @@
 package cn.bdmcom.core.service;
 
 import cn.bdmcom.core.api.FsDwTableApi;
+import cn.bdmcom.core.concurrent.FsDwRateLimiter;
+import cn.bdmcom.core.concurrent.FsDwRetryer;
+import cn.bdmcom.core.concurrent.FsDwTaskExecutor;
 import cn.bdmcom.core.domain.FsDwConstants;
 import cn.bdmcom.core.domain.req.BatchCreateTableReq;
 import cn.bdmcom.core.domain.req.BatchDeleteTableReq;
 import cn.bdmcom.core.domain.req.CreateTableReq;
 import cn.bdmcom.core.domain.req.UpdateTableReq;
 import cn.bdmcom.core.domain.res.*;
+import cn.bdmcom.core.http.FsDwResponseDecoder;
+import cn.bdmcom.core.metrics.FsDwMetrics;
 import cn.bdmcom.support.BitableAssert;
 import cn.bdmcom.support.BitableErrorCode;
 import cn.bdmcom.support.BitableException;
 import cn.hutool.core.util.StrUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
 /**
  * 飞书多维表格数据表服务。
  *
@@ -32,7 +40,19 @@ public class FsDwTableService {
     private FsDwTableApi fsDwTableApi;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    private FsDwResponseDecoder fsDwResponseDecoder;
+
+    @Autowired
+    private FsDwRateLimiter fsDwRateLimiter;
+
+    @Autowired
+    private FsDwRetryer fsDwRetryer;
+
+    @Autowired
+    private FsDwMetrics fsDwMetrics;
+
+    @Autowired
+    private FsDwTaskExecutor fsDwTaskExecutor;
 
     /**
      * 新增数据表
@@ -46,8 +66,9 @@ public class FsDwTableService {
     public CreateTableRes createTable(String appId, String appSecret, String appToken, CreateTableReq req) {
         BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]新增数据表请求不能为空");
         validateAppToken(appToken);
-        String res = fsDwTableApi.createTable(buildAuthorization(appId, appSecret), appToken, req);
-        CreateTableRes result = parseResponse("新增数据表", res, CreateTableRes.class);
+        CreateTableRes result = invoke("新增数据表", false, appId, appToken, null,
+                () -> fsDwTableApi.createTable(buildAuthorization(appId, appSecret), appToken, req),
+                CreateTableRes.class);
         log.info("[飞书多维表格]新增数据表成功, code={}", result.getCode());
         return result;
     }
@@ -64,8 +85,9 @@ public class FsDwTableService {
     public BatchCreateTableRes batchCreateTable(String appId, String appSecret, String appToken, BatchCreateTableReq req) {
         BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增数据表请求不能为空");
         validateAppToken(appToken);
-        String res = fsDwTableApi.batchCreateTable(buildAuthorization(appId, appSecret), appToken, req);
-        BatchCreateTableRes result = parseResponse("批量新增数据表", res, BatchCreateTableRes.class);
+        BatchCreateTableRes result = invoke("批量新增数据表", false, appId, appToken, null,
+                () -> fsDwTableApi.batchCreateTable(buildAuthorization(appId, appSecret), appToken, req),
+                BatchCreateTableRes.class);
         log.info("[飞书多维表格]批量新增数据表成功, code={}", result.getCode());
         return result;
     }
@@ -84,8 +106,9 @@ public class FsDwTableService {
         BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]更新数据表请求不能为空");
         validateAppToken(appToken);
         validateTableId(tableId);
-        String res = fsDwTableApi.updateTable(buildAuthorization(appId, appSecret), appToken, tableId, req);
-        UpdateTableRes result = parseResponse("更新数据表", res, UpdateTableRes.class);
+        UpdateTableRes result = invoke("更新数据表", appId, appToken, tableId,
+                () -> fsDwTableApi.updateTable(buildAuthorization(appId, appSecret), appToken, tableId, req),
+                UpdateTableRes.class);
         log.info("[飞书多维表格]更新数据表成功, code={}", result.getCode());
         return result;
     }
@@ -102,8 +125,9 @@ public class FsDwTableService {
     public DeleteTableRes deleteTable(String appId, String appSecret, String appToken, String tableId) {
         validateAppToken(appToken);
         validateTableId(tableId);
-        String res = fsDwTableApi.deleteTable(buildAuthorization(appId, appSecret), appToken, tableId);
-        DeleteTableRes result = parseResponse("删除数据表", res, DeleteTableRes.class);
+        DeleteTableRes result = invoke("删除数据表", appId, appToken, tableId,
+                () -> fsDwTableApi.deleteTable(buildAuthorization(appId, appSecret), appToken, tableId),
+                DeleteTableRes.class);
         log.info("[飞书多维表格]删除数据表成功, code={}", result.getCode());
         return result;
     }
@@ -120,8 +144,9 @@ public class FsDwTableService {
     public BatchDeleteTableRes batchDeleteTable(String appId, String appSecret, String appToken, BatchDeleteTableReq req) {
         BitableAssert.notNull(req, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量删除数据表请求不能为空");
         validateAppToken(appToken);
-        String res = fsDwTableApi.batchDeleteTable(buildAuthorization(appId, appSecret), appToken, req);
-        BatchDeleteTableRes result = parseResponse("批量删除数据表", res, BatchDeleteTableRes.class);
+        BatchDeleteTableRes result = invoke("批量删除数据表", appId, appToken, null,
+                () -> fsDwTableApi.batchDeleteTable(buildAuthorization(appId, appSecret), appToken, req),
+                BatchDeleteTableRes.class);
         log.info("[飞书多维表格]批量删除数据表成功, code={}", result.getCode());
         return result;
     }
@@ -138,12 +163,146 @@ public class FsDwTableService {
      */
     public ListTableRes listTables(String appId, String appSecret, String appToken, Integer pageSize, String pageToken) {
         validateAppToken(appToken);
-        String res = fsDwTableApi.listTables(buildAuthorization(appId, appSecret), appToken, pageSize, pageToken);
-        ListTableRes result = parseResponse("列出数据表", res, ListTableRes.class);
+        ListTableRes result = invoke("列出数据表", appId, appToken, null,
+                () -> fsDwTableApi.listTables(buildAuthorization(appId, appSecret), appToken, pageSize, pageToken),
+                ListTableRes.class);
         log.info("[飞书多维表格]列出数据表成功, code={}", result.getCode());
         return result;
     }
 
+    /**
+     * 异步新增数据表
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  应用令牌
+     * @param req       新增数据表请求
+     * @return 响应结果（异步）
+     */
+    public CompletableFuture<CreateTableRes> createTableAsync(String appId, String appSecret, String appToken,
+                                                              CreateTableReq req) {
+        return supplyAsync(() -> createTable(appId, appSecret, appToken, req));
+    }
+
+    /**
+     * 异步批量新增数据表
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  应用令牌
+     * @param req       批量新增数据表请求
+     * @return 响应结果（异步）
+     */
+    public CompletableFuture<BatchCreateTableRes> batchCreateTableAsync(String appId, String appSecret, String appToken,
+                                                                        BatchCreateTableReq req) {
+        return supplyAsync(() -> batchCreateTable(appId, appSecret, appToken, req));
+    }
+
+    /**
+     * 异步更新数据表
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  应用令牌
+     * @param tableId   数据表ID
+     * @param req       更新数据表请求
+     * @return 响应结果（异步）
+     */
+    public CompletableFuture<UpdateTableRes> updateTableAsync(String appId, String appSecret, String appToken, String tableId,
+                                                              UpdateTableReq req) {
+        return supplyAsync(() -> updateTable(appId, appSecret, appToken, tableId, req));
+    }
+
+    /**
+     * 异步删除数据表
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  应用令牌
+     * @param tableId   数据表ID
+     * @return 响应结果（异步）
+     */
+    public CompletableFuture<DeleteTableRes> deleteTableAsync(String appId, String appSecret, String appToken, String tableId) {
+        return supplyAsync(() -> deleteTable(appId, appSecret, appToken, tableId));
+    }
+
+    /**
+     * 异步批量删除数据表
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  应用令牌
+     * @param req       批量删除数据表请求
+     * @return 响应结果（异步）
+     */
+    public CompletableFuture<BatchDeleteTableRes> batchDeleteTableAsync(String appId, String appSecret, String appToken,
+                                                                        BatchDeleteTableReq req) {
+        return supplyAsync(() -> batchDeleteTable(appId, appSecret, appToken, req));
+    }
+
+    /**
+     * 异步列出数据表
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  应用令牌
+     * @param pageSize  分页大小
+     * @param pageToken 分页标记
+     * @return 响应结果（异步）
+     */
+    public CompletableFuture<ListTableRes> listTablesAsync(String appId, String appSecret, String appToken, Integer pageSize,
+                                                           String pageToken) {
+        return supplyAsync(() -> listTables(appId, appSecret, appToken, pageSize, pageToken));
+    }
+
+    /**
+     * 在后台执行器上异步执行，参数校验失败与接口异常均体现为异常完成的 Future。
+     *
+     * @param call 同步调用
+     * @param <R>  返回类型
+     * @return 异步结果
+     */
+    private <R> CompletableFuture<R> supplyAsync(Supplier<R> call) {
+        return CompletableFuture.supplyAsync(call, fsDwTaskExecutor);
+    }
+
+    /**
+     * 调用幂等接口并解析响应（经过限流与重试）。
+     *
+     * @param action   操作名称
+     * @param appId    应用ID
+     * @param appToken 多维表格 App 的唯一标识
+     * @param tableId  多维表格数据表的唯一标识（可为空）
+     * @param call     接口调用
+     * @param clazz    响应类型
+     * @param <T>      响应类型
+     * @return 解析后的响应对象
+     */
+    private <T> T invoke(String action, String appId, String appToken, String tableId,
+                         Supplier<InputStream> call, Class<T> clazz) {
+        return invoke(action, true, appId, appToken, tableId, call, clazz);
+    }
+
+    /**
+     * 调用接口并解析响应（经过限流与重试，每次尝试都会重新获取限流令牌，整个调用记录为一次观测）。
+     *
+     * @param action     操作名称
+     * @param idempotent 是否幂等，非幂等调用只在服务端限流时重试
+     * @param appId      应用ID
+     * @param appToken   多维表格 App 的唯一标识
+     * @param tableId    多维表格数据表的唯一标识（可为空）
+     * @param call       接口调用
+     * @param clazz      响应类型
+     * @param <T>        响应类型
+     * @return 解析后的响应对象
+     */
+    private <T> T invoke(String action, boolean idempotent, String appId, String appToken,
+                         String tableId, Supplier<InputStream> call, Class<T> clazz) {
+        return fsDwMetrics.observe(action, tableId, () -> fsDwRetryer.execute(action, idempotent,
+                () -> fsDwRateLimiter.execute(appId, appToken, tableId,
+                        () -> parseResponse(action, fsDwMetrics.countResponse(call.get()), clazz))));
+    }
+
     /**
      * 构建授权信息
      *
@@ -161,27 +320,35 @@ public class FsDwTableService {
      * 解析响应结果
      *
      * @param action 操作名称
-     * @param res    响应结果
+     * @param res    接口响应体字节流
      * @param clazz  响应结果类型
      * @param <T>    响应结果类型
      * @return 响应结果
      */
-    private <T> T parseResponse(String action, String res, Class<T> clazz) {
-        BitableAssert.notBlank(res, BitableErrorCode.FEISHU_RESPONSE_EMPTY, "[飞书多维表格][{}]响应为空", action);
-        try {
-            T result = objectMapper.readValue(res, clazz);
-            BitableAssert.notNull(result, BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, "[飞书多维表格][{}]解析结果为空", action);
-            if (result instanceof AbstractRes<?> abstractRes) {
-                BitableAssert.isTrue(SUCCESS_CODE.equals(abstractRes.getCode()), BitableErrorCode.FEISHU_API_ERROR,
-                        "[飞书多维表格][{}]失败, code={}, msg={}", action, abstractRes.getCode(), abstractRes.getMsg());
-            }
-            return result;
-        } catch (BitableException e) {
-            throw e;
-        } catch (Exception e) {
-            String message = StrUtil.format("[飞书多维表格][{}]解析响应失败: {}", action, res);
-            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, message, e);
+    private <T> T parseResponse(String action, InputStream res, Class<T> clazz) {
+        T result = fsDwResponseDecoder.decode(action, res, clazz);
+        if (result instanceof AbstractRes<?> abstractRes) {
+            checkResponseCode(action, abstractRes);
+        }
+        return result;
+    }
+
+    /**
+     * 校验接口返回码，失败时抛出携带飞书错误码的异常（限流错误码映射为 RATE_LIMITED）。
+     *
+     * @param action 操作名称
+     * @param result 响应对象
+     */
+    private void checkResponseCode(String action, AbstractRes<?> result) {
+        Integer code = result.getCode();
+        if (SUCCESS_CODE.equals(code)) {
+            return;
         }
+        BitableErrorCode errorCode = fsDwRateLimiter.isRateLimitCode(code)
+                ? BitableErrorCode.RATE_LIMITED : BitableErrorCode.FEISHU_API_ERROR;
+        String message = StrUtil.format("[飞书多维表格][{}]失败, code={}, msg={}, error={}",
+                action, code, result.getMsg(), result.getError());
+        throw new BitableException(errorCode, message, code);
     }
 
     /**
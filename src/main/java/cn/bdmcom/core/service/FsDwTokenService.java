@@ -1,15 +1,20 @@
 package cn.bdmcom.core.service;
 
+import cn.bdmcom.config.FsDwProperties;
 import cn.bdmcom.core.api.FsDwRecordApi;
+import cn.bdmcom.core.concurrent.FsDwRetryer;
 import cn.bdmcom.core.domain.req.QueryTokenReq;
 import cn.bdmcom.core.domain.res.QueryTokenRes;
+import cn.bdmcom.core.http.FsDwResponseDecoder;
+import cn.bdmcom.core.metrics.FsDwMetrics;
+import cn.bdmcom.core.tenant.FsDwTenantRegistry;
 import cn.bdmcom.support.BitableAssert;
 import cn.bdmcom.support.BitableErrorCode;
 import cn.bdmcom.support.BitableException;
 import cn.hutool.core.util.StrUtil;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -19,8 +24,13 @@ import java.util.concurrent.TimeUnit;
 /**
  * 飞书多维表格 Token 服务。
  *
- * <p>负责拉取 app_access_token 并使用 Caffeine 进行高性能内存缓存，
- * 支持自动过期、并发安全和统计信息。</p>
+ * <p>负责拉取 app_access_token 并使用 Caffeine 进行高性能内存缓存：</p>
+ * <ul>
+ *     <li>按服务端返回的 expire 设置每个 token 的有效期</li>
+ *     <li>同一应用的并发未命中只会发起一次请求，不同应用互不阻塞</li>
+ *     <li>剩余有效期进入提前刷新窗口后在后台异步刷新，请求线程直接使用旧 token</li>
+ *     <li>默认凭证与租户注册表中的凭证单独缓存、不受 maximumSize 淘汰，临时凭证再多也不会挤出租户 token</li>
+ * </ul>
  */
 @Slf4j
 public class FsDwTokenService {
@@ -31,32 +41,76 @@ public class FsDwTokenService {
     private static final Integer SUCCESS_CODE = 0;
 
     /**
-     * 提前刷新缓冲（秒）。
+     * 服务端未返回 expire 时的兜底有效期（毫秒）。
      */
-    private static final long TOKEN_REFRESH_BUFFER_SECONDS = 60L;
+    private static final long DEFAULT_TTL_MILLIS = 60_000L;
+
+    private final FsDwProperties.Token tokenProperties;
 
     /**
      * Token 缓存（按 appId + appSecret 维度）。
      * 使用 Caffeine 提供：
-     * - 自动过期（2小时）
-     * - 并发安全（基于 ConcurrentHashMap）
-     * - 淘汰策略（LRU）
+     * - 按条目过期（服务端 expire - 安全缓冲）
+     * - 按 key 合并并发加载
+     * - 提前异步刷新
      * - 统计信息
      */
-    private final Cache<String, String> tokenCache = Caffeine.newBuilder()
-            // 飞书 token 默认 2 小时过期
-            .expireAfterWrite(2, TimeUnit.HOURS)
-            // 最多缓存 100 个 token
-            .maximumSize(100)
-            // 开启统计
-            .recordStats()
-            .build();
+    private final LoadingCache<TokenKey, AccessToken> tokenCache;
+
+    /**
+     * 租户 Token 缓存（默认凭证与已注册租户，条目数随租户数变化，不按容量淘汰）。
+     */
+    private final LoadingCache<TokenKey, AccessToken> tenantTokenCache;
+
+    private final FsDwTenantRegistry tenantRegistry;
 
     @Autowired
     private FsDwRecordApi fsDwRecordApi;
 
     @Autowired
-    private ObjectMapper objectMapper;
+    private FsDwResponseDecoder fsDwResponseDecoder;
+
+    @Autowired
+    private FsDwRetryer fsDwRetryer;
+
+    @Autowired
+    private FsDwMetrics fsDwMetrics;
+
+    /**
+     * 使用默认配置创建 Token 服务。
+     */
+    public FsDwTokenService() {
+        this(new FsDwProperties.Token());
+    }
+
+    /**
+     * 创建 Token 服务。
+     *
+     * @param tokenProperties Token 缓存配置
+     */
+    public FsDwTokenService(FsDwProperties.Token tokenProperties) {
+        this(tokenProperties, null);
+    }
+
+    /**
+     * 创建 Token 服务，租户注册表中的凭证使用独立缓存。
+     *
+     * @param tokenProperties Token 缓存配置
+     * @param tenantRegistry  租户注册表（为空时全部凭证共用一个缓存）
+     */
+    public FsDwTokenService(FsDwProperties.Token tokenProperties, FsDwTenantRegistry tenantRegistry) {
+        this.tokenProperties = tokenProperties == null ? new FsDwProperties.Token() : tokenProperties;
+        this.tenantRegistry = tenantRegistry;
+        this.tokenCache = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, this.tokenProperties.getMaximumSize()))
+                .expireAfter(new AccessTokenExpiry())
+                .recordStats()
+                .build(this::loadToken);
+        this.tenantTokenCache = Caffeine.newBuilder()
+                .expireAfter(new AccessTokenExpiry())
+                .recordStats()
+                .build(this::loadToken);
+    }
 
     /**
      * 获取飞书多维表格 token。
@@ -68,52 +122,60 @@ public class FsDwTokenService {
     public String getToken(String appId, String appSecret) {
         BitableAssert.notBlank(appId, BitableErrorCode.PARAM_REQUIRED, "[飞书Token]appId不能为空");
         BitableAssert.notBlank(appSecret, BitableErrorCode.PARAM_REQUIRED, "[飞书Token]appSecret不能为空");
-        String cacheKey = buildCacheKey(appId, appSecret);
+        TokenKey cacheKey = buildCacheKey(appId, appSecret);
+        LoadingCache<TokenKey, AccessToken> cache = cacheOf(cacheKey);
 
-        // 尝试从缓存获取
-        String token = tokenCache.getIfPresent(cacheKey);
-        if (StrUtil.isNotBlank(token)) {
-            return token;
-        }
+        // 未命中时仅阻塞当前 key 的调用方，同 key 并发请求合并为一次加载
+        AccessToken token = cache.get(cacheKey);
 
-        // 缓存未命中，获取新 token
-        return refreshToken(cacheKey, appId, appSecret);
+        // 进入提前刷新窗口后触发后台刷新（同 key 的刷新会自动去重），本次仍返回当前 token
+        if (token.shouldRefresh(System.currentTimeMillis())) {
+            cache.refresh(cacheKey);
+        }
+        return token.getValue();
     }
 
     /**
-     * 刷新 token 并更新缓存。
+     * 拉取 token（缓存加载器）。
      *
-     * @param cacheKey  缓存键
-     * @param appId     应用ID
-     * @param appSecret 应用密钥
-     * @return 新的 token
+     * @param cacheKey 缓存键
+     * @return token
      */
-    private synchronized String refreshToken(String cacheKey, String appId, String appSecret) {
-        // 双重检查，避免重复请求
-        String existingToken = tokenCache.getIfPresent(cacheKey);
-        if (StrUtil.isNotBlank(existingToken)) {
-            return existingToken;
-        }
+    private AccessToken loadToken(TokenKey cacheKey) {
+        QueryTokenReq req = QueryTokenReq.builder()
+                .appId(cacheKey.appId())
+                .appSecret(cacheKey.appSecret())
+                .build();
+        QueryTokenRes queryTokenRes = fsDwMetrics.observe("获取Token", null, () -> fetchToken(req));
 
-        String res = fsDwRecordApi.getToken(QueryTokenReq.builder()
-                .appId(appId)
-                .appSecret(appSecret)
-                .build());
-        log.info("[飞书Token]获取响应成功");
-        QueryTokenRes queryTokenRes = parseTokenResponse(res);
-        BitableAssert.isTrue(SUCCESS_CODE.equals(queryTokenRes.getCode()), BitableErrorCode.TOKEN_ACQUIRE_FAILED,
-                "[飞书Token]获取失败, code={}, msg={}", queryTokenRes.getCode(), queryTokenRes.getMsg());
-        BitableAssert.notBlank(queryTokenRes.getAppAccessToken(), BitableErrorCode.TOKEN_ACQUIRE_FAILED,
-                "[飞书Token]获取失败, app_access_token为空");
-
-        // 计算实际过期时间（减去缓冲时间）
+        // 计算实际过期时间（减去缓冲时间）与提前刷新时间
         long ttlMillis = buildTtlMillis(queryTokenRes.getExpire());
-
-        // 存入缓存（使用 Caffeine 的 expireAfterWrite）
-        tokenCache.put(cacheKey, queryTokenRes.getAppAccessToken());
+        long refreshAheadMillis = Math.max(0L, tokenProperties.getRefreshAheadSeconds()) * 1000L;
+        long now = System.currentTimeMillis();
+        long refreshAt = now + Math.max(ttlMillis / 2, ttlMillis - refreshAheadMillis);
 
         log.info("[飞书Token]token已缓存, expire={}秒, ttl={}毫秒", queryTokenRes.getExpire(), ttlMillis);
-        return queryTokenRes.getAppAccessToken();
+        return new AccessToken(queryTokenRes.getAppAccessToken(), ttlMillis, refreshAt);
+    }
+
+    /**
+     * 请求 token 接口并校验响应（经过重试）。
+     *
+     * @param req 获取 token 请求
+     * @return token 响应
+     */
+    private QueryTokenRes fetchToken(QueryTokenReq req) {
+        QueryTokenRes queryTokenRes = fsDwRetryer.execute("获取Token", () -> fsDwResponseDecoder.decode("获取Token",
+                fsDwMetrics.countResponse(fsDwRecordApi.getToken(req)), QueryTokenRes.class));
+        log.info("[飞书Token]获取响应成功");
+        if (!SUCCESS_CODE.equals(queryTokenRes.getCode())) {
+            throw new BitableException(BitableErrorCode.TOKEN_ACQUIRE_FAILED, StrUtil.format(
+                    "[飞书Token]获取失败, code={}, msg={}", queryTokenRes.getCode(), queryTokenRes.getMsg()),
+                    queryTokenRes.getCode());
+        }
+        BitableAssert.notBlank(queryTokenRes.getAppAccessToken(), BitableErrorCode.TOKEN_ACQUIRE_FAILED,
+                "[飞书Token]获取失败, app_access_token为空");
+        return queryTokenRes;
     }
 
     /**
@@ -122,7 +184,16 @@ public class FsDwTokenService {
      * @return 缓存统计信息
      */
     public CacheStats getCacheStats() {
-        return tokenCache.stats();
+        return tokenCache.stats().plus(tenantTokenCache.stats());
+    }
+
+    /**
+     * 获取当前缓存条目数（近似值，用于监控）。
+     *
+     * @return 缓存条目数
+     */
+    public long getCacheSize() {
+        return tokenCache.estimatedSize() + tenantTokenCache.estimatedSize();
     }
 
     /**
@@ -132,9 +203,10 @@ public class FsDwTokenService {
      * @param appSecret 应用密钥
      */
     public void evictToken(String appId, String appSecret) {
-        String cacheKey = buildCacheKey(appId, appSecret);
+        TokenKey cacheKey = buildCacheKey(appId, appSecret);
         tokenCache.invalidate(cacheKey);
-        log.info("[飞书Token]已清除缓存, cacheKey={}", cacheKey);
+        tenantTokenCache.invalidate(cacheKey);
+        log.info("[飞书Token]已清除缓存, appId={}", appId);
     }
 
     /**
@@ -142,27 +214,21 @@ public class FsDwTokenService {
      */
     public void evictAll() {
         tokenCache.invalidateAll();
+        tenantTokenCache.invalidateAll();
         log.info("[飞书Token]已清除所有缓存");
     }
 
     /**
-     * 解析飞书多维表格 token 响应。
+     * 选择凭证所在的缓存：默认凭证与已注册租户使用租户缓存，其余使用共享缓存。
      *
-     * @param res 响应
-     * @return 解析结果
-     */
-    private QueryTokenRes parseTokenResponse(String res) {
-        BitableAssert.notBlank(res, BitableErrorCode.FEISHU_RESPONSE_EMPTY, "[飞书Token]响应为空");
-        try {
-            QueryTokenRes result = objectMapper.readValue(res, QueryTokenRes.class);
-            BitableAssert.notNull(result, BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR, "[飞书Token]解析结果为空");
-            return result;
-        } catch (BitableException e) {
-            throw e;
-        } catch (Exception e) {
-            throw new BitableException(BitableErrorCode.FEISHU_RESPONSE_PARSE_ERROR,
-                    "[飞书Token]解析响应失败: " + res, e);
+     * @param cacheKey 缓存键
+     * @return Token 缓存
+     */
+    private LoadingCache<TokenKey, AccessToken> cacheOf(TokenKey cacheKey) {
+        if (tenantRegistry != null && tenantRegistry.isRegistered(cacheKey.appId(), cacheKey.appSecret())) {
+            return tenantTokenCache;
         }
+        return tokenCache;
     }
 
     /**
@@ -172,8 +238,8 @@ public class FsDwTokenService {
      * @param appSecret 应用密钥
      * @return 缓存 key
      */
-    private String buildCacheKey(String appId, String appSecret) {
-        return appId + "_" + appSecret;
+    private TokenKey buildCacheKey(String appId, String appSecret) {
+        return new TokenKey(appId, appSecret);
     }
 
     /**
@@ -184,9 +250,98 @@ public class FsDwTokenService {
      */
     private long buildTtlMillis(Integer expireSeconds) {
         if (expireSeconds == null || expireSeconds <= 0) {
-            return 60_000L;
+            return DEFAULT_TTL_MILLIS;
         }
-        long safeSeconds = Math.max(1L, expireSeconds - TOKEN_REFRESH_BUFFER_SECONDS);
+        long safeSeconds = Math.max(1L, expireSeconds - Math.max(0L, tokenProperties.getExpireBufferSeconds()));
         return safeSeconds * 1000L;
     }
+
+    /**
+     * Token 缓存键。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     */
+    private record TokenKey(String appId, String appSecret) {
+    }
+
+    /**
+     * 缓存中的 token。
+     */
+    private static final class AccessToken {
+        private final String value;
+        private final long ttlMillis;
+        private final long refreshAtMillis;
+
+        /**
+         * 构造缓存 token。
+         *
+         * @param value           token 值
+         * @param ttlMillis       有效期（毫秒）
+         * @param refreshAtMillis 提前刷新时间点（毫秒时间戳）
+         */
+        private AccessToken(String value, long ttlMillis, long refreshAtMillis) {
+            this.value = value;
+            this.ttlMillis = ttlMillis;
+            this.refreshAtMillis = refreshAtMillis;
+        }
+
+        /**
+         * 获取 token 值。
+         *
+         * @return token 值
+         */
+        private String getValue() {
+            return value;
+        }
+
+        /**
+         * 获取有效期。
+         *
+         * @return 有效期（毫秒）
+         */
+        private long getTtlMillis() {
+            return ttlMillis;
+        }
+
+        /**
+         * 是否已进入提前刷新窗口。
+         *
+         * @param nowMillis 当前时间（毫秒时间戳）
+         * @return 是否需要刷新
+         */
+        private boolean shouldRefresh(long nowMillis) {
+            return nowMillis >= refreshAtMillis;
+        }
+    }
+
+    /**
+     * 按服务端 expire 计算的条目过期策略。
+     */
+    private static final class AccessTokenExpiry implements Expiry<TokenKey, AccessToken> {
+
+        /**
+         * 新建条目的有效期。
+         */
+        @Override
+        public long expireAfterCreate(TokenKey key, AccessToken value, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(value.getTtlMillis());
+        }
+
+        /**
+         * 刷新后条目的有效期（以新 token 为准）。
+         */
+        @Override
+        public long expireAfterUpdate(TokenKey key, AccessToken value, long currentTime, long currentDuration) {
+            return TimeUnit.MILLISECONDS.toNanos(value.getTtlMillis());
+        }
+
+        /**
+         * 读取不影响有效期。
+         */
+        @Override
+        public long expireAfterRead(TokenKey key, AccessToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
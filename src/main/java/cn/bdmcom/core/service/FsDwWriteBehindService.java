@@ -0,0 +1,160 @@
+package cn.bdmcom.core.service;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.concurrent.FsDwTaskExecutor;
+import cn.bdmcom.core.write.FsDwWriteBehindBuffer;
+import cn.bdmcom.core.write.FsDwWriteFailureListener;
+import cn.bdmcom.support.BitableAssert;
+import cn.bdmcom.support.BitableErrorCode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 飞书多维表格写缓冲服务。
+ *
+ * <p>按数据表管理写缓冲（{@link FsDwWriteBehindBuffer}）：</p>
+ * <ul>
+ *     <li>同一 appId + appToken + tableId 共用一个写缓冲，首次获取时创建（不同租户的写入互不混合）</li>
+ *     <li>单个守护线程定时检查各缓冲的刷新间隔，提交在后台执行器上进行</li>
+ *     <li>应用关闭时拒绝新的写入并提交全部待提交记录</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwWriteBehindService implements AutoCloseable {
+
+    private static final String THREAD_NAME = "fs-dw-write-behind";
+
+    /**
+     * 定时检查的最小间隔（毫秒）。
+     */
+    private static final long MIN_TICK_MILLIS = 10L;
+
+    @Autowired
+    private FsDwRecordService fsDwRecordService;
+
+    @Autowired
+    private FsDwTaskExecutor fsDwTaskExecutor;
+
+    @Autowired
+    private FsDwProperties properties;
+
+    /**
+     * appId/appToken/tableId -> 写缓冲。
+     */
+    private final ConcurrentMap<String, FsDwWriteBehindBuffer> buffers = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    private boolean closed;
+
+    /**
+     * 获取数据表的写缓冲，不存在时创建。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @return 写缓冲
+     */
+    public FsDwWriteBehindBuffer getBuffer(String appId, String appSecret, String appToken, String tableId) {
+        return getBuffer(appId, appSecret, appToken, tableId, null);
+    }
+
+    /**
+     * 获取数据表的写缓冲，不存在时使用指定失败监听器创建。
+     *
+     * <p>监听器只在创建写缓冲时生效，已存在的写缓冲沿用创建时的监听器。</p>
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @param appToken  多维表格 App 的唯一标识
+     * @param tableId   多维表格数据表的唯一标识
+     * @param listener  失败监听器（可为空）
+     * @return 写缓冲
+     */
+    public FsDwWriteBehindBuffer getBuffer(String appId, String appSecret, String appToken, String tableId,
+                                           FsDwWriteFailureListener listener) {
+        BitableAssert.notBlank(appToken, BitableErrorCode.APP_TOKEN_MISSING, "[飞书多维表格]appToken不能为空");
+        BitableAssert.notBlank(tableId, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]tableId不能为空");
+        String key = appId + "/" + appToken + "/" + tableId;
+        FsDwWriteBehindBuffer buffer = buffers.get(key);
+        if (buffer != null) {
+            return buffer;
+        }
+        synchronized (this) {
+            BitableAssert.isTrue(!closed, BitableErrorCode.WRITE_BUFFER_REJECTED, "[飞书多维表格]写缓冲服务已关闭");
+            ensureScheduler();
+            return buffers.computeIfAbsent(key, ignored -> new FsDwWriteBehindBuffer(appId,
+                    appSecret, appToken, tableId, properties.getWriteBehind(), fsDwRecordService,
+                    fsDwTaskExecutor, listener));
+        }
+    }
+
+    /**
+     * 在调用线程上提交全部写缓冲中的待提交记录。
+     */
+    public void flushAll() {
+        for (FsDwWriteBehindBuffer buffer : buffers.values()) {
+            buffer.flush();
+        }
+    }
+
+    /**
+     * 关闭服务：停止定时检查并关闭全部写缓冲（提交剩余记录）。
+     */
+    @Override
+    public void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (scheduler != null) {
+                scheduler.shutdownNow();
+            }
+        }
+        for (FsDwWriteBehindBuffer buffer : buffers.values()) {
+            try {
+                buffer.close();
+            } catch (RuntimeException e) {
+                log.error("[飞书多维表格]关闭写缓冲失败", e);
+            }
+        }
+        log.info("[飞书多维表格]写缓冲服务已关闭, buffers={}", buffers.size());
+    }
+
+    /**
+     * 首次创建写缓冲时启动定时检查线程。
+     */
+    private void ensureScheduler() {
+        if (scheduler != null) {
+            return;
+        }
+        long tickMillis = Math.max(MIN_TICK_MILLIS, properties.getWriteBehind().getFlushIntervalMillis() / 4);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, THREAD_NAME);
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::flushDue, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 触发已到刷新间隔的写缓冲。
+     */
+    private void flushDue() {
+        for (FsDwWriteBehindBuffer buffer : buffers.values()) {
+            try {
+                buffer.flushIfDue();
+            } catch (RuntimeException e) {
+                log.warn("[飞书多维表格]写缓冲定时刷新失败: {}", e.getMessage());
+            }
+        }
+    }
+}
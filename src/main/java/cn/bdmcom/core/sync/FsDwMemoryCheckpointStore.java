@@ -0,0 +1,44 @@
+package cn.bdmcom.core.sync;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 基于内存的水位线存储。
+ */
+public class FsDwMemoryCheckpointStore implements FsDwSyncCheckpointStore {
+
+    private final Map<String, Long> watermarks = new ConcurrentHashMap<>();
+
+    /**
+     * 读取水位线。
+     *
+     * @param syncKey 同步键
+     * @return 水位线（毫秒时间戳），不存在时返回 null
+     */
+    @Override
+    public Long load(String syncKey) {
+        return watermarks.get(syncKey);
+    }
+
+    /**
+     * 保存水位线。
+     *
+     * @param syncKey   同步键
+     * @param watermark 水位线（毫秒时间戳）
+     */
+    @Override
+    public void save(String syncKey, long watermark) {
+        watermarks.put(syncKey, watermark);
+    }
+
+    /**
+     * 删除水位线。
+     *
+     * @param syncKey 同步键
+     */
+    @Override
+    public void remove(String syncKey) {
+        watermarks.remove(syncKey);
+    }
+}
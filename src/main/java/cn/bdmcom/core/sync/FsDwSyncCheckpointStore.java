@@ -0,0 +1,32 @@
+package cn.bdmcom.core.sync;
+
+/**
+ * 增量同步水位线存储。
+ *
+ * <p>默认保存在内存中，应用重启后会重新全量同步；需要跨进程保留时可注册自定义实现（如数据库、Redis）。</p>
+ */
+public interface FsDwSyncCheckpointStore {
+
+    /**
+     * 读取水位线。
+     *
+     * @param syncKey 同步键
+     * @return 水位线（毫秒时间戳），不存在时返回 null
+     */
+    Long load(String syncKey);
+
+    /**
+     * 保存水位线。
+     *
+     * @param syncKey   同步键
+     * @param watermark 水位线（毫秒时间戳）
+     */
+    void save(String syncKey, long watermark);
+
+    /**
+     * 删除水位线（下次同步将重新全量读取）。
+     *
+     * @param syncKey 同步键
+     */
+    void remove(String syncKey);
+}
@@ -0,0 +1,13 @@
+package cn.bdmcom.core.sync;
+
+/**
+ * 增量同步事件（新增或修改后的记录）。
+ *
+ * @param recordId         记录 ID
+ * @param createdTime      创建时间（毫秒时间戳，未知时为 null）
+ * @param lastModifiedTime 最后修改时间（毫秒时间戳，未知时为 null）
+ * @param record           记录内容（实体或原始记录项）
+ * @param <T>              记录类型
+ */
+public record FsDwSyncEvent<T>(String recordId, Long createdTime, Long lastModifiedTime, T record) {
+}
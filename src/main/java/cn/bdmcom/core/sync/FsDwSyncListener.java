@@ -0,0 +1,22 @@
+package cn.bdmcom.core.sync;
+
+import java.util.List;
+
+/**
+ * 增量同步监听器。
+ *
+ * <p>事件按批回调，同一条记录可能因重试或回看窗口被重复投递，实现需按 recordId 幂等写入。
+ * 回调抛出异常时本次同步失败，水位线不会前移。</p>
+ *
+ * @param <T> 记录类型
+ */
+@FunctionalInterface
+public interface FsDwSyncListener<T> {
+
+    /**
+     * 处理一批新增或修改的记录。
+     *
+     * @param events 同步事件
+     */
+    void onUpsert(List<FsDwSyncEvent<T>> events);
+}
@@ -0,0 +1,68 @@
+package cn.bdmcom.core.sync;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 本地记录副本。
+ *
+ * <p>作为监听器接收同步事件并按 recordId 覆盖写入，适合在内存中维护一张小表的只读副本。
+ * 多维表格的删除不会产生同步事件，需要感知删除时请定期调用 {@link #clear()} 并重置水位线。</p>
+ *
+ * @param <T> 记录类型
+ */
+public class FsDwSyncLocalStore<T> implements FsDwSyncListener<T> {
+
+    private final Map<String, T> records = new ConcurrentHashMap<>();
+
+    /**
+     * 按 recordId 覆盖写入。
+     *
+     * @param events 同步事件
+     */
+    @Override
+    public void onUpsert(List<FsDwSyncEvent<T>> events) {
+        for (FsDwSyncEvent<T> event : events) {
+            if (event.recordId() != null && event.record() != null) {
+                records.put(event.recordId(), event.record());
+            }
+        }
+    }
+
+    /**
+     * 按 recordId 获取记录。
+     *
+     * @param recordId 记录 ID
+     * @return 记录，不存在时返回 null
+     */
+    public T get(String recordId) {
+        return records.get(recordId);
+    }
+
+    /**
+     * 获取全部记录（快照）。
+     *
+     * @return 记录列表
+     */
+    public List<T> values() {
+        return new ArrayList<>(records.values());
+    }
+
+    /**
+     * 记录数量。
+     *
+     * @return 记录数量
+     */
+    public int size() {
+        return records.size();
+    }
+
+    /**
+     * 清空副本。
+     */
+    public void clear() {
+        records.clear();
+    }
+}
@@ -0,0 +1,45 @@
+package cn.bdmcom.core.sync;
+
+import lombok.Data;
+
+/**
+ * 单次增量同步结果。
+ */
+@Data
+public class FsDwSyncResult {
+
+    /**
+     * 同步键。
+     */
+    private String syncKey;
+
+    /**
+     * 是否为全量同步（不存在水位线时）。
+     */
+    private boolean fullSync;
+
+    /**
+     * 从服务端读取的记录数。
+     */
+    private int fetchedCount;
+
+    /**
+     * 投递给监听器的记录数。
+     */
+    private int upsertCount;
+
+    /**
+     * 同步前的水位线（毫秒时间戳，全量同步时为 null）。
+     */
+    private Long previousWatermark;
+
+    /**
+     * 同步后的水位线（毫秒时间戳，数据表为空时为 null）。
+     */
+    private Long watermark;
+
+    /**
+     * 耗时（毫秒）。
+     */
+    private long costMillis;
+}
@@ -0,0 +1,59 @@
+package cn.bdmcom.core.sync;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 增量同步目标。
+ *
+ * <p>modifiedTimeField 为数据表中"修改时间"类型字段的名称。配置后每次只向服务端查询回看窗口之后修改的记录；
+ * 未配置时每次仍需全表翻页，只是仅投递发生变化的记录（每个同步键会输出一次 WARN 提示）。</p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FsDwSyncSpec {
+
+    /**
+     * 应用ID。
+     */
+    private String appId;
+
+    /**
+     * 应用密钥。
+     */
+    private String appSecret;
+
+    /**
+     * 多维表格 App 的唯一标识。
+     */
+    private String appToken;
+
+    /**
+     * 多维表格数据表的唯一标识。
+     */
+    private String tableId;
+
+    /**
+     * 视图 ID（可选）。
+     */
+    private String viewId;
+
+    /**
+     * "修改时间"类型字段名称（可选，用于服务端过滤）。
+     */
+    private String modifiedTimeField;
+
+    /**
+     * 生成同步键（用于区分水位线）。
+     *
+     * @return 同步键
+     */
+    public String syncKey() {
+        String key = appToken + "/" + tableId;
+        return viewId == null || viewId.isBlank() ? key : key + "/" + viewId;
+    }
+}
@@ -0,0 +1,88 @@
+package cn.bdmcom.core.tenant;
+
+import java.util.function.Supplier;
+
+/**
+ * 当前租户上下文。
+ *
+ * <p>在作用域内调用不带凭证参数的辅助类方法时，使用该租户的 appId/appSecret；作用域外使用默认凭证。
+ * 作用域可嵌套，结束后恢复外层租户；提交到 Starter 后台执行器的任务会继承提交时的租户。</p>
+ *
+ * <pre>
+ * List&lt;Order&gt; orders = FsDwTenantContext.callAs("acme", () -&gt; FsDwRecordHelper.queryRecords(Order.class));
+ * </pre>
+ */
+public final class FsDwTenantContext {
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private FsDwTenantContext() {
+    }
+
+    /**
+     * 获取当前租户。
+     *
+     * @return 租户名，未指定时为 null
+     */
+    public static String current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * 以指定租户执行。
+     *
+     * @param tenant 租户名（为 null 时使用默认凭证）
+     * @param action 执行内容
+     * @param <T>    返回类型
+     * @return 执行结果
+     */
+    public static <T> T callAs(String tenant, Supplier<T> action) {
+        String previous = CURRENT.get();
+        set(tenant);
+        try {
+            return action.get();
+        } finally {
+            set(previous);
+        }
+    }
+
+    /**
+     * 以指定租户执行。
+     *
+     * @param tenant 租户名（为 null 时使用默认凭证）
+     * @param action 执行内容
+     */
+    public static void runAs(String tenant, Runnable action) {
+        callAs(tenant, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * 包装任务，使其在执行线程上继承当前租户。
+     *
+     * @param task 任务
+     * @return 包装后的任务（当前未指定租户时原样返回）
+     */
+    public static Runnable wrap(Runnable task) {
+        String tenant = CURRENT.get();
+        if (tenant == null) {
+            return task;
+        }
+        return () -> runAs(tenant, task);
+    }
+
+    /**
+     * 设置当前租户。
+     *
+     * @param tenant 租户名
+     */
+    private static void set(String tenant) {
+        if (tenant == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(tenant);
+        }
+    }
+}
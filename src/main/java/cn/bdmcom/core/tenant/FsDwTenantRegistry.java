@@ -0,0 +1,182 @@
+package cn.bdmcom.core.tenant;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.support.BitableAssert;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.hutool.core.util.StrUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 租户注册表。
+ *
+ * <p>保存 duoweitable.tenants 中配置的租户，也可在运行时注册（如从数据库加载的租户）：</p>
+ * <ul>
+ *     <li>辅助类按 {@link FsDwTenantContext} 中的当前租户解析 appId/appSecret，未指定租户时使用默认凭证</li>
+ *     <li>限流器按 appId 查找租户配额（每秒请求数与并发请求数上限）</li>
+ *     <li>Token 服务为已注册凭证使用独立缓存，不受临时凭证数量影响</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwTenantRegistry {
+
+    private final FsDwProperties properties;
+
+    private final Map<String, FsDwProperties.Tenant> tenants = new ConcurrentHashMap<>();
+
+    private final Map<String, FsDwProperties.Tenant> tenantsByAppId = new ConcurrentHashMap<>();
+
+    /**
+     * 创建租户注册表并注册配置中的租户。
+     *
+     * @param properties 配置属性
+     */
+    public FsDwTenantRegistry(FsDwProperties properties) {
+        this.properties = properties == null ? new FsDwProperties() : properties;
+        if (this.properties.getTenants() != null) {
+            this.properties.getTenants().forEach(this::register);
+        }
+    }
+
+    /**
+     * 注册或替换租户。
+     *
+     * <p>替换租户后，已创建的限流令牌桶与并发预算在空闲回收后才按新配额重建。</p>
+     *
+     * @param name   租户名
+     * @param tenant 租户凭证与配额
+     */
+    public void register(String name, FsDwProperties.Tenant tenant) {
+        BitableAssert.notBlank(name, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]租户名不能为空");
+        BitableAssert.notNull(tenant, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]租户配置不能为空");
+        BitableAssert.notBlank(tenant.getAppId(), BitableErrorCode.APP_CREDENTIALS_MISSING,
+                StrUtil.format("[飞书多维表格]租户appId未配置, tenant={}", name));
+        BitableAssert.notBlank(tenant.getAppSecret(), BitableErrorCode.APP_CREDENTIALS_MISSING,
+                StrUtil.format("[飞书多维表格]租户appSecret未配置, tenant={}", name));
+        FsDwProperties.Tenant previous = tenants.put(name, tenant);
+        if (previous != null && !previous.getAppId().equals(tenant.getAppId())) {
+            tenantsByAppId.remove(previous.getAppId(), previous);
+        }
+        tenantsByAppId.put(tenant.getAppId(), tenant);
+        log.info("[飞书多维表格]已注册租户, tenant={}, appId={}", name, tenant.getAppId());
+    }
+
+    /**
+     * 注册或替换租户（使用全局配额）。
+     *
+     * @param name      租户名
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     */
+    public void register(String name, String appId, String appSecret) {
+        FsDwProperties.Tenant tenant = new FsDwProperties.Tenant();
+        tenant.setAppId(appId);
+        tenant.setAppSecret(appSecret);
+        register(name, tenant);
+    }
+
+    /**
+     * 移除租户。
+     *
+     * @param name 租户名
+     */
+    public void remove(String name) {
+        FsDwProperties.Tenant tenant = tenants.remove(name);
+        if (tenant != null) {
+            tenantsByAppId.remove(tenant.getAppId(), tenant);
+        }
+    }
+
+    /**
+     * 获取租户。
+     *
+     * @param name 租户名
+     * @return 租户凭证与配额
+     */
+    public FsDwProperties.Tenant getTenant(String name) {
+        FsDwProperties.Tenant tenant = tenants.get(name);
+        BitableAssert.notNull(tenant, BitableErrorCode.TENANT_NOT_FOUND,
+                StrUtil.format("[飞书多维表格]租户未配置, tenant={}", name));
+        return tenant;
+    }
+
+    /**
+     * 按 appId 查找租户。
+     *
+     * @param appId 应用ID
+     * @return 租户凭证与配额，未注册时为 null
+     */
+    public FsDwProperties.Tenant findByAppId(String appId) {
+        return appId == null ? null : tenantsByAppId.get(appId);
+    }
+
+    /**
+     * 是否为默认凭证或已注册租户的凭证。
+     *
+     * @param appId     应用ID
+     * @param appSecret 应用密钥
+     * @return 是否已注册
+     */
+    public boolean isRegistered(String appId, String appSecret) {
+        if (appId == null || appSecret == null) {
+            return false;
+        }
+        if (appId.equals(properties.getAppId()) && appSecret.equals(properties.getAppSecret())) {
+            return true;
+        }
+        FsDwProperties.Tenant tenant = tenantsByAppId.get(appId);
+        return tenant != null && appSecret.equals(tenant.getAppSecret());
+    }
+
+    /**
+     * 获取已注册的租户名。
+     *
+     * @return 租户名集合
+     */
+    public Set<String> getTenantNames() {
+        return Collections.unmodifiableSet(tenants.keySet());
+    }
+
+    /**
+     * 获取已注册的租户数。
+     *
+     * @return 租户数
+     */
+    public int size() {
+        return tenants.size();
+    }
+
+    /**
+     * 获取当前租户的应用ID（未指定租户时使用默认凭证）。
+     *
+     * @return 应用ID
+     */
+    public String requireAppId() {
+        String tenant = FsDwTenantContext.current();
+        if (tenant != null) {
+            return getTenant(tenant).getAppId();
+        }
+        String appId = properties.getAppId();
+        BitableAssert.notBlank(appId, BitableErrorCode.APP_CREDENTIALS_MISSING, "[飞书多维表格]appId未配置");
+        return appId;
+    }
+
+    /**
+     * 获取当前租户的应用密钥（未指定租户时使用默认凭证）。
+     *
+     * @return 应用密钥
+     */
+    public String requireAppSecret() {
+        String tenant = FsDwTenantContext.current();
+        if (tenant != null) {
+            return getTenant(tenant).getAppSecret();
+        }
+        String appSecret = properties.getAppSecret();
+        BitableAssert.notBlank(appSecret, BitableErrorCode.APP_CREDENTIALS_MISSING, "[飞书多维表格]appSecret未配置");
+        return appSecret;
+    }
+}
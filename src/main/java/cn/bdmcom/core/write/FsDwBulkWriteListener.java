@@ -0,0 +1,25 @@
+package cn.bdmcom.core.write;
+
+import cn.bdmcom.support.BitableException;
+
+import java.util.List;
+
+/**
+ * 批量写入失败监听器。
+ *
+ * <p>批量新增接口整批成功或整批失败，因此按批回调；单条记录转换失败时以单元素列表回调。
+ * 回调在工作线程上执行，抛出的异常只记录日志。</p>
+ *
+ * @param <T> 记录类型
+ */
+@FunctionalInterface
+public interface FsDwBulkWriteListener<T> {
+
+    /**
+     * 处理一批写入失败的记录。
+     *
+     * @param records 失败的记录
+     * @param error   失败原因
+     */
+    void onFailure(List<T> records, BitableException error);
+}
@@ -0,0 +1,361 @@
+package cn.bdmcom.core.write;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.domain.req.BatchCreateRecordReq;
+import cn.bdmcom.core.domain.res.BatchCreateRecordRes;
+import cn.bdmcom.core.helper.FsDwRecordHelper;
+import cn.bdmcom.support.BitableAssert;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 记录批量写入管道。
+ *
+ * <p>面向持续产生新记录的生产者（消息消费、日志处理等）：</p>
+ * <ul>
+ *     <li>逐条接收记录，放入有界队列，队列已满时写入阻塞等待，超过 offerTimeoutMillis 后抛出异常</li>
+ *     <li>工作线程从队列凑满一批（或等待 lingerMillis 后不足一批）后转换字段并调用批量新增接口</li>
+ *     <li>同时在途的批量新增请求不超过 maxInFlight，积压足够时才启动新的工作线程</li>
+ *     <li>统计接收、写入、失败与重试次数，失败的记录通过 {@link FsDwBulkWriteListener} 回调</li>
+ * </ul>
+ * <pre>
+ * try (FsDwRecordBulkWriter&lt;Order&gt; writer = FsDwRecordHelper.openBulkWriter(Order.class)) {
+ *     consumer.forEach(writer::add);
+ * }
+ * </pre>
+ *
+ * @param <T> 记录类型（实体或字段 Map）
+ */
+@Slf4j
+public class FsDwRecordBulkWriter<T> implements AutoCloseable {
+
+    /**
+     * 服务端单次批量新增上限。
+     */
+    private static final int BATCH_CREATE_MAX_SIZE = 1000;
+
+    /**
+     * 等待写入完成时重新检查状态的间隔（毫秒）。
+     */
+    private static final long IDLE_CHECK_MILLIS = 50L;
+
+    /**
+     * 批量新增提交方式。
+     */
+    @FunctionalInterface
+    public interface BatchSubmitter {
+
+        /**
+         * 提交一批记录（不超过服务端上限）。
+         *
+         * @param records 记录列表
+         * @param retries 重试计数器
+         * @return 批量新增结果
+         */
+        BatchCreateRecordRes submit(List<BatchCreateRecordReq.Record> records, LongAdder retries);
+    }
+
+    /**
+     * 写入统计快照。
+     *
+     * @param accepted 已接收的记录数
+     * @param written  已写入的记录数
+     * @param failed   写入失败的记录数
+     * @param retried  批量新增请求的重试次数
+     * @param pending  队列中等待写入的记录数
+     */
+    public record Stats(long accepted, long written, long failed, long retried, int pending) {
+    }
+
+    private final BlockingQueue<T> queue;
+
+    private final BatchSubmitter submitter;
+
+    private final Executor executor;
+
+    private final FsDwBulkWriteListener<T> listener;
+
+    private final int batchSize;
+
+    private final int maxInFlight;
+
+    private final long lingerNanos;
+
+    private final long offerTimeoutNanos;
+
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+
+    /**
+     * 正在等待写入完成的调用方数量，大于 0 时工作线程不再等待凑批。
+     */
+    private final AtomicInteger flushWaiters = new AtomicInteger();
+
+    private final LongAdder accepted = new LongAdder();
+
+    private final LongAdder written = new LongAdder();
+
+    private final LongAdder failed = new LongAdder();
+
+    private final LongAdder retried = new LongAdder();
+
+    private final Object idleMonitor = new Object();
+
+    private volatile boolean closed;
+
+    /**
+     * 创建批量写入管道。
+     *
+     * @param config    批量写入配置
+     * @param submitter 批量新增提交方式
+     * @param executor  工作线程执行器
+     * @param listener  失败监听器（可为空）
+     */
+    public FsDwRecordBulkWriter(FsDwProperties.BulkWriter config, BatchSubmitter submitter, Executor executor,
+                                FsDwBulkWriteListener<T> listener) {
+        BitableAssert.notNull(submitter, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]批量新增提交方式不能为空");
+        BitableAssert.notNull(executor, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]执行器不能为空");
+        FsDwProperties.BulkWriter bulkWriter = config == null ? new FsDwProperties.BulkWriter() : config;
+        this.batchSize = Math.max(1, Math.min(bulkWriter.getBatchSize(), BATCH_CREATE_MAX_SIZE));
+        this.maxInFlight = Math.max(1, bulkWriter.getMaxInFlight());
+        this.queue = new ArrayBlockingQueue<>(Math.max(batchSize, bulkWriter.getQueueCapacity()));
+        this.lingerNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, bulkWriter.getLingerMillis()));
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, bulkWriter.getOfferTimeoutMillis()));
+        this.submitter = submitter;
+        this.executor = executor;
+        this.listener = listener;
+    }
+
+    /**
+     * 写入一条记录，队列已满时阻塞等待。
+     *
+     * @param record 记录（实体或字段 Map）
+     */
+    public void add(T record) {
+        BitableAssert.notNull(record, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]对象不能为空");
+        ensureOpen();
+        boolean queued;
+        try {
+            queued = queue.offer(record, offerTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BitableException(BitableErrorCode.WRITE_BUFFER_REJECTED, "[飞书多维表格]等待写入队列被中断", e);
+        }
+        if (!queued) {
+            throw new BitableException(BitableErrorCode.WRITE_BUFFER_REJECTED,
+                    "[飞书多维表格]批量写入队列已满, capacity=" + (queue.size() + queue.remainingCapacity()));
+        }
+        accepted.increment();
+        startWorkers();
+    }
+
+    /**
+     * 逐条写入多条记录。
+     *
+     * @param records 记录列表
+     */
+    public void addAll(Collection<? extends T> records) {
+        BitableAssert.notNull(records, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]记录列表不能为空");
+        for (T record : records) {
+            add(record);
+        }
+    }
+
+    /**
+     * 等待已接收的记录全部写入（成功或失败）。
+     */
+    public void flush() {
+        flushWaiters.incrementAndGet();
+        try {
+            synchronized (idleMonitor) {
+                while (!queue.isEmpty() || activeWorkers.get() > 0) {
+                    startWorkers();
+                    idleMonitor.wait(IDLE_CHECK_MILLIS);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BitableException(BitableErrorCode.FEISHU_REQUEST_FAILED, "[飞书多维表格]等待批量写入完成被中断", e);
+        } finally {
+            flushWaiters.decrementAndGet();
+        }
+    }
+
+    /**
+     * 获取写入统计。
+     *
+     * @return 统计快照
+     */
+    public Stats getStats() {
+        return new Stats(accepted.sum(), written.sum(), failed.sum(), retried.sum(), queue.size());
+    }
+
+    /**
+     * 关闭管道：拒绝新的写入并等待已接收的记录全部写入。
+     */
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        flush();
+        Stats stats = getStats();
+        log.info("[飞书多维表格]批量写入管道已关闭, accepted={}, written={}, failed={}, retried={}",
+                stats.accepted(), stats.written(), stats.failed(), stats.retried());
+    }
+
+    /**
+     * 按积压情况启动工作线程：没有工作线程时启动一个，已有工作线程时只在积压足以再凑满一批时追加。
+     */
+    private void startWorkers() {
+        while (true) {
+            int active = activeWorkers.get();
+            int queued = queue.size();
+            if (queued == 0 || active >= maxInFlight || active > 0 && queued < (long) batchSize * active) {
+                return;
+            }
+            if (!activeWorkers.compareAndSet(active, active + 1)) {
+                continue;
+            }
+            try {
+                executor.execute(this::runWorker);
+            } catch (RejectedExecutionException e) {
+                activeWorkers.decrementAndGet();
+                log.warn("[飞书多维表格]批量写入工作线程启动失败: {}", e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 工作线程：持续凑批并提交，队列为空时退出。
+     */
+    private void runWorker() {
+        try {
+            List<T> batch;
+            while (!(batch = nextBatch()).isEmpty()) {
+                writeBatch(batch);
+            }
+        } finally {
+            activeWorkers.decrementAndGet();
+            synchronized (idleMonitor) {
+                idleMonitor.notifyAll();
+            }
+            // 退出前有新记录入队时补启动，避免记录滞留
+            startWorkers();
+        }
+    }
+
+    /**
+     * 从队列取出一批记录，不足一批时最多等待 lingerMillis（关闭或等待刷新时不等待）。
+     *
+     * @return 记录列表，队列为空时返回空列表
+     */
+    private List<T> nextBatch() {
+        List<T> batch = new ArrayList<>(Math.min(batchSize, queue.size() + 1));
+        queue.drainTo(batch, batchSize);
+        long deadline = System.nanoTime() + lingerNanos;
+        while (batch.size() < batchSize && !closed && flushWaiters.get() == 0) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0L) {
+                break;
+            }
+            T next;
+            try {
+                next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+            queue.drainTo(batch, batchSize - batch.size());
+        }
+        return batch;
+    }
+
+    /**
+     * 在当前工作线程上转换字段并提交一批记录。
+     *
+     * @param batch 记录列表
+     */
+    private void writeBatch(List<T> batch) {
+        List<BatchCreateRecordReq.Record> records = new ArrayList<>(batch.size());
+        List<T> converted = new ArrayList<>(batch.size());
+        for (T item : batch) {
+            try {
+                BatchCreateRecordReq.Record record = new BatchCreateRecordReq.Record();
+                record.setFields(FsDwRecordHelper.toFields(item));
+                records.add(record);
+                converted.add(item);
+            } catch (RuntimeException e) {
+                notifyFailure(List.of(item), toBitableException(e));
+            }
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            submitter.submit(records, retried);
+            written.add(records.size());
+        } catch (RuntimeException e) {
+            notifyFailure(converted, toBitableException(e));
+        }
+    }
+
+    /**
+     * 统计并回调失败的记录。
+     *
+     * @param records 失败的记录
+     * @param error   失败原因
+     */
+    private void notifyFailure(List<T> records, BitableException error) {
+        failed.add(records.size());
+        if (listener == null) {
+            log.warn("[飞书多维表格]批量写入失败, size={}, msg={}", records.size(), error.getMessage());
+            return;
+        }
+        try {
+            listener.onFailure(records, error);
+        } catch (RuntimeException e) {
+            log.error("[飞书多维表格]批量写入失败回调异常, size={}", records.size(), e);
+        }
+    }
+
+    /**
+     * 统一转换为 {@link BitableException}。
+     *
+     * @param e 原始异常
+     * @return 业务异常
+     */
+    private static BitableException toBitableException(RuntimeException e) {
+        if (e instanceof BitableException bitableException) {
+            return bitableException;
+        }
+        return new BitableException(BitableErrorCode.FEISHU_REQUEST_FAILED,
+                "[飞书多维表格][批量写入]写入失败: " + e.getMessage(), e);
+    }
+
+    /**
+     * 校验管道未关闭。
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new BitableException(BitableErrorCode.WRITE_BUFFER_REJECTED, "[飞书多维表格]批量写入管道已关闭");
+        }
+    }
+}
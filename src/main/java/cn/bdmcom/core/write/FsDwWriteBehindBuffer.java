@@ -0,0 +1,385 @@
+package cn.bdmcom.core.write;
+
+import cn.bdmcom.config.FsDwProperties;
+import cn.bdmcom.core.domain.req.BatchUpdateRecordReq;
+import cn.bdmcom.core.domain.res.BatchRecordResult;
+import cn.bdmcom.core.helper.FsDwRecordHelper;
+import cn.bdmcom.core.service.FsDwRecordService;
+import cn.bdmcom.support.BitableAssert;
+import cn.bdmcom.support.BitableErrorCode;
+import cn.bdmcom.support.BitableException;
+import cn.hutool.core.util.StrUtil;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 单个数据表的写缓冲（write-behind）。
+ *
+ * <p>收集记录更新并合并后通过批量更新接口提交：</p>
+ * <ul>
+ *     <li>同一 record_id 的多次更新按字段合并，后写入的字段值覆盖先写入的值</li>
+ *     <li>待提交记录数达到 maxBatchSize 或最早一条等待超过 flushIntervalMillis 时在后台刷新</li>
+ *     <li>待提交记录数达到 capacity 时新记录的写入阻塞等待，超过 offerTimeoutMillis 后抛出异常</li>
+ *     <li>同一缓冲的刷新串行执行，同一记录的更新按写入顺序提交</li>
+ *     <li>逐条失败通过 {@link FsDwWriteFailureListener} 回调，未设置监听器时只记录日志</li>
+ * </ul>
+ */
+@Slf4j
+public class FsDwWriteBehindBuffer implements AutoCloseable {
+
+    private final String appId;
+
+    private final String appSecret;
+
+    private final String appToken;
+
+    private final String tableId;
+
+    private final FsDwRecordService recordService;
+
+    private final Executor flushExecutor;
+
+    private final FsDwWriteFailureListener listener;
+
+    private final int maxBatchSize;
+
+    private final int capacity;
+
+    private final long flushIntervalNanos;
+
+    private final long offerTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition notFull = lock.newCondition();
+
+    /**
+     * 串行化刷新，保证同一记录的更新按顺序提交。
+     */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    private final LinkedHashMap<String, Map<String, Object>> pending = new LinkedHashMap<>();
+
+    /**
+     * 当前最早一条待提交记录的写入时间（纳秒）。
+     */
+    private long oldestPendingNanos;
+
+    private volatile boolean closed;
+
+    /**
+     * 创建写缓冲。
+     *
+     * @param appId         应用ID
+     * @param appSecret     应用密钥
+     * @param appToken      多维表格 App 的唯一标识
+     * @param tableId       多维表格数据表的唯一标识
+     * @param config        写缓冲配置
+     * @param recordService 记录服务
+     * @param flushExecutor 后台刷新执行器
+     * @param listener      失败监听器（可为空）
+     */
+    public FsDwWriteBehindBuffer(String appId, String appSecret, String appToken, String tableId,
+                                 FsDwProperties.WriteBehind config, FsDwRecordService recordService,
+                                 Executor flushExecutor, FsDwWriteFailureListener listener) {
+        BitableAssert.notBlank(appToken, BitableErrorCode.APP_TOKEN_MISSING, "[飞书多维表格]appToken不能为空");
+        BitableAssert.notBlank(tableId, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]tableId不能为空");
+        FsDwProperties.WriteBehind writeBehind = config == null ? new FsDwProperties.WriteBehind() : config;
+        this.appId = appId;
+        this.appSecret = appSecret;
+        this.appToken = appToken;
+        this.tableId = tableId;
+        this.recordService = recordService;
+        this.flushExecutor = flushExecutor;
+        this.listener = listener;
+        this.maxBatchSize = Math.max(1, writeBehind.getMaxBatchSize());
+        this.capacity = Math.max(maxBatchSize, writeBehind.getCapacity());
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, writeBehind.getFlushIntervalMillis()));
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(0L, writeBehind.getOfferTimeoutMillis()));
+    }
+
+    /**
+     * 写入一条记录更新（recordId 来自实体注解或 Map 中的 record_id）。
+     *
+     * @param payload 记录字段实体或字段 Map
+     */
+    public void update(Object payload) {
+        BatchUpdateRecordReq.Record record = FsDwRecordHelper.buildBatchUpdateRecordReq(List.of(payload))
+                .getRecords().get(0);
+        update(record.getRecordId(), record.getFields());
+    }
+
+    /**
+     * 写入一条记录更新。
+     *
+     * @param recordId 记录ID
+     * @param fields   字段值集合
+     */
+    public void update(String recordId, Map<String, Object> fields) {
+        BitableAssert.notBlank(recordId, BitableErrorCode.RECORD_ID_MISSING, "[飞书多维表格]recordId未配置");
+        BitableAssert.notNull(fields, BitableErrorCode.PARAM_REQUIRED, "[飞书多维表格]字段不能为空");
+        boolean batchReady;
+        lock.lock();
+        try {
+            long remainingNanos = offerTimeoutNanos;
+            Map<String, Object> merged;
+            while ((merged = pending.get(recordId)) == null && pending.size() >= capacity) {
+                ensureOpen();
+                if (remainingNanos <= 0L) {
+                    throw new BitableException(BitableErrorCode.WRITE_BUFFER_REJECTED, StrUtil.format(
+                            "[飞书多维表格]写缓冲已满, tableId={}, capacity={}", tableId, capacity));
+                }
+                scheduleFlush();
+                remainingNanos = awaitNotFull(remainingNanos);
+            }
+            ensureOpen();
+            if (merged == null) {
+                if (pending.isEmpty()) {
+                    oldestPendingNanos = System.nanoTime();
+                }
+                pending.put(recordId, new LinkedHashMap<>(fields));
+            } else {
+                merged.putAll(fields);
+            }
+            batchReady = pending.size() >= maxBatchSize;
+        } finally {
+            lock.unlock();
+        }
+        if (batchReady) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * 在调用线程上提交全部待提交记录。
+     */
+    public void flush() {
+        while (flushBatch() > 0) {
+            // 逐批提交直至缓冲为空
+        }
+    }
+
+    /**
+     * 待提交的记录数（同一记录的多次更新只计一次）。
+     *
+     * @return 待提交记录数
+     */
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 关闭写缓冲：拒绝新的写入并提交全部待提交记录。
+     */
+    @Override
+    public void close() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        flush();
+        log.info("[飞书多维表格]写缓冲已关闭, tableId={}", tableId);
+    }
+
+    /**
+     * 最早一条待提交记录等待超过刷新间隔时触发后台刷新，由写缓冲服务定时调用。
+     */
+    public void flushIfDue() {
+        boolean due;
+        lock.lock();
+        try {
+            due = !pending.isEmpty() && System.nanoTime() - oldestPendingNanos >= flushIntervalNanos;
+        } finally {
+            lock.unlock();
+        }
+        if (due) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * 在后台执行器上刷新一批，已有排队中的刷新时直接返回。
+     */
+    private void scheduleFlush() {
+        if (!flushScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            flushExecutor.execute(this::runScheduledFlush);
+        } catch (RejectedExecutionException e) {
+            flushScheduled.set(false);
+            log.warn("[飞书多维表格]写缓冲后台刷新被拒绝, tableId={}, msg={}", tableId, e.getMessage());
+        }
+    }
+
+    /**
+     * 后台刷新：先提交一批，剩余记录仍满足刷新条件时继续调度。
+     */
+    private void runScheduledFlush() {
+        try {
+            flushBatch();
+        } catch (RuntimeException e) {
+            log.error("[飞书多维表格]写缓冲后台刷新失败, tableId={}", tableId, e);
+        } finally {
+            flushScheduled.set(false);
+        }
+        boolean more;
+        lock.lock();
+        try {
+            more = pending.size() >= maxBatchSize || lock.hasWaiters(notFull)
+                    || !pending.isEmpty() && System.nanoTime() - oldestPendingNanos >= flushIntervalNanos;
+        } finally {
+            lock.unlock();
+        }
+        if (more) {
+            scheduleFlush();
+        }
+    }
+
+    /**
+     * 取出一批待提交记录并提交。
+     *
+     * @return 本批提交的记录数
+     */
+    private int flushBatch() {
+        flushLock.lock();
+        try {
+            Map<String, Map<String, Object>> batch = drainBatch();
+            if (batch.isEmpty()) {
+                return 0;
+            }
+            submit(batch);
+            return batch.size();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 按写入顺序取出不超过 maxBatchSize 条待提交记录，并唤醒等待容量的写入方。
+     *
+     * @return 待提交记录
+     */
+    private Map<String, Map<String, Object>> drainBatch() {
+        lock.lock();
+        try {
+            Map<String, Map<String, Object>> batch = new LinkedHashMap<>();
+            Iterator<Map.Entry<String, Map<String, Object>>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && batch.size() < maxBatchSize) {
+                Map.Entry<String, Map<String, Object>> entry = iterator.next();
+                batch.put(entry.getKey(), entry.getValue());
+                iterator.remove();
+            }
+            if (!batch.isEmpty()) {
+                notFull.signalAll();
+            }
+            return batch;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 通过批量更新接口提交，并回调失败的记录。
+     *
+     * @param batch 待提交记录
+     */
+    private void submit(Map<String, Map<String, Object>> batch) {
+        List<BatchUpdateRecordReq.Record> records = new ArrayList<>(batch.size());
+        for (Map.Entry<String, Map<String, Object>> entry : batch.entrySet()) {
+            BatchUpdateRecordReq.Record record = new BatchUpdateRecordReq.Record();
+            record.setRecordId(entry.getKey());
+            record.setFields(entry.getValue());
+            records.add(record);
+        }
+        BatchUpdateRecordReq req = new BatchUpdateRecordReq();
+        req.setRecords(records);
+        BatchRecordResult result;
+        try {
+            result = recordService.bulkUpdateRecords(appId, appSecret, appToken, tableId, null, null, req);
+        } catch (RuntimeException e) {
+            BitableException error = e instanceof BitableException bitableException ? bitableException
+                    : new BitableException(BitableErrorCode.FEISHU_REQUEST_FAILED,
+                    "[飞书多维表格][写缓冲]批量更新失败: " + e.getMessage(), e);
+            for (BatchUpdateRecordReq.Record record : records) {
+                notifyFailure(record, error);
+            }
+            return;
+        }
+        for (BatchRecordResult.Item item : result.getFailures()) {
+            BatchUpdateRecordReq.Record record = records.get(item.getIndex());
+            notifyFailure(record, new BitableException(BitableErrorCode.FEISHU_API_ERROR,
+                    StrUtil.format("[飞书多维表格][写缓冲]批量更新失败, msg={}", item.getErrorMsg()), item.getErrorCode()));
+        }
+        log.debug("[飞书多维表格]写缓冲提交完成, tableId={}, size={}, failed={}",
+                tableId, records.size(), result.getFailureCount());
+    }
+
+    /**
+     * 回调一条失败记录。
+     *
+     * @param record 记录
+     * @param error  失败原因
+     */
+    private void notifyFailure(BatchUpdateRecordReq.Record record, BitableException error) {
+        if (listener == null) {
+            log.warn("[飞书多维表格]写缓冲记录提交失败, tableId={}, recordId={}, msg={}",
+                    tableId, record.getRecordId(), error.getMessage());
+            return;
+        }
+        try {
+            listener.onFailure(record.getRecordId(), record.getFields(), error);
+        } catch (RuntimeException e) {
+            log.error("[飞书多维表格]写缓冲失败回调异常, tableId={}, recordId={}", tableId, record.getRecordId(), e);
+        }
+    }
+
+    /**
+     * 等待容量释放。
+     *
+     * @param remainingNanos 剩余等待时间（纳秒）
+     * @return 新的剩余等待时间（纳秒）
+     */
+    private long awaitNotFull(long remainingNanos) {
+        try {
+            return notFull.awaitNanos(remainingNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BitableException(BitableErrorCode.WRITE_BUFFER_REJECTED, "[飞书多维表格]等待写缓冲容量被中断", e);
+        }
+    }
+
+    /**
+     * 校验写缓冲未关闭。
+     */
+    private void ensureOpen() {
+        if (closed) {
+            throw new BitableException(BitableErrorCode.WRITE_BUFFER_REJECTED,
+                    StrUtil.format("[飞书多维表格]写缓冲已关闭, tableId={}", tableId));
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package cn.bdmcom.core.write;
+
+import cn.bdmcom.support.BitableException;
+
+import java.util.Map;
+
+/**
+ * 写缓冲失败监听器。
+ *
+ * <p>批量提交后逐条回调写入失败的记录，fields 为合并后的字段值。回调在刷新线程上执行，
+ * 抛出的异常只记录日志，不影响其他记录。</p>
+ */
+@FunctionalInterface
+public interface FsDwWriteFailureListener {
+
+    /**
+     * 处理一条写入失败的记录。
+     *
+     * @param recordId 记录ID
+     * @param fields   合并后的字段值
+     * @param error    失败原因
+     */
+    void onFailure(String recordId, Map<String, Object> fields, BitableException error);
+}
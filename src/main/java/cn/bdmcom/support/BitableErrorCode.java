@@ -22,7 +22,12 @@ public enum BitableErrorCode implements ErrorCode {
     VIEW_ID_MISSING(51012, "多维表格视图ID未配置", LEVEL_SYSTEM),
     RECORD_ID_MISSING(51013, "记录ID未配置", LEVEL_SYSTEM),
     APP_TOKEN_MISSING(51014, "多维表格appToken未配置", LEVEL_SYSTEM),
-    TABLE_META_MISSING(51015, "多维表格表信息未配置", LEVEL_SYSTEM);
+    TABLE_META_MISSING(51015, "多维表格表信息未配置", LEVEL_SYSTEM),
+    RATE_LIMITED(51016, "请求触发频率限制", LEVEL_SYSTEM),
+    RATE_LIMIT_REJECTED(51017, "请求被客户端限流拒绝", LEVEL_SYSTEM),
+    FEISHU_REQUEST_FAILED(51018, "飞书接口请求异常", LEVEL_SYSTEM),
+    WRITE_BUFFER_REJECTED(51019, "写缓冲拒绝写入", LEVEL_SYSTEM),
+    TENANT_NOT_FOUND(51020, "租户未配置", LEVEL_USER);
 
     private final int code;
     private final String msg;
@@ -13,6 +13,10 @@ public class BitableException extends BusinessException {
 
     private final ErrorCode errorCode;
     private final String detailMessage;
+    /**
+     * 飞书接口返回的错误码（非接口返回的错误为 null）。
+     */
+    private final Integer apiCode;
 
     /**
      * 创建一个飞书多维表格异常。
@@ -21,9 +25,21 @@ public class BitableException extends BusinessException {
      * @param message   错误信息
      */
     public BitableException(ErrorCode errorCode, String message) {
+        this(errorCode, message, (Integer) null);
+    }
+
+    /**
+     * 创建一个携带飞书接口错误码的异常。
+     *
+     * @param errorCode 错误码
+     * @param message   错误信息
+     * @param apiCode   飞书接口返回的错误码
+     */
+    public BitableException(ErrorCode errorCode, String message, Integer apiCode) {
         super(buildMessage(errorCode, message));
         this.errorCode = errorCode;
         this.detailMessage = message;
+        this.apiCode = apiCode;
     }
 
     /**
@@ -37,6 +53,7 @@ public class BitableException extends BusinessException {
         super(buildMessage(errorCode, message), cause);
         this.errorCode = errorCode;
         this.detailMessage = message;
+        this.apiCode = null;
     }
 
     /**
@@ -0,0 +1,79 @@
+package cn.bdmcom.core.service;
+
+import cn.bdmcom.annotation.EnableFsDwTable;
+import cn.bdmcom.mock.FsDwMockServer;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * 替身服务器集成测试基类。
+ *
+ * <p>整个测试 JVM 共用一个 {@link FsDwMockServer} 与应用上下文（上下文由 Spring 测试框架缓存），
+ * 各测试使用不同的 tableId 隔离数据；重试退避缩短到毫秒级，写缓冲关闭定时刷新，只在 close / flush 时提交。</p>
+ */
+@SpringBootTest(classes = FsDwMockServerTestSupport.TestApplication.class, properties = {
+        "duoweitable.app-id=" + FsDwMockServerTestSupport.APP_ID,
+        "duoweitable.app-secret=" + FsDwMockServerTestSupport.APP_SECRET,
+        "duoweitable.retry.initial-backoff-millis=5",
+        "duoweitable.retry.max-backoff-millis=20",
+        "duoweitable.batch.chunk-size=5",
+        "duoweitable.cursor.page-size=10",
+        "duoweitable.write-behind.flush-interval-millis=600000"
+})
+abstract class FsDwMockServerTestSupport {
+
+    static final String APP_ID = "cli_test";
+
+    static final String APP_SECRET = "secret_test";
+
+    static final String APP_TOKEN = "appTest";
+
+    /**
+     * 替身服务器，随测试 JVM 退出而停止。
+     */
+    static final FsDwMockServer SERVER = FsDwMockServer.start();
+
+    @Autowired
+    private FsDwTokenService fsDwTokenService;
+
+    @DynamicPropertySource
+    static void mockServerProperties(DynamicPropertyRegistry registry) {
+        registry.add("duoweitable.http.base-url", SERVER::getBaseUrl);
+    }
+
+    /**
+     * 预先获取 Token，使注入的失败与请求计数只落在被测的多维表格请求上。
+     */
+    @BeforeEach
+    void warmUpToken() {
+        SERVER.resetFaults();
+        fsDwTokenService.getToken(APP_ID, APP_SECRET);
+    }
+
+    /**
+     * 测试应用。
+     */
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableFsDwTable
+    static class TestApplication {
+
+        /**
+         * Starter 依赖宿主应用提供 ObjectMapper（无 spring-web 时 Jackson 自动配置不生效）。
+         *
+         * @return ObjectMapper
+         */
+        @Bean
+        ObjectMapper objectMapper() {
+            return new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package cn.bdmcom.core.service;
+
+import cn.bdmcom.core.cursor.FsDwRecordCursor;
+import cn.bdmcom.core.domain.FsDwAppBase;
+import cn.bdmcom.core.domain.FsDwTable;
+import cn.bdmcom.core.domain.FsDwTableId;
+import cn.bdmcom.core.domain.FsDwTableProperty;
+import cn.bdmcom.core.domain.req.BatchCreateRecordReq;
+import cn.bdmcom.core.domain.req.QueryRecordReq;
+import cn.bdmcom.core.domain.res.BatchCreateRecordRes;
+import cn.bdmcom.core.domain.res.BatchRecordResult;
+import cn.bdmcom.core.domain.res.QueryRecordRes;
+import cn.bdmcom.core.helper.FsDwRecordHelper;
+import cn.bdmcom.mock.FsDwMockServer;
+import cn.bdmcom.mock.FsDwMockStore;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 记录服务在替身服务器上的集成测试：限流重试、分片批量新增与游标分页。
+ */
+class FsDwRecordServiceMockServerTest extends FsDwMockServerTestSupport {
+
+    @Autowired
+    private FsDwRecordService fsDwRecordService;
+
+    @Test
+    void retriesRateLimitedBatchCreateWithStableClientToken() {
+        String tableId = "tblRetry";
+        int tokensBefore = SERVER.getClientTokens().size();
+
+        SERVER.failNext(2, 429, FsDwMockServer.RATE_LIMIT_CODE);
+        BatchCreateRecordRes res = fsDwRecordService.batchCreateRecord(APP_ID, APP_SECRET, APP_TOKEN, tableId,
+                batchCreateReq("a", "b", "c"));
+
+        assertEquals(0, res.getCode());
+        assertEquals(3, res.getData().getRecords().size());
+        assertEquals(3, SERVER.getStore().table(APP_TOKEN, tableId).getRecords().size());
+        List<String> tokens = SERVER.getClientTokens().subList(tokensBefore, SERVER.getClientTokens().size());
+        assertEquals(3, tokens.size());
+        assertNotNull(tokens.get(0));
+        assertEquals(1, new HashSet<>(tokens).size(), "重试必须复用同一 client_token: " + tokens);
+    }
+
+    @Test
+    void bulkCreateMapsEveryInputIndexToItsRecordAcrossChunks() {
+        List<BulkRow> rows = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            BulkRow row = new BulkRow();
+            row.setName("row-" + i);
+            rows.add(row);
+        }
+
+        BatchRecordResult result = FsDwRecordHelper.bulkCreateRecords(BulkRow.class, rows);
+
+        assertTrue(result.isAllSucceeded());
+        assertEquals(12, result.getSuccessCount());
+        Map<String, FsDwMockStore.Record> stored = SERVER.getStore().table(APP_TOKEN, BulkRow.TABLE_ID).getRecords();
+        assertEquals(12, stored.size());
+        for (int i = 0; i < rows.size(); i++) {
+            FsDwMockStore.Record record = stored.get(result.getRecordId(i));
+            assertNotNull(record, "下标 " + i + " 没有对应的记录");
+            assertEquals("row-" + i, String.valueOf(record.getFields().get("名称")));
+        }
+    }
+
+    @Test
+    void cursorPagesThroughWholeTable() {
+        String tableId = "tblCursor";
+        FsDwMockStore.Table table = SERVER.getStore().table(APP_TOKEN, tableId);
+        for (int i = 0; i < 25; i++) {
+            table.addRecord(Map.of("名称", "item-" + i));
+        }
+        long requestsBefore = SERVER.getRequestCount();
+
+        Set<String> recordIds = new HashSet<>();
+        try (FsDwRecordCursor<QueryRecordRes.RecordRes.Item> cursor = fsDwRecordService.openCursor(
+                APP_ID, APP_SECRET, APP_TOKEN, tableId, new QueryRecordReq())) {
+            while (cursor.hasNext()) {
+                assertTrue(recordIds.add(cursor.next().getRecordId()), "游标返回了重复记录");
+            }
+        }
+
+        assertEquals(table.getRecords().keySet(), recordIds);
+        assertEquals(3, SERVER.getRequestCount() - requestsBefore, "page-size=10 时 25 条记录应分 3 页读取");
+    }
+
+    private static BatchCreateRecordReq batchCreateReq(String... names) {
+        List<BatchCreateRecordReq.Record> records = new ArrayList<>();
+        for (String name : names) {
+            BatchCreateRecordReq.Record record = new BatchCreateRecordReq.Record();
+            record.setFields(Map.of("名称", name));
+            records.add(record);
+        }
+        BatchCreateRecordReq req = new BatchCreateRecordReq();
+        req.setRecords(records);
+        return req;
+    }
+
+    /**
+     * 分片批量新增使用的实体。
+     */
+    @Data
+    @NoArgsConstructor
+    @FsDwAppBase(appToken = APP_TOKEN)
+    @FsDwTable(name = "分片新增", tableId = BulkRow.TABLE_ID, viewId = "")
+    public static class BulkRow {
+
+        static final String TABLE_ID = "tblBulk";
+
+        @FsDwTableId
+        private String recordId;
+
+        @FsDwTableProperty(value = "名称", order = 1)
+        private String name;
+    }
+}
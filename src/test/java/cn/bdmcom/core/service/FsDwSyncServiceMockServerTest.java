@@ -0,0 +1,63 @@
+package cn.bdmcom.core.service;
+
+import cn.bdmcom.core.domain.res.QueryRecordRes;
+import cn.bdmcom.core.sync.FsDwSyncEvent;
+import cn.bdmcom.core.sync.FsDwSyncResult;
+import cn.bdmcom.core.sync.FsDwSyncSpec;
+import cn.bdmcom.mock.FsDwMockStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 增量同步在替身服务器上的集成测试：首次全量，之后只投递新增与修改的记录。
+ */
+class FsDwSyncServiceMockServerTest extends FsDwMockServerTestSupport {
+
+    @Autowired
+    private FsDwSyncService fsDwSyncService;
+
+    @Test
+    void deliversOnlyChangedRecordsAfterFirstPoll() throws InterruptedException {
+        String tableId = "tblSync";
+        FsDwMockStore.Table table = SERVER.getStore().table(APP_TOKEN, tableId);
+        String unchanged = table.addRecord(Map.of("名称", "a")).getRecordId();
+        String updated = table.addRecord(Map.of("名称", "b")).getRecordId();
+        FsDwSyncSpec spec = FsDwSyncSpec.builder()
+                .appId(APP_ID).appSecret(APP_SECRET).appToken(APP_TOKEN).tableId(tableId)
+                .build();
+
+        List<FsDwSyncEvent<QueryRecordRes.RecordRes.Item>> events = new ArrayList<>();
+        FsDwSyncResult full = fsDwSyncService.poll(spec, events::addAll);
+        assertTrue(full.isFullSync());
+        assertEquals(Set.of(unchanged, updated), recordIds(events));
+
+        // 保证修改时间严格晚于水位线
+        Thread.sleep(5L);
+        table.updateRecord(updated, Map.of("名称", "b2"));
+        String created = table.addRecord(Map.of("名称", "c")).getRecordId();
+        events.clear();
+        FsDwSyncResult delta = fsDwSyncService.poll(spec, events::addAll);
+        assertFalse(delta.isFullSync());
+        assertEquals(Set.of(updated, created), recordIds(events));
+        assertEquals(table.getRecords().get(created).getLastModifiedTime(), delta.getWatermark());
+
+        events.clear();
+        FsDwSyncResult idle = fsDwSyncService.poll(spec, events::addAll);
+        assertEquals(0, idle.getUpsertCount());
+        assertEquals(delta.getWatermark(), idle.getWatermark());
+    }
+
+    private static Set<String> recordIds(List<FsDwSyncEvent<QueryRecordRes.RecordRes.Item>> events) {
+        return events.stream().map(FsDwSyncEvent::recordId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,48 @@
+package cn.bdmcom.core.service;
+
+import cn.bdmcom.core.write.FsDwWriteBehindBuffer;
+import cn.bdmcom.mock.FsDwMockStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 写缓冲在替身服务器上的集成测试：同一记录的更新合并，关闭时提交剩余更新。
+ */
+class FsDwWriteBehindServiceMockServerTest extends FsDwMockServerTestSupport {
+
+    @Autowired
+    private FsDwWriteBehindService fsDwWriteBehindService;
+
+    @Test
+    void coalescesUpdatesPerRecordAndFlushesOnClose() {
+        String tableId = "tblWriteBehind";
+        FsDwMockStore.Table table = SERVER.getStore().table(APP_TOKEN, tableId);
+        String first = table.addRecord(Map.of("名称", "first")).getRecordId();
+        String second = table.addRecord(Map.of("名称", "second")).getRecordId();
+        FsDwWriteBehindBuffer buffer = fsDwWriteBehindService.getBuffer(APP_ID, APP_SECRET, APP_TOKEN, tableId);
+
+        buffer.update(first, Map.of("状态", "draft"));
+        buffer.update(first, Map.of("数量", 1));
+        buffer.update(first, Map.of("状态", "done"));
+        buffer.update(second, Map.of("数量", 2));
+
+        assertEquals(2, buffer.getPendingCount());
+        assertNull(table.getRecords().get(first).getFields().get("状态"), "关闭前不应提交");
+
+        long requestsBefore = SERVER.getRequestCount();
+        buffer.close();
+
+        assertEquals(0, buffer.getPendingCount());
+        assertEquals(1, SERVER.getRequestCount() - requestsBefore, "两条记录的更新应合并为一次批量更新");
+        Map<String, Object> firstFields = table.getRecords().get(first).getFields();
+        assertEquals("done", firstFields.get("状态"));
+        assertEquals(1, ((Number) firstFields.get("数量")).intValue());
+        assertEquals("first", firstFields.get("名称"));
+        assertEquals(2, ((Number) table.getRecords().get(second).getFields().get("数量")).intValue());
+    }
+}